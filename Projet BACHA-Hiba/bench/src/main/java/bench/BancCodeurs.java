@@ -0,0 +1,191 @@
+package bench;
+
+import codagebits.CodeurAuto;
+import codagebits.CodeurAvecChev;
+import codagebits.CodeurBits;
+import codagebits.CodeurBlocs;
+import codagebits.CodeurDebordement;
+import codagebits.CodeurDelta;
+import codagebits.CodeurDictionnaire;
+import codagebits.CodeurEliasFano;
+import codagebits.CodeurPlages;
+import codagebits.CodeurSansChev;
+import codagebits.CodeurVertical;
+import codagebits.FactoryCodeurBits;
+import codagebits.TableauCompresse;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Bancs JMH des opérations de base pour tous les modes.
+ * <p>
+ * Grille : mode × largeur {@code k} (1..32) × taille {@code n} (10^3..10^8) × distribution.
+ * La grille complète est très longue : la restreindre avec {@code -p}, par exemple
+ * {@code -p mode=avec,debordement -p k=8,21 -p n=1000000}.
+ * </p>
+ * <p>
+ * Unités : {@code compresser} et {@code decompresser} en tableaux par seconde,
+ * {@code acceder*} en accès par seconde ({@value #ACCES} accès par invocation).
+ * Le compteur auxiliaire {@code octetsParValeur} donne la taille compressée ; le profil
+ * GC (ajouté par {@link LanceurBancs}) donne les octets alloués par opération.
+ * Chaque configuration tourne dans sa propre JVM ; les résultats passent par un
+ * {@link Blackhole} ou sont renvoyés, pour qu'aucun calcul ne soit éliminé.
+ * </p>
+ * <p>
+ * Les codeurs mesurés sont nus (sans métriques ni événements JFR) ; le mode
+ * {@code avec-instrumente} mesure le même codeur que {@code avec} derrière
+ * {@link FactoryCodeurBits#instrumenter(String, CodeurBits)}, pour chiffrer ce surcoût à part.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Xms6g", "-Xmx6g"})
+public class BancCodeurs {
+
+    /** Accès par invocation des bancs {@code acceder*}. */
+    static final int ACCES = 1024;
+
+    @Param({"sans", "avec", "debordement", "vertical", "blocs", "delta", "dictionnaire", "plages", "eliasfano", "auto", "avec64", "debordement64",
+            "avec-instrumente"})
+    public String mode;
+
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16",
+            "17", "18", "19", "20", "21", "22", "23", "24", "25", "26", "27", "28", "29", "30", "31", "32"})
+    public int k;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int n;
+
+    @Param({"uniforme", "biaise", "trie"})
+    public String distribution;
+
+    private CodeurBits codeur;
+    private int[] donnees;
+    private int[] compresse;
+    private TableauCompresse tableau;
+    /** Index aléatoires des accès ({@value #ACCES}). */
+    private int[] indices;
+    /** Début du prochain lot d'accès séquentiels. */
+    private int curseur;
+
+    /**
+     * Taille compressée, exposée comme compteur auxiliaire dans les résultats.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Taille {
+        /** Octets du tampon compressé par valeur d'origine. */
+        public double octetsParValeur;
+    }
+
+    /**
+     * Génère les données et les compresse une fois (pour les bancs de lecture).
+     */
+    @Setup(Level.Trial)
+    public void preparer() {
+        codeur = creer(mode);
+        donnees = Generateurs.generer(distribution, n, k, 42L + k);
+        if ("eliasfano".equals(mode)) Arrays.sort(donnees); // suites croissantes uniquement
+        compresse = codeur.compresser(donnees);
+        tableau = codeur.ouvrir(compresse);
+        SplittableRandom r = new SplittableRandom(7);
+        indices = new int[ACCES];
+        for (int i = 0; i < ACCES; i++) indices[i] = r.nextInt(n);
+    }
+
+    /**
+     * Compression complète du tableau d'entrée.
+     *
+     * @param taille compteur de taille compressée
+     * @return tampon compressé
+     */
+    @Benchmark
+    public int[] compresser(Taille taille) {
+        int[] t = codeur.compresser(donnees);
+        taille.octetsParValeur = 4.0 * t.length / n;
+        return t;
+    }
+
+    /**
+     * Décompression complète du tampon.
+     *
+     * @return tableau d'origine
+     */
+    @Benchmark
+    public int[] decompresser() {
+        return codeur.decompresser(compresse);
+    }
+
+    /**
+     * {@value #ACCES} accès directs consécutifs, repris là où le lot précédent s'est arrêté.
+     *
+     * @param bh puits JMH
+     */
+    @Benchmark
+    @OperationsPerInvocation(ACCES)
+    public void accederSequentiel(Blackhole bh) {
+        int index = curseur;
+        for (int i = 0; i < ACCES; i++) {
+            bh.consume(tableau.acceder(index));
+            if (++index == n) index = 0;
+        }
+        curseur = index;
+    }
+
+    /**
+     * {@value #ACCES} accès directs à des index aléatoires précalculés.
+     *
+     * @param bh puits JMH
+     */
+    @Benchmark
+    @OperationsPerInvocation(ACCES)
+    public void accederAleatoire(Blackhole bh) {
+        for (int index : indices) bh.consume(tableau.acceder(index));
+    }
+
+    /**
+     * Codeur nu d'un mode (instancié directement : les codeurs de {@link FactoryCodeurBits#creer(String)}
+     * sont instrumentés) ; "avec64" et "debordement64" désignent le stockage 64 bits,
+     * "avec-instrumente" le codeur "avec" instrumenté.
+     *
+     * @param mode nom du mode
+     * @return nouveau codeur
+     */
+    private static CodeurBits creer(String mode) {
+        switch (mode) {
+            case "sans":             return new CodeurSansChev();
+            case "avec":             return new CodeurAvecChev();
+            case "debordement":      return new CodeurDebordement();
+            case "vertical":         return new CodeurVertical();
+            case "blocs":            return new CodeurBlocs();
+            case "delta":            return new CodeurDelta();
+            case "dictionnaire":     return new CodeurDictionnaire();
+            case "plages":           return new CodeurPlages();
+            case "eliasfano":        return new CodeurEliasFano();
+            case "auto":             return new CodeurAuto();
+            case "avec64":           return new CodeurAvecChev(true);
+            case "debordement64":    return new CodeurDebordement(true);
+            case "avec-instrumente": return FactoryCodeurBits.instrumenter(mode, new CodeurAvecChev());
+            default: throw new IllegalArgumentException("Mode inconnu: " + mode);
+        }
+    }
+}
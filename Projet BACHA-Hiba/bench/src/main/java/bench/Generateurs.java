@@ -0,0 +1,88 @@
+package bench;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Générateurs de données des bancs, paramétrés par la largeur visée {@code k}.
+ * <p>
+ * Reprennent les distributions de {@code DemoEnonce} (uniforme, biaisée vers le
+ * débordement) en les étendant à toute largeur, plus une distribution triée
+ * (identifiants, horodatages). Pour {@code k = 32}, les valeurs couvrent tout
+ * l'intervalle des {@code int}, négatifs compris.
+ * </p>
+ */
+final class Generateurs {
+
+    private Generateurs() {}
+
+    /**
+     * Génère {@code n} valeurs de la distribution demandée.
+     *
+     * @param distribution "uniforme", "biaise" ou "trie"
+     * @param n            nombre de valeurs
+     * @param k            largeur en bits des plus grandes valeurs, dans [1,32]
+     * @param graine       graine pseudo-aléatoire
+     * @return tableau généré
+     * @throws IllegalArgumentException si la distribution est inconnue
+     */
+    static int[] generer(String distribution, int n, int k, long graine) {
+        switch (distribution) {
+            case "uniforme": return uniforme(n, k, graine);
+            case "biaise":   return biaise(n, k, graine);
+            case "trie": {
+                int[] t = uniforme(n, k, graine);
+                Arrays.parallelSort(t);
+                return t;
+            }
+            default: throw new IllegalArgumentException("Distribution inconnue: " + distribution);
+        }
+    }
+
+    /**
+     * Valeurs uniformes sur {@code k} bits (comme {@code genererAleatoire}, sans signe).
+     *
+     * @param n      nombre de valeurs
+     * @param k      largeur en bits
+     * @param graine graine
+     * @return tableau généré
+     */
+    private static int[] uniforme(int n, int k, long graine) {
+        SplittableRandom r = new SplittableRandom(graine);
+        long m = masque(k);
+        int[] t = new int[n];
+        for (int i = 0; i < n; i++) t[i] = (int) (r.nextLong() & m);
+        return t;
+    }
+
+    /**
+     * 95 % de petites valeurs (0..7) et 5 % de valeurs sur {@code k} bits pleins
+     * (comme {@code genererBiaiseOverflow}, dont le cas k = 21).
+     *
+     * @param n      nombre de valeurs
+     * @param k      largeur en bits des grandes valeurs
+     * @param graine graine
+     * @return tableau généré
+     */
+    private static int[] biaise(int n, int k, long graine) {
+        SplittableRandom r = new SplittableRandom(graine);
+        long m = masque(k);
+        long haut = 1L << (k - 1);
+        int[] t = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (r.nextInt(100) < 95) t[i] = (int) (r.nextInt(8) & m);
+            else                     t[i] = (int) ((haut | r.nextLong()) & m);
+        }
+        return t;
+    }
+
+    /**
+     * Masque des {@code k} bits de poids faible.
+     *
+     * @param k largeur en bits
+     * @return masque sur 64 bits
+     */
+    private static long masque(int k) {
+        return (k >= 32) ? 0xFFFFFFFFL : (1L << k) - 1;
+    }
+}
@@ -0,0 +1,40 @@
+package bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Point d'entrée de {@code benchmarks.jar}.
+ * <p>
+ * Accepte les options habituelles de JMH ({@code -p k=8,16 -p n=1000000 -bm sample ...})
+ * et ajoute toujours le profil GC ({@code gc.alloc.rate.norm} : octets alloués par
+ * opération, nombre et durée des collections) ainsi qu'un export JSON
+ * ({@code resultats-jmh.json}) si aucun fichier de résultats n'est demandé.
+ * </p>
+ */
+public final class LanceurBancs {
+
+    private LanceurBancs() {}
+
+    /**
+     * Lance les bancs.
+     *
+     * @param args options JMH
+     * @throws RunnerException            en cas d'échec d'un banc
+     * @throws CommandLineOptionException si les options sont invalides
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions ligne = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(ligne).addProfiler(GCProfiler.class);
+        if (!ligne.getResult().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON).result("resultats-jmh.json");
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,210 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Générateur de {@code src/main/java/codagebits/NoyauxBits.java}.
+ * <p>
+ * Les 32 noyaux déroulés (un par largeur {@code k}) suivent tous le même schéma : ce programme
+ * en est la seule source. Toute évolution des noyaux se fait ici, puis le fichier est régénéré
+ * depuis la racine du projet :
+ * </p>
+ * <pre>
+ * java outils/GenerateurNoyaux.java src/main/java/codagebits/NoyauxBits.java
+ * </pre>
+ * <p>
+ * Sans argument, le fichier est écrit sur la sortie standard.
+ * </p>
+ */
+public final class GenerateurNoyaux {
+
+    /** Nombre de valeurs traitées par appel de noyau (doit rester 32 : un mot par bit de k). */
+    private static final int GROUPE = 32;
+    /** Fin de ligne des sources du dépôt. */
+    private static final String FIN_LIGNE = "\r\n";
+
+    private final StringBuilder sb = new StringBuilder();
+
+    private GenerateurNoyaux() {}
+
+    public static void main(String[] args) throws IOException {
+        String source = new GenerateurNoyaux().generer();
+        if (args.length == 0) {
+            PrintStream sortie = new PrintStream(System.out, true, StandardCharsets.UTF_8);
+            sortie.print(source);
+        } else {
+            Files.writeString(Path.of(args[0]), source, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Produit le fichier complet.
+     *
+     * @return source Java de {@code NoyauxBits}
+     */
+    private String generer() {
+        ligne("// Fichier généré par outils/GenerateurNoyaux.java : ne pas modifier à la main.");
+        ligne("// Régénération depuis la racine du projet :");
+        ligne("//   java outils/GenerateurNoyaux.java src/main/java/codagebits/NoyauxBits.java");
+        ligne("package codagebits;");
+        ligne("");
+        ligne("/**");
+        ligne(" * Noyaux d'empaquetage spécialisés par largeur de bits.");
+        ligne(" * <p>");
+        ligne(" * Pour chaque {@code k ∈ [1,32]}, un noyau entièrement déroulé empaquette (ou dépaquette)");
+        ligne(" * un groupe fixe de {@value #GROUPE} valeurs dans exactement {@code k} mots de 32 bits,");
+        ligne(" * selon l'ordre de bits de {@link OutilsBits} (poids faibles d'abord, une valeur pouvant");
+        ligne(" * chevaucher deux mots). Tous les décalages et masques sont des constantes : aucune");
+        ligne(" * branche ni calcul de {@link OutilsBits#masque(int)} par valeur.");
+        ligne(" * </p>");
+        ligne(" * <p>");
+        ligne(" * Le noyau est choisi une seule fois par tableau via {@link #pour(int)}, puis appliqué");
+        ligne(" * groupe par groupe. Le code des noyaux est systématique (une ligne par valeur en lecture,");
+        ligne(" * une ligne par mot en écriture) et généré par {@code outils/GenerateurNoyaux.java} :");
+        ligne(" * toute évolution se fait dans le générateur, pour les 32 largeurs à la fois.");
+        ligne(" * </p>");
+        ligne(" */");
+        ligne("final class NoyauxBits {");
+        ligne("");
+        ligne("    /** Nombre de valeurs traitées par appel de noyau. */");
+        ligne("    static final int GROUPE = " + GROUPE + ";");
+        ligne("");
+        ligne("    private NoyauxBits() {}");
+        ligne("");
+        ligne("    /**");
+        ligne("     * Noyau d'empaquetage pour une largeur {@code k} donnée.");
+        ligne("     */");
+        ligne("    interface Noyau {");
+        ligne("");
+        ligne("        /**");
+        ligne("         * Empaquette {@value NoyauxBits#GROUPE} valeurs dans {@code k} mots.");
+        ligne("         *");
+        ligne("         * @param src    valeurs source");
+        ligne("         * @param srcOff position de la première valeur");
+        ligne("         * @param decal  décalage ajouté à chaque valeur avant masquage (offset)");
+        ligne("         * @param dst    mots de destination (écrasés)");
+        ligne("         * @param dstOff position du premier mot");
+        ligne("         */");
+        ligne("        void empaqueter(int[] src, int srcOff, int decal, int[] dst, int dstOff);");
+        ligne("");
+        ligne("        /**");
+        ligne("         * Dépaquette {@value NoyauxBits#GROUPE} valeurs depuis {@code k} mots.");
+        ligne("         *");
+        ligne("         * @param src    mots source");
+        ligne("         * @param srcOff position du premier mot");
+        ligne("         * @param dst    valeurs de destination");
+        ligne("         * @param dstOff position de la première valeur");
+        ligne("         * @param base   valeur ajoutée à chaque résultat (ex. {@code -offset})");
+        ligne("         */");
+        ligne("        void depaqueter(int[] src, int srcOff, int[] dst, int dstOff, int base);");
+        ligne("    }");
+        ligne("");
+        ligne("    private static final Noyau[] NOYAUX = {");
+        ligne("            null,");
+        for (int k = 1; k <= 32; k++) {
+            ligne("            new Noyau() {");
+            ligne("                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter" + k + "(s, so, d, t, to); }");
+            ligne("                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter" + k + "(s, so, t, to, b); }");
+            ligne(k < 32 ? "            }," : "            }");
+        }
+        ligne("    };");
+        ligne("");
+        ligne("    /**");
+        ligne("     * Retourne le noyau associé à la largeur {@code k}.");
+        ligne("     *");
+        ligne("     * @param k nombre de bits par valeur");
+        ligne("     * @return noyau spécialisé");
+        ligne("     * @throws IllegalArgumentException si {@code k ∉ [1,32]}");
+        ligne("     */");
+        ligne("    static Noyau pour(int k) {");
+        ligne("        if (k < 1 || k > 32) throw new IllegalArgumentException(\"k hors [1,32] : \" + k);");
+        ligne("        return NOYAUX[k];");
+        ligne("    }");
+        for (int k = 1; k <= 32; k++) {
+            ligne("");
+            ligne("    // ---------------- k = " + k + " ----------------");
+            ligne("");
+            empaqueter(k);
+            ligne("");
+            depaqueter(k);
+        }
+        ligne("}");
+        return sb.toString();
+    }
+
+    /**
+     * Noyau d'écriture : masquage des 32 valeurs, puis une ligne par mot produit.
+     *
+     * @param k largeur en bits
+     */
+    private void empaqueter(int k) {
+        ligne("    static void empaqueter" + k + "(int[] s, int so, int d, int[] t, int to) {");
+        for (int i = 0; i < GROUPE; i++) {
+            String somme = "s[" + indice("so", i) + "] + d";
+            ligne("        int v" + i + " = " + (k == 32 ? somme : "(" + somme + ") & " + masque(k)) + ";");
+        }
+        for (int mot = 0; mot < k; mot++) {
+            StringBuilder expr = new StringBuilder();
+            for (int i = 0; i < GROUPE; i++) {
+                int debut = i * k, fin = debut + k;
+                if (fin <= mot * 32 || debut >= (mot + 1) * 32) continue;
+                String terme;
+                if (debut < mot * 32) {
+                    terme = "(v" + i + " >>> " + (mot * 32 - debut) + ")";
+                } else if (debut == mot * 32) {
+                    terme = "v" + i;
+                } else {
+                    terme = "(v" + i + " << " + (debut - mot * 32) + ")";
+                }
+                if (expr.length() > 0) expr.append(" | ");
+                expr.append(terme);
+            }
+            ligne("        t[" + indice("to", mot) + "] = " + expr + ";");
+        }
+        ligne("    }");
+    }
+
+    /**
+     * Noyau de lecture : une ligne par valeur, lue dans un mot ou à cheval sur deux.
+     *
+     * @param k largeur en bits
+     */
+    private void depaqueter(int k) {
+        ligne("    static void depaqueter" + k + "(int[] s, int so, int[] t, int to, int b) {");
+        for (int i = 0; i < GROUPE; i++) {
+            int debut = i * k, mot = debut >>> 5, decal = debut & 31;
+            String m = "s[" + indice("so", mot) + "]";
+            String valeur;
+            if (k == 32) {
+                valeur = m;
+            } else if (decal + k > 32) {
+                String suivant = "s[" + indice("so", mot + 1) + "]";
+                valeur = "(((" + m + " >>> " + decal + ") | (" + suivant + " << " + (32 - decal) + ")) & " + masque(k) + ")";
+            } else if (decal + k == 32) {
+                valeur = "(" + m + " >>> " + decal + ")";
+            } else if (decal == 0) {
+                valeur = "(" + m + " & " + masque(k) + ")";
+            } else {
+                valeur = "((" + m + " >>> " + decal + ") & " + masque(k) + ")";
+            }
+            ligne("        t[" + indice("to", i) + "] = " + valeur + " + b;");
+        }
+        ligne("    }");
+    }
+
+    // ---------------- helpers ----------------
+
+    private static String indice(String base, int i) {
+        return (i == 0) ? base : base + " + " + i;
+    }
+
+    private static String masque(int k) {
+        return "0x" + Integer.toHexString((int) ((1L << k) - 1)).toUpperCase();
+    }
+
+    private void ligne(String s) {
+        sb.append(s).append(FIN_LIGNE);
+    }
+}
@@ -0,0 +1,78 @@
+package app;
+
+import codagebits.CodeurAvecChev;
+import codagebits.CodeurBits;
+import codagebits.CodeurDebordement;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Banc de latence de l'accès direct aléatoire ({@code acceder}).
+ * <p>
+ * Compare, pour plusieurs largeurs {@code k}, le stockage {@code int[]} d'origine
+ * (lecture en un ou deux mots selon le chevauchement) et le stockage 64 bits
+ * (une fenêtre extraite sans branche), en modes "avec" et "débordement".
+ * Les index sont tirés dans un tableau précalculé pour ne mesurer que l'accès.
+ * </p>
+ * <p>
+ * Arguments : args[0] (optionnel) nombre de valeurs (défaut 1 048 576).
+ * </p>
+ */
+public final class BenchAcces {
+
+    private static final int REP = 20;
+    private static final int ACCES = 1 << 16;
+    private static final int[] LARGEURS = {5, 11, 17, 23, 29};
+
+    /** Puits pour empêcher l'élimination du code mesuré. */
+    private static long puits;
+
+    private BenchAcces() {}
+
+    /**
+     * Point d'entrée du banc.
+     *
+     * @param args args[0] optionnel : nombre de valeurs
+     */
+    public static void main(String[] args) {
+        Locale.setDefault(Locale.US);
+        int n = 1 << 20;
+        if (args != null && args.length >= 1) {
+            try { n = Integer.parseInt(args[0]); } catch (Exception ignore) {}
+        }
+        Random r = new Random(7);
+        int[] indices = new int[ACCES];
+        for (int i = 0; i < ACCES; i++) indices[i] = r.nextInt(n);
+
+        System.out.println("acceder aléatoire (ns/accès), n=" + n);
+        System.out.println("   k | avec int[] | avec long[] | débord. int[] | débord. long[]");
+        for (int k : LARGEURS) {
+            int[] donnees = new int[n];
+            for (int i = 0; i < n; i++) donnees[i] = r.nextInt(1 << k);
+            System.out.printf(Locale.US, "  %2d | %10.2f | %11.2f | %13.2f | %14.2f%n", k,
+                    mesurer(new CodeurAvecChev(false), donnees, indices),
+                    mesurer(new CodeurAvecChev(true), donnees, indices),
+                    mesurer(new CodeurDebordement(false), donnees, indices),
+                    mesurer(new CodeurDebordement(true), donnees, indices));
+        }
+        System.out.println("(puits=" + puits + ")");
+    }
+
+    /**
+     * Temps moyen d'un accès direct.
+     *
+     * @param codeur  codeur à mesurer
+     * @param donnees tableau d'entrée
+     * @param indices index à lire
+     * @return nanosecondes par accès
+     */
+    private static double mesurer(CodeurBits codeur, int[] donnees, int[] indices) {
+        codeur.compresser(donnees);
+        double ms = BenchProto.mesureMoyenneMs(() -> {
+            long s = 0;
+            for (int i : indices) s += codeur.acceder(i);
+            puits += s;
+        }, REP);
+        return ms * 1_000_000.0 / indices.length;
+    }
+}
@@ -0,0 +1,128 @@
+package app;
+
+import codagebits.CodeurBits;
+import codagebits.FactoryCodeurBits;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Banc de comparaison du mode "delta" sur des entrées triées ou lentement variables.
+ * <p>
+ * Pour chaque générateur (horodatages, identifiants triés, compteurs), affiche par mode :
+ * le taux (bits par valeur, en-tête compris), le débit de décompression (millions de
+ * valeurs par seconde) et le temps moyen d'un accès direct aléatoire.
+ * </p>
+ * <p>
+ * Arguments : args[0] (optionnel) nombre de valeurs (défaut 1 000 000).
+ * </p>
+ */
+public final class BenchDelta {
+
+    private static final int REP = 20;
+    private static final String[] MODES = {"sans", "avec", "debordement", "blocs", "delta"};
+
+    /** Puits pour empêcher l'élimination du code mesuré. */
+    private static long puits;
+
+    private BenchDelta() {}
+
+    /**
+     * Point d'entrée du banc.
+     *
+     * @param args args[0] optionnel : nombre de valeurs
+     */
+    public static void main(String[] args) {
+        Locale.setDefault(Locale.US);
+        int n = 1_000_000;
+        if (args != null && args.length >= 1) {
+            try { n = Integer.parseInt(args[0]); } catch (Exception ignore) {}
+        }
+
+        mesurerJeu("Horodatages (s, pas 0..3)", genererHorodatages(n, 1));
+        mesurerJeu("Identifiants triés (densité 1/50)", genererIdsTries(n, 2));
+        mesurerJeu("Compteur lentement variable (±20)", genererCompteur(n, 3));
+        System.out.println("(puits=" + puits + ")");
+    }
+
+    /**
+     * Mesure et affiche tous les modes pour un jeu de données.
+     *
+     * @param titre   libellé
+     * @param donnees tableau d'entrée
+     */
+    private static void mesurerJeu(String titre, int[] donnees) {
+        System.out.println("\n" + titre + " — n=" + donnees.length);
+        System.out.println("  mode        | bits/val | décompr. (Mval/s) | acceder (ns)");
+        Random r = new Random(99);
+        int[] indices = new int[1024];
+        for (int i = 0; i < indices.length; i++) indices[i] = r.nextInt(donnees.length);
+
+        for (String mode : MODES) {
+            CodeurBits codeur = FactoryCodeurBits.creer(mode);
+            int[] comp = codeur.compresser(donnees);
+            if (!Arrays.equals(donnees, codeur.decompresser(comp))) {
+                throw new IllegalStateException("round-trip invalide en mode " + mode);
+            }
+            double bitsParValeur = comp.length * 32.0 / donnees.length;
+            double msDec = BenchProto.mesureMoyenneMs(() -> puits += codeur.decompresser(comp).length, REP);
+            double msAcces = BenchProto.mesureMoyenneMs(() -> {
+                for (int i : indices) puits += codeur.acceder(i);
+            }, REP);
+            System.out.printf(Locale.US, "  %-11s | %8.2f | %17.1f | %12.1f%n",
+                    mode, bitsParValeur, donnees.length / (msDec * 1000.0),
+                    msAcces * 1_000_000.0 / indices.length);
+        }
+    }
+
+    /**
+     * Horodatages en secondes, croissants, avec des pas de 0 à 3 secondes.
+     *
+     * @param n      taille
+     * @param graine graine pseudo-aléatoire
+     * @return tableau croissant
+     */
+    private static int[] genererHorodatages(int n, int graine) {
+        Random r = new Random(graine);
+        int[] t = new int[n];
+        int v = 1_700_000_000;
+        for (int i = 0; i < n; i++) {
+            v += r.nextInt(4);
+            t[i] = v;
+        }
+        return t;
+    }
+
+    /**
+     * Identifiants triés tirés dans un univers 50 fois plus grand que {@code n}.
+     *
+     * @param n      taille
+     * @param graine graine pseudo-aléatoire
+     * @return tableau trié
+     */
+    private static int[] genererIdsTries(int n, int graine) {
+        Random r = new Random(graine);
+        int[] t = new int[n];
+        for (int i = 0; i < n; i++) t[i] = r.nextInt(Math.max(1, Math.min(Integer.MAX_VALUE / 2, n * 50)));
+        Arrays.sort(t);
+        return t;
+    }
+
+    /**
+     * Marche aléatoire de pas ±20 autour d'une valeur élevée.
+     *
+     * @param n      taille
+     * @param graine graine pseudo-aléatoire
+     * @return tableau lentement variable
+     */
+    private static int[] genererCompteur(int n, int graine) {
+        Random r = new Random(graine);
+        int[] t = new int[n];
+        int v = 5_000_000;
+        for (int i = 0; i < n; i++) {
+            v += r.nextInt(41) - 20;
+            t[i] = v;
+        }
+        return t;
+    }
+}
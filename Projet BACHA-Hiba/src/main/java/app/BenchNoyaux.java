@@ -0,0 +1,155 @@
+package app;
+
+import codagebits.CodeurAvecChev;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Banc de mesure des noyaux spécialisés par largeur de bits (internes à {@code codagebits}).
+ * <p>
+ * Compare, pour plusieurs largeurs {@code k}, l'empaquetage et le dépaquetage d'un
+ * flux continu (disposition "avec chevauchement") :
+ * <ul>
+ *   <li>boucle par valeur : reprise des boucles d'origine (une lecture/écriture de bits
+ *       par valeur, branche de chevauchement et masque recalculé à chaque fois) ;</li>
+ *   <li>noyaux : {@link CodeurAvecChev} sur des blocs de {@value #BLOC} valeurs, sous le seuil
+ *       du parallélisme (un seul thread, un noyau déroulé par groupe de 32 valeurs). Le temps
+ *       inclut le passage min/max et l'en-tête de chaque bloc.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Arguments : args[0] (optionnel) nombre de valeurs (défaut 1 048 576).
+ * </p>
+ */
+public final class BenchNoyaux {
+
+    private static final int REP = 20;
+    /** Valeurs par bloc compressé (traité dans le thread appelant). */
+    private static final int BLOC = 1 << 14;
+
+    /** Puits pour empêcher l'élimination du code mesuré. */
+    private static int puits;
+
+    private BenchNoyaux() {}
+
+    /**
+     * Point d'entrée du banc.
+     *
+     * @param args args[0] optionnel : nombre de valeurs
+     */
+    public static void main(String[] args) {
+        Locale.setDefault(Locale.US);
+        int n = 1 << 20;
+        if (args != null && args.length >= 1) {
+            try { n = Integer.parseInt(args[0]); } catch (Exception ignore) {}
+        }
+        n = Math.max(BLOC, n - n % BLOC);
+
+        System.out.println("n=" + n + " (temps moyens en ms sur " + REP + " répétitions)");
+        System.out.println("  k | pack boucle | pack noyau | x    | unpack boucle | unpack noyau | x");
+        for (int k : new int[]{1, 3, 5, 8, 11, 16, 17, 24, 29, 32}) {
+            mesurerLargeur(n, k);
+        }
+    }
+
+    /**
+     * Mesure et affiche une ligne du tableau pour la largeur {@code k}.
+     *
+     * @param n nombre de valeurs (multiple de {@value #BLOC})
+     * @param k largeur en bits
+     */
+    private static void mesurerLargeur(int n, int k) {
+        int[] valeurs = genererValeurs(n, k, 42);
+        int[] mots = new int[(int) (((long) n * k + 31) >>> 5)];
+        int[] sortie = new int[n];
+        CodeurAvecChev codeur = new CodeurAvecChev();
+        int nbBlocs = n / BLOC;
+        int[][] blocs = new int[nbBlocs][];
+        int[][] compresses = new int[nbBlocs][];
+        for (int b = 0; b < nbBlocs; b++) {
+            blocs[b] = Arrays.copyOfRange(valeurs, b * BLOC, (b + 1) * BLOC);
+            compresses[b] = new int[codeur.tailleCompressee(blocs[b])];
+        }
+
+        double packBoucle = BenchProto.mesureMoyenneMs(() -> packBoucle(valeurs, mots, k), REP);
+        double packNoyau = BenchProto.mesureMoyenneMs(() -> {
+            for (int b = 0; b < nbBlocs; b++) codeur.compresser(blocs[b], compresses[b]);
+        }, REP);
+        double unpackBoucle = BenchProto.mesureMoyenneMs(() -> unpackBoucle(mots, sortie, k), REP);
+        double unpackNoyau = BenchProto.mesureMoyenneMs(() -> {
+            for (int b = 0; b < nbBlocs; b++) codeur.decompresser(compresses[b], sortie, b * BLOC);
+            puits += sortie[n - 1];
+        }, REP);
+
+        System.out.printf(Locale.US, " %2d | %11.3f | %10.3f | %4.1f | %13.3f | %12.3f | %4.1f%n",
+                k, packBoucle, packNoyau, packBoucle / packNoyau,
+                unpackBoucle, unpackNoyau, unpackBoucle / unpackNoyau);
+    }
+
+    /**
+     * Génère {@code n} valeurs aléatoires tenant sur {@code k} bits.
+     *
+     * @param n      nombre de valeurs
+     * @param k      largeur en bits
+     * @param graine graine pseudo-aléatoire
+     * @return valeurs non négatives
+     */
+    private static int[] genererValeurs(int n, int k, int graine) {
+        Random r = new Random(graine);
+        int[] t = new int[n];
+        int m = masque(k);
+        for (int i = 0; i < n; i++) t[i] = r.nextInt() & m;
+        return t;
+    }
+
+    // ---------------- boucles de référence (par valeur) ----------------
+
+    private static int masque(int b) { return (b >= 32) ? -1 : ((1 << b) - 1); }
+
+    private static void packBoucle(int[] valeurs, int[] mots, int k) {
+        long bitPos = 0;
+        for (int v : valeurs) {
+            ecrireBits(mots, bitPos, k, v);
+            bitPos += k;
+        }
+    }
+
+    private static void unpackBoucle(int[] mots, int[] sortie, int k) {
+        long bitPos = 0;
+        for (int i = 0; i < sortie.length; i++) {
+            sortie[i] = lireBits(mots, bitPos, k);
+            bitPos += k;
+        }
+        puits += sortie[sortie.length - 1];
+    }
+
+    private static void ecrireBits(int[] tampon, long positionBit, int nbBits, int valeur) {
+        int v = valeur & masque(nbBits);
+        int mot = (int) (positionBit >>> 5);
+        int decal = (int) (positionBit & 31);
+        int espace = 32 - decal;
+        if (espace >= nbBits) {
+            int m = masque(nbBits) << decal;
+            tampon[mot] = (tampon[mot] & ~m) | (v << decal);
+        } else {
+            int bas = espace, haut = nbBits - espace;
+            int mBas = masque(bas) << decal, mHaut = masque(haut);
+            tampon[mot] = (tampon[mot] & ~mBas) | ((v & masque(bas)) << decal);
+            tampon[mot + 1] = (tampon[mot + 1] & ~mHaut) | ((v >>> bas) & mHaut);
+        }
+    }
+
+    private static int lireBits(int[] tampon, long positionBit, int nbBits) {
+        int mot = (int) (positionBit >>> 5);
+        int decal = (int) (positionBit & 31);
+        int espace = 32 - decal;
+        if (espace >= nbBits) {
+            return (tampon[mot] >>> decal) & masque(nbBits);
+        }
+        int bas = espace, haut = nbBits - espace;
+        int valBas = (tampon[mot] >>> decal) & masque(bas);
+        int valHaut = tampon[mot + 1] & masque(haut);
+        return valBas | (valHaut << bas);
+    }
+}
@@ -0,0 +1,359 @@
+package codagebits;
+
+import java.util.Arrays;
+
+/**
+ * Codeur "auto" : choisit, pour chaque tableau, le mode qui produira le plus petit tampon.
+ * <p>
+ * Principe : la taille de sortie de chaque mode est estimée sans compresser, à partir
+ * d'une passe exacte sur tout le tableau (min/max, donc {@code k} et offset, et plus grand
+ * écart de delta : ils ne dépendent pas d'un échantillon) et d'une seule passe sur un
+ * échantillon de {@value #NB_BLOCS} blocs
+ * alignés de {@value #BLOC} valeurs consécutives (tout le tableau s'il est plus court) :
+ * </p>
+ * <ul>
+ *   <li>sans / avec : taille exacte à partir de {@code n} et {@code k} (perte {@code 32 mod k}
+ *       par mot comprise pour "sans") ;</li>
+ *   <li>débordement : histogramme des largeurs de l'échantillon extrapolé à {@code n}, puis
+ *       modèle de coût de {@link CodeurDebordement} ({@code kBase} optimal et overflow) ;</li>
+ *   <li>blocs : largeur de chaque bloc échantillonné ;</li>
+ *   <li>delta : taille exacte, d'après le plus grand écart zigzag du tableau entier ;</li>
+ *   <li>dictionnaire : valeurs distinctes de l'échantillon ({@link TableHachageInt}), celles
+ *       vues une seule fois étant extrapolées à {@code n} ;</li>
+ *   <li>plages : fréquence des ruptures entre voisins ;</li>
+ *   <li>Elias-Fano : taille exacte, seulement si le tableau est croissant (vérifié en entier
+ *       quand l'échantillon l'est).</li>
+ * </ul>
+ * <p>
+ * Les estimations sont exactes quand l'échantillon couvre tout le tableau. Le mode vertical
+ * (disposition de "sans" plus le bourrage de ses lignes, jamais plus petit) n'est pas candidat. En cas d'égalité, le premier mode de la
+ * liste ci-dessus l'emporte. Le tampon produit est celui du mode retenu : son numéro est
+ * dans l'octet de mode de {@code tampon[2]}, et {@link #decompresser(int[])} ou
+ * {@link #ouvrir(int[])} s'en servent pour lire n'importe quel tampon du paquetage.
+ * </p>
+ * <p>
+ * État : le codeur ne garde que le codeur du dernier tableau traité, pour l'API historique.
+ * </p>
+ */
+public class CodeurAuto implements CodeurBits {
+
+    /** Valeurs par bloc échantillonné (aligné comme les blocs et les pas de delta). */
+    static final int BLOC = 128;
+    /** Nombre de blocs de l'échantillon. */
+    static final int NB_BLOCS = 32;
+    /** Modes candidats, dans l'ordre de préférence à taille égale. */
+    static final int[] CANDIDATS = {0, 1, 2, 4, 5, 6, 7, 8};
+
+    /** Codeur du dernier tableau compressé ou décompressé (API historique). */
+    private volatile CodeurBits courant;
+
+    // ---------------- API ----------------
+
+    /**
+     * Compresse avec le mode dont la taille estimée est la plus petite.
+     *
+     * @param tableau tableau d'entrée
+     * @return tampon compressé du mode retenu
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public int[] compresser(int[] tableau) {
+        CodeurBits c = FactoryCodeurBits.pourMode(choisirMode(tableau));
+        int[] tampon = c.compresser(tableau);
+        courant = c;
+        return tampon;
+    }
+
+    /**
+     * Décompresse un tampon de n'importe quel mode, d'après son octet de mode.
+     *
+     * @param compresse tampon compressé
+     * @return tableau d'origine
+     * @throws IllegalArgumentException si le tampon est nul, trop court ou d'un mode inconnu
+     */
+    @Override
+    public int[] decompresser(int[] compresse) {
+        CodeurBits c = pourTampon(compresse);
+        int[] t = c.decompresser(compresse);
+        courant = c;
+        return t;
+    }
+
+    /**
+     * Accède à l'élément {@code index} du dernier tableau traité.
+     *
+     * @param index position logique (0 ≤ index &lt; n)
+     * @return valeur d'origine
+     * @throws IndexOutOfBoundsException si l'index est hors bornes ou si rien n'a été traité
+     */
+    @Override
+    public int acceder(int index) {
+        return dernier().acceder(index);
+    }
+
+    /**
+     * Décode une plage du dernier tableau traité.
+     *
+     * @param debut  premier index logique (inclus)
+     * @param fin    dernier index logique (exclu)
+     * @param dst    tableau de destination
+     * @param dstOff position d'écriture dans {@code dst}
+     * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+     */
+    @Override
+    public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+        dernier().accederPlage(debut, fin, dst, dstOff);
+    }
+
+    /**
+     * Compresse avec le mode retenu, sans toucher à l'état du codeur.
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public TableauCompresse compresserTableau(int[] tableau) {
+        return FactoryCodeurBits.pourMode(choisirMode(tableau)).compresserTableau(tableau);
+    }
+
+    /**
+     * Ouvre une copie d'un tampon de n'importe quel mode, sans toucher à l'état du codeur.
+     *
+     * @param compresse tampon compressé
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si le tampon est nul, trop court ou d'un mode inconnu
+     */
+    @Override
+    public TableauCompresse ouvrir(int[] compresse) {
+        return pourTampon(compresse).ouvrir(compresse);
+    }
+
+    /**
+     * Nom du mode que {@link #compresser(int[])} retiendrait pour {@code tableau}.
+     *
+     * @param tableau tableau d'entrée
+     * @return nom du mode (clé de {@link FactoryCodeurBits#creer(String)})
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    public static String choisir(int[] tableau) {
+        return FactoryCodeurBits.MODES[choisirMode(tableau)];
+    }
+
+    // ---------------- estimation ----------------
+
+    /**
+     * Numéro du mode dont la taille estimée est la plus petite.
+     *
+     * @param tableau tableau d'entrée
+     * @return numéro de mode ({@link FactoryCodeurBits#MODES})
+     */
+    static int choisirMode(int[] tableau) {
+        long[] tailles = estimer(tableau);
+        int retenu = CANDIDATS[0];
+        for (int mode : CANDIDATS) {
+            if (tailles[mode] < tailles[retenu]) retenu = mode;
+        }
+        return retenu;
+    }
+
+    /**
+     * Taille estimée du tampon (en ints) de chaque mode, indexée par numéro de mode ;
+     * {@link Long#MAX_VALUE} pour un mode non candidat.
+     *
+     * @param tableau tableau d'entrée
+     * @return tailles estimées
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    static long[] estimer(int[] tableau) {
+        if (tableau == null) throw new IllegalArgumentException("tableau null");
+        int[] ecartMax = new int[1];
+        long minMax = minMaxEcart(tableau, ecartMax);
+        return estimer(tableau, minMax, ecartMax[0]);
+    }
+
+    /**
+     * {@link #estimer(int[])} quand la passe exacte ({@link #minMaxEcart(int[], int[])}) est faite.
+     *
+     * @param tableau  tableau d'entrée (non nul)
+     * @param minMax   min et max du tableau
+     * @param ecartMax plus grand écart zigzag de delta
+     * @return tailles estimées
+     */
+    static long[] estimer(int[] tableau, long minMax, int ecartMax) {
+        int n = tableau.length;
+        long[] tailles = new long[FactoryCodeurBits.MODES.length];
+        Arrays.fill(tailles, Long.MAX_VALUE);
+
+        int offset = OutilsBits.offset(minMax);
+        int k = OutilsBits.largeur(minMax, n);
+        tailles[0] = CodeurSansChev.taille(n, k);
+        tailles[1] = CodeurAvecChev.taille(n, k);
+        if (n == 0) return tailles;
+
+        // blocs échantillonnés : tous, ou NB_BLOCS blocs complets répartis sur le tableau
+        int nbBlocs = (n + BLOC - 1) / BLOC;
+        int complets = n / BLOC;
+        boolean complet = nbBlocs <= NB_BLOCS;
+        int pris = complet ? nbBlocs : NB_BLOCS;
+
+        int[] histo = new int[33];
+        TableHachageInt distinctes = new TableHachageInt(Math.min(n, NB_BLOCS * BLOC));
+        long m = 0, paires = 0, ruptures = 0, dataBlocs = 0, uniques = 0;
+        boolean croissant = true;
+        for (int j = 0; j < pris; j++) {
+            int debut = (complet ? j : (int) ((long) j * complets / NB_BLOCS)) * BLOC;
+            int fin = Math.min(n, debut + BLOC);
+            int v = tableau[debut], min = v, max = v;
+            histo[32 - Integer.numberOfLeadingZeros(v + offset)]++;
+            uniques += compter(distinctes, v);
+            for (int i = debut + 1; i < fin; i++) {
+                int p = v;
+                v = tableau[i];
+                histo[32 - Integer.numberOfLeadingZeros(v + offset)]++;
+                uniques += compter(distinctes, v);
+                if (v < min) min = v;
+                if (v > max) max = v;
+                if (v != p) ruptures++;
+                if (v < p) croissant = false;
+            }
+            // frontière avec le bloc précédent quand l'échantillon est tout le tableau
+            if (complet && debut > 0) {
+                if (tableau[debut] != tableau[debut - 1]) ruptures++;
+                if (tableau[debut] < tableau[debut - 1]) croissant = false;
+            }
+            m += fin - debut;
+            paires += fin - debut - 1 + ((complet && debut > 0) ? 1 : 0);
+            dataBlocs += (long) BLOC / 32 * CodeurBlocs.largeurEcart(max - min);
+        }
+        double f = (double) n / m;
+
+        // débordement : histogramme extrapolé, même modèle de coût que le codeur
+        if (!complet) {
+            for (int w = 0; w <= 32; w++) histo[w] = (int) Math.round(histo[w] * f);
+        }
+        tailles[2] = CodeurDebordement.taille(histo, n);
+        tailles[4] = CodeurBlocs.taille(nbBlocs, complet ? dataBlocs : Math.round(dataBlocs * (double) nbBlocs / pris));
+        tailles[5] = CodeurDelta.taille(n, Math.max(1, 32 - Integer.numberOfLeadingZeros(ecartMax)));
+
+        // dictionnaire : valeurs vues plusieurs fois comptées une fois, valeurs vues une seule
+        // fois extrapolées (partie visible d'une longue traîne)
+        int d = distinctes.taille();
+        long card = complet ? d : Math.min(n, (d - uniques) + Math.round(uniques * f));
+        tailles[6] = CodeurDictionnaire.taille(n, (int) card);
+
+        long nbPlages = (paires == 0) ? 1 : 1 + Math.round(ruptures * (double) (n - 1) / paires);
+        tailles[7] = CodeurPlages.taille((int) Math.min(n, nbPlages), k, OutilsBits.bitsNecessaires(n));
+
+        if (croissant && OutilsBits.estTrie(tableau)) {
+            tailles[8] = CodeurEliasFano.taille(n, (long) tableau[n - 1] - tableau[0]);
+        }
+        return tailles;
+    }
+
+    /**
+     * Passe exacte sur tout le tableau, parallèle au-delà de {@link ParalleleBits#SEUIL} :
+     * min, max et plus grand écart zigzag (non signé) entre voisins d'un même pas de
+     * {@link CodeurDelta}, c'est-à-dire la largeur exacte du mode delta. Un écart isolé hors
+     * de l'échantillon change la taille de delta pour tout le tableau : il ne s'extrapole pas.
+     *
+     * @param tableau  tableau d'entrée (non nul)
+     * @param ecartMax reçoit en {@code [0]} le plus grand écart zigzag (0 si aucun)
+     * @return paire min/max ({@link ParalleleBits#minDe(long)} / {@link ParalleleBits#maxDe(long)})
+     */
+    static long minMaxEcart(int[] tableau, int[] ecartMax) {
+        int n = tableau.length;
+        int nb = ParalleleBits.nbTranches(n, CodeurDelta.PAS);
+        if (nb <= 1) return minMaxEcart(tableau, 0, n, ecartMax, 0);
+        long[] partiels = new long[nb];
+        int[] ecarts = new int[nb];
+        int pas = ParalleleBits.pas(CodeurDelta.PAS);
+        ParalleleBits.tranches(n, CodeurDelta.PAS,
+                (debut, fin) -> partiels[debut / pas] = minMaxEcart(tableau, debut, fin, ecarts, debut / pas));
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE, ecart = 0;
+        for (int j = 0; j < nb; j++) {
+            min = Math.min(min, ParalleleBits.minDe(partiels[j]));
+            max = Math.max(max, ParalleleBits.maxDe(partiels[j]));
+            if (Integer.compareUnsigned(ecarts[j], ecart) > 0) ecart = ecarts[j];
+        }
+        ecartMax[0] = ecart;
+        return ParalleleBits.paire(min, max);
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * {@link #minMaxEcart(int[], int[])} séquentiel sur {@code [debut, fin[} ({@code debut}
+     * multiple du pas de delta : le premier écart d'un pas n'est pas codé).
+     *
+     * @param t      tableau
+     * @param debut  index de début (inclus)
+     * @param fin    index de fin (exclu)
+     * @param ecarts reçoit le plus grand écart en {@code [indice]}
+     * @param indice case de {@code ecarts}
+     * @return paire min/max
+     */
+    private static long minMaxEcart(int[] t, int debut, int fin, int[] ecarts, int indice) {
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE, ecart = 0;
+        for (int s = debut; s < fin; s += CodeurDelta.PAS) {
+            int v = t[s];
+            if (v < min) min = v;
+            if (v > max) max = v;
+            int f = Math.min(fin, s + CodeurDelta.PAS);
+            for (int i = s + 1; i < f; i++) {
+                int p = v;
+                v = t[i];
+                if (v < min) min = v;
+                if (v > max) max = v;
+                int z = CodeurDelta.zigzag(v - p);
+                if (Integer.compareUnsigned(z, ecart) > 0) ecart = z;
+            }
+        }
+        ecarts[indice] = ecart;
+        return ParalleleBits.paire(min, max);
+    }
+
+    /**
+     * Compte une occurrence de {@code v} (1, puis 2 pour « plusieurs »).
+     *
+     * @param vues occurrences par valeur
+     * @param v    valeur vue
+     * @return variation du nombre de valeurs vues une seule fois (+1, -1 ou 0)
+     */
+    private static int compter(TableHachageInt vues, int v) {
+        int c = vues.obtenir(v);
+        if (c == TableHachageInt.VIDE) {
+            vues.mettre(v, 1);
+            return 1;
+        }
+        if (c == 1) {
+            vues.mettre(v, 2);
+            return -1;
+        }
+        return 0;
+    }
+
+    /**
+     * Codeur capable de lire {@code compresse}, d'après son octet de mode.
+     *
+     * @param compresse tampon compressé
+     * @return nouveau codeur du mode du tampon
+     * @throws IllegalArgumentException si le tampon est nul, trop court ou d'un mode inconnu
+     */
+    private static CodeurBits pourTampon(int[] compresse) {
+        if (compresse == null || compresse.length < 3) throw new IllegalArgumentException("tampon invalide");
+        return FactoryCodeurBits.pourMode(OutilsBits.mode(compresse));
+    }
+
+    /**
+     * Renvoie le codeur du dernier tableau traité par l'API historique.
+     *
+     * @return codeur courant
+     * @throws IndexOutOfBoundsException si rien n'a encore été compressé ni décompressé
+     */
+    private CodeurBits dernier() {
+        CodeurBits c = courant;
+        if (c == null) throw new IndexOutOfBoundsException();
+        return c;
+    }
+}
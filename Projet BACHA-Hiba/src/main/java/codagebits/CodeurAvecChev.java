@@ -1,218 +1,669 @@
-package codagebits;
-
-/**
- * Codeur d'entiers "Avec Chevauchement".
- * <p>
- * Principe : les valeurs sont écrites dans un flux binaire continu, sans se soucier
- * des frontières de mots (32 bits). Une valeur peut être répartie sur deux mots.
- * </p>
- * <p>
- * Gestion des négatifs : un {@code offset = -min} est appliqué à la compression
- * puis retiré à la décompression et à l'accès direct.
- * </p>
- */
-public class CodeurAvecChev implements CodeurBits {
-
-    /** Tampon compressé (inclut l'en-tête). */
-    private int[] tampon;
-    /** Taille logique. */
-    private int n;
-    /** Bits par valeur. */
-    private int k;
-    /** Offset appliqué pour négatifs. */
-    private int offset;
-
-    // En-tête : [0]=n, [1]=k, [2]=flags(1), [3]=offset
-    private static final int ENTETE = 4;
-    private static final int FLAG = 1;
-
-    /**
-     * Compresse un tableau en flux binaire continu (avec chevauchement).
-     * <p>
-     * Étapes : validation → offset → k → allocation (taille en bits arrondie aux 32 bits) →
-     * écriture séquentielle avec {@link OutilsBits#ecrireBits(int[], long, int, int)}.
-     * </p>
-     *
-     * @param tableau tableau d'entrée (peut contenir des négatifs)
-     * @return tampon compressé incluant l'en-tête
-     * @throws IllegalArgumentException si {@code tableau} est {@code null}
-     */
-    @Override
-    public int[] compresser(int[] tableau) {
-        validerEntree(tableau);
-        this.n = tableau.length;
-
-        this.offset = calculerOffset(tableau);
-        int[] pos = appliquerOffset(tableau, offset);
-
-        int maxPos = max(pos);
-        this.k = OutilsBits.bitsNecessaires(maxPos);
-
-        long totalBits = (long) n * k;
-        int dataInts = (int) ((totalBits + 31) >>> 5);
-
-        this.tampon = new int[ENTETE + Math.max(1, dataInts)];
-        ecrireEntete();
-
-        ecrireFlux(pos);
-        return tampon;
-    }
-
-    /**
-     * Décompresse un tampon produit par {@link #compresser(int[])}.
-     *
-     * @param compresse tampon compressé (avec en-tête)
-     * @return tableau d'origine
-     * @throws IllegalArgumentException si le tampon est invalide
-     */
-    @Override
-    public int[] decompresser(int[] compresse) {
-        validerTampon(compresse);
-        lireEntete(compresse);
-
-        int[] pos = new int[n];
-        lireFlux(pos);
-        retirerOffsetInPlace(pos, offset);
-        return pos;
-    }
-
-    /**
-     * Accède à l'élément {@code index} à partir du flux binaire compressé.
-     * <p>
-     * Calcule la position en bits {@code bitPos = headerBits + index*k} puis lit {@code k} bits.
-     * </p>
-     *
-     * @param index position logique (0 ≤ index &lt; n)
-     * @return valeur d'origine à l'index
-     * @throws IndexOutOfBoundsException si l'index est hors bornes
-     */
-    @Override
-    public int acceder(int index) {
-        if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
-        long bitPos = debutFluxBits() + (long) index * k;
-        int valPos = OutilsBits.lireBits(tampon, bitPos, k);
-        return valPos - offset;
-    }
-
-    // ---------------- helpers ----------------
-
-    /**
-     * Vérifie que le tableau d'entrée n'est pas nul.
-     *
-     * @param t tableau
-     */
-    private static void validerEntree(int[] t) {
-        if (t == null) throw new IllegalArgumentException("tableau null");
-    }
-
-    /**
-     * Vérifie que le tampon compressé est valable (taille en-tête).
-     *
-     * @param t tampon
-     */
-    private static void validerTampon(int[] t) {
-        if (t == null || t.length < ENTETE) throw new IllegalArgumentException("tampon invalide");
-    }
-
-    /**
-     * Calcule l'offset pour rendre le tableau non négatif.
-     *
-     * @param t tableau source
-     * @return offset {@code -min} ou 0
-     */
-    private static int calculerOffset(int[] t) {
-        int min = Integer.MAX_VALUE;
-        for (int v : t) if (v < min) min = v;
-        return (min < 0) ? -min : 0;
-    }
-
-    /**
-     * Retourne une copie avec offset appliqué.
-     *
-     * @param t      tableau
-     * @param offset décalage
-     * @return copie positive
-     */
-    private static int[] appliquerOffset(int[] t, int offset) {
-        int[] r = new int[t.length];
-        for (int i = 0; i < t.length; i++) r[i] = t[i] + offset;
-        return r;
-    }
-
-    /**
-     * Retire l'offset en place.
-     *
-     * @param t      tableau
-     * @param offset décalage
-     */
-    private static void retirerOffsetInPlace(int[] t, int offset) {
-        for (int i = 0; i < t.length; i++) t[i] -= offset;
-    }
-
-    /**
-     * Retourne le max d'un tableau (ou 0 si vide).
-     *
-     * @param t tableau
-     * @return max
-     */
-    private static int max(int[] t) {
-        int m = 0;
-        for (int v : t) if (v > m) m = v;
-        return m;
-    }
-
-    /** Écrit l'en-tête. */
-    private void ecrireEntete() {
-        tampon[0] = n;
-        tampon[1] = k;
-        tampon[2] = FLAG;
-        tampon[3] = offset;
-    }
-
-    /**
-     * Lit l'en-tête du tampon compressé.
-     *
-     * @param compresse tampon
-     */
-    private void lireEntete(int[] compresse) {
-        this.tampon = compresse;
-        this.n = tampon[0];
-        this.k = tampon[1];
-        this.offset = tampon[3];
-    }
-
-    /**
-     * Position du début de la zone data en bits.
-     *
-     * @return index de bit de début de flux
-     */
-    private long debutFluxBits() {
-        return ((long) ENTETE) << 5;
-    }
-
-    /**
-     * Écrit séquentiellement chaque valeur positive dans le flux binaire.
-     *
-     * @param pos valeurs positives (offset appliqué)
-     */
-    private void ecrireFlux(int[] pos) {
-        long bitPos = debutFluxBits();
-        for (int v : pos) {
-            OutilsBits.ecrireBits(tampon, bitPos, k, v);
-            bitPos += k;
-        }
-    }
-
-    /**
-     * Lit séquentiellement chaque valeur positive depuis le flux binaire.
-     *
-     * @param out tableau de sortie (positif, avant retrait offset)
-     */
-    private void lireFlux(int[] out) {
-        long bitPos = debutFluxBits();
-        for (int i = 0; i < n; i++) {
-            out[i] = OutilsBits.lireBits(tampon, bitPos, k);
-            bitPos += k;
-        }
-    }
-}
+package codagebits;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Codeur d'entiers "Avec Chevauchement".
+ * <p>
+ * Principe : les valeurs sont écrites dans un flux binaire continu, sans se soucier
+ * des frontières de mots (32 bits). Une valeur peut être répartie sur deux mots.
+ * </p>
+ * <p>
+ * Gestion des négatifs : un {@code offset = -min} est appliqué à la compression
+ * puis retiré à la décompression et à l'accès direct.
+ * </p>
+ * <p>
+ * État : les données d'un tableau compressé vivent dans un {@link Tableau} immuable ;
+ * le codeur ne garde que le dernier tableau traité pour l'API historique.
+ * </p>
+ * <p>
+ * Stockage 64 bits ({@link #CodeurAvecChev(boolean)}) : les tableaux ouverts ou produits
+ * gardent leurs données en {@code long[]} ({@link TamponBits64}) ; {@link #acceder(int)}
+ * lit alors chaque valeur d'une seule fenêtre de 64 bits, sans branche de chevauchement.
+ * Le format d'échange {@code int[]} est inchangé.
+ * </p>
+ */
+public class CodeurAvecChev implements CodeurBits {
+
+    // En-tête : [0]=n, [1]=k, [2]=flags(1, | TRIE), [3]=offset
+    static final int ENTETE = 4;
+    private static final int FLAG = 1;
+
+    /** Vrai si les tableaux produits utilisent le stockage 64 bits. */
+    private final boolean stockage64;
+
+    /** Dernier tableau compressé ou décompressé (API historique). */
+    private volatile TableauCompresse courant;
+
+    /** Codeur avec le stockage {@code int[]} d'origine. */
+    public CodeurAvecChev() {
+        this(false);
+    }
+
+    /**
+     * Codeur dont les tableaux produits utilisent, au choix, le stockage {@code int[]}
+     * ou le stockage 64 bits optimisé pour l'accès direct.
+     *
+     * @param stockage64 {@code true} pour un stockage {@code long[]} ({@link TamponBits64})
+     */
+    public CodeurAvecChev(boolean stockage64) {
+        this.stockage64 = stockage64;
+    }
+
+    /**
+     * Compresse un tableau en flux binaire continu (avec chevauchement).
+     * <p>
+     * Étapes : validation → min et max en une passe → offset et k → allocation (taille en
+     * bits arrondie aux 32 bits) → offset appliqué à la volée pendant l'écriture par groupes via {@link NoyauxBits} (queue avec
+     * {@link OutilsBits#ecrireBits(int[], long, int, int)}).
+     * </p>
+     *
+     * @param tableau tableau d'entrée (peut contenir des négatifs)
+     * @return tampon compressé incluant l'en-tête
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public int[] compresser(int[] tableau) {
+        Tableau t = encoder(tableau);
+        courant = adapter(t);
+        return t.tampon;
+    }
+
+    /**
+     * Décompresse un tampon produit par {@link #compresser(int[])}.
+     *
+     * @param compresse tampon compressé (avec en-tête)
+     * @return tableau d'origine
+     * @throws IllegalArgumentException si le tampon est invalide
+     */
+    @Override
+    public int[] decompresser(int[] compresse) {
+        validerTampon(compresse);
+        Tableau t = new Tableau(compresse);
+        courant = adapter(t);
+        return t.decompresser();
+    }
+
+    /**
+     * Accède à l'élément {@code index} du dernier tableau traité.
+     *
+     * @param index position logique (0 ≤ index &lt; n)
+     * @return valeur d'origine à l'index
+     * @throws IndexOutOfBoundsException si l'index est hors bornes
+     * @see Tableau#acceder(int)
+     */
+    @Override
+    public int acceder(int index) {
+        return dernier().acceder(index);
+    }
+
+    /**
+     * Décode une plage du dernier tableau traité.
+     *
+     * @param debut  premier index logique (inclus)
+     * @param fin    dernier index logique (exclu)
+     * @param dst    tableau de destination
+     * @param dstOff position d'écriture dans {@code dst}
+     * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+     * @see Tableau#accederPlage(int, int, int[], int)
+     */
+    @Override
+    public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+        dernier().accederPlage(debut, fin, dst, dstOff);
+    }
+
+    /**
+     * Compresse sans toucher à l'état du codeur.
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public TableauCompresse compresserTableau(int[] tableau) {
+        return adapter(encoder(tableau));
+    }
+
+    /**
+     * Ouvre une copie d'un tampon compressé sans toucher à l'état du codeur.
+     *
+     * @param compresse tampon compressé (avec en-tête)
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si le tampon est invalide
+     */
+    @Override
+    public TableauCompresse ouvrir(int[] compresse) {
+        validerTampon(compresse);
+        return stockage64 ? new Tableau64(compresse) : new Tableau(compresse.clone());
+    }
+
+    /**
+     * {@link #ouvrir(int[])} sans copie : {@code tampon} est adopté, l'appelant ne le modifie plus.
+     *
+     * @param tampon tampon compressé
+     * @return tableau compressé adoptant {@code tampon}
+     * @throws IllegalArgumentException si le tampon est invalide
+     */
+    static TableauCompresse adopter(int[] tampon) {
+        validerTampon(tampon);
+        return new Tableau(tampon);
+    }
+
+    /**
+     * Taille exacte du tampon que produirait {@link #compresser(int[])}, en une passe
+     * min/max et sans allocation.
+     *
+     * @param tableau tableau d'entrée
+     * @return nombre d'ints
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public int tailleCompressee(int[] tableau) {
+        validerEntree(tableau);
+        return taille(tableau.length, OutilsBits.largeur(ParalleleBits.minMax(tableau), tableau.length));
+    }
+
+    /**
+     * Compresse dans un tampon fourni (format {@code int[]}), sans allocation ni modification
+     * de l'état du codeur. Le contenu écrit est identique à celui de {@link #compresser(int[])}.
+     *
+     * @param tableau tableau d'entrée
+     * @param dst     destination (au moins {@link #tailleCompressee(int[])} ints, réutilisable)
+     * @return nombre d'ints écrits au début de {@code dst}
+     * @throws IllegalArgumentException  si {@code tableau} est {@code null}
+     * @throws IndexOutOfBoundsException si {@code dst} est trop petit
+     */
+    @Override
+    public int compresser(int[] tableau, int[] dst) {
+        validerEntree(tableau);
+        long minMax = ParalleleBits.minMax(tableau);
+        int taille = taille(tableau.length, OutilsBits.largeur(minMax, tableau.length));
+        Objects.checkFromIndexSize(0, taille, dst.length);
+        ecrire(tableau, minMax, dst);
+        return taille;
+    }
+
+    /**
+     * Décompresse dans un tableau fourni, sans allocation ni modification de l'état du codeur :
+     * l'en-tête est lu dans des variables locales, sans construire de {@link Tableau}.
+     *
+     * @param compresse tampon compressé (avec en-tête)
+     * @param dst       destination
+     * @param dstOff    position d'écriture dans {@code dst}
+     * @return nombre de valeurs écrites
+     * @throws IllegalArgumentException  si le tampon est nul ou trop court
+     * @throws IndexOutOfBoundsException si {@code dst} est trop petit
+     */
+    @Override
+    public int decompresser(int[] compresse, int[] dst, int dstOff) {
+        validerTampon(compresse);
+        int n = compresse[0];
+        decoderTout(compresse, n, compresse[1], compresse[3], dst, dstOff);
+        return n;
+    }
+
+    // ------------- tableau compressé -------------
+
+    /**
+     * Tableau compressé "avec chevauchement" : tampon et en-tête lu, tous immuables.
+     */
+    static final class Tableau implements TableauCompresse, TamponPartage {
+
+        /** Tampon compressé (inclut l'en-tête), jamais modifié. */
+        final int[] tampon;
+        /** Taille logique. */
+        final int n;
+        /** Bits par valeur. */
+        final int k;
+        /** Offset appliqué pour négatifs. */
+        final int offset;
+        /** Vrai si le tableau d'origine est trié. */
+        final boolean trie;
+
+        /**
+         * Lit l'en-tête d'un tampon (adopté tel quel, sans copie).
+         *
+         * @param tampon tampon compressé valide
+         */
+        Tableau(int[] tampon) {
+            this.tampon = tampon;
+            this.n = tampon[0];
+            this.k = tampon[1];
+            this.offset = tampon[3];
+            this.trie = OutilsBits.trie(tampon);
+        }
+
+        @Override
+        public int taille() {
+            return n;
+        }
+
+        @Override
+        public int[] tampon() {
+            return tampon.clone();
+        }
+
+        @Override
+        public int[] tamponPartage() {
+            return tampon;
+        }
+
+        /**
+         * Décompresse l'ensemble du tableau, par tranches parallèles pour les grands tableaux.
+         *
+         * @return nouveau tableau d'origine
+         */
+        @Override
+        public int[] decompresser() {
+            int[] out = new int[n];
+            decompresser(out, 0);
+            return out;
+        }
+
+        /**
+         * Décompresse l'ensemble du tableau dans {@code out} à partir de {@code outOff},
+         * sans allocation en dessous du seuil parallèle.
+         *
+         * @param out    destination (au moins {@code n} cases après {@code outOff})
+         * @param outOff position d'écriture
+         */
+        void decompresser(int[] out, int outOff) {
+            decoderTout(tampon, n, k, offset, out, outOff);
+        }
+
+        /**
+         * Accède à l'élément {@code index} à partir du flux binaire compressé.
+         * <p>
+         * Calcule la position en bits {@code bitPos = headerBits + index*k} puis lit {@code k} bits.
+         * </p>
+         *
+         * @param index position logique (0 ≤ index &lt; n)
+         * @return valeur d'origine à l'index
+         * @throws IndexOutOfBoundsException si l'index est hors bornes
+         */
+        @Override
+        public int acceder(int index) {
+            if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
+            long bitPos = debutFluxBits() + (long) index * k;
+            int valPos = OutilsBits.lireBits(tampon, bitPos, k);
+            return valPos - offset;
+        }
+
+        @Override
+        public boolean estTrie() {
+            return trie;
+        }
+
+        /**
+         * Dichotomie directement sur le flux : la cible est traduite une fois dans le domaine
+         * décalé, chaque sonde lit {@code k} bits sans retirer l'offset.
+         *
+         * @param valeur valeur cherchée
+         * @return première position de valeur ≥ {@code valeur} ({@code n} si aucune)
+         * @throws IllegalStateException si le tableau n'est pas trié
+         */
+        @Override
+        public int borneInferieure(int valeur) {
+            if (!trie) throw new IllegalStateException("tableau non trié");
+            long cible = valeur + Integer.toUnsignedLong(offset);
+            int bas = 0, haut = n;
+            while (bas < haut) {
+                int milieu = (bas + haut) >>> 1;
+                long u = OutilsBits.lireBits(tampon, debutFluxBits() + (long) milieu * k, k) & 0xFFFFFFFFL;
+                if (u < cible) bas = milieu + 1;
+                else haut = milieu;
+            }
+            return bas;
+        }
+
+        /**
+         * Décode la plage {@code [debut, fin[} directement dans {@code dst}, sans allocation.
+         * <p>
+         * Les groupes alignés de {@value NoyauxBits#GROUPE} valeurs passent par le noyau
+         * spécialisé de largeur {@code k} ; la tête et la queue sont lues mot par mot dans
+         * un accumulateur 64 bits, sans lecture à cheval.
+         * </p>
+         *
+         * @param debut  premier index logique (inclus)
+         * @param fin    dernier index logique (exclu)
+         * @param dst    tableau de destination
+         * @param dstOff position d'écriture dans {@code dst}
+         * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+         */
+        @Override
+        public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+            Objects.checkFromToIndex(debut, fin, n);
+            Objects.checkFromIndexSize(dstOff, fin - debut, dst.length);
+            if (debut == fin) return;
+            lireFlux(tampon, k, offset, debut, fin, dst, dstOff);
+        }
+
+        /**
+         * Lit les valeurs {@code [debut, fin[} depuis le flux binaire et retire l'offset.
+         * <p>
+         * Découpage : tête jusqu'au prochain groupe aligné, groupes complets via le noyau
+         * de largeur {@code k} (choisi une fois), puis queue ; tête et queue passent par
+         * {@link #lireFluxSequentiel(int[], int, int, int, int, int[], int)}.
+         * </p>
+         *
+         * @param tampon tampon compressé
+         * @param k      bits par valeur
+         * @param offset décalage
+         * @param debut  premier index (inclus)
+         * @param fin    dernier index (exclu)
+         * @param out    tableau de sortie
+         * @param outOff position d'écriture dans {@code out}
+         */
+        static void lireFlux(int[] tampon, int k, int offset, int debut, int fin, int[] out, int outOff) {
+            int i = debut, d = outOff;
+            int tete = Math.min(fin, debut + (-debut & (NoyauxBits.GROUPE - 1)));
+            if (i < tete) {
+                lireFluxSequentiel(tampon, k, offset, i, tete, out, d);
+                d += tete - i;
+                i = tete;
+            }
+            NoyauxBits.Noyau noyau = NoyauxBits.pour(k);
+            for (; fin - i >= NoyauxBits.GROUPE; i += NoyauxBits.GROUPE, d += NoyauxBits.GROUPE) {
+                noyau.depaqueter(tampon, ENTETE + (i / NoyauxBits.GROUPE) * k, out, d, -offset);
+            }
+            if (i < fin) lireFluxSequentiel(tampon, k, offset, i, fin, out, d);
+        }
+
+        /**
+         * Lit séquentiellement les valeurs {@code [debut, fin[} via un accumulateur 64 bits
+         * et retire l'offset.
+         * <p>
+         * Précondition : {@code debut < fin}. Les mots ne sont chargés qu'à la demande,
+         * la lecture ne déborde donc jamais du tampon.
+         * </p>
+         *
+         * @param tampon tampon compressé
+         * @param k      bits par valeur
+         * @param offset décalage
+         * @param debut  premier index (inclus)
+         * @param fin    dernier index (exclu)
+         * @param out    tableau de sortie
+         * @param outOff position d'écriture dans {@code out}
+         */
+        private static void lireFluxSequentiel(int[] tampon, int k, int offset, int debut, int fin, int[] out, int outOff) {
+            long bitPos = debutFluxBits() + (long) debut * k;
+            int mot = (int) (bitPos >>> 5);
+            int decal = (int) (bitPos & 31);
+            long acc = (tampon[mot++] & 0xFFFFFFFFL) >>> decal;
+            int dispo = 32 - decal;
+            long m = OutilsBits.masque(k) & 0xFFFFFFFFL;
+            for (int i = debut, d = outOff; i < fin; i++) {
+                if (dispo < k) {
+                    acc |= (tampon[mot++] & 0xFFFFFFFFL) << dispo;
+                    dispo += 32;
+                }
+                out[d++] = (int) (acc & m) - offset;
+                acc >>>= k;
+                dispo -= k;
+            }
+        }
+    }
+
+    /**
+     * Tableau compressé "avec chevauchement" stocké en mots de 64 bits.
+     * <p>
+     * Même contenu que {@link Tableau}, mais chaque lecture est une extraction de fenêtre
+     * {@link TamponBits64#lire(long, int)} : deux chargements alignés et deux décalages,
+     * quelle que soit la position de la valeur.
+     * </p>
+     */
+    static final class Tableau64 implements TableauCompresse {
+
+        /** Données (en-tête inclus), jamais modifiées. */
+        private final TamponBits64 mots;
+        /** Taille logique. */
+        final int n;
+        /** Bits par valeur. */
+        final int k;
+        /** Offset appliqué pour négatifs. */
+        final int offset;
+        /** Vrai si le tableau d'origine est trié. */
+        final boolean trie;
+
+        /**
+         * Convertit un tampon {@code int[]} valide (non retenu).
+         *
+         * @param tampon tampon compressé
+         */
+        Tableau64(int[] tampon) {
+            this.mots = TamponBits64.depuis(tampon);
+            this.n = tampon[0];
+            this.k = tampon[1];
+            this.offset = tampon[3];
+            this.trie = OutilsBits.trie(tampon);
+        }
+
+        @Override
+        public int taille() {
+            return n;
+        }
+
+        @Override
+        public int[] tampon() {
+            return mots.versInts();
+        }
+
+        @Override
+        public boolean estTrie() {
+            return trie;
+        }
+
+        /**
+         * Accède à l'élément {@code index} par une seule extraction de fenêtre 64 bits.
+         *
+         * @param index position logique (0 ≤ index &lt; n)
+         * @return valeur d'origine à l'index
+         * @throws IndexOutOfBoundsException si l'index est hors bornes
+         */
+        @Override
+        public int acceder(int index) {
+            if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
+            return mots.lire(debutFluxBits() + (long) index * k, k) - offset;
+        }
+
+        /**
+         * Décode la plage {@code [debut, fin[} directement dans {@code dst}, sans allocation.
+         *
+         * @param debut  premier index logique (inclus)
+         * @param fin    dernier index logique (exclu)
+         * @param dst    tableau de destination
+         * @param dstOff position d'écriture dans {@code dst}
+         * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+         */
+        @Override
+        public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+            Objects.checkFromToIndex(debut, fin, n);
+            Objects.checkFromIndexSize(dstOff, fin - debut, dst.length);
+            long bitPos = debutFluxBits() + (long) debut * k;
+            for (int i = debut, d = dstOff; i < fin; i++, bitPos += k) {
+                dst[d++] = mots.lire(bitPos, k) - offset;
+            }
+        }
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Compresse {@code tableau} dans un nouveau tampon (aucun état partagé).
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé adoptant le nouveau tampon
+     */
+    static Tableau encoder(int[] tableau) {
+        validerEntree(tableau);
+        long minMax = ParalleleBits.minMax(tableau);
+        int[] tampon = new int[taille(tableau.length, OutilsBits.largeur(minMax, tableau.length))];
+        ecrire(tableau, minMax, tampon);
+        return new Tableau(tampon);
+    }
+
+    /**
+     * Taille exacte du tampon compressé.
+     *
+     * @param n nombre de valeurs
+     * @param k bits par valeur
+     * @return nombre d'ints (en-tête compris)
+     */
+    static int taille(int n, int k) {
+        return ENTETE + Math.max(1, dataInts(n, k));
+    }
+
+    /**
+     * Nombre d'ints de la zone data.
+     *
+     * @param n nombre de valeurs
+     * @param k bits par valeur
+     * @return {@code ceil(n*k/32)}
+     */
+    private static int dataInts(int n, int k) {
+        return (int) (((long) n * k + 31) >>> 5);
+    }
+
+    /**
+     * Écrit en-tête et flux dans {@code tampon} (au moins {@link #taille(int, int)} ints,
+     * contenu antérieur quelconque). L'offset est appliqué à la volée, sans copie décalée.
+     *
+     * @param tableau tableau d'entrée
+     * @param minMax  min et max de {@code tableau} ({@link ParalleleBits#minMax(int[])})
+     * @param tampon  destination
+     */
+    private static void ecrire(int[] tableau, long minMax, int[] tampon) {
+        int n = tableau.length;
+        int offset = OutilsBits.offset(minMax);
+        int k = OutilsBits.largeur(minMax, n);
+
+        ecrireEntete(tampon, n, k, offset, OutilsBits.estTrie(tableau));
+        tampon[ENTETE] = 0; // seul mot de données d'un tableau vide
+        if (ParalleleBits.nbTranches(n, NoyauxBits.GROUPE) <= 1) {
+            ecrireFlux(tampon, tableau, offset, k, 0, n);
+        } else {
+            ParalleleBits.tranches(n, NoyauxBits.GROUPE, (debut, fin) -> ecrireFlux(tampon, tableau, offset, k, debut, fin));
+        }
+    }
+
+    /**
+     * Applique le stockage choisi à un tableau fraîchement encodé ou lu.
+     *
+     * @param t tableau au format {@code int[]}
+     * @return {@code t}, ou sa copie 64 bits
+     */
+    private TableauCompresse adapter(Tableau t) {
+        return stockage64 ? new Tableau64(t.tampon) : t;
+    }
+
+    /**
+     * Renvoie le dernier tableau traité par l'API historique.
+     *
+     * @return tableau courant
+     * @throws IndexOutOfBoundsException si rien n'a encore été compressé ni décompressé
+     */
+    private TableauCompresse dernier() {
+        TableauCompresse t = courant;
+        if (t == null) throw new IndexOutOfBoundsException();
+        return t;
+    }
+
+    /**
+     * Vérifie que le tableau d'entrée n'est pas nul.
+     *
+     * @param t tableau
+     */
+    private static void validerEntree(int[] t) {
+        if (t == null) throw new IllegalArgumentException("tableau null");
+    }
+
+    /**
+     * Vérifie que le tampon compressé est valable (taille en-tête).
+     *
+     * @param t tampon
+     */
+    private static void validerTampon(int[] t) {
+        if (t == null || t.length < ENTETE) throw new IllegalArgumentException("tampon invalide");
+    }
+
+    /**
+     * Écrit l'en-tête.
+     *
+     * @param tampon tampon alloué
+     * @param n      taille logique
+     * @param k      bits par valeur
+     * @param offset décalage
+     * @param trie   vrai si le tableau d'origine est trié
+     */
+    private static void ecrireEntete(int[] tampon, int n, int k, int offset, boolean trie) {
+        tampon[0] = n;
+        tampon[1] = k;
+        tampon[2] = trie ? FLAG | OutilsBits.TRIE : FLAG;
+        tampon[3] = offset;
+    }
+
+    /**
+     * Décompresse les {@code n} valeurs d'un tampon dans {@code out}, par tranches parallèles
+     * pour les grands tableaux, sans allocation en dessous du seuil parallèle.
+     *
+     * @param tampon tampon compressé
+     * @param n      nombre de valeurs
+     * @param k      bits par valeur
+     * @param offset décalage
+     * @param out    destination
+     * @param outOff position d'écriture
+     * @throws IndexOutOfBoundsException si la destination est trop petite
+     */
+    private static void decoderTout(int[] tampon, int n, int k, int offset, int[] out, int outOff) {
+        Objects.checkFromIndexSize(outOff, n, out.length);
+        if (n == 0) return;
+        if (ParalleleBits.nbTranches(n, NoyauxBits.GROUPE) <= 1) {
+            Tableau.lireFlux(tampon, k, offset, 0, n, out, outOff);
+            return;
+        }
+        ParalleleBits.tranches(n, NoyauxBits.GROUPE, (debut, fin) -> Tableau.lireFlux(tampon, k, offset, debut, fin, out, outOff + debut));
+    }
+
+    /**
+     * Position du début de la zone data en bits.
+     *
+     * @return index de bit de début de flux
+     */
+    private static long debutFluxBits() {
+        return ((long) ENTETE) << 5;
+    }
+
+    /**
+     * Écrit les valeurs {@code t[debut..fin[ + offset} dans le flux binaire.
+     * <p>
+     * Les groupes complets de {@value NoyauxBits#GROUPE} valeurs occupent exactement
+     * {@code k} mots alignés et passent par le noyau spécialisé de largeur {@code k} ;
+     * le reste est écrit valeur par valeur avec {@link OutilsBits#ecrireBits(int[], long, int, int)},
+     * dans des mots d'abord remis à zéro (le tampon peut être réutilisé).
+     * {@code debut} étant aligné sur un groupe, la plage commence sur une frontière de mot
+     * et n'écrit que ses propres mots.
+     * </p>
+     *
+     * @param tampon tampon de destination (en-tête écrit)
+     * @param t      valeurs d'origine
+     * @param offset décalage ajouté à chaque valeur
+     * @param k      bits par valeur
+     * @param debut  premier index (inclus, multiple de {@value NoyauxBits#GROUPE})
+     * @param fin    dernier index (exclu)
+     */
+    private static void ecrireFlux(int[] tampon, int[] t, int offset, int k, int debut, int fin) {
+        NoyauxBits.Noyau noyau = NoyauxBits.pour(k);
+        int i = debut;
+        int mot = ENTETE + (debut / NoyauxBits.GROUPE) * k;
+        for (; fin - i >= NoyauxBits.GROUPE; i += NoyauxBits.GROUPE, mot += k) {
+            noyau.empaqueter(t, i, offset, tampon, mot);
+        }
+        long bitPos = debutFluxBits() + (long) i * k;
+        if (i < fin) Arrays.fill(tampon, mot, (int) ((bitPos + (long) (fin - i) * k + 31) >>> 5), 0);
+        for (; i < fin; i++) {
+            OutilsBits.ecrireBits(tampon, bitPos, k, t[i] + offset);
+            bitPos += k;
+        }
+    }
+}
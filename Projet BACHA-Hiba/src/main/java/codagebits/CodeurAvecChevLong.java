@@ -0,0 +1,159 @@
+package codagebits;
+
+import java.util.Objects;
+
+/**
+ * Codeur de {@code long} "Avec Chevauchement" : variante 64 bits de {@link CodeurAvecChev}.
+ * <p>
+ * Principe : les valeurs de {@code k ≤ 64} bits sont écrites en flux continu ; une valeur
+ * peut chevaucher deux longs consécutifs. Taille = {@code ceil(n*k/64)} mots + en-tête.
+ * </p>
+ * <p>
+ * Gestion des négatifs : {@code offset = -min} appliqué à la compression (valeurs décalées
+ * lues comme non signées), retiré à la décompression et à l'accès direct.
+ * </p>
+ */
+public class CodeurAvecChevLong implements CodeurBitsLong {
+
+    // En-tête : [0]=n, [1]=k, [2]=flags(1), [3]=offset
+    private static final int ENTETE = 4;
+    private static final int FLAG = 1;
+
+    /** Dernier tableau compressé ou décompressé (API historique). */
+    private volatile Tableau courant;
+
+    /**
+     * Compresse un tableau de longs en mode "avec chevauchement".
+     *
+     * @param tableau tableau d'entrée (peut contenir des négatifs)
+     * @return tampon compressé incluant l'en-tête
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public long[] compresser(long[] tableau) {
+        if (tableau == null) throw new IllegalArgumentException("tableau null");
+        int n = tableau.length;
+        long offset = OutilsBitsLong.calculerOffset(tableau);
+        int k = OutilsBitsLong.bitsNecessaires(OutilsBitsLong.maxDecale(tableau, offset));
+
+        long[] tampon = new long[ENTETE + Math.max(1, OutilsBitsLong.motsFlux(n, k))];
+        tampon[0] = n;
+        tampon[1] = k;
+        tampon[2] = FLAG;
+        tampon[3] = offset;
+        long bitPos = (long) ENTETE << 6;
+        for (int i = 0; i < n; i++, bitPos += k) {
+            OutilsBitsLong.ecrireBits(tampon, bitPos, k, tableau[i] + offset);
+        }
+        courant = new Tableau(tampon);
+        return tampon;
+    }
+
+    /**
+     * Décompresse un tampon produit par {@link #compresser(long[])}.
+     *
+     * @param compresse tampon compressé (avec en-tête)
+     * @return tableau d'origine
+     * @throws IllegalArgumentException si le tampon est nul ou trop court
+     */
+    @Override
+    public long[] decompresser(long[] compresse) {
+        if (compresse == null || compresse.length < ENTETE) throw new IllegalArgumentException("tampon invalide");
+        Tableau t = new Tableau(compresse);
+        courant = t;
+        long[] out = new long[t.n];
+        t.accederPlage(0, t.n, out, 0);
+        return out;
+    }
+
+    /**
+     * Accède directement à l'élément {@code index} du dernier tableau traité.
+     *
+     * @param index position logique (0 ≤ index &lt; n)
+     * @return valeur d'origine
+     * @throws IndexOutOfBoundsException si l'index est hors bornes
+     */
+    @Override
+    public long acceder(int index) {
+        return dernier().acceder(index);
+    }
+
+    /**
+     * Décode une plage du dernier tableau traité.
+     *
+     * @param debut  premier index logique (inclus)
+     * @param fin    dernier index logique (exclu)
+     * @param dst    tableau de destination
+     * @param dstOff position d'écriture dans {@code dst}
+     * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+     */
+    @Override
+    public void accederPlage(int debut, int fin, long[] dst, int dstOff) {
+        dernier().accederPlage(debut, fin, dst, dstOff);
+    }
+
+    /**
+     * Renvoie le dernier tableau traité.
+     *
+     * @return tableau courant
+     * @throws IndexOutOfBoundsException si rien n'a encore été compressé ni décompressé
+     */
+    private Tableau dernier() {
+        Tableau t = courant;
+        if (t == null) throw new IndexOutOfBoundsException();
+        return t;
+    }
+
+    /**
+     * Tampon compressé et en-tête lu, immuables.
+     */
+    private static final class Tableau {
+        final long[] tampon;
+        final int n, k;
+        final long offset;
+
+        /**
+         * Lit l'en-tête d'un tampon (adopté tel quel, sans copie).
+         *
+         * @param tampon tampon compressé
+         * @throws IllegalArgumentException si l'en-tête est incohérent
+         */
+        Tableau(long[] tampon) {
+            this.tampon = tampon;
+            this.n = (int) tampon[0];
+            this.k = (int) tampon[1];
+            this.offset = tampon[3];
+            if (n < 0 || k < 1 || k > 64) throw new IllegalArgumentException("tampon invalide");
+        }
+
+        /**
+         * Accès direct à l'élément {@code index}.
+         *
+         * @param index position logique (0 ≤ index &lt; n)
+         * @return valeur d'origine
+         * @throws IndexOutOfBoundsException si l'index est hors bornes
+         */
+        long acceder(int index) {
+            if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
+            return OutilsBitsLong.lireBits(tampon, ((long) ENTETE << 6) + (long) index * k, k) - offset;
+        }
+
+        /**
+         * Décode la plage {@code [debut, fin[} directement dans {@code dst}.
+         *
+         * @param debut  premier index logique (inclus)
+         * @param fin    dernier index logique (exclu)
+         * @param dst    tableau de destination
+         * @param dstOff position d'écriture dans {@code dst}
+         * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+         */
+        void accederPlage(int debut, int fin, long[] dst, int dstOff) {
+            Objects.checkFromToIndex(debut, fin, n);
+            Objects.checkFromIndexSize(dstOff, fin - debut, dst.length);
+            long bitPos = ((long) ENTETE << 6) + (long) debut * k;
+            for (int i = debut, d = dstOff; i < fin; i++, bitPos += k) {
+                dst[d++] = OutilsBitsLong.lireBits(tampon, bitPos, k) - offset;
+            }
+        }
+    }
+}
@@ -1,17 +1,47 @@
-
-/**
-* STRATEGY : API stable imposée par le sujet.
-* Préconditions générales :
-* - Les valeurs sont des entiers >= 0 (gestion négatifs traitée séparément si souhaitée).
-* Postconditions :
-* - decompresser(compresser(A)) == A
-* - acceder(i) retourne la i-ème valeur d'origine sans décompresser tout.
-*/
-
-package codagebits;
-
-public interface CodeurBits {
-int[] compresser(int[] tableau);
-int[] decompresser(int[] compresse);
-int acceder(int index);
+
+/**
+* STRATEGY : API stable imposée par le sujet.
+* Préconditions générales :
+* - Les valeurs sont des entiers >= 0 (gestion négatifs traitée séparément si souhaitée).
+* Postconditions :
+* - decompresser(compresser(A)) == A
+* - acceder(i) retourne la i-ème valeur d'origine sans décompresser tout.
+* - accederPlage(d, f, dst, o) écrit A[d..f[ dans dst à partir de o, sans allocation.
+* Concurrence :
+* - compresser/decompresser/acceder/accederPlage portent sur le dernier tableau traité
+*   par l'instance (API historique, une instance par tableau).
+* - compresserTableau/ouvrir ne lisent ni ne modifient l'état de l'instance : ils renvoient
+*   un TableauCompresse immuable, partageable entre threads sans verrou.
+* Tampons fournis par l'appelant :
+* - tailleCompressee(A) donne la taille exacte du tampon de compresser(A).
+* - compresser(A, dst) et decompresser(C, dst, o) écrivent dans dst sans toucher à l'état ;
+*   sans/avec/débordement le font sans allocation (les autres modes passent par une copie).
+*/
+
+package codagebits;
+
+public interface CodeurBits {
+int[] compresser(int[] tableau);
+int[] decompresser(int[] compresse);
+int acceder(int index);
+void accederPlage(int debut, int fin, int[] dst, int dstOff);
+TableauCompresse compresserTableau(int[] tableau);
+TableauCompresse ouvrir(int[] compresse);
+
+default int tailleCompressee(int[] tableau) {
+return compresserTableau(tableau).tampon().length;
+}
+
+default int compresser(int[] tableau, int[] dst) {
+int[] t = compresserTableau(tableau).tampon();
+java.util.Objects.checkFromIndexSize(0, t.length, dst.length);
+System.arraycopy(t, 0, dst, 0, t.length);
+return t.length;
+}
+
+default int decompresser(int[] compresse, int[] dst, int dstOff) {
+TableauCompresse t = ouvrir(compresse);
+t.accederPlage(0, t.taille(), dst, dstOff);
+return t.taille();
+}
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+/**
+* STRATEGY : variante 64 bits de {@link CodeurBits}, pour les valeurs {@code long}
+* (horodatages en nanosecondes, identifiants 64 bits).
+* Mêmes contrats que CodeurBits, avec un tampon {@code long[]} :
+* - decompresser(compresser(A)) == A, pour toute valeur long (négatifs compris)
+* - acceder(i) retourne la i-ème valeur d'origine sans décompresser tout.
+* - accederPlage(d, f, dst, o) écrit A[d..f[ dans dst à partir de o, sans allocation.
+* En-tête : mêmes champs et mêmes flags que la version int, un long par champ.
+* Concurrence : acceder/accederPlage portent sur le dernier tableau traité par l'instance.
+*/
+
+package codagebits;
+
+public interface CodeurBitsLong {
+long[] compresser(long[] tableau);
+long[] decompresser(long[] compresse);
+long acceder(int index);
+void accederPlage(int debut, int fin, long[] dst, int dstOff);
+}
@@ -0,0 +1,388 @@
+package codagebits;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Codeur d'entiers "Par Blocs" (frame-of-reference local).
+ * <p>
+ * Principe : le tableau est découpé en blocs de {@value #TAILLE_BLOC} valeurs. Chaque bloc
+ * mémorise son minimum et n'encode que les écarts {@code v - min} sur sa propre largeur
+ * {@code k_b} (0 si le bloc est constant). Une région aberrante n'élargit donc que ses
+ * propres blocs, pas l'ensemble du tableau.
+ * </p>
+ * <p>
+ * Un bloc de {@value #TAILLE_BLOC} valeurs sur {@code k_b} bits occupe exactement
+ * {@code TAILLE_BLOC*k_b/32} mots (empaquetés par {@link NoyauxBits}). Le répertoire
+ * stocke, par bloc, le minimum et le mot de début ; {@code k_b} se déduit de l'écart
+ * entre deux débuts consécutifs. {@link #acceder(int)} reste en O(1).
+ * </p>
+ * <p>
+ * Disposition : en-tête, minimums ({@code nbBlocs} ints), débuts ({@code nbBlocs+1} ints,
+ * relatifs à la zone data), puis zone data. Le dernier bloc est complété par des écarts nuls.
+ * </p>
+ * <p>
+ * État : les données d'un tableau compressé vivent dans un {@link Tableau} immuable ;
+ * le codeur ne garde que le dernier tableau traité pour l'API historique.
+ * </p>
+ */
+public class CodeurBlocs implements CodeurBits {
+
+    /** Nombre de valeurs par bloc (multiple de {@link NoyauxBits#GROUPE}). */
+    static final int TAILLE_BLOC = 128;
+
+    // En-tête : [0]=n, [1]=tailleBloc, [2]=flags(4), [3]=nbBlocs
+    static final int ENTETE = 4;
+    private static final int FLAG = 4;
+
+    /** Dernier tableau compressé ou décompressé (API historique). */
+    private volatile Tableau courant;
+
+    // ---------------- API ----------------
+
+    /**
+     * Compresse un tableau bloc par bloc.
+     * <p>
+     * Étapes : validation → pour chaque bloc, min/max et largeur {@code k_b} →
+     * allocation (en-tête + répertoire + data) → empaquetage des écarts via {@link NoyauxBits}.
+     * </p>
+     *
+     * @param tableau tableau d'entrée (peut contenir des négatifs)
+     * @return tampon compressé incluant l'en-tête et le répertoire
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public int[] compresser(int[] tableau) {
+        Tableau t = encoder(tableau);
+        courant = t;
+        return t.tampon;
+    }
+
+    /**
+     * Décompresse un tampon produit par {@link #compresser(int[])}.
+     *
+     * @param compresse tampon compressé
+     * @return tableau d'origine
+     * @throws IllegalArgumentException si le tampon est nul ou trop court
+     */
+    @Override
+    public int[] decompresser(int[] compresse) {
+        validerTampon(compresse);
+        Tableau t = new Tableau(compresse);
+        courant = t;
+        return t.decompresser();
+    }
+
+    /**
+     * Accède à l'élément {@code index} du dernier tableau traité.
+     *
+     * @param index position logique (0 ≤ index &lt; n)
+     * @return valeur d'origine
+     * @throws IndexOutOfBoundsException si l'index est hors bornes
+     * @see Tableau#acceder(int)
+     */
+    @Override
+    public int acceder(int index) {
+        return dernier().acceder(index);
+    }
+
+    /**
+     * Décode une plage du dernier tableau traité.
+     *
+     * @param debut  premier index logique (inclus)
+     * @param fin    dernier index logique (exclu)
+     * @param dst    tableau de destination
+     * @param dstOff position d'écriture dans {@code dst}
+     * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+     * @see Tableau#accederPlage(int, int, int[], int)
+     */
+    @Override
+    public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+        dernier().accederPlage(debut, fin, dst, dstOff);
+    }
+
+    /**
+     * Compresse sans toucher à l'état du codeur.
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public TableauCompresse compresserTableau(int[] tableau) {
+        return encoder(tableau);
+    }
+
+    /**
+     * Ouvre une copie d'un tampon compressé sans toucher à l'état du codeur.
+     *
+     * @param compresse tampon compressé
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si le tampon est nul ou trop court
+     */
+    @Override
+    public TableauCompresse ouvrir(int[] compresse) {
+        validerTampon(compresse);
+        return new Tableau(compresse.clone());
+    }
+
+    /**
+     * {@link #ouvrir(int[])} sans copie : {@code tampon} est adopté, l'appelant ne le modifie plus.
+     *
+     * @param tampon tampon compressé
+     * @return tableau compressé adoptant {@code tampon}
+     * @throws IllegalArgumentException si le tampon est invalide
+     */
+    static TableauCompresse adopter(int[] tampon) {
+        validerTampon(tampon);
+        return new Tableau(tampon);
+    }
+
+    // ---------------- tableau compressé ----------------
+
+    /**
+     * Tableau compressé "par blocs" : tampon et répertoire lus, tous immuables.
+     */
+    static final class Tableau implements TableauCompresse, TamponPartage {
+
+        /** Tampon compressé (inclut l'en-tête et le répertoire), jamais modifié. */
+        final int[] tampon;
+        /** Taille logique. */
+        final int n;
+        /** Taille de bloc lue dans l'en-tête. */
+        final int tailleBloc;
+        /** Nombre de blocs. */
+        final int nbBlocs;
+        /** Index du premier minimum, du premier début et de la zone data. */
+        private final int baseMin, baseDebut, baseData;
+
+        /**
+         * Lit l'en-tête d'un tampon (adopté tel quel, sans copie).
+         *
+         * @param tampon tampon compressé valide
+         */
+        Tableau(int[] tampon) {
+            this.tampon = tampon;
+            this.n = tampon[0];
+            this.tailleBloc = tampon[1];
+            this.nbBlocs = tampon[3];
+            this.baseMin = ENTETE;
+            this.baseDebut = baseMin + nbBlocs;
+            this.baseData = baseDebut + nbBlocs + 1;
+        }
+
+        @Override
+        public int taille() {
+            return n;
+        }
+
+        @Override
+        public int[] tampon() {
+            return tampon.clone();
+        }
+
+        @Override
+        public int[] tamponPartage() {
+            return tampon;
+        }
+
+        /**
+         * Accède directement à l'élément {@code index} en O(1).
+         * <p>
+         * Bloc {@code b = index / tailleBloc} → minimum, début et largeur depuis le répertoire →
+         * lecture de {@code k_b} bits (aucune si le bloc est constant).
+         * </p>
+         *
+         * @param index position logique (0 ≤ index &lt; n)
+         * @return valeur d'origine
+         * @throws IndexOutOfBoundsException si l'index est hors bornes
+         */
+        @Override
+        public int acceder(int index) {
+            if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
+            int b = index / tailleBloc;
+            int debut = tampon[baseDebut + b];
+            int k = largeurBloc(b, debut);
+            if (k == 0) return tampon[baseMin + b];
+            long bitPos = ((long) (baseData + debut) << 5) + (long) (index % tailleBloc) * k;
+            return OutilsBits.lireBits(tampon, bitPos, k) + tampon[baseMin + b];
+        }
+
+        /**
+         * Décode la plage {@code [debut, fin[} directement dans {@code dst}, sans allocation.
+         * <p>
+         * Les groupes alignés de {@value NoyauxBits#GROUPE} valeurs passent par le noyau de leur
+         * bloc, les blocs constants par un simple remplissage ; les extrémités sont lues valeur
+         * par valeur.
+         * </p>
+         *
+         * @param debut  premier index logique (inclus)
+         * @param fin    dernier index logique (exclu)
+         * @param dst    tableau de destination
+         * @param dstOff position d'écriture dans {@code dst}
+         * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+         */
+        @Override
+        public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+            Objects.checkFromToIndex(debut, fin, n);
+            Objects.checkFromIndexSize(dstOff, fin - debut, dst.length);
+            int i = debut, d = dstOff;
+            while (i < fin) {
+                int b = i / tailleBloc;
+                int debutMot = tampon[baseDebut + b];
+                int k = largeurBloc(b, debutMot);
+                int min = tampon[baseMin + b];
+                int finBloc = (int) Math.min(fin, (long) (b + 1) * tailleBloc);
+                if (k == 0) {
+                    Arrays.fill(dst, d, d + (finBloc - i), min);
+                    d += finBloc - i;
+                    i = finBloc;
+                    continue;
+                }
+                long bitBloc = (long) (baseData + debutMot) << 5;
+                NoyauxBits.Noyau noyau = NoyauxBits.pour(k);
+                while (i < finBloc) {
+                    int r = i % tailleBloc;
+                    if ((r & (NoyauxBits.GROUPE - 1)) == 0 && finBloc - i >= NoyauxBits.GROUPE) {
+                        noyau.depaqueter(tampon, baseData + debutMot + (r / NoyauxBits.GROUPE) * k, dst, d, min);
+                        i += NoyauxBits.GROUPE;
+                        d += NoyauxBits.GROUPE;
+                    } else {
+                        dst[d++] = OutilsBits.lireBits(tampon, bitBloc + (long) r * k, k) + min;
+                        i++;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Largeur du bloc {@code b}, déduite de l'écart entre deux débuts consécutifs.
+         *
+         * @param b     index de bloc
+         * @param debut début du bloc (relatif à la zone data)
+         * @return largeur {@code k_b}
+         */
+        private int largeurBloc(int b, int debut) {
+            return (tampon[baseDebut + b + 1] - debut) * 32 / tailleBloc;
+        }
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Compresse {@code tableau} dans un nouveau tampon (aucun état partagé).
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé adoptant le nouveau tampon
+     */
+    static Tableau encoder(int[] tableau) {
+        if (tableau == null) throw new IllegalArgumentException("tableau null");
+        int n = tableau.length;
+        int nbBlocs = (n + TAILLE_BLOC - 1) / TAILLE_BLOC;
+
+        int[] mins = new int[nbBlocs];
+        int[] largeurs = new int[nbBlocs];
+        long dataInts = 0;
+        for (int b = 0; b < nbBlocs; b++) {
+            int debut = b * TAILLE_BLOC, fin = Math.min(n, debut + TAILLE_BLOC);
+            int min = tableau[debut], max = min;
+            for (int i = debut + 1; i < fin; i++) {
+                int v = tableau[i];
+                if (v < min) min = v;
+                if (v > max) max = v;
+            }
+            mins[b] = min;
+            largeurs[b] = largeurEcart(max - min);
+            dataInts += (long) TAILLE_BLOC / 32 * largeurs[b];
+        }
+
+        int[] tampon = allouer(n, nbBlocs, dataInts);
+        int baseMin = ENTETE, baseDebut = baseMin + nbBlocs, baseData = baseDebut + nbBlocs + 1;
+        System.arraycopy(mins, 0, tampon, baseMin, nbBlocs);
+
+        int[] dernier = new int[TAILLE_BLOC];
+        int mot = 0;
+        for (int b = 0; b < nbBlocs; b++) {
+            tampon[baseDebut + b] = mot;
+            int k = largeurs[b];
+            if (k == 0) continue;
+            int debut = b * TAILLE_BLOC;
+            int[] src = tableau;
+            if (n - debut < TAILLE_BLOC) {
+                // dernier bloc incomplet : complété avec le minimum (écart nul)
+                Arrays.fill(dernier, mins[b]);
+                System.arraycopy(tableau, debut, dernier, 0, n - debut);
+                src = dernier;
+                debut = 0;
+            }
+            NoyauxBits.Noyau noyau = NoyauxBits.pour(k);
+            for (int g = 0; g < TAILLE_BLOC; g += NoyauxBits.GROUPE, mot += k) {
+                noyau.empaqueter(src, debut + g, -mins[b], tampon, baseData + mot);
+            }
+        }
+        tampon[baseDebut + nbBlocs] = mot;
+        return new Tableau(tampon);
+    }
+
+    /**
+     * Renvoie le dernier tableau traité par l'API historique.
+     *
+     * @return tableau courant
+     * @throws IndexOutOfBoundsException si rien n'a encore été compressé ni décompressé
+     */
+    private Tableau dernier() {
+        Tableau t = courant;
+        if (t == null) throw new IndexOutOfBoundsException();
+        return t;
+    }
+
+    /**
+     * Vérifie que le tampon compressé est valable (taille en-tête).
+     *
+     * @param t tampon
+     */
+    private static void validerTampon(int[] t) {
+        if (t == null || t.length < ENTETE) throw new IllegalArgumentException("tampon invalide");
+    }
+
+    /**
+     * Largeur nécessaire pour un écart {@code max - min} lu comme non signé
+     * (0 si le bloc est constant).
+     *
+     * @param ecart écart non signé
+     * @return largeur dans [0,32]
+     */
+    static int largeurEcart(int ecart) {
+        return 32 - Integer.numberOfLeadingZeros(ecart);
+    }
+
+    /**
+     * Taille du tampon compressé.
+     *
+     * @param nbBlocs  nombre de blocs
+     * @param dataInts taille de la zone data (en ints, {@code TAILLE_BLOC/32 * k_b} par bloc)
+     * @return nombre d'ints (en-tête et répertoire compris)
+     */
+    static long taille(int nbBlocs, long dataInts) {
+        return ENTETE + 2L * nbBlocs + 1 + Math.max(1, dataInts);
+    }
+
+    /**
+     * Alloue le tampon et écrit l'en-tête.
+     *
+     * @param n        taille logique
+     * @param nbBlocs  nombre de blocs
+     * @param dataInts taille de la zone data (en ints)
+     * @return tampon alloué
+     */
+    private static int[] allouer(int n, int nbBlocs, long dataInts) {
+        long total = taille(nbBlocs, dataInts);
+        if (total > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("tableau trop grand");
+        int[] tampon = new int[(int) total];
+        tampon[0] = n;
+        tampon[1] = TAILLE_BLOC;
+        tampon[2] = FLAG;
+        tampon[3] = nbBlocs;
+        return tampon;
+    }
+}
@@ -1,305 +1,892 @@
-package codagebits;
-
-import java.util.Objects;
-
-/**
- * Codeur d'entiers "Avec Débordement (Overflow)".
- * <p>
- * Principe : chaque élément est encodé sur {@code kBase} bits dont 1 bit de tag.
- * Si tag=0 → la valeur (payload) tient sur {@code kBase-1} bits (valeur "petite").
- * Si tag=1 → le payload est un index vers la zone overflow où la "grande" valeur
- * (32 bits) est stockée.
- * </p>
- * <p>
- * Gestion des négatifs : offset appliqué à la compression, retiré à la décompression
- * et dans l'accès direct.
- * </p>
- */
-public class CodeurDebordement implements CodeurBits {
-
-    // En-tête : [0]=n, [1]=kBase, [2]=flags(2), [3]=overflowCount, [4]=indexBits, [5]=offset
-    private static final int ENTETE = 6;
-    private static final int FLAG = 2;
-
-    private int[] tampon;
-    private int n, kBase, overflowCount, indexBits, offset;
-
-    /**
-     * Compresse un tableau avec séparation "petites" et "grandes" valeurs.
-     * <p>
-     * Étapes : validation → offset → choix de {@code kBase} optimal →
-     * calcul de la taille → écriture du flux principal (tag+payload) →
-     * écriture de la zone overflow pour les grandes valeurs.
-     * </p>
-     *
-     * @param tableau tableau d'entrée
-     * @return tampon compressé (en-tête + data + overflow)
-     * @throws NullPointerException si {@code tableau} est {@code null}
-     */
-    @Override
-    public int[] compresser(int[] tableau) {
-        Objects.requireNonNull(tableau, "tableau");
-        this.n = tableau.length;
-
-        this.offset = calculerOffset(tableau);
-        int[] pos = appliquerOffset(tableau, offset);
-
-        if (n == 0) return buildVide();
-
-        this.kBase = choisirKBaseOptimal(pos);
-        this.overflowCount = compterOverflow(pos, kBase);
-        this.indexBits = Math.max(1, OutilsBits.bitsNecessaires(Math.max(1, overflowCount - 1)));
-
-        int dataInts = dataIntsCount(n, kBase);
-        this.tampon = new int[ENTETE + Math.max(1, dataInts) + Math.max(0, overflowCount)];
-
-        ecrireEntete();
-        ecrireFluxEtOverflow(pos, dataInts);
-        return tampon;
-    }
-
-    /**
-     * Décompresse un tampon produit par {@link #compresser(int[])}.
-     *
-     * @param compresse tampon compressé
-     * @return tableau d'origine
-     * @throws NullPointerException     si {@code compresse} est {@code null}
-     * @throws IllegalArgumentException si la taille est inférieure à l'en-tête
-     */
-    @Override
-    public int[] decompresser(int[] compresse) {
-        Objects.requireNonNull(compresse, "compresse");
-        if (compresse.length < ENTETE) throw new IllegalArgumentException("tampon invalide");
-
-        lireEntete(compresse);
-        int[] out = new int[n];
-
-        int dataInts = dataIntsCount(n, kBase);
-        int overflowBase = ENTETE + Math.max(1, dataInts);
-
-        long bitPos = debutFluxBits();
-        for (int i = 0; i < n; i++) {
-            int tag = OutilsBits.lireBits(tampon, bitPos, 1);
-            int payload = (kBase == 1) ? 0 : OutilsBits.lireBits(tampon, bitPos + 1, kBase - 1);
-            int vPos = (tag == 0) ? payload : tampon[overflowBase + payload];
-            out[i] = vPos - offset;
-            bitPos += kBase;
-        }
-        return out;
-    }
-
-    /**
-     * Accès direct à l'élément {@code index}.
-     * <p>
-     * Lit le tag et le payload à {@code bitPos = headerBits + index * kBase} :
-     * si tag=0 → retourne payload-offset ; si tag=1 → charge la valeur depuis la zone overflow.
-     * </p>
-     *
-     * @param index position logique (0 ≤ index &lt; n)
-     * @return valeur d'origine
-     * @throws IndexOutOfBoundsException si l'index est hors bornes
-     */
-    @Override
-    public int acceder(int index) {
-        if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
-        long bitPos = debutFluxBits() + (long) index * kBase;
-        int tag = OutilsBits.lireBits(tampon, bitPos, 1);
-        int payload = (kBase == 1) ? 0 : OutilsBits.lireBits(tampon, bitPos + 1, kBase - 1);
-        if (tag == 0) return payload - offset;
-
-        int dataInts = dataIntsCount(n, kBase);
-        int overflowBase = ENTETE + Math.max(1, dataInts);
-        int vPos = tampon[overflowBase + payload];
-        return vPos - offset;
-    }
-
-    // ---------------- helpers (lisibilité) ----------------
-
-    /**
-     * Calcule l'offset minimal pour rendre le tableau non négatif.
-     *
-     * @param t tableau
-     * @return offset
-     */
-    private static int calculerOffset(int[] t) {
-        int min = Integer.MAX_VALUE;
-        for (int v : t) if (v < min) min = v;
-        return (min < 0) ? -min : 0;
-    }
-
-    /**
-     * Retourne une copie avec offset appliqué.
-     *
-     * @param t      tableau
-     * @param offset décalage
-     * @return copie positive
-     */
-    private static int[] appliquerOffset(int[] t, int offset) {
-        int[] r = new int[t.length];
-        for (int i = 0; i < t.length; i++) r[i] = t[i] + offset;
-        return r;
-    }
-
-    /**
-     * Construit un tampon valide pour le cas vide.
-     *
-     * @return tampon minimal
-     */
-    private int[] buildVide() {
-        this.kBase = 1;
-        this.overflowCount = 0;
-        this.indexBits = 1;
-        this.tampon = new int[ENTETE + 1];
-        ecrireEntete();
-        return tampon;
-    }
-
-    /** Écrit l'en-tête dans le tampon. */
-    private void ecrireEntete() {
-        tampon[0] = n;
-        tampon[1] = kBase;
-        tampon[2] = FLAG;
-        tampon[3] = overflowCount;
-        tampon[4] = indexBits;
-        tampon[5] = offset;
-    }
-
-    /**
-     * Lit l'en-tête depuis {@code src}.
-     *
-     * @param src tampon compressé
-     */
-    private void lireEntete(int[] src) {
-        this.tampon = src;
-        this.n = tampon[0];
-        this.kBase = tampon[1];
-        // tampon[2] = FLAG;
-        this.overflowCount = tampon[3];
-        this.indexBits = tampon[4];
-        this.offset = tampon[5];
-    }
-
-    /**
-     * Nombre d'ints nécessaires pour la zone data (flux principal).
-     *
-     * @param n     nombre d'éléments
-     * @param kBase largeur des éléments (incl. tag)
-     * @return nombre d'ints data
-     */
-    private static int dataIntsCount(int n, int kBase) {
-        long bits = (long) n * kBase;
-        return (int) ((bits + 31) >>> 5);
-    }
-
-    /**
-     * Début de la zone data en bits (après l'en-tête).
-     *
-     * @return position de bit
-     */
-    private long debutFluxBits() {
-        return ((long) ENTETE) << 5;
-    }
-
-    /**
-     * Valeur max "petite" stockable (sans overflow) pour un {@code kBase} donné.
-     *
-     * @param kBase largeur totale (tag + payload)
-     * @return max payload ; -1 si {@code kBase<=1}
-     */
-    private static int maxSmall(int kBase) {
-        return (kBase <= 1) ? -1 : ((1 << (kBase - 1)) - 1);
-    }
-
-    /**
-     * Compte combien de valeurs dépassent la capacité "petite".
-     *
-     * @param pos   valeurs positives
-     * @param kBase largeur totale (tag + payload)
-     * @return nombre d'éléments qui iront en overflow
-     */
-    private static int compterOverflow(int[] pos, int kBase) {
-        if (kBase <= 1) return pos.length;
-        int lim = maxSmall(kBase);
-        int c = 0;
-        for (int v : pos) if (v > lim) c++;
-        return c;
-    }
-
-    /**
-     * Coût total en bits (en-tête + data + overflow).
-     *
-     * @param n              nombre d'éléments
-     * @param kBase          largeur d'encodage
-     * @param overflowCount  nombre d'éléments envoyés en overflow
-     * @return coût en bits
-     */
-    private static long coutTotalBits(int n, int kBase, int overflowCount) {
-        long header = (long) ENTETE * 32;
-        long data = (long) n * kBase;
-        long over = (long) overflowCount * 32;
-        return header + data + over;
-    }
-
-    /**
-     * Vérifie que la capacité de payload permet d'indexer tous les overflow.
-     *
-     * @param n             nombre d'éléments
-     * @param kBase         largeur d'encodage
-     * @param overflowCount nombre d'overflow
-     * @return {@code true} si possible
-     */
-    private static boolean overflowPossible(int n, int kBase, int overflowCount) {
-        long cap = (kBase <= 1) ? 1 : (1L << (kBase - 1));
-        return overflowCount <= cap;
-    }
-
-    /**
-     * Choisit automatiquement le {@code kBase} qui minimise le coût total.
-     *
-     * @param pos valeurs positives
-     * @return {@code kBase} optimal
-     */
-    private int choisirKBaseOptimal(int[] pos) {
-        long bestCost = Long.MAX_VALUE;
-        int bestKb = 1;
-
-        for (int kb = 1; kb <= 31; kb++) {
-            int over = compterOverflow(pos, kb);
-            if (!overflowPossible(pos.length, kb, over)) continue;
-            long cost = coutTotalBits(pos.length, kb, over);
-            if (cost < bestCost) {
-                bestCost = cost;
-                bestKb = kb;
-            }
-        }
-        return bestKb;
-    }
-
-    /**
-     * Écrit le flux principal (tag+payload) et remplit la zone overflow.
-     *
-     * @param pos      valeurs positives (offset appliqué)
-     * @param dataInts taille de la zone data (en ints)
-     */
-    private void ecrireFluxEtOverflow(int[] pos, int dataInts) {
-        int overflowBase = ENTETE + Math.max(1, dataInts);
-        int overIdx = 0;
-        long bitPos = debutFluxBits();
-        int lim = maxSmall(kBase);
-
-        for (int vPos : pos) {
-            if (kBase <= 1 || vPos > lim) {
-                // tag=1 + index overflow
-                OutilsBits.ecrireBits(tampon, bitPos, 1, 1);
-                if (kBase > 1) OutilsBits.ecrireBits(tampon, bitPos + 1, kBase - 1, overIdx);
-                tampon[overflowBase + overIdx] = vPos;
-                overIdx++;
-            } else {
-                // tag=0 + valeur directe
-                OutilsBits.ecrireBits(tampon, bitPos, 1, 0);
-                OutilsBits.ecrireBits(tampon, bitPos + 1, kBase - 1, vPos);
-            }
-            bitPos += kBase;
-        }
-    }
-}
+package codagebits;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Codeur d'entiers "Avec Débordement (Overflow)".
+ * <p>
+ * Principe : chaque élément est encodé sur {@code kBase} bits dont 1 bit de tag.
+ * Si tag=0 → la valeur (payload) tient sur {@code kBase-1} bits (valeur "petite").
+ * Si tag=1 → le payload est un index vers la zone overflow où la "grande" valeur
+ * (32 bits) est stockée.
+ * </p>
+ * <p>
+ * Gestion des négatifs : offset appliqué à la compression, retiré à la décompression
+ * et dans l'accès direct.
+ * </p>
+ * <p>
+ * État : les données d'un tableau compressé vivent dans un {@link Tableau} immuable ;
+ * le codeur ne garde que le dernier tableau traité pour l'API historique.
+ * </p>
+ * <p>
+ * Stockage 64 bits ({@link #CodeurDebordement(boolean)}) : comme pour
+ * {@link CodeurAvecChev}, l'entrée (tag + payload) est lue d'une seule fenêtre de 64 bits
+ * ({@link TamponBits64}), sans branche de chevauchement.
+ * </p>
+ */
+public class CodeurDebordement implements CodeurBits {
+
+    // En-tête : [0]=n, [1]=kBase, [2]=flags(2, | TRIE), [3]=overflowCount, [4]=indexBits, [5]=offset
+    static final int ENTETE = 6;
+    private static final int FLAG = 2;
+
+    /** Brouillon par thread (histogramme, entrées d'un groupe) : la compression n'alloue rien d'autre que le tampon. */
+    private static final ThreadLocal<Brouillon> BROUILLON = ThreadLocal.withInitial(Brouillon::new);
+
+    /** Vrai si les tableaux produits utilisent le stockage 64 bits. */
+    private final boolean stockage64;
+
+    /** Dernier tableau compressé ou décompressé (API historique). */
+    private volatile TableauCompresse courant;
+
+    /** Codeur avec le stockage {@code int[]} d'origine. */
+    public CodeurDebordement() {
+        this(false);
+    }
+
+    /**
+     * Codeur dont les tableaux produits utilisent, au choix, le stockage {@code int[]}
+     * ou le stockage 64 bits optimisé pour l'accès direct.
+     *
+     * @param stockage64 {@code true} pour un stockage {@code long[]} ({@link TamponBits64})
+     */
+    public CodeurDebordement(boolean stockage64) {
+        this.stockage64 = stockage64;
+    }
+
+    /**
+     * Compresse un tableau avec séparation "petites" et "grandes" valeurs.
+     * <p>
+     * Étapes : validation → min/max puis offset → histogramme des largeurs des valeurs
+     * décalées (une passe, parallèle pour les grands tableaux, offset appliqué à la volée)
+     * → choix de {@code kBase} optimal en O(32) →
+     * calcul de la taille → écriture du flux principal (tag+payload) →
+     * écriture de la zone overflow pour les grandes valeurs.
+     * </p>
+     *
+     * @param tableau tableau d'entrée
+     * @return tampon compressé (en-tête + data + overflow)
+     * @throws NullPointerException si {@code tableau} est {@code null}
+     */
+    @Override
+    public int[] compresser(int[] tableau) {
+        Tableau t = encoder(tableau);
+        courant = adapter(t);
+        return t.tampon;
+    }
+
+    /**
+     * Décompresse un tampon produit par {@link #compresser(int[])}.
+     *
+     * @param compresse tampon compressé
+     * @return tableau d'origine
+     * @throws NullPointerException     si {@code compresse} est {@code null}
+     * @throws IllegalArgumentException si la taille est inférieure à l'en-tête
+     */
+    @Override
+    public int[] decompresser(int[] compresse) {
+        validerTampon(compresse);
+        Tableau t = new Tableau(compresse);
+        courant = adapter(t);
+        return t.decompresser();
+    }
+
+    /**
+     * Accès direct à l'élément {@code index} du dernier tableau traité.
+     *
+     * @param index position logique (0 ≤ index &lt; n)
+     * @return valeur d'origine
+     * @throws IndexOutOfBoundsException si l'index est hors bornes
+     * @see Tableau#acceder(int)
+     */
+    @Override
+    public int acceder(int index) {
+        return dernier().acceder(index);
+    }
+
+    /**
+     * Décode une plage du dernier tableau traité.
+     *
+     * @param debut  premier index logique (inclus)
+     * @param fin    dernier index logique (exclu)
+     * @param dst    tableau de destination
+     * @param dstOff position d'écriture dans {@code dst}
+     * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+     * @see Tableau#accederPlage(int, int, int[], int)
+     */
+    @Override
+    public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+        dernier().accederPlage(debut, fin, dst, dstOff);
+    }
+
+    /**
+     * Compresse sans toucher à l'état du codeur.
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé immuable
+     * @throws NullPointerException si {@code tableau} est {@code null}
+     */
+    @Override
+    public TableauCompresse compresserTableau(int[] tableau) {
+        return adapter(encoder(tableau));
+    }
+
+    /**
+     * Ouvre une copie d'un tampon compressé sans toucher à l'état du codeur.
+     *
+     * @param compresse tampon compressé
+     * @return tableau compressé immuable
+     * @throws NullPointerException     si {@code compresse} est {@code null}
+     * @throws IllegalArgumentException si la taille est inférieure à l'en-tête
+     */
+    @Override
+    public TableauCompresse ouvrir(int[] compresse) {
+        validerTampon(compresse);
+        return stockage64 ? new Tableau64(compresse) : new Tableau(compresse.clone());
+    }
+
+    /**
+     * {@link #ouvrir(int[])} sans copie : {@code tampon} est adopté, l'appelant ne le modifie plus.
+     *
+     * @param tampon tampon compressé
+     * @return tableau compressé adoptant {@code tampon}
+     * @throws IllegalArgumentException si le tampon est invalide
+     */
+    static TableauCompresse adopter(int[] tampon) {
+        validerTampon(tampon);
+        return new Tableau(tampon);
+    }
+
+    /**
+     * Taille exacte du tampon que produirait {@link #compresser(int[])} (passes min/max et
+     * histogramme, sans allocation).
+     *
+     * @param tableau tableau d'entrée
+     * @return nombre d'ints
+     * @throws NullPointerException si {@code tableau} est {@code null}
+     */
+    @Override
+    public int tailleCompressee(int[] tableau) {
+        Objects.requireNonNull(tableau, "tableau");
+        int[] histo = BROUILLON.get().histo;
+        histogramme(tableau, histo);
+        return taille(histo, tableau.length);
+    }
+
+    /**
+     * Compresse dans un tampon fourni (format {@code int[]}), sans allocation ni modification
+     * de l'état du codeur. Le contenu écrit est identique à celui de {@link #compresser(int[])}.
+     *
+     * @param tableau tableau d'entrée
+     * @param dst     destination (au moins {@link #tailleCompressee(int[])} ints, réutilisable)
+     * @return nombre d'ints écrits au début de {@code dst}
+     * @throws NullPointerException      si {@code tableau} est {@code null}
+     * @throws IndexOutOfBoundsException si {@code dst} est trop petit
+     */
+    @Override
+    public int compresser(int[] tableau, int[] dst) {
+        Objects.requireNonNull(tableau, "tableau");
+        int[] histo = BROUILLON.get().histo;
+        int offset = histogramme(tableau, histo);
+        int taille = taille(histo, tableau.length);
+        Objects.checkFromIndexSize(0, taille, dst.length);
+        ecrire(tableau, offset, histo, dst);
+        return taille;
+    }
+
+    /**
+     * Décompresse dans un tableau fourni, sans allocation ni modification de l'état du codeur :
+     * l'en-tête est lu dans des variables locales, sans construire de {@link Tableau}.
+     *
+     * @param compresse tampon compressé
+     * @param dst       destination
+     * @param dstOff    position d'écriture dans {@code dst}
+     * @return nombre de valeurs écrites
+     * @throws NullPointerException      si {@code compresse} est {@code null}
+     * @throws IllegalArgumentException  si la taille est inférieure à l'en-tête
+     * @throws IndexOutOfBoundsException si {@code dst} est trop petit
+     */
+    @Override
+    public int decompresser(int[] compresse, int[] dst, int dstOff) {
+        validerTampon(compresse);
+        int n = compresse[0], kBase = compresse[1], offset = compresse[5];
+        decoderTout(compresse, n, kBase, ENTETE + Math.max(1, dataIntsCount(n, kBase)), offset, dst, dstOff);
+        return n;
+    }
+
+    // ---------------- tableau compressé ----------------
+
+    /**
+     * Tableau compressé "avec débordement" : tampon et en-tête lu, tous immuables.
+     */
+    static final class Tableau implements TableauCompresse, TamponPartage {
+
+        /** Tampon compressé (en-tête + data + overflow), jamais modifié. */
+        final int[] tampon;
+        final int n, kBase, overflowCount, indexBits, offset;
+        /** Vrai si le tableau d'origine est trié. */
+        final boolean trie;
+        /** Index du premier mot de la zone overflow. */
+        private final int overflowBase;
+
+        /**
+         * Lit l'en-tête d'un tampon (adopté tel quel, sans copie).
+         *
+         * @param tampon tampon compressé valide
+         */
+        Tableau(int[] tampon) {
+            this.tampon = tampon;
+            this.n = tampon[0];
+            this.kBase = tampon[1];
+            this.trie = OutilsBits.trie(tampon);
+            this.overflowCount = tampon[3];
+            this.indexBits = tampon[4];
+            this.offset = tampon[5];
+            this.overflowBase = ENTETE + Math.max(1, dataIntsCount(n, kBase));
+        }
+
+        @Override
+        public int taille() {
+            return n;
+        }
+
+        @Override
+        public int[] tampon() {
+            return tampon.clone();
+        }
+
+        @Override
+        public int[] tamponPartage() {
+            return tampon;
+        }
+
+        /**
+         * Décompresse l'ensemble du tableau, par tranches parallèles pour les grands tableaux.
+         *
+         * @return nouveau tableau d'origine
+         */
+        @Override
+        public int[] decompresser() {
+            int[] out = new int[n];
+            decompresser(out, 0);
+            return out;
+        }
+
+        /**
+         * Décompresse l'ensemble du tableau dans {@code out} à partir de {@code outOff},
+         * sans allocation en dessous du seuil parallèle.
+         *
+         * @param out    destination (au moins {@code n} cases après {@code outOff})
+         * @param outOff position d'écriture
+         */
+        void decompresser(int[] out, int outOff) {
+            decoderTout(tampon, n, kBase, overflowBase, offset, out, outOff);
+        }
+
+        /**
+         * Accès direct à l'élément {@code index}.
+         * <p>
+         * Lit le tag et le payload à {@code bitPos = headerBits + index * kBase} :
+         * si tag=0 → retourne payload-offset ; si tag=1 → charge la valeur depuis la zone overflow.
+         * </p>
+         *
+         * @param index position logique (0 ≤ index &lt; n)
+         * @return valeur d'origine
+         * @throws IndexOutOfBoundsException si l'index est hors bornes
+         */
+        @Override
+        public int acceder(int index) {
+            if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
+            long bitPos = debutFluxBits() + (long) index * kBase;
+            int tag = OutilsBits.lireBits(tampon, bitPos, 1);
+            int payload = (kBase == 1) ? 0 : OutilsBits.lireBits(tampon, bitPos + 1, kBase - 1);
+            if (tag == 0) return payload - offset;
+
+            int vPos = tampon[overflowBase + payload];
+            return vPos - offset;
+        }
+
+        @Override
+        public boolean estTrie() {
+            return trie;
+        }
+
+        /**
+         * Dichotomie directement sur le flux principal : la cible est traduite une fois dans
+         * le domaine décalé ; chaque sonde lit une entrée ({@code kBase} bits) et ne suit
+         * l'indirection vers la zone overflow que si elle est taguée.
+         *
+         * @param valeur valeur cherchée
+         * @return première position de valeur ≥ {@code valeur} ({@code n} si aucune)
+         * @throws IllegalStateException si le tableau n'est pas trié
+         */
+        @Override
+        public int borneInferieure(int valeur) {
+            if (!trie) throw new IllegalStateException("tableau non trié");
+            long cible = valeur + Integer.toUnsignedLong(offset);
+            int bas = 0, haut = n;
+            while (bas < haut) {
+                int milieu = (bas + haut) >>> 1;
+                int entree = OutilsBits.lireBits(tampon, debutFluxBits() + (long) milieu * kBase, kBase);
+                int vPos = ((entree & 1) == 0) ? entree >>> 1 : tampon[overflowBase + (entree >>> 1)];
+                if ((vPos & 0xFFFFFFFFL) < cible) bas = milieu + 1;
+                else haut = milieu;
+            }
+            return bas;
+        }
+
+        /**
+         * Décode la plage {@code [debut, fin[} directement dans {@code dst}, sans allocation.
+         * <p>
+         * Chaque entrée (tag + payload) est extraite d'un seul coup : par groupes alignés via
+         * {@link NoyauxBits}, sinon depuis un accumulateur 64 bits alimenté mot par mot.
+         * Seules les entrées taguées lisent la zone overflow.
+         * </p>
+         *
+         * @param debut  premier index logique (inclus)
+         * @param fin    dernier index logique (exclu)
+         * @param dst    tableau de destination
+         * @param dstOff position d'écriture dans {@code dst}
+         * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+         */
+        @Override
+        public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+            Objects.checkFromToIndex(debut, fin, n);
+            Objects.checkFromIndexSize(dstOff, fin - debut, dst.length);
+            if (debut == fin) return;
+            decoderPlage(tampon, kBase, overflowBase, offset, debut, fin, dst, dstOff);
+        }
+    }
+
+    /**
+     * Tableau compressé "avec débordement" stocké en mots de 64 bits.
+     * <p>
+     * L'entrée {@code tag | payload << 1} est extraite d'une seule fenêtre
+     * ({@link TamponBits64#lire(long, int)}) ; seules les entrées taguées lisent
+     * ensuite la zone overflow.
+     * </p>
+     */
+    static final class Tableau64 implements TableauCompresse {
+
+        /** Données (en-tête, data, overflow), jamais modifiées. */
+        private final TamponBits64 mots;
+        final int n, kBase, offset;
+        /** Vrai si le tableau d'origine est trié. */
+        final boolean trie;
+        /** Index (en ints) du premier mot de la zone overflow. */
+        private final int overflowBase;
+
+        /**
+         * Convertit un tampon {@code int[]} valide (non retenu).
+         *
+         * @param tampon tampon compressé
+         */
+        Tableau64(int[] tampon) {
+            this.mots = TamponBits64.depuis(tampon);
+            this.n = tampon[0];
+            this.kBase = tampon[1];
+            this.offset = tampon[5];
+            this.trie = OutilsBits.trie(tampon);
+            this.overflowBase = ENTETE + Math.max(1, dataIntsCount(n, kBase));
+        }
+
+        @Override
+        public int taille() {
+            return n;
+        }
+
+        @Override
+        public int[] tampon() {
+            return mots.versInts();
+        }
+
+        @Override
+        public boolean estTrie() {
+            return trie;
+        }
+
+        /**
+         * Accès direct à l'élément {@code index} par une seule extraction de fenêtre 64 bits.
+         *
+         * @param index position logique (0 ≤ index &lt; n)
+         * @return valeur d'origine
+         * @throws IndexOutOfBoundsException si l'index est hors bornes
+         */
+        @Override
+        public int acceder(int index) {
+            if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
+            return resoudre(mots.lire(debutFluxBits() + (long) index * kBase, kBase));
+        }
+
+        /**
+         * Décode la plage {@code [debut, fin[} directement dans {@code dst}, sans allocation.
+         *
+         * @param debut  premier index logique (inclus)
+         * @param fin    dernier index logique (exclu)
+         * @param dst    tableau de destination
+         * @param dstOff position d'écriture dans {@code dst}
+         * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+         */
+        @Override
+        public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+            Objects.checkFromToIndex(debut, fin, n);
+            Objects.checkFromIndexSize(dstOff, fin - debut, dst.length);
+            long bitPos = debutFluxBits() + (long) debut * kBase;
+            for (int i = debut, d = dstOff; i < fin; i++, bitPos += kBase) {
+                dst[d++] = resoudre(mots.lire(bitPos, kBase));
+            }
+        }
+
+        /**
+         * Résout une entrée (petite valeur ou index overflow) et retire l'offset.
+         *
+         * @param entree {@code tag | payload << 1}
+         * @return valeur d'origine
+         */
+        private int resoudre(int entree) {
+            int payload = entree >>> 1;
+            int vPos = ((entree & 1) == 0) ? payload : mots.mot32(overflowBase + payload);
+            return vPos - offset;
+        }
+    }
+
+    /**
+     * Tableaux de travail réutilisés d'une compression à l'autre par un même thread.
+     */
+    private static final class Brouillon {
+        /** Histogramme des largeurs ({@link HistogrammeBits}). */
+        final int[] histo = new int[33];
+        /** Entrées (tag + payload) d'un groupe en attente d'empaquetage. */
+        final int[] entrees = new int[NoyauxBits.GROUPE];
+    }
+
+    // ---------------- helpers (lisibilité) ----------------
+
+    /**
+     * Compresse {@code tableau} dans un nouveau tampon (aucun état partagé).
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé adoptant le nouveau tampon
+     */
+    static Tableau encoder(int[] tableau) {
+        Objects.requireNonNull(tableau, "tableau");
+        int[] histo = BROUILLON.get().histo;
+        int offset = histogramme(tableau, histo);
+        int[] tampon = new int[taille(histo, tableau.length)];
+        ecrire(tableau, offset, histo, tampon);
+        return new Tableau(tampon);
+    }
+
+    /**
+     * Calcule l'offset puis l'histogramme des largeurs des valeurs décalées.
+     *
+     * @param tableau tableau d'entrée
+     * @param histo   histogramme (33 cases, écrasé)
+     * @return offset
+     */
+    private static int histogramme(int[] tableau, int[] histo) {
+        int offset = OutilsBits.offset(ParalleleBits.minMax(tableau));
+        HistogrammeBits.calculer(tableau, offset, histo);
+        return offset;
+    }
+
+    /**
+     * Taille exacte du tampon compressé, déduite de l'histogramme (aussi utilisée par
+     * {@link CodeurAuto} avec un histogramme d'échantillon extrapolé).
+     *
+     * @param histo histogramme des largeurs
+     * @param n     nombre de valeurs
+     * @return nombre d'ints (en-tête compris)
+     */
+    static int taille(int[] histo, int n) {
+        if (n == 0) return ENTETE + 1;
+        int kBase = choisirKBaseOptimal(histo, n);
+        return ENTETE + Math.max(1, dataIntsCount(n, kBase)) + compterOverflow(histo, n, kBase);
+    }
+
+    /**
+     * Écrit en-tête, flux principal et zone overflow dans {@code tampon} (au moins
+     * {@link #taille(int[], int)} ints, contenu antérieur quelconque).
+     *
+     * @param tableau tableau d'entrée
+     * @param offset  décalage
+     * @param histo   histogramme des largeurs des valeurs décalées
+     * @param tampon  destination
+     */
+    private static void ecrire(int[] tableau, int offset, int[] histo, int[] tampon) {
+        int n = tableau.length;
+        if (n == 0) {
+            ecrireEntete(tampon, 0, 1, 0, 1, offset, true);
+            tampon[ENTETE] = 0;
+            return;
+        }
+        int kBase = choisirKBaseOptimal(histo, n);
+        int overflowCount = compterOverflow(histo, n, kBase);
+        int indexBits = Math.max(1, OutilsBits.bitsNecessaires(Math.max(1, overflowCount - 1)));
+        int dataInts = dataIntsCount(n, kBase);
+
+        ecrireEntete(tampon, n, kBase, overflowCount, indexBits, offset, OutilsBits.estTrie(tableau));
+        if (ParalleleBits.nbTranches(n, NoyauxBits.GROUPE) <= 1) {
+            ecrireFluxEtOverflow(tampon, tableau, offset, kBase, dataInts, 0, n, 0);
+            return;
+        }
+        int[] premiers = premiersOverflow(tableau, offset, kBase);
+        int pas = ParalleleBits.pas(NoyauxBits.GROUPE);
+        ParalleleBits.tranches(n, NoyauxBits.GROUPE, (debut, fin) ->
+                ecrireFluxEtOverflow(tampon, tableau, offset, kBase, dataInts, debut, fin, premiers[debut / pas]));
+    }
+
+    /**
+     * Applique le stockage choisi à un tableau fraîchement encodé ou lu.
+     *
+     * @param t tableau au format {@code int[]}
+     * @return {@code t}, ou sa copie 64 bits
+     */
+    private TableauCompresse adapter(Tableau t) {
+        return stockage64 ? new Tableau64(t.tampon) : t;
+    }
+
+    /**
+     * Renvoie le dernier tableau traité par l'API historique.
+     *
+     * @return tableau courant
+     * @throws IndexOutOfBoundsException si rien n'a encore été compressé ni décompressé
+     */
+    private TableauCompresse dernier() {
+        TableauCompresse t = courant;
+        if (t == null) throw new IndexOutOfBoundsException();
+        return t;
+    }
+
+    /**
+     * Vérifie le tampon compressé.
+     *
+     * @param compresse tampon
+     * @throws NullPointerException     si {@code compresse} est {@code null}
+     * @throws IllegalArgumentException si la taille est inférieure à l'en-tête
+     */
+    private static void validerTampon(int[] compresse) {
+        Objects.requireNonNull(compresse, "compresse");
+        if (compresse.length < ENTETE) throw new IllegalArgumentException("tampon invalide");
+    }
+
+    /**
+     * Écrit l'en-tête dans le tampon.
+     *
+     * @param tampon        tampon alloué
+     * @param n             nombre d'éléments
+     * @param kBase         largeur d'encodage
+     * @param overflowCount nombre d'overflow
+     * @param indexBits     bits d'index overflow
+     * @param offset        décalage
+     * @param trie          vrai si le tableau d'origine est trié
+     */
+    private static void ecrireEntete(int[] tampon, int n, int kBase, int overflowCount, int indexBits, int offset,
+                                     boolean trie) {
+        tampon[0] = n;
+        tampon[1] = kBase;
+        tampon[2] = trie ? FLAG | OutilsBits.TRIE : FLAG;
+        tampon[3] = overflowCount;
+        tampon[4] = indexBits;
+        tampon[5] = offset;
+    }
+
+    /**
+     * Nombre d'ints nécessaires pour la zone data (flux principal).
+     *
+     * @param n     nombre d'éléments
+     * @param kBase largeur des éléments (incl. tag)
+     * @return nombre d'ints data
+     */
+    private static int dataIntsCount(int n, int kBase) {
+        long bits = (long) n * kBase;
+        return (int) ((bits + 31) >>> 5);
+    }
+
+    /**
+     * Décode les {@code n} valeurs d'un tampon dans {@code out}, par tranches parallèles au-delà
+     * du seuil ; en dessous, dans le thread appelant et sans allocation.
+     *
+     * @param tampon       tampon compressé
+     * @param n            nombre de valeurs
+     * @param kBase        largeur d'une entrée
+     * @param overflowBase index du premier mot de la zone overflow
+     * @param offset       décalage
+     * @param out          destination (au moins {@code n} cases après {@code outOff})
+     * @param outOff       position d'écriture
+     * @throws IndexOutOfBoundsException si la destination est trop petite
+     */
+    private static void decoderTout(int[] tampon, int n, int kBase, int overflowBase, int offset,
+                                    int[] out, int outOff) {
+        Objects.checkFromIndexSize(outOff, n, out.length);
+        if (n == 0) return;
+        if (ParalleleBits.nbTranches(n, NoyauxBits.GROUPE) <= 1) {
+            decoderPlage(tampon, kBase, overflowBase, offset, 0, n, out, outOff);
+            return;
+        }
+        ParalleleBits.tranches(n, NoyauxBits.GROUPE,
+                (debut, fin) -> decoderPlage(tampon, kBase, overflowBase, offset, debut, fin, out, outOff + debut));
+    }
+
+    /**
+     * Lit les entrées {@code [debut, fin[} du flux principal, résout les overflow
+     * et retire l'offset (précondition : {@code debut < fin}, bornes vérifiées).
+     * <p>
+     * Les groupes alignés sont dépaquetés directement dans {@code out} par le noyau
+     * de largeur {@code kBase}, puis résolus en place ; tête et queue passent par
+     * {@link #decoderPlageSequentiel(int[], int, int, int, int, int, int[], int)}.
+     * </p>
+     *
+     * @param tampon       tampon compressé
+     * @param kBase        largeur d'une entrée
+     * @param overflowBase index du premier mot de la zone overflow
+     * @param offset       décalage
+     * @param debut  premier index (inclus)
+     * @param fin    dernier index (exclu)
+     * @param out    tableau de sortie
+     * @param outOff position d'écriture dans {@code out}
+     */
+    private static void decoderPlage(int[] tampon, int kBase, int overflowBase, int offset,
+                                     int debut, int fin, int[] out, int outOff) {
+        int i = debut, d = outOff;
+        int tete = Math.min(fin, debut + (-debut & (NoyauxBits.GROUPE - 1)));
+        if (i < tete) {
+            decoderPlageSequentiel(tampon, kBase, overflowBase, offset, i, tete, out, d);
+            d += tete - i;
+            i = tete;
+        }
+        NoyauxBits.Noyau noyau = NoyauxBits.pour(kBase);
+        for (; fin - i >= NoyauxBits.GROUPE; i += NoyauxBits.GROUPE) {
+            noyau.depaqueter(tampon, ENTETE + (i / NoyauxBits.GROUPE) * kBase, out, d, 0);
+            for (int lim = d + NoyauxBits.GROUPE; d < lim; d++) {
+                int entree = out[d];
+                int payload = entree >>> 1;
+                int vPos = ((entree & 1) == 0) ? payload : tampon[overflowBase + payload];
+                out[d] = vPos - offset;
+            }
+        }
+        if (i < fin) decoderPlageSequentiel(tampon, kBase, overflowBase, offset, i, fin, out, d);
+    }
+
+    /**
+     * Lit séquentiellement les entrées {@code [debut, fin[} du flux principal
+     * via un accumulateur 64 bits, résout les overflow et retire l'offset.
+     * <p>
+     * Précondition : {@code debut < fin}. Une entrée vaut {@code tag | payload << 1}
+     * (ordre d'écriture de {@link CodeurDebordement#ecrireFluxEtOverflow(int[], int[], int, int, int, int, int)}).
+     * </p>
+     *
+     * @param tampon       tampon compressé
+     * @param kBase        largeur d'une entrée
+     * @param overflowBase index du premier mot de la zone overflow
+     * @param offset       décalage
+     * @param debut        premier index (inclus)
+     * @param fin          dernier index (exclu)
+     * @param out          tableau de sortie
+     * @param outOff       position d'écriture dans {@code out}
+     */
+    private static void decoderPlageSequentiel(int[] tampon, int kBase, int overflowBase, int offset,
+                                               int debut, int fin, int[] out, int outOff) {
+        long bitPos = debutFluxBits() + (long) debut * kBase;
+        int mot = (int) (bitPos >>> 5);
+        int decal = (int) (bitPos & 31);
+        long acc = (tampon[mot++] & 0xFFFFFFFFL) >>> decal;
+        int dispo = 32 - decal;
+        long m = OutilsBits.masque(kBase) & 0xFFFFFFFFL;
+        for (int i = debut, d = outOff; i < fin; i++) {
+            if (dispo < kBase) {
+                acc |= (tampon[mot++] & 0xFFFFFFFFL) << dispo;
+                dispo += 32;
+            }
+            int entree = (int) (acc & m);
+            int payload = entree >>> 1;
+            int vPos = ((entree & 1) == 0) ? payload : tampon[overflowBase + payload];
+            out[d++] = vPos - offset;
+            acc >>>= kBase;
+            dispo -= kBase;
+        }
+    }
+
+    /**
+     * Début de la zone data en bits (après l'en-tête).
+     *
+     * @return position de bit
+     */
+    private static long debutFluxBits() {
+        return ((long) ENTETE) << 5;
+    }
+
+    /**
+     * Valeur max "petite" stockable (sans overflow) pour un {@code kBase} donné.
+     *
+     * @param kBase largeur totale (tag + payload)
+     * @return max payload ; -1 si {@code kBase<=1}
+     */
+    private static int maxSmall(int kBase) {
+        return (kBase <= 1) ? -1 : ((1 << (kBase - 1)) - 1);
+    }
+
+    /**
+     * Compte combien de valeurs dépassent la capacité "petite", à partir de
+     * l'histogramme des largeurs (O(32), sans repasser sur les données).
+     *
+     * @param histo histogramme des largeurs ({@link HistogrammeBits})
+     * @param n     nombre d'éléments
+     * @param kBase largeur totale (tag + payload)
+     * @return nombre d'éléments qui iront en overflow
+     */
+    private static int compterOverflow(int[] histo, int n, int kBase) {
+        if (kBase <= 1) return n;
+        return HistogrammeBits.auDela(histo, kBase - 1);
+    }
+
+    /**
+     * Coût total en bits (en-tête + data + overflow).
+     *
+     * @param n              nombre d'éléments
+     * @param kBase          largeur d'encodage
+     * @param overflowCount  nombre d'éléments envoyés en overflow
+     * @return coût en bits
+     */
+    private static long coutTotalBits(int n, int kBase, int overflowCount) {
+        long header = (long) ENTETE * 32;
+        long data = (long) n * kBase;
+        long over = (long) overflowCount * 32;
+        return header + data + over;
+    }
+
+    /**
+     * Vérifie que la capacité de payload permet d'indexer tous les overflow.
+     *
+     * @param n             nombre d'éléments
+     * @param kBase         largeur d'encodage
+     * @param overflowCount nombre d'overflow
+     * @return {@code true} si possible
+     */
+    private static boolean overflowPossible(int n, int kBase, int overflowCount) {
+        long cap = (kBase <= 1) ? 1 : (1L << (kBase - 1));
+        return overflowCount <= cap;
+    }
+
+    /**
+     * Choisit automatiquement le {@code kBase} qui minimise le coût total.
+     * <p>
+     * Le modèle de coût est évalué pour chaque {@code kb} contre l'histogramme :
+     * 31 évaluations en O(32) au lieu de 31 passes sur les données.
+     * </p>
+     *
+     * @param histo histogramme des largeurs des valeurs positives
+     * @param n     nombre d'éléments
+     * @return {@code kBase} optimal
+     */
+    private static int choisirKBaseOptimal(int[] histo, int n) {
+        long bestCost = Long.MAX_VALUE;
+        int bestKb = 1;
+
+        for (int kb = 1; kb <= 31; kb++) {
+            int over = compterOverflow(histo, n, kb);
+            if (!overflowPossible(n, kb, over)) continue;
+            long cost = coutTotalBits(n, kb, over);
+            if (cost < bestCost) {
+                bestCost = cost;
+                bestKb = kb;
+            }
+        }
+        return bestKb;
+    }
+
+    /**
+     * Vrai si {@code vPos} ne tient pas dans le payload d'une entrée de {@code kBase} bits.
+     *
+     * @param vPos  valeur positive
+     * @param kBase largeur totale (tag + payload)
+     * @param lim   {@link #maxSmall(int)} pour {@code kBase}
+     * @return {@code true} si la valeur part en overflow
+     */
+    private static boolean estOverflow(int vPos, int kBase, int lim) {
+        return kBase <= 1 || Integer.compareUnsigned(vPos, lim) > 0;
+    }
+
+    /**
+     * Premier index overflow de chaque tranche parallèle (somme préfixe des comptes par tranche).
+     * Une seule tranche commence à 0 : aucun comptage n'est alors nécessaire.
+     *
+     * @param t      valeurs d'origine
+     * @param offset décalage ajouté à chaque valeur
+     * @param kBase  largeur totale (tag + payload)
+     * @return index overflow de départ, par tranche de {@link ParalleleBits}
+     */
+    private static int[] premiersOverflow(int[] t, int offset, int kBase) {
+        int nb = ParalleleBits.nbTranches(t.length, NoyauxBits.GROUPE);
+        int[] premiers = new int[nb];
+        if (nb <= 1) return premiers;
+        int pas = ParalleleBits.pas(NoyauxBits.GROUPE);
+        int lim = maxSmall(kBase);
+        ParalleleBits.tranches(t.length, NoyauxBits.GROUPE, (debut, fin) -> {
+            int c = 0;
+            for (int i = debut; i < fin; i++) if (estOverflow(t[i] + offset, kBase, lim)) c++;
+            premiers[debut / pas] = c;
+        });
+        int cumul = 0;
+        for (int j = 0; j < nb; j++) {
+            int c = premiers[j];
+            premiers[j] = cumul;
+            cumul += c;
+        }
+        return premiers;
+    }
+
+    /**
+     * Écrit le flux principal (tag+payload) de {@code t[debut..fin[ + offset} et remplit la zone overflow.
+     * <p>
+     * Chaque entrée vaut {@code tag | payload << 1}. Les entrées sont accumulées par
+     * groupes de {@value NoyauxBits#GROUPE} puis empaquetées par le noyau de largeur
+     * {@code kBase} ; le dernier groupe incomplet est écrit avec
+     * {@link OutilsBits#ecrireBits(int[], long, int, int)} dans des mots remis à zéro. Les entrées
+     * d'un groupe sont accumulées dans le brouillon du thread. {@code debut} étant aligné sur
+     * un groupe, la plage n'écrit que ses propres mots et ses propres cases overflow
+     * (à partir de {@code overIdx}).
+     * </p>
+     *
+     * @param tampon   tampon de destination (en-tête écrit)
+     * @param t        valeurs d'origine
+     * @param offset   décalage ajouté à chaque valeur
+     * @param kBase    largeur d'encodage
+     * @param dataInts taille de la zone data (en ints)
+     * @param debut    premier index (inclus, multiple de {@value NoyauxBits#GROUPE})
+     * @param fin      dernier index (exclu)
+     * @param overIdx  premier index overflow de la plage
+     */
+    private static void ecrireFluxEtOverflow(int[] tampon, int[] t, int offset, int kBase, int dataInts,
+                                             int debut, int fin, int overIdx) {
+        int overflowBase = ENTETE + Math.max(1, dataInts);
+        int lim = maxSmall(kBase);
+        NoyauxBits.Noyau noyau = NoyauxBits.pour(kBase);
+        int[] entrees = BROUILLON.get().entrees;
+
+        for (int i = debut; i < fin; i++) {
+            int vPos = t[i] + offset;
+            int j = i & (NoyauxBits.GROUPE - 1);
+            if (estOverflow(vPos, kBase, lim)) {
+                // tag=1 + index overflow
+                entrees[j] = 1 | (overIdx << 1);
+                tampon[overflowBase + overIdx] = vPos;
+                overIdx++;
+            } else {
+                // tag=0 + valeur directe
+                entrees[j] = vPos << 1;
+            }
+            if (j == NoyauxBits.GROUPE - 1) {
+                noyau.empaqueter(entrees, 0, 0, tampon, ENTETE + (i / NoyauxBits.GROUPE) * kBase);
+            }
+        }
+
+        int reste = (fin - debut) & (NoyauxBits.GROUPE - 1);
+        long bitPos = debutFluxBits() + (long) (fin - reste) * kBase;
+        if (reste > 0) Arrays.fill(tampon, (int) (bitPos >>> 5), (int) ((bitPos + (long) reste * kBase + 31) >>> 5), 0);
+        for (int j = 0; j < reste; j++, bitPos += kBase) {
+            OutilsBits.ecrireBits(tampon, bitPos, kBase, entrees[j]);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,255 @@
+package codagebits;
+
+import java.util.Objects;
+
+/**
+ * Codeur de {@code long} "Avec Débordement" : variante 64 bits de {@link CodeurDebordement}.
+ * <p>
+ * Principe : chaque élément est encodé sur {@code kBase ≤ 64} bits dont 1 bit de tag
+ * (entrée {@code tag | payload << 1}). Tag=0 → la valeur tient sur {@code kBase-1} bits ;
+ * tag=1 → le payload indexe la zone overflow, où la grande valeur occupe un long entier.
+ * {@code kBase} minimise le coût total, évalué en O(64) sur l'histogramme des largeurs.
+ * </p>
+ * <p>
+ * Gestion des négatifs : {@code offset = -min} appliqué à la compression (valeurs décalées
+ * lues comme non signées), retiré à la décompression et à l'accès direct.
+ * </p>
+ */
+public class CodeurDebordementLong implements CodeurBitsLong {
+
+    // En-tête : [0]=n, [1]=kBase, [2]=flags(2), [3]=overflowCount, [4]=indexBits, [5]=offset
+    private static final int ENTETE = 6;
+    private static final int FLAG = 2;
+
+    /** Dernier tableau compressé ou décompressé (API historique). */
+    private volatile Tableau courant;
+
+    /**
+     * Compresse un tableau avec séparation "petites" et "grandes" valeurs.
+     * <p>
+     * Étapes : offset → histogramme des largeurs → choix de {@code kBase} →
+     * écriture du flux principal et de la zone overflow en une passe.
+     * </p>
+     *
+     * @param tableau tableau d'entrée
+     * @return tampon compressé (en-tête + data + overflow)
+     * @throws NullPointerException si {@code tableau} est {@code null}
+     */
+    @Override
+    public long[] compresser(long[] tableau) {
+        Objects.requireNonNull(tableau, "tableau");
+        int n = tableau.length;
+        long offset = OutilsBitsLong.calculerOffset(tableau);
+
+        int[] histo = new int[65];
+        for (long v : tableau) histo[64 - Long.numberOfLeadingZeros(v + offset)]++;
+        int kBase = choisirKBase(histo, n);
+        int overflowCount = compterOverflow(histo, n, kBase);
+        int indexBits = OutilsBitsLong.bitsNecessaires(Math.max(1, overflowCount - 1));
+
+        int dataMots = Math.max(1, OutilsBitsLong.motsFlux(n, kBase));
+        long[] tampon = new long[ENTETE + dataMots + overflowCount];
+        tampon[0] = n;
+        tampon[1] = kBase;
+        tampon[2] = FLAG;
+        tampon[3] = overflowCount;
+        tampon[4] = indexBits;
+        tampon[5] = offset;
+
+        int overflowBase = ENTETE + dataMots;
+        long lim = maxSmall(kBase);
+        long bitPos = (long) ENTETE << 6;
+        int overIdx = 0;
+        for (int i = 0; i < n; i++, bitPos += kBase) {
+            long vPos = tableau[i] + offset;
+            long entree;
+            if (kBase <= 1 || Long.compareUnsigned(vPos, lim) > 0) {
+                entree = 1 | ((long) overIdx << 1);
+                tampon[overflowBase + overIdx++] = vPos;
+            } else {
+                entree = vPos << 1;
+            }
+            OutilsBitsLong.ecrireBits(tampon, bitPos, kBase, entree);
+        }
+        courant = new Tableau(tampon);
+        return tampon;
+    }
+
+    /**
+     * Décompresse un tampon produit par {@link #compresser(long[])}.
+     *
+     * @param compresse tampon compressé
+     * @return tableau d'origine
+     * @throws NullPointerException     si {@code compresse} est {@code null}
+     * @throws IllegalArgumentException si la taille est inférieure à l'en-tête
+     */
+    @Override
+    public long[] decompresser(long[] compresse) {
+        Objects.requireNonNull(compresse, "compresse");
+        if (compresse.length < ENTETE) throw new IllegalArgumentException("tampon invalide");
+        Tableau t = new Tableau(compresse);
+        courant = t;
+        long[] out = new long[t.n];
+        t.accederPlage(0, t.n, out, 0);
+        return out;
+    }
+
+    /**
+     * Accès direct à l'élément {@code index} du dernier tableau traité.
+     *
+     * @param index position logique (0 ≤ index &lt; n)
+     * @return valeur d'origine
+     * @throws IndexOutOfBoundsException si l'index est hors bornes
+     */
+    @Override
+    public long acceder(int index) {
+        return dernier().acceder(index);
+    }
+
+    /**
+     * Décode une plage du dernier tableau traité.
+     *
+     * @param debut  premier index logique (inclus)
+     * @param fin    dernier index logique (exclu)
+     * @param dst    tableau de destination
+     * @param dstOff position d'écriture dans {@code dst}
+     * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+     */
+    @Override
+    public void accederPlage(int debut, int fin, long[] dst, int dstOff) {
+        dernier().accederPlage(debut, fin, dst, dstOff);
+    }
+
+    // ---------------- tableau compressé ----------------
+
+    /**
+     * Tampon compressé et en-tête lu, immuables.
+     */
+    private static final class Tableau {
+        final long[] tampon;
+        final int n, kBase;
+        final long offset;
+        /** Index du premier mot de la zone overflow. */
+        private final int overflowBase;
+
+        /**
+         * Lit l'en-tête d'un tampon (adopté tel quel, sans copie).
+         *
+         * @param tampon tampon compressé
+         * @throws IllegalArgumentException si l'en-tête est incohérent
+         */
+        Tableau(long[] tampon) {
+            this.tampon = tampon;
+            this.n = (int) tampon[0];
+            this.kBase = (int) tampon[1];
+            this.offset = tampon[5];
+            if (n < 0 || kBase < 1 || kBase > 64) throw new IllegalArgumentException("tampon invalide");
+            this.overflowBase = ENTETE + Math.max(1, OutilsBitsLong.motsFlux(n, kBase));
+        }
+
+        /**
+         * Accès direct : lit l'entrée, puis la zone overflow si elle est taguée.
+         *
+         * @param index position logique (0 ≤ index &lt; n)
+         * @return valeur d'origine
+         * @throws IndexOutOfBoundsException si l'index est hors bornes
+         */
+        long acceder(int index) {
+            if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
+            return resoudre(OutilsBitsLong.lireBits(tampon, ((long) ENTETE << 6) + (long) index * kBase, kBase));
+        }
+
+        /**
+         * Décode la plage {@code [debut, fin[} directement dans {@code dst}.
+         *
+         * @param debut  premier index logique (inclus)
+         * @param fin    dernier index logique (exclu)
+         * @param dst    tableau de destination
+         * @param dstOff position d'écriture dans {@code dst}
+         * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+         */
+        void accederPlage(int debut, int fin, long[] dst, int dstOff) {
+            Objects.checkFromToIndex(debut, fin, n);
+            Objects.checkFromIndexSize(dstOff, fin - debut, dst.length);
+            long bitPos = ((long) ENTETE << 6) + (long) debut * kBase;
+            for (int i = debut, d = dstOff; i < fin; i++, bitPos += kBase) {
+                dst[d++] = resoudre(OutilsBitsLong.lireBits(tampon, bitPos, kBase));
+            }
+        }
+
+        /**
+         * Résout une entrée (petite valeur ou index overflow) et retire l'offset.
+         *
+         * @param entree {@code tag | payload << 1}
+         * @return valeur d'origine
+         */
+        private long resoudre(long entree) {
+            long payload = entree >>> 1;
+            long vPos = ((entree & 1) == 0) ? payload : tampon[overflowBase + (int) payload];
+            return vPos - offset;
+        }
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Renvoie le dernier tableau traité.
+     *
+     * @return tableau courant
+     * @throws IndexOutOfBoundsException si rien n'a encore été compressé ni décompressé
+     */
+    private Tableau dernier() {
+        Tableau t = courant;
+        if (t == null) throw new IndexOutOfBoundsException();
+        return t;
+    }
+
+    /**
+     * Valeur max "petite" stockable (sans overflow) pour un {@code kBase} donné.
+     *
+     * @param kBase largeur totale (tag + payload)
+     * @return max payload (non signé) ; sans objet si {@code kBase<=1}
+     */
+    private static long maxSmall(int kBase) {
+        return (kBase <= 1) ? -1L : OutilsBitsLong.masque(kBase - 1);
+    }
+
+    /**
+     * Nombre de valeurs trop larges pour le payload de {@code kBase}, en O(64).
+     *
+     * @param histo histogramme des largeurs (65 cases)
+     * @param n     nombre d'éléments
+     * @param kBase largeur totale (tag + payload)
+     * @return nombre d'éléments qui iront en overflow
+     */
+    private static int compterOverflow(int[] histo, int n, int kBase) {
+        if (kBase <= 1) return n;
+        int c = 0;
+        for (int w = kBase; w <= 64; w++) c += histo[w];
+        return c;
+    }
+
+    /**
+     * Choisit le {@code kBase} qui minimise {@code n*kBase + 64*overflow}, parmi ceux dont
+     * le payload peut indexer toute la zone overflow.
+     *
+     * @param histo histogramme des largeurs
+     * @param n     nombre d'éléments
+     * @return {@code kBase} optimal, dans [1,64]
+     */
+    private static int choisirKBase(int[] histo, int n) {
+        long meilleur = Long.MAX_VALUE;
+        int kb = 64;
+        for (int k = 1; k <= 64; k++) {
+            int over = compterOverflow(histo, n, k);
+            long cap = (k <= 1) ? 1 : (k >= 64 ? Long.MAX_VALUE : 1L << (k - 1));
+            if (over > cap) continue;
+            long cout = (long) n * k + 64L * over;
+            if (cout < meilleur) {
+                meilleur = cout;
+                kb = k;
+            }
+        }
+        return kb;
+    }
+}
@@ -0,0 +1,396 @@
+package codagebits;
+
+import java.util.Objects;
+
+/**
+ * Codeur d'entiers "Delta + ZigZag" pour tableaux triés ou lentement variables.
+ * <p>
+ * Principe : on encode l'écart {@code d = t[i] - t[i-1]} de chaque valeur avec sa voisine,
+ * transformé en zigzag ({@code (d << 1) ^ (d >> 31)}) pour que les petits écarts négatifs
+ * restent petits, puis bit-packé sur une largeur {@code k} commune (flux continu, noyaux
+ * {@link NoyauxBits}). Sur des horodatages ou des identifiants triés, {@code k} dépend de
+ * l'écart maximal et non plus de la valeur maximale.
+ * </p>
+ * <p>
+ * Table de sauts : la valeur absolue est stockée tous les {@value #PAS} éléments ; l'écart
+ * en début de pas n'est pas utilisé (il vaut 0). {@link #acceder(int)} coûte donc une
+ * lecture de la table plus au plus {@code PAS-1} écarts décodés, au lieu d'une somme
+ * préfixe depuis le début.
+ * </p>
+ * <p>
+ * Les écarts sont calculés modulo 2^32 : tout tableau d'entiers est accepté, y compris
+ * non trié (au prix d'un {@code k} plus large).
+ * </p>
+ * <p>
+ * État : les données d'un tableau compressé vivent dans un {@link Tableau} immuable ;
+ * le codeur ne garde que le dernier tableau traité pour l'API historique.
+ * </p>
+ */
+public class CodeurDelta implements CodeurBits {
+
+    /** Distance entre deux valeurs absolues de la table de sauts. */
+    static final int PAS = 128;
+
+    // En-tête : [0]=n, [1]=k, [2]=flags(5), [3]=pas ; puis table de sauts ; puis data
+    static final int ENTETE = 4;
+    private static final int FLAG = 5;
+
+    /** Dernier tableau compressé ou décompressé (API historique). */
+    private volatile Tableau courant;
+
+    // ---------------- API ----------------
+
+    /**
+     * Compresse un tableau en écarts zigzag bit-packés + table de sauts.
+     * <p>
+     * Étapes : validation → écarts zigzag (0 en début de pas) et leur max non signé →
+     * {@code k} → allocation → table de sauts → empaquetage par groupes via {@link NoyauxBits}.
+     * </p>
+     *
+     * @param tableau tableau d'entrée
+     * @return tampon compressé
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public int[] compresser(int[] tableau) {
+        Tableau t = encoder(tableau);
+        courant = t;
+        return t.tampon;
+    }
+
+    /**
+     * Décompresse un tampon produit par {@link #compresser(int[])}.
+     *
+     * @param compresse tampon compressé
+     * @return tableau d'origine
+     * @throws IllegalArgumentException si le tampon est nul ou trop court
+     */
+    @Override
+    public int[] decompresser(int[] compresse) {
+        validerTampon(compresse);
+        Tableau t = new Tableau(compresse);
+        courant = t;
+        return t.decompresser();
+    }
+
+    /**
+     * Accède à l'élément {@code index} du dernier tableau traité.
+     *
+     * @param index position logique (0 ≤ index &lt; n)
+     * @return valeur d'origine
+     * @throws IndexOutOfBoundsException si l'index est hors bornes
+     * @see Tableau#acceder(int)
+     */
+    @Override
+    public int acceder(int index) {
+        return dernier().acceder(index);
+    }
+
+    /**
+     * Décode une plage du dernier tableau traité.
+     *
+     * @param debut  premier index logique (inclus)
+     * @param fin    dernier index logique (exclu)
+     * @param dst    tableau de destination
+     * @param dstOff position d'écriture dans {@code dst}
+     * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+     * @see Tableau#accederPlage(int, int, int[], int)
+     */
+    @Override
+    public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+        dernier().accederPlage(debut, fin, dst, dstOff);
+    }
+
+    /**
+     * Compresse sans toucher à l'état du codeur.
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public TableauCompresse compresserTableau(int[] tableau) {
+        return encoder(tableau);
+    }
+
+    /**
+     * Ouvre une copie d'un tampon compressé sans toucher à l'état du codeur.
+     *
+     * @param compresse tampon compressé
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si le tampon est nul ou trop court
+     */
+    @Override
+    public TableauCompresse ouvrir(int[] compresse) {
+        validerTampon(compresse);
+        return new Tableau(compresse.clone());
+    }
+
+    /**
+     * {@link #ouvrir(int[])} sans copie : {@code tampon} est adopté, l'appelant ne le modifie plus.
+     *
+     * @param tampon tampon compressé
+     * @return tableau compressé adoptant {@code tampon}
+     * @throws IllegalArgumentException si le tampon est invalide
+     */
+    static TableauCompresse adopter(int[] tampon) {
+        validerTampon(tampon);
+        return new Tableau(tampon);
+    }
+
+    // ---------------- tableau compressé ----------------
+
+    /**
+     * Tableau compressé "delta" : tampon, table de sauts et en-tête lu, tous immuables.
+     */
+    static final class Tableau implements TableauCompresse, TamponPartage {
+
+        /** Tampon compressé (inclut l'en-tête et la table de sauts), jamais modifié. */
+        final int[] tampon;
+        /** Taille logique. */
+        final int n;
+        /** Bits par écart zigzag. */
+        final int k;
+        /** Pas de la table de sauts (lu dans l'en-tête). */
+        final int pas;
+        /** Index du premier mot de la zone data. */
+        private final int baseData;
+
+        /**
+         * Lit l'en-tête d'un tampon (adopté tel quel, sans copie).
+         *
+         * @param tampon tampon compressé valide
+         */
+        Tableau(int[] tampon) {
+            this.tampon = tampon;
+            this.n = tampon[0];
+            this.k = tampon[1];
+            this.pas = tampon[3];
+            this.baseData = ENTETE + (n + pas - 1) / pas;
+        }
+
+        @Override
+        public int taille() {
+            return n;
+        }
+
+        @Override
+        public int[] tampon() {
+            return tampon.clone();
+        }
+
+        @Override
+        public int[] tamponPartage() {
+            return tampon;
+        }
+
+        /**
+         * Accède à l'élément {@code index} : valeur du saut précédent + somme d'au plus
+         * {@code pas-1} écarts lus en flux.
+         *
+         * @param index position logique (0 ≤ index &lt; n)
+         * @return valeur d'origine
+         * @throws IndexOutOfBoundsException si l'index est hors bornes
+         */
+        @Override
+        public int acceder(int index) {
+            if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
+            int debut = index - index % pas;
+            int v = tampon[ENTETE + index / pas];
+            if (index == debut) return v;
+
+            long bitPos = ((long) baseData << 5) + (long) (debut + 1) * k;
+            int mot = (int) (bitPos >>> 5);
+            int decal = (int) (bitPos & 31);
+            long acc = (tampon[mot++] & 0xFFFFFFFFL) >>> decal;
+            int dispo = 32 - decal;
+            long m = OutilsBits.masque(k) & 0xFFFFFFFFL;
+            for (int i = debut + 1; i <= index; i++) {
+                if (dispo < k) {
+                    acc |= (tampon[mot++] & 0xFFFFFFFFL) << dispo;
+                    dispo += 32;
+                }
+                v += dezigzag((int) (acc & m));
+                acc >>>= k;
+                dispo -= k;
+            }
+            return v;
+        }
+
+        /**
+         * Décode la plage {@code [debut, fin[} directement dans {@code dst}, sans allocation.
+         * <p>
+         * La première valeur est obtenue comme {@link #acceder(int)} ; les écarts suivants sont
+         * dépaquetés bruts dans {@code dst} (groupes alignés via {@link NoyauxBits}), puis
+         * cumulés en place en repartant de la table à chaque début de pas.
+         * </p>
+         *
+         * @param debut  premier index logique (inclus)
+         * @param fin    dernier index logique (exclu)
+         * @param dst    tableau de destination
+         * @param dstOff position d'écriture dans {@code dst}
+         * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+         */
+        @Override
+        public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+            Objects.checkFromToIndex(debut, fin, n);
+            Objects.checkFromIndexSize(dstOff, fin - debut, dst.length);
+            if (debut == fin) return;
+            int v = acceder(debut);
+            dst[dstOff] = v;
+            if (fin - debut == 1) return;
+
+            lireEcarts(debut + 1, fin, dst, dstOff + 1);
+            int d = dstOff + 1;
+            for (int i = debut + 1; i < fin; i++, d++) {
+                v = (i % pas == 0) ? tampon[ENTETE + i / pas] : v + dezigzag(dst[d]);
+                dst[d] = v;
+            }
+        }
+
+        /**
+         * Dépaquette les écarts zigzag bruts {@code [debut, fin[} (tête et queue en flux,
+         * groupes alignés via le noyau de largeur {@code k}).
+         *
+         * @param debut  premier index (inclus)
+         * @param fin    dernier index (exclu)
+         * @param out    destination
+         * @param outOff position d'écriture
+         */
+        private void lireEcarts(int debut, int fin, int[] out, int outOff) {
+            int i = debut, d = outOff;
+            int tete = Math.min(fin, debut + (-debut & (NoyauxBits.GROUPE - 1)));
+            if (i < tete) {
+                lireEcartsSequentiel(i, tete, out, d);
+                d += tete - i;
+                i = tete;
+            }
+            NoyauxBits.Noyau noyau = NoyauxBits.pour(k);
+            for (; fin - i >= NoyauxBits.GROUPE; i += NoyauxBits.GROUPE, d += NoyauxBits.GROUPE) {
+                noyau.depaqueter(tampon, baseData + (i / NoyauxBits.GROUPE) * k, out, d, 0);
+            }
+            if (i < fin) lireEcartsSequentiel(i, fin, out, d);
+        }
+
+        /**
+         * Lit les écarts bruts {@code [debut, fin[} via un accumulateur 64 bits.
+         *
+         * @param debut  premier index (inclus, {@code debut < fin})
+         * @param fin    dernier index (exclu)
+         * @param out    destination
+         * @param outOff position d'écriture
+         */
+        private void lireEcartsSequentiel(int debut, int fin, int[] out, int outOff) {
+            long bitPos = ((long) baseData << 5) + (long) debut * k;
+            int mot = (int) (bitPos >>> 5);
+            int decal = (int) (bitPos & 31);
+            long acc = (tampon[mot++] & 0xFFFFFFFFL) >>> decal;
+            int dispo = 32 - decal;
+            long m = OutilsBits.masque(k) & 0xFFFFFFFFL;
+            for (int i = debut, d = outOff; i < fin; i++) {
+                if (dispo < k) {
+                    acc |= (tampon[mot++] & 0xFFFFFFFFL) << dispo;
+                    dispo += 32;
+                }
+                out[d++] = (int) (acc & m);
+                acc >>>= k;
+                dispo -= k;
+            }
+        }
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Compresse {@code tableau} dans un nouveau tampon (aucun état partagé).
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé adoptant le nouveau tampon
+     */
+    static Tableau encoder(int[] tableau) {
+        if (tableau == null) throw new IllegalArgumentException("tableau null");
+        int n = tableau.length;
+
+        int[] zz = new int[n];
+        int max = 0;
+        for (int i = 1; i < n; i++) {
+            if (i % PAS == 0) continue;
+            int z = zigzag(tableau[i] - tableau[i - 1]);
+            zz[i] = z;
+            if (Integer.compareUnsigned(z, max) > 0) max = z;
+        }
+        int k = Math.max(1, 32 - Integer.numberOfLeadingZeros(max));
+
+        int nbSauts = (n + PAS - 1) / PAS;
+        int baseData = ENTETE + nbSauts;
+        int[] tampon = new int[taille(n, k)];
+        tampon[0] = n;
+        tampon[1] = k;
+        tampon[2] = FLAG;
+        tampon[3] = PAS;
+        for (int s = 0; s < nbSauts; s++) tampon[ENTETE + s] = tableau[s * PAS];
+
+        NoyauxBits.Noyau noyau = NoyauxBits.pour(k);
+        int i = 0;
+        for (int mot = baseData; n - i >= NoyauxBits.GROUPE; i += NoyauxBits.GROUPE, mot += k) {
+            noyau.empaqueter(zz, i, 0, tampon, mot);
+        }
+        for (long bitPos = ((long) baseData << 5) + (long) i * k; i < n; i++, bitPos += k) {
+            OutilsBits.ecrireBits(tampon, bitPos, k, zz[i]);
+        }
+        return new Tableau(tampon);
+    }
+
+    /**
+     * Taille exacte du tampon compressé.
+     *
+     * @param n nombre de valeurs
+     * @param k bits par écart zigzag
+     * @return nombre d'ints (en-tête et table de sauts compris)
+     */
+    static int taille(int n, int k) {
+        long dataInts = ((long) n * k + 31) >>> 5;
+        return (int) (ENTETE + (n + PAS - 1) / PAS + Math.max(1, dataInts));
+    }
+
+    /**
+     * Renvoie le dernier tableau traité par l'API historique.
+     *
+     * @return tableau courant
+     * @throws IndexOutOfBoundsException si rien n'a encore été compressé ni décompressé
+     */
+    private Tableau dernier() {
+        Tableau t = courant;
+        if (t == null) throw new IndexOutOfBoundsException();
+        return t;
+    }
+
+    /**
+     * Vérifie que le tampon compressé est valable (taille en-tête).
+     *
+     * @param t tampon
+     */
+    private static void validerTampon(int[] t) {
+        if (t == null || t.length < ENTETE) throw new IllegalArgumentException("tampon invalide");
+    }
+
+    /**
+     * Encode un entier signé en zigzag (0, -1, 1, -2, ... → 0, 1, 2, 3, ...).
+     *
+     * @param d écart signé
+     * @return écart zigzag (non signé)
+     */
+    static int zigzag(int d) {
+        return (d << 1) ^ (d >> 31);
+    }
+
+    /**
+     * Décode un entier zigzag.
+     *
+     * @param z écart zigzag
+     * @return écart signé
+     */
+    static int dezigzag(int z) {
+        return (z >>> 1) ^ -(z & 1);
+    }
+}
@@ -0,0 +1,356 @@
+package codagebits;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Codeur d'entiers "Dictionnaire" pour tableaux de faible cardinalité.
+ * <p>
+ * Principe : les valeurs distinctes sont rangées une fois, triées, dans un dictionnaire
+ * placé après l'en-tête ; le tableau devient une suite d'identifiants (rang dans le
+ * dictionnaire) bit-packés en flux continu sur {@code k = bitsNecessaires(cardinalité-1)}
+ * bits, par groupes alignés via {@link NoyauxBits}. Quelques centaines de codes répartis
+ * sur toute la plage 32 bits tiennent ainsi sur 8 ou 9 bits, là où le mode "avec" en
+ * demanderait près de 32.
+ * </p>
+ * <p>
+ * Compression en deux passes sur une {@link TableHachageInt} (aucun boxing) : collecte
+ * des valeurs distinctes, tri du dictionnaire et rang de chaque valeur, puis empaquetage
+ * des rangs. Le dictionnaire trié garde l'ordre : deux identifiants se comparent comme
+ * les valeurs qu'ils représentent.
+ * </p>
+ * <p>
+ * {@link #acceder(int)} coûte une lecture de {@code k} bits et une lecture du dictionnaire.
+ * </p>
+ * <p>
+ * État : les données d'un tableau compressé vivent dans un {@link Tableau} immuable ;
+ * le codeur ne garde que le dernier tableau traité pour l'API historique.
+ * </p>
+ */
+public class CodeurDictionnaire implements CodeurBits {
+
+    // En-tête : [0]=n, [1]=k, [2]=flags(6), [3]=cardinalité ; puis dictionnaire trié ; puis data
+    static final int ENTETE = 4;
+    private static final int FLAG = 6;
+
+    /** Dernier tableau compressé ou décompressé (API historique). */
+    private volatile Tableau courant;
+
+    // ---------------- API ----------------
+
+    /**
+     * Compresse un tableau en dictionnaire trié + identifiants bit-packés.
+     * <p>
+     * Étapes : validation → valeurs distinctes (table de hachage) → tri du dictionnaire
+     * et rangs → {@code k} → allocation + en-tête + dictionnaire → empaquetage des rangs.
+     * </p>
+     *
+     * @param tableau tableau d'entrée
+     * @return tampon compressé
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public int[] compresser(int[] tableau) {
+        Tableau t = encoder(tableau);
+        courant = t;
+        return t.tampon;
+    }
+
+    /**
+     * Décompresse un tampon produit par {@link #compresser(int[])}.
+     *
+     * @param compresse tampon compressé
+     * @return tableau d'origine
+     * @throws IllegalArgumentException si le tampon est nul ou trop court
+     */
+    @Override
+    public int[] decompresser(int[] compresse) {
+        validerTampon(compresse);
+        Tableau t = new Tableau(compresse);
+        courant = t;
+        return t.decompresser();
+    }
+
+    /**
+     * Accède à l'élément {@code index} du dernier tableau traité.
+     *
+     * @param index position logique (0 ≤ index &lt; n)
+     * @return valeur d'origine
+     * @throws IndexOutOfBoundsException si l'index est hors bornes
+     * @see Tableau#acceder(int)
+     */
+    @Override
+    public int acceder(int index) {
+        return dernier().acceder(index);
+    }
+
+    /**
+     * Décode une plage du dernier tableau traité.
+     *
+     * @param debut  premier index logique (inclus)
+     * @param fin    dernier index logique (exclu)
+     * @param dst    tableau de destination
+     * @param dstOff position d'écriture dans {@code dst}
+     * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+     * @see Tableau#accederPlage(int, int, int[], int)
+     */
+    @Override
+    public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+        dernier().accederPlage(debut, fin, dst, dstOff);
+    }
+
+    /**
+     * Compresse sans toucher à l'état du codeur.
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public TableauCompresse compresserTableau(int[] tableau) {
+        return encoder(tableau);
+    }
+
+    /**
+     * Ouvre une copie d'un tampon compressé sans toucher à l'état du codeur.
+     *
+     * @param compresse tampon compressé
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si le tampon est nul ou trop court
+     */
+    @Override
+    public TableauCompresse ouvrir(int[] compresse) {
+        validerTampon(compresse);
+        return new Tableau(compresse.clone());
+    }
+
+    /**
+     * {@link #ouvrir(int[])} sans copie : {@code tampon} est adopté, l'appelant ne le modifie plus.
+     *
+     * @param tampon tampon compressé
+     * @return tableau compressé adoptant {@code tampon}
+     * @throws IllegalArgumentException si le tampon est invalide
+     */
+    static TableauCompresse adopter(int[] tampon) {
+        validerTampon(tampon);
+        return new Tableau(tampon);
+    }
+
+    // ---------------- tableau compressé ----------------
+
+    /**
+     * Tableau compressé "dictionnaire" : tampon, dictionnaire et en-tête lu, tous immuables.
+     */
+    static final class Tableau implements TableauCompresse, TamponPartage {
+
+        /** Tampon compressé (en-tête, dictionnaire, identifiants), jamais modifié. */
+        final int[] tampon;
+        /** Taille logique. */
+        final int n;
+        /** Bits par identifiant. */
+        final int k;
+        /** Nombre de valeurs distinctes. */
+        final int cardinalite;
+        /** Index du premier mot de la zone data. */
+        private final int baseData;
+
+        /**
+         * Lit l'en-tête d'un tampon (adopté tel quel, sans copie).
+         *
+         * @param tampon tampon compressé valide
+         */
+        Tableau(int[] tampon) {
+            this.tampon = tampon;
+            this.n = tampon[0];
+            this.k = tampon[1];
+            this.cardinalite = tampon[3];
+            this.baseData = ENTETE + cardinalite;
+        }
+
+        @Override
+        public int taille() {
+            return n;
+        }
+
+        @Override
+        public int[] tampon() {
+            return tampon.clone();
+        }
+
+        @Override
+        public int[] tamponPartage() {
+            return tampon;
+        }
+
+        /**
+         * Accède à l'élément {@code index} : identifiant lu sur {@code k} bits, puis valeur
+         * du dictionnaire.
+         *
+         * @param index position logique (0 ≤ index &lt; n)
+         * @return valeur d'origine
+         * @throws IndexOutOfBoundsException si l'index est hors bornes
+         */
+        @Override
+        public int acceder(int index) {
+            if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
+            int id = OutilsBits.lireBits(tampon, ((long) baseData << 5) + (long) index * k, k);
+            return tampon[ENTETE + id];
+        }
+
+        /**
+         * Décode la plage {@code [debut, fin[} directement dans {@code dst}, sans allocation.
+         * <p>
+         * Les identifiants sont dépaquetés dans {@code dst} (groupes alignés via le noyau de
+         * largeur {@code k}, tête et queue en flux), puis remplacés en place par leur valeur.
+         * </p>
+         *
+         * @param debut  premier index logique (inclus)
+         * @param fin    dernier index logique (exclu)
+         * @param dst    tableau de destination
+         * @param dstOff position d'écriture dans {@code dst}
+         * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+         */
+        @Override
+        public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+            Objects.checkFromToIndex(debut, fin, n);
+            Objects.checkFromIndexSize(dstOff, fin - debut, dst.length);
+            if (debut == fin) return;
+            lireIds(debut, fin, dst, dstOff);
+            for (int d = dstOff, f = dstOff + (fin - debut); d < f; d++) {
+                dst[d] = tampon[ENTETE + dst[d]];
+            }
+        }
+
+        /**
+         * Dépaquette les identifiants {@code [debut, fin[} (tête et queue en flux, groupes
+         * alignés via le noyau de largeur {@code k}).
+         *
+         * @param debut  premier index (inclus)
+         * @param fin    dernier index (exclu)
+         * @param out    destination
+         * @param outOff position d'écriture
+         */
+        private void lireIds(int debut, int fin, int[] out, int outOff) {
+            int i = debut, d = outOff;
+            int tete = Math.min(fin, debut + (-debut & (NoyauxBits.GROUPE - 1)));
+            if (i < tete) {
+                lireIdsSequentiel(i, tete, out, d);
+                d += tete - i;
+                i = tete;
+            }
+            NoyauxBits.Noyau noyau = NoyauxBits.pour(k);
+            for (; fin - i >= NoyauxBits.GROUPE; i += NoyauxBits.GROUPE, d += NoyauxBits.GROUPE) {
+                noyau.depaqueter(tampon, baseData + (i / NoyauxBits.GROUPE) * k, out, d, 0);
+            }
+            if (i < fin) lireIdsSequentiel(i, fin, out, d);
+        }
+
+        /**
+         * Lit les identifiants {@code [debut, fin[} via un accumulateur 64 bits.
+         *
+         * @param debut  premier index (inclus, {@code debut < fin})
+         * @param fin    dernier index (exclu)
+         * @param out    destination
+         * @param outOff position d'écriture
+         */
+        private void lireIdsSequentiel(int debut, int fin, int[] out, int outOff) {
+            long bitPos = ((long) baseData << 5) + (long) debut * k;
+            int mot = (int) (bitPos >>> 5);
+            int decal = (int) (bitPos & 31);
+            long acc = (tampon[mot++] & 0xFFFFFFFFL) >>> decal;
+            int dispo = 32 - decal;
+            long m = OutilsBits.masque(k) & 0xFFFFFFFFL;
+            for (int i = debut, d = outOff; i < fin; i++) {
+                if (dispo < k) {
+                    acc |= (tampon[mot++] & 0xFFFFFFFFL) << dispo;
+                    dispo += 32;
+                }
+                out[d++] = (int) (acc & m);
+                acc >>>= k;
+                dispo -= k;
+            }
+        }
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Compresse {@code tableau} dans un nouveau tampon (aucun état partagé).
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé adoptant le nouveau tampon
+     */
+    static Tableau encoder(int[] tableau) {
+        if (tableau == null) throw new IllegalArgumentException("tableau null");
+        int n = tableau.length;
+
+        // 1) valeurs distinctes, dans l'ordre d'apparition
+        TableHachageInt rangs = new TableHachageInt(Math.min(n, 256));
+        int[] distinctes = new int[Math.max(1, Math.min(n, 256))];
+        int card = 0;
+        for (int v : tableau) {
+            if (rangs.ajouter(v, 0)) {
+                if (card == distinctes.length) distinctes = Arrays.copyOf(distinctes, 2 * card);
+                distinctes[card++] = v;
+            }
+        }
+        // 2) dictionnaire trié, rang de chaque valeur
+        Arrays.sort(distinctes, 0, card);
+        for (int r = 0; r < card; r++) rangs.mettre(distinctes[r], r);
+        int k = OutilsBits.bitsNecessaires(card - 1);
+
+        int baseData = ENTETE + card;
+        int[] tampon = new int[taille(n, card)];
+        tampon[0] = n;
+        tampon[1] = k;
+        tampon[2] = FLAG;
+        tampon[3] = card;
+        System.arraycopy(distinctes, 0, tampon, ENTETE, card);
+
+        // 3) rangs empaquetés par groupes, puis la queue valeur par valeur
+        NoyauxBits.Noyau noyau = NoyauxBits.pour(k);
+        int[] lot = new int[NoyauxBits.GROUPE];
+        int i = 0;
+        for (int mot = baseData; n - i >= NoyauxBits.GROUPE; i += NoyauxBits.GROUPE, mot += k) {
+            for (int j = 0; j < NoyauxBits.GROUPE; j++) lot[j] = rangs.obtenir(tableau[i + j]);
+            noyau.empaqueter(lot, 0, 0, tampon, mot);
+        }
+        for (long bitPos = ((long) baseData << 5) + (long) i * k; i < n; i++, bitPos += k) {
+            OutilsBits.ecrireBits(tampon, bitPos, k, rangs.obtenir(tableau[i]));
+        }
+        return new Tableau(tampon);
+    }
+
+    /**
+     * Taille exacte du tampon compressé.
+     *
+     * @param n           nombre de valeurs
+     * @param cardinalite nombre de valeurs distinctes
+     * @return nombre d'ints (en-tête et dictionnaire compris)
+     */
+    static int taille(int n, int cardinalite) {
+        long dataInts = ((long) n * OutilsBits.bitsNecessaires(cardinalite - 1) + 31) >>> 5;
+        return (int) (ENTETE + cardinalite + Math.max(1, dataInts));
+    }
+
+    /**
+     * Renvoie le dernier tableau traité par l'API historique.
+     *
+     * @return tableau courant
+     * @throws IndexOutOfBoundsException si rien n'a encore été compressé ni décompressé
+     */
+    private Tableau dernier() {
+        Tableau t = courant;
+        if (t == null) throw new IndexOutOfBoundsException();
+        return t;
+    }
+
+    /**
+     * Vérifie que le tampon compressé est valable (taille en-tête).
+     *
+     * @param t tampon
+     */
+    private static void validerTampon(int[] t) {
+        if (t == null || t.length < ENTETE) throw new IllegalArgumentException("tampon invalide");
+    }
+}
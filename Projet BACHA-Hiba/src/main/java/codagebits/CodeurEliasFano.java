@@ -0,0 +1,576 @@
+package codagebits;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Codeur d'entiers "Elias-Fano" pour suites croissantes (identifiants triés, positions
+ * dans un autre tampon, horodatages).
+ * <p>
+ * Principe : chaque valeur, ramenée au minimum ({@code u = v - min}), est coupée en
+ * {@code l = floor(log2(U/n))} bits bas et une partie haute {@code u >>> l}, où {@code U}
+ * est l'étendue. Les bits bas sont bit-packés en flux continu ; les parties hautes forment
+ * un vecteur de bits unaire : l'élément {@code i} pose le bit {@code (u_i >>> l) + i}. Le
+ * tout tient sur environ {@code 2 + log2(U/n)} bits par valeur, quelle que soit l'étendue.
+ * </p>
+ * <p>
+ * Index de sélection : la position du 1 de chaque {@value #PAS}-ième élément et celle du
+ * 0 de chaque {@value #PAS}-ième seau sont échantillonnées après l'en-tête.
+ * {@link Tableau#acceder(int)} part de l'échantillon de 1 ; si un échantillon de 0 tombe
+ * avant la cible (long écart entre valeurs), il saute au dernier tel échantillon
+ * (dichotomie), puis compte les bits par mots ({@link Integer#bitCount(int)}) : moins de
+ * {@value #PAS} bits de chaque valeur restent à parcourir, quel que soit l'écart.
+ * {@link Tableau#suivantGE(int)} localise le seau de la valeur par le 0 échantillonné,
+ * puis cherche par dichotomie dans les bits bas du seau.
+ * </p>
+ * <p>
+ * Le tableau d'entrée doit être croissant au sens large ; le tampon porte toujours le bit
+ * {@link OutilsBits#TRIE}. État : les données d'un tableau compressé vivent dans un
+ * {@link Tableau} immuable ; le codeur ne garde que le dernier tableau traité pour l'API
+ * historique.
+ * </p>
+ */
+public class CodeurEliasFano implements CodeurBits {
+
+    // En-tête : [0]=n, [1]=l, [2]=flags(8|TRIE), [3]=min, [4]=maxHaut ;
+    // puis échantillons des 1, échantillons des 0, bits bas, bits hauts
+    static final int ENTETE = 5;
+    private static final int FLAG = 8;
+    /** Intervalle d'échantillonnage de l'index de sélection (éléments ou seaux). */
+    static final int PAS = 128;
+    /**
+     * Bits de l'autre valeur au-delà desquels la sélection consulte les échantillons de
+     * l'autre valeur plutôt que de parcourir l'intervalle (en régime normal, environ un 0
+     * par 1 : l'intervalle en compte de {@code PAS} à {@code 2*PAS}).
+     */
+    private static final int SAUT = 4 * PAS;
+
+    /** Dernier tableau compressé ou décompressé (API historique). */
+    private volatile Tableau courant;
+
+    // ---------------- API ----------------
+
+    /**
+     * Compresse un tableau croissant en Elias-Fano.
+     * <p>
+     * Étapes : validation (monotonie) → {@code l} et nombre de seaux → allocation + en-tête
+     * → bits bas par groupes, bits hauts et échantillons en une passe.
+     * </p>
+     *
+     * @param tableau tableau d'entrée, croissant au sens large
+     * @return tampon compressé
+     * @throws IllegalArgumentException si {@code tableau} est {@code null} ou non croissant
+     */
+    @Override
+    public int[] compresser(int[] tableau) {
+        Tableau t = encoder(tableau);
+        courant = t;
+        return t.tampon;
+    }
+
+    /**
+     * Décompresse un tampon produit par {@link #compresser(int[])}.
+     *
+     * @param compresse tampon compressé
+     * @return tableau d'origine
+     * @throws IllegalArgumentException si le tampon est nul ou trop court
+     */
+    @Override
+    public int[] decompresser(int[] compresse) {
+        validerTampon(compresse);
+        Tableau t = new Tableau(compresse);
+        courant = t;
+        return t.decompresser();
+    }
+
+    /**
+     * Accède à l'élément {@code index} du dernier tableau traité.
+     *
+     * @param index position logique (0 ≤ index &lt; n)
+     * @return valeur d'origine
+     * @throws IndexOutOfBoundsException si l'index est hors bornes
+     * @see Tableau#acceder(int)
+     */
+    @Override
+    public int acceder(int index) {
+        return dernier().acceder(index);
+    }
+
+    /**
+     * Décode une plage du dernier tableau traité.
+     *
+     * @param debut  premier index logique (inclus)
+     * @param fin    dernier index logique (exclu)
+     * @param dst    tableau de destination
+     * @param dstOff position d'écriture dans {@code dst}
+     * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+     * @see Tableau#accederPlage(int, int, int[], int)
+     */
+    @Override
+    public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+        dernier().accederPlage(debut, fin, dst, dstOff);
+    }
+
+    /**
+     * Index du premier élément du dernier tableau traité supérieur ou égal à {@code valeur}.
+     *
+     * @param valeur valeur cherchée
+     * @return index dans {@code [0, n]} ; {@code n} si tous les éléments sont inférieurs
+     * @throws IndexOutOfBoundsException si rien n'a encore été compressé ni décompressé
+     * @see Tableau#suivantGE(int)
+     */
+    public int suivantGE(int valeur) {
+        return dernier().suivantGE(valeur);
+    }
+
+    /**
+     * Compresse sans toucher à l'état du codeur.
+     *
+     * @param tableau tableau d'entrée, croissant au sens large
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si {@code tableau} est {@code null} ou non croissant
+     */
+    @Override
+    public TableauCompresse compresserTableau(int[] tableau) {
+        return encoder(tableau);
+    }
+
+    /**
+     * Ouvre une copie d'un tampon compressé sans toucher à l'état du codeur.
+     *
+     * @param compresse tampon compressé
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si le tampon est nul ou trop court
+     */
+    @Override
+    public TableauCompresse ouvrir(int[] compresse) {
+        validerTampon(compresse);
+        return new Tableau(compresse.clone());
+    }
+
+    /**
+     * {@link #ouvrir(int[])} sans copie : {@code tampon} est adopté, l'appelant ne le modifie plus.
+     *
+     * @param tampon tampon compressé
+     * @return tableau compressé adoptant {@code tampon}
+     * @throws IllegalArgumentException si le tampon est invalide
+     */
+    static TableauCompresse adopter(int[] tampon) {
+        validerTampon(tampon);
+        return new Tableau(tampon);
+    }
+
+    // ---------------- tableau compressé ----------------
+
+    /**
+     * Tableau compressé Elias-Fano : tampon et en-tête lu, tous immuables.
+     */
+    static final class Tableau implements TableauCompresse, TamponPartage {
+
+        /** Tampon compressé (en-tête, échantillons, bits bas, bits hauts), jamais modifié. */
+        final int[] tampon;
+        /** Taille logique. */
+        final int n;
+        /** Bits bas par valeur (0 à 31). */
+        final int l;
+        /** Plus petite valeur (référence de {@code u}). */
+        final int min;
+        /** Partie haute de la plus grande valeur : les seaux vont de 0 à {@code maxHaut}. */
+        final int maxHaut;
+        /** Index des échantillons de 0, des bits bas et des bits hauts. */
+        private final int baseZeros, baseBas, baseHauts;
+
+        /**
+         * Lit l'en-tête d'un tampon (adopté tel quel, sans copie).
+         *
+         * @param tampon tampon compressé valide
+         */
+        Tableau(int[] tampon) {
+            this.tampon = tampon;
+            this.n = tampon[0];
+            this.l = tampon[1];
+            this.min = tampon[3];
+            this.maxHaut = tampon[4];
+            this.baseZeros = ENTETE + echantillons(n);
+            this.baseBas = baseZeros + echantillons(maxHaut);
+            this.baseHauts = baseBas + dataInts(n, l);
+        }
+
+        @Override
+        public int taille() {
+            return n;
+        }
+
+        @Override
+        public int[] tampon() {
+            return tampon.clone();
+        }
+
+        @Override
+        public int[] tamponPartage() {
+            return tampon;
+        }
+
+        @Override
+        public boolean estTrie() {
+            return true;
+        }
+
+        /**
+         * Accède à l'élément {@code index} : position de son 1 dans les bits hauts (depuis
+         * l'échantillon le plus proche), puis lecture des {@code l} bits bas.
+         *
+         * @param index position logique (0 ≤ index &lt; n)
+         * @return valeur d'origine
+         * @throws IndexOutOfBoundsException si l'index est hors bornes
+         */
+        @Override
+        public int acceder(int index) {
+            if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
+            long haut = selectionnerUn(index) - index;
+            return valeur(haut, bas(index));
+        }
+
+        /**
+         * Décode la plage {@code [debut, fin[} directement dans {@code dst}, sans allocation.
+         * <p>
+         * Les bits bas sont dépaquetés dans {@code dst} (groupes alignés via le noyau de
+         * largeur {@code l}, tête et queue en flux) ; les bits hauts sont ensuite parcourus
+         * mot par mot à partir du 1 de {@code debut}.
+         * </p>
+         *
+         * @param debut  premier index logique (inclus)
+         * @param fin    dernier index logique (exclu)
+         * @param dst    tableau de destination
+         * @param dstOff position d'écriture dans {@code dst}
+         * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+         */
+        @Override
+        public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+            Objects.checkFromToIndex(debut, fin, n);
+            Objects.checkFromIndexSize(dstOff, fin - debut, dst.length);
+            if (debut == fin) return;
+            if (l > 0) lireBas(debut, fin, dst, dstOff);
+            else Arrays.fill(dst, dstOff, dstOff + (fin - debut), 0);
+
+            long pos = selectionnerUn(debut);
+            int mot = (int) (pos >>> 5);
+            int x = tampon[baseHauts + mot] & (-1 << (pos & 31));
+            for (int i = debut, d = dstOff; i < fin; i++, d++) {
+                while (x == 0) x = tampon[baseHauts + ++mot];
+                long p = ((long) mot << 5) + Integer.numberOfTrailingZeros(x);
+                x &= x - 1;
+                dst[d] = valeur(p - i, dst[d]);
+            }
+        }
+
+        /**
+         * Index du premier élément supérieur ou égal à {@code valeur} (successeur).
+         * <p>
+         * Le seau {@code h = (valeur - min) >>> l} est délimité par les 0 n° {@code h-1} et
+         * {@code h} des bits hauts (index de sélection) ; les éléments du seau ont des bits
+         * bas croissants, parcourus par dichotomie.
+         * </p>
+         *
+         * @param valeur valeur cherchée
+         * @return index dans {@code [0, n]} ; {@code n} si tous les éléments sont inférieurs
+         */
+        public int suivantGE(int valeur) {
+            long u = (long) valeur - min;
+            if (n == 0 || u <= 0) return 0;
+            long h = u >>> l;
+            if (h > maxHaut) return n;
+            int lo = (h == 0) ? 0 : (int) (selectionnerZero(h - 1) - (h - 1));
+            int hi = (h == maxHaut) ? n : (int) (selectionnerZero(h) - h);
+            int cible = (int) (u & OutilsBits.masque(l));
+            while (lo < hi) {
+                int m = (lo + hi) >>> 1;
+                if (bas(m) < cible) lo = m + 1;
+                else hi = m;
+            }
+            return lo;
+        }
+
+        /**
+         * Recherche binaire par seaux : identique à {@link #suivantGE(int)}.
+         *
+         * @param valeur valeur cherchée
+         * @return index du premier élément {@code >= valeur}, ou {@code n}
+         */
+        @Override
+        public int borneInferieure(int valeur) {
+            return suivantGE(valeur);
+        }
+
+        // ---------------- sélection ----------------
+
+        /**
+         * Position du 1 de l'élément {@code j} dans les bits hauts.
+         *
+         * @param j index d'élément (0 ≤ j &lt; n)
+         * @return position de bit relative au début des bits hauts
+         */
+        private long selectionnerUn(int j) {
+            return selectionner(j, ENTETE, echantillons(n), baseZeros, echantillons(maxHaut), false);
+        }
+
+        /**
+         * Position du 0 qui ferme le seau {@code b} dans les bits hauts.
+         *
+         * @param b seau (0 ≤ b &lt; maxHaut)
+         * @return position de bit relative au début des bits hauts
+         */
+        private long selectionnerZero(long b) {
+            return selectionner((int) b, baseZeros, echantillons(maxHaut), ENTETE, echantillons(n), true);
+        }
+
+        /**
+         * Position du {@code j}-ième bit d'une valeur donnée (0 ou 1) dans les bits hauts.
+         * <p>
+         * Départ : l'échantillon de même valeur {@code s = j / PAS}, avant lequel se trouvent
+         * {@code p - s*PAS} bits de l'autre valeur. Si l'échantillon suivant (voisin en
+         * mémoire) montre plus de {@link #SAUT} bits de l'autre valeur dans l'intervalle, les
+         * échantillons de l'autre valeur qui y tombent sont consultés : l'échantillon {@code t}
+         * (position {@code q}) précède la cible si {@code q - t*PAS ≤ j}, et la recherche saute
+         * au dernier qui la précède (dichotomie). Il reste au plus {@link #SAUT} bits de
+         * l'autre valeur et moins de {@value #PAS} de la valeur cherchée à parcourir.
+         * </p>
+         *
+         * @param j          rang du bit cherché parmi ceux de sa valeur
+         * @param baseMemes  index des échantillons de même valeur
+         * @param nbMemes    nombre d'échantillons de même valeur
+         * @param baseAutres index des échantillons de l'autre valeur
+         * @param nbAutres   nombre d'échantillons de l'autre valeur
+         * @param zeros      {@code true} pour chercher un 0, {@code false} pour un 1
+         * @return position de bit relative au début des bits hauts
+         */
+        private long selectionner(int j, int baseMemes, int nbMemes, int baseAutres, int nbAutres, boolean zeros) {
+            int s = j / PAS;
+            long p = Integer.toUnsignedLong(tampon[baseMemes + s]);
+            long autres = p - (long) s * PAS;
+            // bits de l'autre valeur jusqu'à l'échantillon suivant (dernier intervalle : non borné)
+            long ecart = (s + 1 < nbMemes)
+                    ? Integer.toUnsignedLong(tampon[baseMemes + s + 1]) - (long) (s + 1) * PAS - autres
+                    : Long.MAX_VALUE;
+            // échantillons de l'autre valeur situés dans l'intervalle
+            long lo = (autres + PAS - 1) / PAS;
+            if (ecart > SAUT && lo < nbAutres && avant(baseAutres, (int) lo, j)) {
+                int bas = (int) lo, haut = (int) Math.min(nbAutres - 1, (autres + Math.min(ecart, Integer.MAX_VALUE)) / PAS);
+                while (bas < haut) {
+                    int m = (bas + haut + 1) >>> 1;
+                    if (avant(baseAutres, m, j)) bas = m;
+                    else haut = m - 1;
+                }
+                long q = Integer.toUnsignedLong(tampon[baseAutres + bas]);
+                return suivant(q, (int) (j - (q - (long) bas * PAS)) + 1, zeros);
+            }
+            return suivant(p, j - s * PAS, zeros);
+        }
+
+        /**
+         * Vrai si l'échantillon {@code t} de l'autre valeur précède le {@code j}-ième bit cherché
+         * (au plus {@code j} bits de la valeur cherchée avant lui).
+         *
+         * @param baseAutres index des échantillons de l'autre valeur
+         * @param t          index d'échantillon
+         * @param j          rang du bit cherché
+         * @return {@code q - t*PAS ≤ j}
+         */
+        private boolean avant(int baseAutres, int t, int j) {
+            return Integer.toUnsignedLong(tampon[baseAutres + t]) - (long) t * PAS <= j;
+        }
+
+        /**
+         * Avance de {@code r} bits d'une valeur donnée strictement après la position {@code p}
+         * (comptage par mots, sélection dans le dernier mot par {@link Integer#expand(int, int)}).
+         *
+         * @param p     position de départ (renvoyée telle quelle si {@code r = 0})
+         * @param r     nombre de bits à sauter ({@code r ≤ PAS})
+         * @param zeros {@code true} pour compter les 0, {@code false} pour les 1
+         * @return position du {@code r}-ième bit suivant
+         */
+        private long suivant(long p, int r, boolean zeros) {
+            if (r == 0) return p;
+            int mot = (int) (p >>> 5);
+            int inv = zeros ? -1 : 0;
+            // bits strictement après p dans son mot
+            int x = (tampon[baseHauts + mot] ^ inv) & ~((2 << (p & 31)) - 1);
+            for (int c; (c = Integer.bitCount(x)) < r; r -= c) {
+                x = tampon[baseHauts + ++mot] ^ inv;
+            }
+            // r-ième bit posé de x : dépôt de 1 << (r-1) sur les bits de x
+            return ((long) mot << 5) + Integer.numberOfTrailingZeros(Integer.expand(1 << (r - 1), x));
+        }
+
+        // ---------------- bits bas ----------------
+
+        /**
+         * Bits bas de l'élément {@code i}.
+         *
+         * @param i index d'élément
+         * @return {@code u_i & masque(l)}
+         */
+        private int bas(int i) {
+            return (l == 0) ? 0 : OutilsBits.lireBits(tampon, ((long) baseBas << 5) + (long) i * l, l);
+        }
+
+        /**
+         * Recompose une valeur d'origine.
+         *
+         * @param haut partie haute
+         * @param bas  bits bas
+         * @return {@code min + (haut << l | bas)}
+         */
+        private int valeur(long haut, int bas) {
+            return (int) (min + ((haut << l) | bas));
+        }
+
+        /**
+         * Dépaquette les bits bas {@code [debut, fin[} (tête et queue en flux, groupes
+         * alignés via le noyau de largeur {@code l}, {@code l > 0}).
+         *
+         * @param debut  premier index (inclus)
+         * @param fin    dernier index (exclu)
+         * @param out    destination
+         * @param outOff position d'écriture
+         */
+        private void lireBas(int debut, int fin, int[] out, int outOff) {
+            int i = debut, d = outOff;
+            int tete = Math.min(fin, debut + (-debut & (NoyauxBits.GROUPE - 1)));
+            for (; i < tete; i++) out[d++] = bas(i);
+            NoyauxBits.Noyau noyau = NoyauxBits.pour(l);
+            for (; fin - i >= NoyauxBits.GROUPE; i += NoyauxBits.GROUPE, d += NoyauxBits.GROUPE) {
+                noyau.depaqueter(tampon, baseBas + (i / NoyauxBits.GROUPE) * l, out, d, 0);
+            }
+            for (; i < fin; i++) out[d++] = bas(i);
+        }
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Compresse {@code tableau} dans un nouveau tampon (aucun état partagé).
+     *
+     * @param tableau tableau d'entrée, croissant au sens large
+     * @return tableau compressé adoptant le nouveau tampon
+     */
+    static Tableau encoder(int[] tableau) {
+        if (tableau == null) throw new IllegalArgumentException("tableau null");
+        if (!OutilsBits.estTrie(tableau)) throw new IllegalArgumentException("tableau non croissant");
+        int n = tableau.length;
+
+        int min = (n == 0) ? 0 : tableau[0];
+        long etendue = (n == 0) ? 0 : (long) tableau[n - 1] - min;
+        int l = largeurBasse(n, etendue);
+        int maxHaut = (int) (etendue >>> l);
+
+        int baseZeros = ENTETE + echantillons(n);
+        int baseBas = baseZeros + echantillons(maxHaut);
+        int baseHauts = baseBas + dataInts(n, l);
+        int[] tampon = new int[taille(n, etendue)];
+        tampon[0] = n;
+        tampon[1] = l;
+        tampon[2] = FLAG | OutilsBits.TRIE;
+        tampon[3] = min;
+        tampon[4] = maxHaut;
+
+        // bits bas par groupes, puis la queue valeur par valeur
+        int masque = OutilsBits.masque(l);
+        int i = 0;
+        if (l > 0) {
+            NoyauxBits.Noyau noyau = NoyauxBits.pour(l);
+            int[] lot = new int[NoyauxBits.GROUPE];
+            for (int mot = baseBas; n - i >= NoyauxBits.GROUPE; i += NoyauxBits.GROUPE, mot += l) {
+                for (int j = 0; j < NoyauxBits.GROUPE; j++) lot[j] = (tableau[i + j] - min) & masque;
+                noyau.empaqueter(lot, 0, 0, tampon, mot);
+            }
+            for (long bitPos = ((long) baseBas << 5) + (long) i * l; i < n; i++, bitPos += l) {
+                OutilsBits.ecrireBits(tampon, bitPos, l, (tableau[i] - min) & masque);
+            }
+        }
+
+        // bits hauts (un 1 par élément, un 0 par fin de seau) et échantillons
+        long b = 0;
+        for (i = 0; i < n; i++) {
+            long haut = ((long) tableau[i] - min) >>> l;
+            for (; b < haut; b++) {
+                if (b % PAS == 0) tampon[baseZeros + (int) (b / PAS)] = (int) (b + i);
+            }
+            long pos = haut + i;
+            tampon[baseHauts + (int) (pos >>> 5)] |= 1 << (pos & 31);
+            if (i % PAS == 0) tampon[ENTETE + i / PAS] = (int) pos;
+        }
+        for (; b < maxHaut; b++) {
+            if (b % PAS == 0) tampon[baseZeros + (int) (b / PAS)] = (int) (b + n);
+        }
+        return new Tableau(tampon);
+    }
+
+    /**
+     * Taille exacte du tampon compressé.
+     *
+     * @param n       nombre de valeurs
+     * @param etendue {@code max - min} (0 si vide)
+     * @return nombre d'ints (en-tête et index de sélection compris)
+     */
+    static int taille(int n, long etendue) {
+        int l = largeurBasse(n, etendue);
+        int maxHaut = (int) (etendue >>> l);
+        long bitsHauts = (long) n + maxHaut + 1;
+        return (int) (ENTETE + echantillons(n) + echantillons(maxHaut) + dataInts(n, l) + ((bitsHauts + 31) >>> 5));
+    }
+
+    /**
+     * Nombre de bits bas : {@code floor(log2(etendue / n))}, 0 si le quotient est nul.
+     *
+     * @param n       nombre de valeurs
+     * @param etendue {@code max - min}
+     * @return {@code l} dans {@code [0, 31]}
+     */
+    private static int largeurBasse(int n, long etendue) {
+        long quotient = (n == 0) ? 0 : etendue / n;
+        return (quotient == 0) ? 0 : 63 - Long.numberOfLeadingZeros(quotient);
+    }
+
+    /**
+     * Nombre d'échantillons pour {@code nb} éléments ou seaux.
+     *
+     * @param nb nombre d'éléments (ou de seaux)
+     * @return {@code ceil(nb / PAS)}
+     */
+    private static int echantillons(int nb) {
+        return (nb + PAS - 1) / PAS;
+    }
+
+    /**
+     * Nombre d'ints d'un flux de {@code nb} champs de {@code k} bits.
+     *
+     * @param nb nombre de champs
+     * @param k  bits par champ
+     * @return {@code ceil(nb*k/32)}
+     */
+    private static int dataInts(int nb, int k) {
+        return (int) (((long) nb * k + 31) >>> 5);
+    }
+
+    /**
+     * Renvoie le dernier tableau traité par l'API historique.
+     *
+     * @return tableau courant
+     * @throws IndexOutOfBoundsException si rien n'a encore été compressé ni décompressé
+     */
+    private Tableau dernier() {
+        Tableau t = courant;
+        if (t == null) throw new IndexOutOfBoundsException();
+        return t;
+    }
+
+    /**
+     * Vérifie que le tampon compressé est valable (taille en-tête).
+     *
+     * @param t tampon
+     */
+    private static void validerTampon(int[] t) {
+        if (t == null || t.length < ENTETE) throw new IllegalArgumentException("tampon invalide");
+    }
+}
@@ -0,0 +1,203 @@
+package codagebits;
+
+import java.util.Objects;
+
+/**
+ * Décorateur de mesure : délègue chaque appel au codeur cible et, selon ce qui est actif,
+ * alimente {@link MetriquesCodage} et émet un {@link EvenementCodage} JFR.
+ * <p>
+ * Les informations de l'événement (n, k ou kBase, nombre de débordements, tailles) sont lues
+ * dans l'en-tête du tampon compressé, celui d'un {@link TableauCompresse} sans copie
+ * ({@link TamponPartage}) : aucun codeur n'a besoin d'être modifié. {@link #ouvrir(int[])}
+ * compte comme une décompression. Métriques et
+ * JFR désactivés, le surcoût se limite à une lecture de drapeau et à un appel virtuel.
+ * </p>
+ */
+final class CodeurInstrumente implements CodeurBits {
+
+    private final String mode;
+    private final CodeurBits cible;
+    private final MetriquesCodage.Statistiques stats;
+
+    /**
+     * Instrumente un codeur.
+     *
+     * @param mode  nom sous lequel les mesures sont rangées
+     * @param cible codeur mesuré
+     */
+    CodeurInstrumente(String mode, CodeurBits cible) {
+        this.mode = Objects.requireNonNull(mode, "mode");
+        this.cible = Objects.requireNonNull(cible, "cible");
+        this.stats = MetriquesCodage.statistiques(mode);
+    }
+
+    @Override
+    public int[] compresser(int[] tableau) {
+        EvenementCodage ev = new EvenementCodage();
+        boolean mesure = MetriquesCodage.estActif();
+        long t0 = mesure ? System.nanoTime() : 0L;
+        ev.begin();
+        int[] r = cible.compresser(tableau);
+        ev.end();
+        if (mesure) {
+            stats.compression(tableau.length, largeur(r), nbOverflow(r), r.length, System.nanoTime() - t0);
+        }
+        if (ev.shouldCommit()) {
+            renseigner(ev, "compresser", tableau.length, r);
+            ev.commit();
+        }
+        return r;
+    }
+
+    @Override
+    public int[] decompresser(int[] compresse) {
+        EvenementCodage ev = new EvenementCodage();
+        boolean mesure = MetriquesCodage.estActif();
+        long t0 = mesure ? System.nanoTime() : 0L;
+        ev.begin();
+        int[] r = cible.decompresser(compresse);
+        ev.end();
+        if (mesure) stats.decompression(System.nanoTime() - t0);
+        if (ev.shouldCommit()) {
+            renseigner(ev, "decompresser", r.length, compresse);
+            ev.commit();
+        }
+        return r;
+    }
+
+    @Override
+    public int tailleCompressee(int[] tableau) {
+        return cible.tailleCompressee(tableau);
+    }
+
+    @Override
+    public int compresser(int[] tableau, int[] dst) {
+        EvenementCodage ev = new EvenementCodage();
+        boolean mesure = MetriquesCodage.estActif();
+        long t0 = mesure ? System.nanoTime() : 0L;
+        ev.begin();
+        int taille = cible.compresser(tableau, dst);
+        ev.end();
+        if (mesure) {
+            stats.compression(tableau.length, largeur(dst), nbOverflow(dst), taille, System.nanoTime() - t0);
+        }
+        if (ev.shouldCommit()) {
+            renseigner(ev, "compresser", tableau.length, dst);
+            ev.octetsSortie = 4L * taille;
+            ev.commit();
+        }
+        return taille;
+    }
+
+    @Override
+    public int decompresser(int[] compresse, int[] dst, int dstOff) {
+        EvenementCodage ev = new EvenementCodage();
+        boolean mesure = MetriquesCodage.estActif();
+        long t0 = mesure ? System.nanoTime() : 0L;
+        ev.begin();
+        int n = cible.decompresser(compresse, dst, dstOff);
+        ev.end();
+        if (mesure) stats.decompression(System.nanoTime() - t0);
+        if (ev.shouldCommit()) {
+            renseigner(ev, "decompresser", n, compresse);
+            ev.commit();
+        }
+        return n;
+    }
+
+    @Override
+    public int acceder(int index) {
+        int v = cible.acceder(index);
+        if (MetriquesCodage.estActif()) stats.acces.increment();
+        return v;
+    }
+
+    @Override
+    public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+        cible.accederPlage(debut, fin, dst, dstOff);
+        if (MetriquesCodage.estActif()) stats.acces.add(fin - debut);
+    }
+
+    @Override
+    public TableauCompresse compresserTableau(int[] tableau) {
+        EvenementCodage ev = new EvenementCodage();
+        boolean mesure = MetriquesCodage.estActif();
+        long t0 = mesure ? System.nanoTime() : 0L;
+        ev.begin();
+        TableauCompresse r = cible.compresserTableau(tableau);
+        ev.end();
+        if (mesure) {
+            long ns = System.nanoTime() - t0;
+            int[] t = TamponPartage.de(r);
+            stats.compression(tableau.length, largeur(t), nbOverflow(t), t.length, ns);
+        }
+        if (ev.shouldCommit()) {
+            renseigner(ev, "compresser", tableau.length, TamponPartage.de(r));
+            ev.commit();
+        }
+        return r;
+    }
+
+    @Override
+    public TableauCompresse ouvrir(int[] compresse) {
+        EvenementCodage ev = new EvenementCodage();
+        boolean mesure = MetriquesCodage.estActif();
+        long t0 = mesure ? System.nanoTime() : 0L;
+        ev.begin();
+        TableauCompresse r = cible.ouvrir(compresse);
+        ev.end();
+        if (mesure) stats.decompression(System.nanoTime() - t0);
+        if (ev.shouldCommit()) {
+            renseigner(ev, "ouvrir", r.taille(), compresse);
+            ev.commit();
+        }
+        return r;
+    }
+
+    @Override
+    public String toString() {
+        return "CodeurInstrumente[" + mode + "]";
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Remplit les champs de l'événement à partir de l'en-tête.
+     *
+     * @param ev        événement à remplir
+     * @param operation nom de l'opération
+     * @param n         nombre de valeurs
+     * @param tampon    tampon compressé
+     */
+    private void renseigner(EvenementCodage ev, String operation, int n, int[] tampon) {
+        ev.operation = operation;
+        ev.mode = mode;
+        ev.n = n;
+        ev.k = largeur(tampon);
+        ev.nbOverflow = nbOverflow(tampon);
+        ev.octetsEntree = 4L * n;
+        ev.octetsSortie = 4L * tampon.length;
+    }
+
+    /**
+     * Largeur lue dans l'en-tête : k, ou kBase en mode débordement ; 0 pour les blocs
+     * (largeur propre à chaque bloc).
+     *
+     * @param tampon tampon compressé
+     * @return largeur en bits, ou 0
+     */
+    private static int largeur(int[] tampon) {
+        if (tampon.length < 3 || (tampon[2] & 0xFF) == 4) return 0;
+        return tampon[1];
+    }
+
+    /**
+     * Nombre de valeurs en débordement (mode débordement uniquement).
+     *
+     * @param tampon tampon compressé
+     * @return nombre de débordements, 0 pour les autres modes
+     */
+    private static int nbOverflow(int[] tampon) {
+        return (tampon.length >= 4 && (tampon[2] & 0xFF) == 2) ? tampon[3] : 0;
+    }
+}
@@ -0,0 +1,400 @@
+package codagebits;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Codeur d'entiers "Plages" (run-length) pour tableaux formés de longues suites de
+ * valeurs identiques (états, drapeaux, codes de statut).
+ * <p>
+ * Principe : le tableau est découpé en plages maximales de valeurs égales. Deux flux
+ * continus sont bit-packés après l'en-tête : la valeur de chaque plage (offset appliqué,
+ * {@code k} bits) puis la fin cumulée de chaque plage (index exclu, {@code kFin} bits).
+ * La taille dépend du nombre de plages et non plus de {@code n}.
+ * </p>
+ * <p>
+ * {@link #acceder(int)} cherche par dichotomie la première fin strictement supérieure à
+ * l'index (O(log plages) lectures de {@code kFin} bits), puis lit la valeur de la plage ;
+ * la décompression remplit chaque plage d'un seul {@link Arrays#fill(int[], int, int, int)}.
+ * </p>
+ * <p>
+ * État : les données d'un tableau compressé vivent dans un {@link Tableau} immuable ;
+ * le codeur ne garde que le dernier tableau traité pour l'API historique.
+ * </p>
+ */
+public class CodeurPlages implements CodeurBits {
+
+    // En-tête : [0]=n, [1]=k, [2]=flags(7), [3]=nbPlages, [4]=kFin, [5]=offset ; puis valeurs ; puis fins
+    static final int ENTETE = 6;
+    private static final int FLAG = 7;
+
+    /** Dernier tableau compressé ou décompressé (API historique). */
+    private volatile Tableau courant;
+
+    // ---------------- API ----------------
+
+    /**
+     * Compresse un tableau en plages (valeur + fin cumulée) bit-packées.
+     * <p>
+     * Étapes : validation → min/max et nombre de plages en une passe → {@code k}, {@code kFin}
+     * → allocation + en-tête → empaquetage des valeurs et des fins par groupes.
+     * </p>
+     *
+     * @param tableau tableau d'entrée
+     * @return tampon compressé
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public int[] compresser(int[] tableau) {
+        Tableau t = encoder(tableau);
+        courant = t;
+        return t.tampon;
+    }
+
+    /**
+     * Décompresse un tampon produit par {@link #compresser(int[])}.
+     *
+     * @param compresse tampon compressé
+     * @return tableau d'origine
+     * @throws IllegalArgumentException si le tampon est nul ou trop court
+     */
+    @Override
+    public int[] decompresser(int[] compresse) {
+        validerTampon(compresse);
+        Tableau t = new Tableau(compresse);
+        courant = t;
+        return t.decompresser();
+    }
+
+    /**
+     * Accède à l'élément {@code index} du dernier tableau traité.
+     *
+     * @param index position logique (0 ≤ index &lt; n)
+     * @return valeur d'origine
+     * @throws IndexOutOfBoundsException si l'index est hors bornes
+     * @see Tableau#acceder(int)
+     */
+    @Override
+    public int acceder(int index) {
+        return dernier().acceder(index);
+    }
+
+    /**
+     * Décode une plage d'index du dernier tableau traité.
+     *
+     * @param debut  premier index logique (inclus)
+     * @param fin    dernier index logique (exclu)
+     * @param dst    tableau de destination
+     * @param dstOff position d'écriture dans {@code dst}
+     * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+     * @see Tableau#accederPlage(int, int, int[], int)
+     */
+    @Override
+    public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+        dernier().accederPlage(debut, fin, dst, dstOff);
+    }
+
+    /**
+     * Compresse sans toucher à l'état du codeur.
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public TableauCompresse compresserTableau(int[] tableau) {
+        return encoder(tableau);
+    }
+
+    /**
+     * Ouvre une copie d'un tampon compressé sans toucher à l'état du codeur.
+     *
+     * @param compresse tampon compressé
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si le tampon est nul ou trop court
+     */
+    @Override
+    public TableauCompresse ouvrir(int[] compresse) {
+        validerTampon(compresse);
+        return new Tableau(compresse.clone());
+    }
+
+    /**
+     * {@link #ouvrir(int[])} sans copie : {@code tampon} est adopté, l'appelant ne le modifie plus.
+     *
+     * @param tampon tampon compressé
+     * @return tableau compressé adoptant {@code tampon}
+     * @throws IllegalArgumentException si le tampon est invalide
+     */
+    static TableauCompresse adopter(int[] tampon) {
+        validerTampon(tampon);
+        return new Tableau(tampon);
+    }
+
+    // ---------------- tableau compressé ----------------
+
+    /**
+     * Tableau compressé "plages" : tampon et en-tête lu, tous immuables.
+     */
+    static final class Tableau implements TableauCompresse, TamponPartage {
+
+        /** Tampon compressé (en-tête, valeurs, fins), jamais modifié. */
+        final int[] tampon;
+        /** Taille logique. */
+        final int n;
+        /** Bits par valeur de plage (hors offset). */
+        final int k;
+        /** Nombre de plages. */
+        final int nbPlages;
+        /** Bits par fin de plage. */
+        final int kFin;
+        /** Décalage appliqué aux valeurs. */
+        final int offset;
+        /** Premier bit du flux des valeurs et du flux des fins. */
+        private final long bitsValeurs, bitsFins;
+
+        /**
+         * Lit l'en-tête d'un tampon (adopté tel quel, sans copie).
+         *
+         * @param tampon tampon compressé valide
+         */
+        Tableau(int[] tampon) {
+            this.tampon = tampon;
+            this.n = tampon[0];
+            this.k = tampon[1];
+            this.nbPlages = tampon[3];
+            this.kFin = tampon[4];
+            this.offset = tampon[5];
+            this.bitsValeurs = (long) ENTETE << 5;
+            this.bitsFins = (long) baseFins(nbPlages, k) << 5;
+        }
+
+        @Override
+        public int taille() {
+            return n;
+        }
+
+        @Override
+        public int[] tampon() {
+            return tampon.clone();
+        }
+
+        @Override
+        public int[] tamponPartage() {
+            return tampon;
+        }
+
+        /**
+         * Décompresse l'ensemble du tableau : un remplissage par plage.
+         *
+         * @return nouveau tableau d'origine
+         */
+        @Override
+        public int[] decompresser() {
+            int[] out = new int[n];
+            remplir(0, 0, n, out, 0);
+            return out;
+        }
+
+        /**
+         * Accède à l'élément {@code index} : dichotomie sur les fins, puis valeur de la plage.
+         *
+         * @param index position logique (0 ≤ index &lt; n)
+         * @return valeur d'origine
+         * @throws IndexOutOfBoundsException si l'index est hors bornes
+         */
+        @Override
+        public int acceder(int index) {
+            if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
+            return valeurPlage(plage(index));
+        }
+
+        /**
+         * Décode la plage d'index {@code [debut, fin[} directement dans {@code dst}, sans allocation :
+         * une dichotomie pour la première plage, puis un remplissage par plage.
+         *
+         * @param debut  premier index logique (inclus)
+         * @param fin    dernier index logique (exclu)
+         * @param dst    tableau de destination
+         * @param dstOff position d'écriture dans {@code dst}
+         * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+         */
+        @Override
+        public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+            Objects.checkFromToIndex(debut, fin, n);
+            Objects.checkFromIndexSize(dstOff, fin - debut, dst.length);
+            if (debut == fin) return;
+            remplir(plage(debut), debut, fin, dst, dstOff);
+        }
+
+        /**
+         * Remplit {@code [debut, fin[} à partir de la plage {@code r} (qui contient {@code debut}).
+         *
+         * @param r      plage de départ
+         * @param debut  premier index (inclus)
+         * @param fin    dernier index (exclu)
+         * @param dst    destination
+         * @param dstOff position d'écriture de {@code debut}
+         */
+        private void remplir(int r, int debut, int fin, int[] dst, int dstOff) {
+            int decalage = dstOff - debut;
+            for (int i = debut; i < fin; r++) {
+                int bout = Math.min(fin, finPlage(r));
+                Arrays.fill(dst, i + decalage, bout + decalage, valeurPlage(r));
+                i = bout;
+            }
+        }
+
+        /**
+         * Plage qui contient {@code index} : première fin strictement supérieure.
+         *
+         * @param index position logique (0 ≤ index &lt; n)
+         * @return numéro de plage
+         */
+        private int plage(int index) {
+            int bas = 0, haut = nbPlages - 1;
+            while (bas < haut) {
+                int milieu = (bas + haut) >>> 1;
+                if (finPlage(milieu) <= index) bas = milieu + 1;
+                else haut = milieu;
+            }
+            return bas;
+        }
+
+        /**
+         * Fin (exclue) de la plage {@code r}.
+         *
+         * @param r numéro de plage
+         * @return index de fin
+         */
+        private int finPlage(int r) {
+            return OutilsBits.lireBits(tampon, bitsFins + (long) r * kFin, kFin);
+        }
+
+        /**
+         * Valeur de la plage {@code r}, offset retiré.
+         *
+         * @param r numéro de plage
+         * @return valeur d'origine
+         */
+        private int valeurPlage(int r) {
+            return OutilsBits.lireBits(tampon, bitsValeurs + (long) r * k, k) - offset;
+        }
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Compresse {@code tableau} dans un nouveau tampon (aucun état partagé).
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé adoptant le nouveau tampon
+     */
+    static Tableau encoder(int[] tableau) {
+        if (tableau == null) throw new IllegalArgumentException("tableau null");
+        int n = tableau.length;
+
+        int nbPlages = (n == 0) ? 0 : 1;
+        int min = (n == 0) ? 0 : tableau[0], max = min;
+        for (int i = 1; i < n; i++) {
+            int v = tableau[i];
+            if (v != tableau[i - 1]) {
+                nbPlages++;
+                if (v < min) min = v;
+                if (v > max) max = v;
+            }
+        }
+        long minMax = ParalleleBits.paire(min, max);
+        int offset = OutilsBits.offset(minMax);
+        int k = OutilsBits.largeur(minMax, n);
+        int kFin = OutilsBits.bitsNecessaires(n);
+
+        int baseFins = baseFins(nbPlages, k);
+        int[] tampon = new int[taille(nbPlages, k, kFin)];
+        tampon[0] = n;
+        tampon[1] = k;
+        tampon[2] = FLAG;
+        tampon[3] = nbPlages;
+        tampon[4] = kFin;
+        tampon[5] = offset;
+
+        // valeurs et fins par lots de GROUPE plages, empaquetés par les noyaux
+        NoyauxBits.Noyau noyauV = NoyauxBits.pour(k), noyauF = NoyauxBits.pour(kFin);
+        int[] valeurs = new int[NoyauxBits.GROUPE], fins = new int[NoyauxBits.GROUPE];
+        int r = 0, nbLot = 0;
+        for (int i = 0; i < n; ) {
+            int v = tableau[i];
+            int j = i + 1;
+            while (j < n && tableau[j] == v) j++;
+            valeurs[nbLot] = v;
+            fins[nbLot] = j;
+            if (++nbLot == NoyauxBits.GROUPE) {
+                noyauV.empaqueter(valeurs, 0, offset, tampon, ENTETE + (r / NoyauxBits.GROUPE) * k);
+                noyauF.empaqueter(fins, 0, 0, tampon, baseFins + (r / NoyauxBits.GROUPE) * kFin);
+                r += NoyauxBits.GROUPE;
+                nbLot = 0;
+            }
+            i = j;
+        }
+        for (int q = 0; q < nbLot; q++, r++) {
+            OutilsBits.ecrireBits(tampon, ((long) ENTETE << 5) + (long) r * k, k, valeurs[q] + offset);
+            OutilsBits.ecrireBits(tampon, ((long) baseFins << 5) + (long) r * kFin, kFin, fins[q]);
+        }
+        return new Tableau(tampon);
+    }
+
+    /**
+     * Taille exacte du tampon compressé.
+     *
+     * @param nbPlages nombre de plages
+     * @param k        bits par valeur
+     * @param kFin     bits par fin de plage
+     * @return nombre d'ints (en-tête compris)
+     */
+    static int taille(int nbPlages, int k, int kFin) {
+        return baseFins(nbPlages, k) + Math.max(1, dataInts(nbPlages, kFin));
+    }
+
+    /**
+     * Index du premier mot du flux des fins.
+     *
+     * @param nbPlages nombre de plages
+     * @param k        bits par valeur
+     * @return en-tête + mots des valeurs (au moins 1)
+     */
+    private static int baseFins(int nbPlages, int k) {
+        return ENTETE + Math.max(1, dataInts(nbPlages, k));
+    }
+
+    /**
+     * Nombre d'ints d'un flux de {@code nb} champs de {@code k} bits.
+     *
+     * @param nb nombre de champs
+     * @param k  bits par champ
+     * @return {@code ceil(nb*k/32)}
+     */
+    private static int dataInts(int nb, int k) {
+        return (int) (((long) nb * k + 31) >>> 5);
+    }
+
+    /**
+     * Renvoie le dernier tableau traité par l'API historique.
+     *
+     * @return tableau courant
+     * @throws IndexOutOfBoundsException si rien n'a encore été compressé ni décompressé
+     */
+    private Tableau dernier() {
+        Tableau t = courant;
+        if (t == null) throw new IndexOutOfBoundsException();
+        return t;
+    }
+
+    /**
+     * Vérifie que le tampon compressé est valable (taille en-tête).
+     *
+     * @param t tampon
+     */
+    private static void validerTampon(int[] t) {
+        if (t == null || t.length < ENTETE) throw new IllegalArgumentException("tampon invalide");
+    }
+}
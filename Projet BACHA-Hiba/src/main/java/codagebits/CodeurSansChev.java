@@ -1,242 +1,565 @@
-package codagebits;
-
-/**
- * Codeur d'entiers "Sans Chevauchement".
- * <p>
- * Principe : chaque valeur est encodée sur {@code k} bits sans franchir les frontières
- * de mot (32 bits). On range {@code floor(32/k)} valeurs par int. Quelques bits
- * peuvent être perdus en fin de bloc.
- * </p>
- * <p>
- * Gestion des négatifs : un {@code offset = -min} est appliqué à la compression
- * puis retiré à la décompression et à l'accès direct.
- * </p>
- */
-public class CodeurSansChev implements CodeurBits {
-
-    /** Tampon compressé (inclut l'en-tête). */
-    private int[] tampon;
-    /** Taille logique du tableau source. */
-    private int n;
-    /** Nombre de bits par valeur (hors offset). */
-    private int k;
-    /** Décalage appliqué pour gérer les valeurs négatives. */
-    private int offset;
-
-    // En-tête : [0]=n, [1]=k, [2]=flags(0), [3]=offset
-    private static final int ENTETE = 4;
-    private static final int FLAG = 0;
-
-    // ---------------- API ----------------
-
-    /**
-     * Compresse un tableau d'entiers en mode "sans chevauchement".
-     * <p>
-     * Étapes : validation → calcul offset → application offset → calcul de k →
-     * allocation du tampon + écriture en-tête → empaquetage bloc par bloc.
-     * </p>
-     *
-     * @param tableau tableau d'entrée (peut contenir des négatifs)
-     * @return tampon compressé incluant l'en-tête
-     * @throws IllegalArgumentException si {@code tableau} est {@code null}
-     */
-    @Override
-    public int[] compresser(int[] tableau) {
-        validerEntree(tableau);
-        this.n = tableau.length;
-
-        this.offset = calculerOffset(tableau);
-        int[] pos = appliquerOffset(tableau, offset);
-
-        int maxPos = max(pos);
-        this.k = OutilsBits.bitsNecessaires(maxPos);
-
-        int parMot = Math.max(1, 32 / Math.max(1, k));
-        int nbMots = (n + parMot - 1) / parMot;
-
-        allouerTampon(nbMots);
-        ecrireEntete();
-
-        packerSansChevauchement(pos, parMot);
-        return tampon;
-    }
-
-    /**
-     * Décompresse un tampon produit par {@link #compresser(int[])}.
-     * <p>
-     * Étapes : validation → lecture de l'en-tête → dépaquetage bloc par bloc →
-     * retrait de l'offset.
-     * </p>
-     *
-     * @param compresse tampon compressé (avec en-tête)
-     * @return tableau d'entiers d'origine
-     * @throws IllegalArgumentException si le tampon est nul ou trop court
-     */
-    @Override
-    public int[] decompresser(int[] compresse) {
-        validerTampon(compresse);
-        lireEntete(compresse);
-
-        int[] pos = unpackSansChevauchement();
-        retirerOffsetInPlace(pos, offset);
-        return pos;
-    }
-
-    /**
-     * Accède directement à l'élément {@code index} sans décompresser tout le tableau.
-     * <p>
-     * Calcule le bloc ({@code index/parMot}), le décalage interne, lit {@code k} bits,
-     * puis retire l'offset.
-     * </p>
-     *
-     * @param index position logique demandée (0 ≤ index &lt; n)
-     * @return valeur d'origine à l'index
-     * @throws IndexOutOfBoundsException si {@code index} est hors limites
-     */
-    @Override
-    public int acceder(int index) {
-        if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
-        int parMot = Math.max(1, 32 / Math.max(1, k));
-        int bloc = index / parMot;
-        int pos = index % parMot;
-        int acc = tampon[ENTETE + bloc];
-        acc >>>= (pos * k);
-        int valPos = acc & OutilsBits.masque(k);
-        return valPos - offset;
-    }
-
-    // ------------- helpers (lisibilité) -------------
-
-    /**
-     * Valide un tableau d'entrée.
-     *
-     * @param t tableau à vérifier
-     * @throws IllegalArgumentException si {@code t} est {@code null}
-     */
-    private static void validerEntree(int[] t) {
-        if (t == null) throw new IllegalArgumentException("tableau null");
-    }
-
-    /**
-     * Valide le tampon compressé.
-     *
-     * @param t tampon à vérifier
-     * @throws IllegalArgumentException si {@code t} est {@code null} ou trop court
-     */
-    private static void validerTampon(int[] t) {
-        if (t == null || t.length < ENTETE) throw new IllegalArgumentException("tampon invalide");
-    }
-
-    /**
-     * Calcule l'offset nécessaire pour rendre le tableau non négatif.
-     *
-     * @param t tableau source
-     * @return {@code -min(t)} si un élément est négatif, sinon 0
-     */
-    private static int calculerOffset(int[] t) {
-        int min = Integer.MAX_VALUE;
-        for (int v : t) if (v < min) min = v;
-        return (min < 0) ? -min : 0;
-    }
-
-    /**
-     * Applique l'offset en retournant une copie positive du tableau.
-     *
-     * @param t      tableau source
-     * @param offset décalage à ajouter
-     * @return copie positive
-     */
-    private static int[] appliquerOffset(int[] t, int offset) {
-        int[] r = new int[t.length];
-        for (int i = 0; i < t.length; i++) r[i] = t[i] + offset;
-        return r;
-    }
-
-    /**
-     * Retire l'offset en place.
-     *
-     * @param t      tableau transformé
-     * @param offset décalage à retirer
-     */
-    private static void retirerOffsetInPlace(int[] t, int offset) {
-        for (int i = 0; i < t.length; i++) t[i] -= offset;
-    }
-
-    /**
-     * Retourne le maximum d'un tableau (ou 0 si vide).
-     *
-     * @param t tableau
-     * @return max
-     */
-    private static int max(int[] t) {
-        int m = 0;
-        for (int v : t) if (v > m) m = v;
-        return m;
-    }
-
-    /**
-     * Alloue le tampon compressé (en-tête + blocs).
-     *
-     * @param nbMots nombre d'ints pour la zone data
-     */
-    private void allouerTampon(int nbMots) {
-        this.tampon = new int[ENTETE + Math.max(1, nbMots)];
-    }
-
-    /** Écrit l'en-tête dans {@link #tampon}. */
-    private void ecrireEntete() {
-        tampon[0] = n;
-        tampon[1] = k;
-        tampon[2] = FLAG;
-        tampon[3] = offset;
-    }
-
-    /**
-     * Lit l'en-tête depuis un tampon compressé.
-     *
-     * @param compresse tampon avec en-tête
-     */
-    private void lireEntete(int[] compresse) {
-        this.tampon = compresse;
-        this.n = tampon[0];
-        this.k = tampon[1];
-        this.offset = tampon[3];
-    }
-
-    /**
-     * Écrit les valeurs positives {@code pos} bloc par bloc, sans chevauchement.
-     *
-     * @param pos    valeurs positives
-     * @param parMot nb de valeurs par mot (floor(32/k))
-     */
-    private void packerSansChevauchement(int[] pos, int parMot) {
-        int idx = 0;
-        for (int bloc = 0; bloc < (tampon.length - ENTETE); bloc++) {
-            int acc = 0, shift = 0;
-            for (int j = 0; j < parMot && idx < n; j++, idx++) {
-                acc |= (pos[idx] & OutilsBits.masque(k)) << shift;
-                shift += k;
-            }
-            tampon[ENTETE + bloc] = acc;
-        }
-    }
-
-    /**
-     * Dépaquette la zone data en restituant les valeurs positives.
-     *
-     * @return tableau positif (offset non retiré)
-     */
-    private int[] unpackSansChevauchement() {
-        int[] out = new int[n];
-        int parMot = Math.max(1, 32 / Math.max(1, k));
-        int idx = 0;
-        for (int bloc = 0; idx < n; bloc++) {
-            int acc = tampon[ENTETE + bloc];
-            for (int j = 0; j < parMot && idx < n; j++, idx++) {
-                out[idx] = acc & OutilsBits.masque(k);
-                acc >>>= k;
-            }
-        }
-        return out;
-    }
-}
+package codagebits;
+
+import java.util.Objects;
+
+/**
+ * Codeur d'entiers "Sans Chevauchement".
+ * <p>
+ * Principe : chaque valeur est encodée sur {@code k} bits sans franchir les frontières
+ * de mot (32 bits). On range {@code floor(32/k)} valeurs par int. Quelques bits
+ * peuvent être perdus en fin de bloc.
+ * </p>
+ * <p>
+ * Gestion des négatifs : un {@code offset = -min} est appliqué à la compression
+ * puis retiré à la décompression et à l'accès direct.
+ * </p>
+ * <p>
+ * État : les données d'un tableau compressé vivent dans un {@link Tableau} immuable.
+ * Le codeur ne garde qu'une référence vers le dernier tableau traité, pour l'API
+ * historique {@link #acceder(int)} / {@link #accederPlage(int, int, int[], int)}.
+ * </p>
+ */
+public class CodeurSansChev implements CodeurBits {
+
+    // En-tête : [0]=n, [1]=k, [2]=flags(0, | TRIE), [3]=offset
+    static final int ENTETE = 4;
+    private static final int FLAG = 0;
+
+    /** Dernier tableau compressé ou décompressé (API historique). */
+    private volatile Tableau courant;
+
+    // ---------------- API ----------------
+
+    /**
+     * Compresse un tableau d'entiers en mode "sans chevauchement".
+     * <p>
+     * Étapes : validation → min et max en une passe → offset et k →
+     * allocation du tampon + écriture en-tête → empaquetage bloc par bloc (offset
+     * appliqué à la volée, sans copie décalée).
+     * </p>
+     *
+     * @param tableau tableau d'entrée (peut contenir des négatifs)
+     * @return tampon compressé incluant l'en-tête
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public int[] compresser(int[] tableau) {
+        Tableau t = encoder(tableau);
+        courant = t;
+        return t.tampon;
+    }
+
+    /**
+     * Décompresse un tampon produit par {@link #compresser(int[])}.
+     * <p>
+     * Étapes : validation → lecture de l'en-tête → dépaquetage bloc par bloc
+     * (via {@link Tableau#accederPlage(int, int, int[], int)}) avec retrait de l'offset.
+     * </p>
+     *
+     * @param compresse tampon compressé (avec en-tête)
+     * @return tableau d'entiers d'origine
+     * @throws IllegalArgumentException si le tampon est nul ou trop court
+     */
+    @Override
+    public int[] decompresser(int[] compresse) {
+        validerTampon(compresse);
+        Tableau t = new Tableau(compresse);
+        courant = t;
+        return t.decompresser();
+    }
+
+    /**
+     * Accède directement à l'élément {@code index} du dernier tableau traité.
+     *
+     * @param index position logique demandée (0 ≤ index &lt; n)
+     * @return valeur d'origine à l'index
+     * @throws IndexOutOfBoundsException si {@code index} est hors limites
+     * @see Tableau#acceder(int)
+     */
+    @Override
+    public int acceder(int index) {
+        return dernier().acceder(index);
+    }
+
+    /**
+     * Décode une plage du dernier tableau traité.
+     *
+     * @param debut  premier index logique (inclus)
+     * @param fin    dernier index logique (exclu)
+     * @param dst    tableau de destination
+     * @param dstOff position d'écriture dans {@code dst}
+     * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+     * @see Tableau#accederPlage(int, int, int[], int)
+     */
+    @Override
+    public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+        dernier().accederPlage(debut, fin, dst, dstOff);
+    }
+
+    /**
+     * Compresse sans toucher à l'état du codeur.
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public TableauCompresse compresserTableau(int[] tableau) {
+        return encoder(tableau);
+    }
+
+    /**
+     * Ouvre un tampon compressé sans toucher à l'état du codeur. Le tampon est copié :
+     * le tableau renvoyé ne dépend plus de l'appelant.
+     *
+     * @param compresse tampon compressé (avec en-tête)
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si le tampon est nul ou trop court
+     */
+    @Override
+    public TableauCompresse ouvrir(int[] compresse) {
+        validerTampon(compresse);
+        return new Tableau(compresse.clone());
+    }
+
+    /**
+     * {@link #ouvrir(int[])} sans copie : {@code tampon} est adopté, l'appelant ne le modifie plus.
+     *
+     * @param tampon tampon compressé
+     * @return tableau compressé adoptant {@code tampon}
+     * @throws IllegalArgumentException si le tampon est invalide
+     */
+    static TableauCompresse adopter(int[] tampon) {
+        validerTampon(tampon);
+        return new Tableau(tampon);
+    }
+
+    /**
+     * Taille exacte du tampon que produirait {@link #compresser(int[])}, en une passe
+     * min/max et sans allocation.
+     *
+     * @param tableau tableau d'entrée
+     * @return nombre d'ints
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public int tailleCompressee(int[] tableau) {
+        validerEntree(tableau);
+        return taille(tableau.length, OutilsBits.largeur(ParalleleBits.minMax(tableau), tableau.length));
+    }
+
+    /**
+     * Compresse dans un tampon fourni, sans allocation ni modification de l'état du codeur.
+     * Le contenu écrit est identique à celui de {@link #compresser(int[])}.
+     *
+     * @param tableau tableau d'entrée
+     * @param dst     destination (au moins {@link #tailleCompressee(int[])} ints, réutilisable)
+     * @return nombre d'ints écrits au début de {@code dst}
+     * @throws IllegalArgumentException  si {@code tableau} est {@code null}
+     * @throws IndexOutOfBoundsException si {@code dst} est trop petit
+     */
+    @Override
+    public int compresser(int[] tableau, int[] dst) {
+        validerEntree(tableau);
+        long minMax = ParalleleBits.minMax(tableau);
+        int taille = taille(tableau.length, OutilsBits.largeur(minMax, tableau.length));
+        Objects.checkFromIndexSize(0, taille, dst.length);
+        ecrire(tableau, minMax, dst);
+        return taille;
+    }
+
+    /**
+     * Décompresse dans un tableau fourni, sans allocation ni modification de l'état du codeur :
+     * l'en-tête est lu dans des variables locales, sans construire de {@link Tableau}.
+     *
+     * @param compresse tampon compressé (avec en-tête)
+     * @param dst       destination
+     * @param dstOff    position d'écriture dans {@code dst}
+     * @return nombre de valeurs écrites
+     * @throws IllegalArgumentException  si le tampon est nul ou trop court
+     * @throws IndexOutOfBoundsException si {@code dst} est trop petit
+     */
+    @Override
+    public int decompresser(int[] compresse, int[] dst, int dstOff) {
+        validerTampon(compresse);
+        int n = compresse[0];
+        decoderTout(compresse, n, compresse[1], compresse[3], dst, dstOff);
+        return n;
+    }
+
+    // ------------- tableau compressé -------------
+
+    /**
+     * Tableau compressé "sans chevauchement" : tampon et en-tête lu, tous immuables.
+     */
+    static final class Tableau implements TableauCompresse, TamponPartage {
+
+        /** Tampon compressé (inclut l'en-tête), jamais modifié. */
+        final int[] tampon;
+        /** Taille logique du tableau source. */
+        final int n;
+        /** Nombre de bits par valeur (hors offset). */
+        final int k;
+        /** Décalage appliqué pour gérer les valeurs négatives. */
+        final int offset;
+        /** Vrai si le tableau d'origine est trié. */
+        final boolean trie;
+        /** Nombre de valeurs par mot (floor(32/k)). */
+        private final int parMot;
+        /** Masque de {@code k} bits. */
+        private final int masque;
+
+        /**
+         * Lit l'en-tête d'un tampon (adopté tel quel, sans copie).
+         *
+         * @param tampon tampon compressé valide
+         */
+        Tableau(int[] tampon) {
+            this.tampon = tampon;
+            this.n = tampon[0];
+            this.k = tampon[1];
+            this.offset = tampon[3];
+            this.trie = OutilsBits.trie(tampon);
+            this.parMot = Math.max(1, 32 / Math.max(1, k));
+            this.masque = OutilsBits.masque(k);
+        }
+
+        @Override
+        public int taille() {
+            return n;
+        }
+
+        @Override
+        public int[] tampon() {
+            return tampon.clone();
+        }
+
+        @Override
+        public int[] tamponPartage() {
+            return tampon;
+        }
+
+        /**
+         * Décompresse l'ensemble du tableau, par tranches parallèles pour les grands tableaux.
+         *
+         * @return nouveau tableau d'origine
+         */
+        @Override
+        public int[] decompresser() {
+            int[] out = new int[n];
+            decompresser(out, 0);
+            return out;
+        }
+
+        /**
+         * Décompresse l'ensemble du tableau dans {@code out} à partir de {@code outOff},
+         * sans allocation en dessous du seuil parallèle.
+         *
+         * @param out    destination (au moins {@code n} cases après {@code outOff})
+         * @param outOff position d'écriture
+         */
+        void decompresser(int[] out, int outOff) {
+            decoderTout(tampon, n, k, offset, out, outOff);
+        }
+
+        /**
+         * Accède directement à l'élément {@code index} sans décompresser tout le tableau.
+         * <p>
+         * Calcule le bloc ({@code index/parMot}), le décalage interne, lit {@code k} bits,
+         * puis retire l'offset.
+         * </p>
+         *
+         * @param index position logique demandée (0 ≤ index &lt; n)
+         * @return valeur d'origine à l'index
+         * @throws IndexOutOfBoundsException si {@code index} est hors limites
+         */
+        @Override
+        public int acceder(int index) {
+            if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
+            int bloc = index / parMot;
+            int pos = index % parMot;
+            int acc = tampon[ENTETE + bloc];
+            acc >>>= (pos * k);
+            int valPos = acc & masque;
+            return valPos - offset;
+        }
+
+        @Override
+        public boolean estTrie() {
+            return trie;
+        }
+
+        /**
+         * Dichotomie directement sur les mots empaquetés : la cible est traduite une fois
+         * dans le domaine décalé, chaque sonde lit {@code k} bits d'un mot sans retirer l'offset.
+         *
+         * @param valeur valeur cherchée
+         * @return première position de valeur ≥ {@code valeur} ({@code n} si aucune)
+         * @throws IllegalStateException si le tableau n'est pas trié
+         */
+        @Override
+        public int borneInferieure(int valeur) {
+            if (!trie) throw new IllegalStateException("tableau non trié");
+            long cible = valeur + Integer.toUnsignedLong(offset);
+            int bas = 0, haut = n;
+            while (bas < haut) {
+                int milieu = (bas + haut) >>> 1;
+                int mot = tampon[ENTETE + milieu / parMot] >>> ((milieu % parMot) * k);
+                if (((mot & masque) & 0xFFFFFFFFL) < cible) bas = milieu + 1;
+                else haut = milieu;
+            }
+            return bas;
+        }
+
+        /**
+         * Décode la plage {@code [debut, fin[} directement dans {@code dst}, sans allocation
+         * (voir {@link CodeurSansChev#decoderPlage(int[], int, int, int, int, int[], int)}).
+         *
+         * @param debut  premier index logique (inclus)
+         * @param fin    dernier index logique (exclu)
+         * @param dst    tableau de destination
+         * @param dstOff position d'écriture dans {@code dst}
+         * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+         */
+        @Override
+        public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+            Objects.checkFromToIndex(debut, fin, n);
+            Objects.checkFromIndexSize(dstOff, fin - debut, dst.length);
+            decoderPlage(tampon, k, offset, debut, fin, dst, dstOff);
+        }
+    }
+
+    // ------------- helpers (lisibilité) -------------
+
+    /**
+     * Compresse {@code tableau} dans un nouveau tampon (aucun état partagé).
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé adoptant le nouveau tampon
+     */
+    static Tableau encoder(int[] tableau) {
+        validerEntree(tableau);
+        long minMax = ParalleleBits.minMax(tableau);
+        int[] tampon = new int[taille(tableau.length, OutilsBits.largeur(minMax, tableau.length))];
+        ecrire(tableau, minMax, tampon);
+        return new Tableau(tampon);
+    }
+
+    /**
+     * Taille exacte du tampon compressé.
+     *
+     * @param n nombre de valeurs
+     * @param k bits par valeur
+     * @return nombre d'ints (en-tête compris)
+     */
+    static int taille(int n, int k) {
+        int parMot = Math.max(1, 32 / k);
+        return ENTETE + Math.max(1, (n + parMot - 1) / parMot);
+    }
+
+    /**
+     * Écrit en-tête et données dans {@code tampon} (au moins {@link #taille(int, int)} ints,
+     * contenu antérieur quelconque). L'offset est appliqué à la volée, sans copie décalée.
+     *
+     * @param tableau tableau d'entrée
+     * @param minMax  min et max de {@code tableau} ({@link ParalleleBits#minMax(int[])})
+     * @param tampon  destination
+     */
+    private static void ecrire(int[] tableau, long minMax, int[] tampon) {
+        int n = tableau.length;
+        int offset = OutilsBits.offset(minMax);
+        int k = OutilsBits.largeur(minMax, n);
+        int parMot = Math.max(1, 32 / k);
+
+        ecrireEntete(tampon, n, k, offset, OutilsBits.estTrie(tableau));
+        tampon[ENTETE] = 0; // seul mot de données d'un tableau vide
+        if (ParalleleBits.nbTranches(n, grain(parMot)) <= 1) {
+            packerSansChevauchement(tampon, tableau, offset, k, parMot, 0, n);
+        } else {
+            ParalleleBits.tranches(n, grain(parMot), (debut, fin) ->
+                    packerSansChevauchement(tampon, tableau, offset, k, parMot, debut, fin));
+        }
+    }
+
+    /**
+     * Renvoie le dernier tableau traité par l'API historique.
+     *
+     * @return tableau courant
+     * @throws IndexOutOfBoundsException si rien n'a encore été compressé ni décompressé
+     */
+    private Tableau dernier() {
+        Tableau t = courant;
+        if (t == null) throw new IndexOutOfBoundsException();
+        return t;
+    }
+
+    /**
+     * Valide un tableau d'entrée.
+     *
+     * @param t tableau à vérifier
+     * @throws IllegalArgumentException si {@code t} est {@code null}
+     */
+    private static void validerEntree(int[] t) {
+        if (t == null) throw new IllegalArgumentException("tableau null");
+    }
+
+    /**
+     * Valide le tampon compressé.
+     *
+     * @param t tampon à vérifier
+     * @throws IllegalArgumentException si {@code t} est {@code null} ou trop court
+     */
+    private static void validerTampon(int[] t) {
+        if (t == null || t.length < ENTETE) throw new IllegalArgumentException("tampon invalide");
+    }
+
+    /**
+     * Écrit l'en-tête dans {@code tampon}.
+     *
+     * @param tampon tampon alloué
+     * @param n      taille logique
+     * @param k      bits par valeur
+     * @param offset décalage
+     * @param trie   vrai si le tableau d'origine est trié
+     */
+    private static void ecrireEntete(int[] tampon, int n, int k, int offset, boolean trie) {
+        tampon[0] = n;
+        tampon[1] = k;
+        tampon[2] = trie ? FLAG | OutilsBits.TRIE : FLAG;
+        tampon[3] = offset;
+    }
+
+    /**
+     * Granularité du découpage parallèle : {@value NoyauxBits#GROUPE} mots pleins, donc
+     * une tranche commence toujours sur un mot et sur un groupe aligné.
+     *
+     * @param parMot nb de valeurs par mot
+     * @return nombre de valeurs
+     */
+    private static int grain(int parMot) {
+        return NoyauxBits.GROUPE * parMot;
+    }
+
+    /**
+     * Écrit les valeurs {@code t[debut..fin[ + offset} bloc par bloc, sans chevauchement.
+     * <p>
+     * Si {@code k} divise 32, {@value NoyauxBits#GROUPE} valeurs remplissent exactement
+     * {@code k} mots : les groupes complets passent par le noyau spécialisé.
+     * {@code debut} est un multiple de {@link #grain(int)} : la plage n'écrit que ses propres mots.
+     * </p>
+     *
+     * @param tampon tampon de destination (en-tête écrit)
+     * @param t      valeurs d'origine
+     * @param offset décalage ajouté à chaque valeur
+     * @param k      bits par valeur
+     * @param parMot nb de valeurs par mot (floor(32/k))
+     * @param debut  premier index (inclus)
+     * @param fin    dernier index (exclu)
+     */
+    private static void packerSansChevauchement(int[] tampon, int[] t, int offset, int k, int parMot, int debut, int fin) {
+        int idx = debut;
+        if (NoyauxBits.GROUPE % k == 0) {
+            NoyauxBits.Noyau noyau = NoyauxBits.pour(k);
+            for (; fin - idx >= NoyauxBits.GROUPE; idx += NoyauxBits.GROUPE) {
+                noyau.empaqueter(t, idx, offset, tampon, ENTETE + idx / parMot);
+            }
+        }
+        int m = OutilsBits.masque(k);
+        for (int bloc = idx / parMot; idx < fin; bloc++) {
+            int acc = 0, shift = 0;
+            for (int j = 0; j < parMot && idx < fin; j++, idx++) {
+                acc |= ((t[idx] + offset) & m) << shift;
+                shift += k;
+            }
+            tampon[ENTETE + bloc] = acc;
+        }
+    }
+
+    /**
+     * Décompresse les {@code n} valeurs d'un tampon dans {@code out}, par tranches parallèles
+     * pour les grands tableaux, sans allocation en dessous du seuil parallèle.
+     *
+     * @param tampon tampon compressé
+     * @param n      nombre de valeurs
+     * @param k      bits par valeur
+     * @param offset décalage
+     * @param out    destination
+     * @param outOff position d'écriture
+     * @throws IndexOutOfBoundsException si la destination est trop petite
+     */
+    private static void decoderTout(int[] tampon, int n, int k, int offset, int[] out, int outOff) {
+        Objects.checkFromIndexSize(outOff, n, out.length);
+        if (ParalleleBits.nbTranches(n, NoyauxBits.GROUPE) <= 1) {
+            decoderPlage(tampon, k, offset, 0, n, out, outOff);
+            return;
+        }
+        ParalleleBits.tranches(n, NoyauxBits.GROUPE, (debut, fin) -> decoderPlage(tampon, k, offset, debut, fin, out, outOff + debut));
+    }
+
+    /**
+     * Décode la plage {@code [debut, fin[} (bornes vérifiées) directement dans {@code dst}.
+     * <p>
+     * Si {@code k} divise 32, la disposition coïncide avec celle du flux continu :
+     * les groupes alignés de {@value NoyauxBits#GROUPE} valeurs passent par le noyau
+     * spécialisé de largeur {@code k}. Sinon (et pour tête/queue), chaque mot est
+     * parcouru par décalages successifs via {@link #lireMots(int[], int, int, int, int, int[], int)}.
+     * </p>
+     *
+     * @param tampon tampon compressé
+     * @param k      bits par valeur
+     * @param offset décalage
+     * @param debut  premier index logique (inclus)
+     * @param fin    dernier index logique (exclu)
+     * @param dst    tableau de destination
+     * @param dstOff position d'écriture dans {@code dst}
+     */
+    private static void decoderPlage(int[] tampon, int k, int offset, int debut, int fin, int[] dst, int dstOff) {
+        if (NoyauxBits.GROUPE % k != 0) {
+            lireMots(tampon, k, offset, debut, fin, dst, dstOff);
+            return;
+        }
+        int i = debut, d = dstOff;
+        int tete = Math.min(fin, debut + (-debut & (NoyauxBits.GROUPE - 1)));
+        if (i < tete) {
+            lireMots(tampon, k, offset, i, tete, dst, d);
+            d += tete - i;
+            i = tete;
+        }
+        NoyauxBits.Noyau noyau = NoyauxBits.pour(k);
+        for (; fin - i >= NoyauxBits.GROUPE; i += NoyauxBits.GROUPE, d += NoyauxBits.GROUPE) {
+            noyau.depaqueter(tampon, ENTETE + (i / NoyauxBits.GROUPE) * k, dst, d, -offset);
+        }
+        if (i < fin) lireMots(tampon, k, offset, i, fin, dst, d);
+    }
+
+    /**
+     * Lit les valeurs {@code [debut, fin[} mot par mot et retire l'offset.
+     * <p>
+     * Le premier mot est décalé une seule fois, puis chaque mot est parcouru
+     * par décalages successifs de {@code k} bits.
+     * </p>
+     *
+     * @param tampon tampon compressé
+     * @param k      bits par valeur
+     * @param offset décalage
+     * @param debut  premier index (inclus)
+     * @param fin    dernier index (exclu)
+     * @param dst    tableau de sortie
+     * @param dstOff position d'écriture dans {@code dst}
+     */
+    private static void lireMots(int[] tampon, int k, int offset, int debut, int fin, int[] dst, int dstOff) {
+        int parMot = Math.max(1, 32 / k);
+        int masque = OutilsBits.masque(k);
+        int mot = ENTETE + debut / parMot;
+        int j = debut % parMot;
+        int d = dstOff;
+        for (int i = debut; i < fin; j = 0) {
+            int acc = tampon[mot++] >>> (j * k);
+            int lim = Math.min(fin, i + (parMot - j));
+            for (; i < lim; i++) {
+                dst[d++] = (acc & masque) - offset;
+                acc >>>= k;
+            }
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package codagebits;
+
+import java.util.Objects;
+
+/**
+ * Codeur d'entiers "Vertical" (disposition entrelacée sur {@value #VOIES} voies).
+ * <p>
+ * Principe : comme en mode "sans chevauchement", chaque mot de 32 bits contient
+ * {@code parMot = floor(32/k)} valeurs de {@code k} bits sans franchir de frontière.
+ * Mais les mots sont rangés par lignes de {@value #VOIES} mots (une voie par mot) :
+ * la tranche {@code j} de la ligne {@code r} contient les {@value #VOIES} valeurs
+ * consécutives d'indices {@code (r*parMot + j)*VOIES + voie}.
+ * </p>
+ * <p>
+ * Ainsi, un seul décalage + masque vectoriel sur une ligne restitue {@value #VOIES}
+ * valeurs contiguës. Le dépaquetage passe par {@code jdk.incubator.vector} si le module
+ * est chargé ({@code --add-modules jdk.incubator.vector}), sinon par un repli scalaire
+ * de même résultat.
+ * </p>
+ * <p>
+ * Gestion des négatifs : un {@code offset = -min} est appliqué à la compression
+ * puis retiré à la décompression et à l'accès direct ; {@code max + offset} est lu en
+ * non signé, d'où {@code k = 32} quand l'étendue dépasse {@code Integer.MAX_VALUE}.
+ * </p>
+ * <p>
+ * État : les données d'un tableau compressé vivent dans un {@link Tableau} immuable ;
+ * le codeur ne garde que le dernier tableau traité pour l'API historique.
+ * </p>
+ */
+public class CodeurVertical implements CodeurBits {
+
+    /** Nombre de voies entrelacées (fixe : indépendant du matériel). */
+    static final int VOIES = 8;
+
+    /** Noyau de lignes retenu au chargement (vectoriel si disponible). */
+    private static final NoyauVertical NOYAU = choisirNoyau();
+
+    // En-tête : [0]=n, [1]=k, [2]=flags(3), [3]=offset
+    static final int ENTETE = 4;
+    private static final int FLAG = 3;
+
+    /** Dernier tableau compressé ou décompressé (API historique). */
+    private volatile Tableau courant;
+
+    // ---------------- API ----------------
+
+    /**
+     * Compresse un tableau d'entiers en disposition verticale.
+     * <p>
+     * Étapes : validation → offset → k → allocation des lignes complètes →
+     * empaquetage ligne par ligne (les valeurs au-delà de {@code n} valent 0).
+     * </p>
+     *
+     * @param tableau tableau d'entrée (peut contenir des négatifs)
+     * @return tampon compressé incluant l'en-tête
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public int[] compresser(int[] tableau) {
+        Tableau t = encoder(tableau);
+        courant = t;
+        return t.tampon;
+    }
+
+    /**
+     * Décompresse un tampon produit par {@link #compresser(int[])}.
+     *
+     * @param compresse tampon compressé (avec en-tête)
+     * @return tableau d'entiers d'origine
+     * @throws IllegalArgumentException si le tampon est nul ou trop court
+     */
+    @Override
+    public int[] decompresser(int[] compresse) {
+        validerTampon(compresse);
+        Tableau t = new Tableau(compresse);
+        courant = t;
+        return t.decompresser();
+    }
+
+    /**
+     * Accède à l'élément {@code index} du dernier tableau traité.
+     *
+     * @param index position logique demandée (0 ≤ index &lt; n)
+     * @return valeur d'origine à l'index
+     * @throws IndexOutOfBoundsException si {@code index} est hors limites
+     * @see Tableau#acceder(int)
+     */
+    @Override
+    public int acceder(int index) {
+        return dernier().acceder(index);
+    }
+
+    /**
+     * Décode une plage du dernier tableau traité.
+     *
+     * @param debut  premier index logique (inclus)
+     * @param fin    dernier index logique (exclu)
+     * @param dst    tableau de destination
+     * @param dstOff position d'écriture dans {@code dst}
+     * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+     * @see Tableau#accederPlage(int, int, int[], int)
+     */
+    @Override
+    public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+        dernier().accederPlage(debut, fin, dst, dstOff);
+    }
+
+    /**
+     * Compresse sans toucher à l'état du codeur.
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    @Override
+    public TableauCompresse compresserTableau(int[] tableau) {
+        return encoder(tableau);
+    }
+
+    /**
+     * Ouvre une copie d'un tampon compressé sans toucher à l'état du codeur.
+     *
+     * @param compresse tampon compressé (avec en-tête)
+     * @return tableau compressé immuable
+     * @throws IllegalArgumentException si le tampon est nul ou trop court
+     */
+    @Override
+    public TableauCompresse ouvrir(int[] compresse) {
+        validerTampon(compresse);
+        return new Tableau(compresse.clone());
+    }
+
+    /**
+     * {@link #ouvrir(int[])} sans copie : {@code tampon} est adopté, l'appelant ne le modifie plus.
+     *
+     * @param tampon tampon compressé
+     * @return tableau compressé adoptant {@code tampon}
+     * @throws IllegalArgumentException si le tampon est invalide
+     */
+    static TableauCompresse adopter(int[] tampon) {
+        validerTampon(tampon);
+        return new Tableau(tampon);
+    }
+
+    // ------------- tableau compressé -------------
+
+    /**
+     * Tableau compressé "vertical" : tampon et en-tête lu, tous immuables.
+     */
+    static final class Tableau implements TableauCompresse, TamponPartage {
+
+        /** Tampon compressé (inclut l'en-tête), jamais modifié. */
+        final int[] tampon;
+        /** Taille logique du tableau source. */
+        final int n;
+        /** Nombre de bits par valeur (hors offset). */
+        final int k;
+        /** Décalage appliqué pour gérer les valeurs négatives. */
+        final int offset;
+
+        /**
+         * Lit l'en-tête d'un tampon (adopté tel quel, sans copie).
+         *
+         * @param tampon tampon compressé valide
+         */
+        Tableau(int[] tampon) {
+            this.tampon = tampon;
+            this.n = tampon[0];
+            this.k = tampon[1];
+            this.offset = tampon[3];
+        }
+
+        @Override
+        public int taille() {
+            return n;
+        }
+
+        @Override
+        public int[] tampon() {
+            return tampon.clone();
+        }
+
+        @Override
+        public int[] tamponPartage() {
+            return tampon;
+        }
+
+        /**
+         * Accède directement à l'élément {@code index} en O(1).
+         * <p>
+         * Tranche {@code g = index / VOIES}, voie {@code index % VOIES}, ligne
+         * {@code g / parMot}, position dans le mot {@code g % parMot}.
+         * </p>
+         *
+         * @param index position logique demandée (0 ≤ index &lt; n)
+         * @return valeur d'origine à l'index
+         * @throws IndexOutOfBoundsException si {@code index} est hors limites
+         */
+        @Override
+        public int acceder(int index) {
+            if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
+            int parMot = parMot(k);
+            int acc = tampon[motDe(index, parMot)] >>> (trancheDe(index, parMot) * k);
+            return (acc & OutilsBits.masque(k)) - offset;
+        }
+
+        /**
+         * Décode la plage {@code [debut, fin[} directement dans {@code dst}, sans allocation.
+         * <p>
+         * Les lignes entièrement comprises dans la plage passent par le noyau de lignes
+         * (vectoriel si disponible) ; les extrémités sont lues valeur par valeur.
+         * </p>
+         *
+         * @param debut  premier index logique (inclus)
+         * @param fin    dernier index logique (exclu)
+         * @param dst    tableau de destination
+         * @param dstOff position d'écriture dans {@code dst}
+         * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+         */
+        @Override
+        public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+            Objects.checkFromToIndex(debut, fin, n);
+            Objects.checkFromIndexSize(dstOff, fin - debut, dst.length);
+            int parMot = parMot(k);
+            int parLigne = parMot * VOIES;
+            int m = OutilsBits.masque(k);
+
+            int premiere = (int) (((long) debut + parLigne - 1) / parLigne);
+            int derniere = fin / parLigne;
+            if (premiere >= derniere) {
+                lireValeurs(debut, fin, dst, dstOff, parMot, m);
+                return;
+            }
+            int a = premiere * parLigne, b = derniere * parLigne;
+            lireValeurs(debut, a, dst, dstOff, parMot, m);
+            NOYAU.depaqueter(tampon, ENTETE + premiere * VOIES, dst, dstOff + (a - debut),
+                    derniere - premiere, k, -offset);
+            lireValeurs(b, fin, dst, dstOff + (b - debut), parMot, m);
+        }
+
+        /**
+         * Lit valeur par valeur la plage {@code [debut, fin[} (extrémités de lignes).
+         *
+         * @param debut  premier index (inclus)
+         * @param fin    dernier index (exclu)
+         * @param dst    destination
+         * @param dstOff position d'écriture
+         * @param parMot valeurs par mot
+         * @param m      masque de k bits
+         */
+        private void lireValeurs(int debut, int fin, int[] dst, int dstOff, int parMot, int m) {
+            for (int i = debut, d = dstOff; i < fin; i++) {
+                dst[d++] = ((tampon[motDe(i, parMot)] >>> (trancheDe(i, parMot) * k)) & m) - offset;
+            }
+        }
+    }
+
+    /**
+     * Indique si le dépaquetage utilise l'API vectorielle.
+     *
+     * @return {@code true} si {@code jdk.incubator.vector} est chargé
+     */
+    public static boolean estVectoriel() {
+        return !(NOYAU instanceof NoyauVertical.Scalaire);
+    }
+
+    // ------------- helpers (lisibilité) -------------
+
+    /**
+     * Compresse {@code tableau} dans un nouveau tampon (aucun état partagé).
+     *
+     * @param tableau tableau d'entrée
+     * @return tableau compressé adoptant le nouveau tampon
+     */
+    static Tableau encoder(int[] tableau) {
+        if (tableau == null) throw new IllegalArgumentException("tableau null");
+        int n = tableau.length;
+
+        // k lu en non signé : une étendue au-delà de 2^31 donne k = 32, où l'empaquetage
+        // (masque -1, décalage 0) et le dépaquetage sont exacts modulo 2^32
+        long minMax = ParalleleBits.minMax(tableau);
+        int offset = OutilsBits.offset(minMax);
+        int k = OutilsBits.largeur(minMax, n);
+
+        int parMot = parMot(k);
+        int parLigne = parMot * VOIES;
+        int lignesPleines = n / parLigne;
+
+        int[] tampon = new int[taille(n, k)];
+        tampon[0] = n;
+        tampon[1] = k;
+        tampon[2] = FLAG;
+        tampon[3] = offset;
+
+        NOYAU.empaqueter(tableau, 0, offset, tampon, ENTETE, lignesPleines, k);
+        for (int i = lignesPleines * parLigne; i < n; i++) {
+            int mot = motDe(i, parMot);
+            tampon[mot] |= ((tableau[i] + offset) & OutilsBits.masque(k)) << (trancheDe(i, parMot) * k);
+        }
+        return new Tableau(tampon);
+    }
+
+    /**
+     * Taille exacte du tampon compressé : disposition de "sans" ({@code floor(32/k)} valeurs
+     * par mot), complétée à des lignes entières de {@value #VOIES} mots.
+     *
+     * @param n nombre de valeurs
+     * @param k bits par valeur
+     * @return nombre d'ints (en-tête compris)
+     */
+    static int taille(int n, int k) {
+        int parLigne = parMot(k) * VOIES;
+        int lignes = (n + parLigne - 1) / parLigne;
+        return ENTETE + Math.max(1, lignes * VOIES);
+    }
+
+    /**
+     * Renvoie le dernier tableau traité par l'API historique.
+     *
+     * @return tableau courant
+     * @throws IndexOutOfBoundsException si rien n'a encore été compressé ni décompressé
+     */
+    private Tableau dernier() {
+        Tableau t = courant;
+        if (t == null) throw new IndexOutOfBoundsException();
+        return t;
+    }
+
+    /**
+     * Vérifie que le tampon compressé est valable (taille en-tête).
+     *
+     * @param t tampon
+     */
+    private static void validerTampon(int[] t) {
+        if (t == null || t.length < ENTETE) throw new IllegalArgumentException("tampon invalide");
+    }
+
+    /**
+     * Sélectionne le noyau vectoriel si le module incubateur est présent dans la couche de boot.
+     * La classe vectorielle n'est chargée que dans ce cas.
+     *
+     * @return noyau de lignes
+     */
+    private static NoyauVertical choisirNoyau() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (NoyauVertical) Class.forName("codagebits.NoyauVerticalVectoriel")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // repli scalaire
+            }
+        }
+        return new NoyauVertical.Scalaire();
+    }
+
+    /**
+     * Nombre de valeurs par mot pour une largeur donnée.
+     *
+     * @param k largeur en bits
+     * @return floor(32/k)
+     */
+    static int parMot(int k) {
+        return Math.max(1, 32 / Math.max(1, k));
+    }
+
+    /**
+     * Index (dans le tampon) du mot contenant la valeur {@code i}.
+     *
+     * @param i      index logique
+     * @param parMot valeurs par mot
+     * @return index absolu du mot
+     */
+    private static int motDe(int i, int parMot) {
+        int g = i / VOIES;
+        return ENTETE + (g / parMot) * VOIES + (i % VOIES);
+    }
+
+    /**
+     * Position (en tranches de {@code k} bits) de la valeur {@code i} dans son mot.
+     *
+     * @param i      index logique
+     * @param parMot valeurs par mot
+     * @return rang de tranche
+     */
+    private static int trancheDe(int i, int parMot) {
+        return (i / VOIES) % parMot;
+    }
+}
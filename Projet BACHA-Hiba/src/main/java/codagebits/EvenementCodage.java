@@ -0,0 +1,49 @@
+package codagebits;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Événement JFR émis par {@link CodeurInstrumente} à chaque compression ou décompression.
+ * <p>
+ * Activation : {@code -XX:StartFlightRecording} ou {@code jcmd <pid> JFR.start}, puis
+ * filtrer sur {@code codagebits.Codage}. Désactivé, l'événement ne coûte qu'un test
+ * ({@link #shouldCommit()}) : l'objet n'échappe pas et son allocation est éliminée par le JIT.
+ * </p>
+ */
+@Name("codagebits.Codage")
+@Label("Codage de bits")
+@Category("Codage de bits")
+@Description("Compression ou décompression d'un tableau d'entiers")
+@StackTrace(false)
+final class EvenementCodage extends Event {
+
+    @Label("Opération")
+    String operation;
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Nombre de valeurs")
+    int n;
+
+    @Label("k / kBase")
+    @Description("Largeur en bits (kBase en mode débordement, 0 si variable par bloc)")
+    int k;
+
+    @Label("Valeurs en débordement")
+    int nbOverflow;
+
+    @Label("Octets non compressés")
+    @DataAmount
+    long octetsEntree;
+
+    @Label("Octets compressés")
+    @DataAmount
+    long octetsSortie;
+}
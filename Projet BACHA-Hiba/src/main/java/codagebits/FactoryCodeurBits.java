@@ -1,14 +1,98 @@
-package codagebits;
-
-public final class FactoryCodeurBits {
-    private FactoryCodeurBits() {}
-
-    public static CodeurBits creer(String mode) {
-        if (mode == null) throw new IllegalArgumentException("Mode null");
-        String m = mode.toLowerCase();
-        if ("sans".equals(m))        return new CodeurSansChev();
-        if ("avec".equals(m))        return new CodeurAvecChev();
-        if ("debordement".equals(m)) return new CodeurDebordement();
-        throw new IllegalArgumentException("Mode inconnu: " + mode);
-        }
-}
\ No newline at end of file
+package codagebits;
+
+public final class FactoryCodeurBits {
+    private FactoryCodeurBits() {}
+
+    /** Nom de chaque mode, indexé par son numéro (octet bas de {@code tampon[2]}). */
+    static final String[] MODES = {"sans", "avec", "debordement", "vertical", "blocs", "delta",
+            "dictionnaire", "plages", "eliasfano"};
+
+    /** Taille en ints de l'en-tête du tampon de chaque mode, indexée comme {@link #MODES}. */
+    static final int[] ENTETES = {CodeurSansChev.ENTETE, CodeurAvecChev.ENTETE, CodeurDebordement.ENTETE,
+            CodeurVertical.ENTETE, CodeurBlocs.ENTETE, CodeurDelta.ENTETE, CodeurDictionnaire.ENTETE,
+            CodeurPlages.ENTETE, CodeurEliasFano.ENTETE};
+
+    public static CodeurBits creer(String mode) {
+        if (mode == null) throw new IllegalArgumentException("Mode null");
+        String m = mode.toLowerCase();
+        return instrumenter(m, creerNu(m, mode));
+    }
+
+    /**
+     * Codeur de valeurs {@code long} (k jusqu'à 64) : "sans", "avec" ou "debordement".
+     *
+     * @param mode nom du mode
+     * @return nouveau codeur 64 bits
+     * @throws IllegalArgumentException si le mode est nul ou inconnu
+     */
+    public static CodeurBitsLong creerLong(String mode) {
+        if (mode == null) throw new IllegalArgumentException("Mode null");
+        String m = mode.toLowerCase();
+        if ("sans".equals(m))        return new CodeurSansChevLong();
+        if ("avec".equals(m))        return new CodeurAvecChevLong();
+        if ("debordement".equals(m)) return new CodeurDebordementLong();
+        throw new IllegalArgumentException("Mode inconnu: " + mode);
+    }
+
+    /**
+     * Ajoute les métriques ({@link MetriquesCodage}) et les événements JFR à un codeur.
+     * Les codeurs de {@link #creer(String)} le sont déjà.
+     *
+     * @param nom    nom sous lequel les mesures sont rangées
+     * @param codeur codeur à instrumenter
+     * @return codeur instrumenté
+     */
+    public static CodeurBits instrumenter(String nom, CodeurBits codeur) {
+        return new CodeurInstrumente(nom, codeur);
+    }
+
+    /**
+     * Codeur (non instrumenté) capable de lire un tampon du mode donné.
+     *
+     * @param mode numéro de mode lu par {@link OutilsBits#mode(int[])}
+     * @return nouveau codeur
+     * @throws IllegalArgumentException si le mode est inconnu
+     */
+    static CodeurBits pourMode(int mode) {
+        if (mode < 0 || mode >= MODES.length) throw new IllegalArgumentException("Mode inconnu: " + mode);
+        return creerNu(MODES[mode], MODES[mode]);
+    }
+
+    /**
+     * Tableau compressé d'un mode adoptant {@code tampon} sans copie, validé comme par
+     * {@link CodeurBits#ouvrir(int[])} ; l'appelant ne doit plus modifier le tampon.
+     *
+     * @param mode   numéro de mode
+     * @param tampon tampon compressé de ce mode
+     * @return tableau compressé
+     * @throws IllegalArgumentException si le mode est inconnu ou le tampon invalide
+     */
+    static TableauCompresse adopter(int mode, int[] tampon) {
+        switch (mode) {
+            case 0: return CodeurSansChev.adopter(tampon);
+            case 1: return CodeurAvecChev.adopter(tampon);
+            case 2: return CodeurDebordement.adopter(tampon);
+            case 3: return CodeurVertical.adopter(tampon);
+            case 4: return CodeurBlocs.adopter(tampon);
+            case 5: return CodeurDelta.adopter(tampon);
+            case 6: return CodeurDictionnaire.adopter(tampon);
+            case 7: return CodeurPlages.adopter(tampon);
+            case 8: return CodeurEliasFano.adopter(tampon);
+            default: throw new IllegalArgumentException("Mode inconnu: " + mode);
+        }
+    }
+
+    private static CodeurBits creerNu(String m, String mode) {
+        if ("sans".equals(m))        return new CodeurSansChev();
+        if ("avec".equals(m))        return new CodeurAvecChev();
+        if ("debordement".equals(m)) return new CodeurDebordement();
+        if ("vertical".equals(m))    return new CodeurVertical();
+        if ("blocs".equals(m))       return new CodeurBlocs();
+        if ("delta".equals(m))       return new CodeurDelta();
+        if ("dictionnaire".equals(m)) return new CodeurDictionnaire();
+        if ("plages".equals(m))      return new CodeurPlages();
+        if ("eliasfano".equals(m))   return new CodeurEliasFano();
+        if ("auto".equals(m))        return new CodeurAuto();
+        throw new IllegalArgumentException("Mode inconnu: " + mode);
+        }
+}
@@ -0,0 +1,85 @@
+package codagebits;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Tableaux compressés persistants, lus directement depuis un fichier projeté en mémoire.
+ * <p>
+ * Format du fichier : le tampon compressé tel que produit par {@link CodeurSansChev},
+ * {@link CodeurAvecChev} ou {@link CodeurDebordement} (même en-tête), en ints
+ * petit-boutistes, suivi de {@value #GARDE} octets nuls de garde.
+ * </p>
+ * <p>
+ * {@link #ouvrir(Path)} projette le fichier par {@code FileChannel.map} en segments de
+ * 1 Gio (chacun prolongé de la garde) et renvoie une {@link VueOctets} : les valeurs sont
+ * lues directement dans la projection, rien n'est chargé sur le tas, les pages sont lues
+ * à la demande par le système.
+ * </p>
+ */
+public final class FichierCompresse {
+
+    /** Octets nuls ajoutés en fin de fichier. */
+    static final int GARDE = VueOctets.GARDE;
+    /** Taille du tampon d'écriture (octets). */
+    private static final int TAMPON_ECRITURE = 1 << 20;
+
+    private FichierCompresse() {}
+
+    /**
+     * Écrit un tampon compressé dans un fichier (créé ou remplacé).
+     *
+     * @param chemin fichier de destination
+     * @param tampon tampon compressé (avec en-tête)
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public static void ecrire(Path chemin, int[] tampon) throws IOException {
+        Objects.requireNonNull(tampon, "tampon");
+        try (FileChannel canal = FileChannel.open(chemin, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer bb = ByteBuffer.allocateDirect(TAMPON_ECRITURE).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < tampon.length; ) {
+                int nb = Math.min(tampon.length - i, TAMPON_ECRITURE / 4);
+                bb.clear();
+                bb.asIntBuffer().put(tampon, i, nb);
+                bb.limit(nb * 4);
+                while (bb.hasRemaining()) canal.write(bb);
+                i += nb;
+            }
+            bb.clear();
+            bb.put(new byte[GARDE]).flip();
+            while (bb.hasRemaining()) canal.write(bb);
+        }
+    }
+
+    /**
+     * Projette un fichier écrit par {@link #ecrire(Path, int[])} et renvoie une vue en lecture.
+     * Le fichier peut être fermé ou renommé ensuite : la projection reste valide.
+     *
+     * @param chemin fichier à ouvrir
+     * @return tableau compressé lisant directement la projection
+     * @throws IOException              en cas d'erreur de lecture
+     * @throws IllegalArgumentException si le fichier n'est pas un tampon sans/avec/débordement valide
+     */
+    public static TableauCompresse ouvrir(Path chemin) throws IOException {
+        try (FileChannel canal = FileChannel.open(chemin, StandardOpenOption.READ)) {
+            long taille = canal.size();
+            if (taille < GARDE + 4L * 5 || (taille - GARDE) % 4 != 0) {
+                throw new IllegalArgumentException("fichier invalide");
+            }
+            int nbSegments = (int) (((taille - GARDE - 1) >>> VueOctets.BITS_SEGMENT) + 1);
+            ByteBuffer[] segments = new ByteBuffer[nbSegments];
+            for (int s = 0; s < nbSegments; s++) {
+                long debut = (long) s << VueOctets.BITS_SEGMENT;
+                long longueur = Math.min(taille - debut, (1L << VueOctets.BITS_SEGMENT) + GARDE);
+                segments[s] = canal.map(FileChannel.MapMode.READ_ONLY, debut, longueur);
+            }
+            return new VueOctets(segments, (taille - GARDE) / 4);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package codagebits;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Écriture en flux d'une suite d'entiers de longueur quelconque, compressée par blocs.
+ * <p>
+ * Les valeurs sont accumulées dans un bloc de {@code tailleBloc} entiers ; chaque bloc plein
+ * est compressé par le codeur fourni puis écrit sur le flux, précédé de sa longueur en ints.
+ * Chaque bloc porte donc son propre en-tête (n, k, offset...) : un bloc de petites valeurs
+ * n'est pas pénalisé par un bloc voisin de grandes valeurs. La mémoire utilisée est bornée
+ * par la taille de bloc, quelle que soit la longueur totale du flux.
+ * </p>
+ * <p>
+ * Format (petit-boutiste, comme {@link TrameOctets}) : une suite de trames
+ * {@code [L][L ints du tampon compressé]}, sans marqueur de fin (la fin du flux termine la
+ * suite). Lecture : {@link FluxLecture} avec un codeur du même mode. Pour un canal, utiliser
+ * {@link java.nio.channels.Channels#newOutputStream}.
+ * </p>
+ * <p>
+ * Le codeur est utilisé exclusivement par ce flux (API historique {@link CodeurBits#compresser(int[])}).
+ * Une instance n'est pas thread-safe.
+ * </p>
+ */
+public final class FluxEcriture implements Closeable, Flushable {
+
+    /** Taille de bloc par défaut (en valeurs). */
+    public static final int TAILLE_BLOC_DEFAUT = 1 << 16;
+
+    private final OutputStream sortie;
+    private final CodeurBits codeur;
+    /** Valeurs en attente de compression. */
+    private final int[] bloc;
+    /** Nombre de valeurs en attente. */
+    private int rempli;
+    /** Tampon d'octets réutilisé d'une trame à l'autre. */
+    private byte[] octets = new byte[0];
+    private boolean ferme;
+
+    /**
+     * Flux avec la taille de bloc par défaut.
+     *
+     * @param sortie flux de sortie (fermé par {@link #close()})
+     * @param codeur codeur utilisé pour chaque bloc
+     */
+    public FluxEcriture(OutputStream sortie, CodeurBits codeur) {
+        this(sortie, codeur, TAILLE_BLOC_DEFAUT);
+    }
+
+    /**
+     * Flux avec une taille de bloc choisie.
+     *
+     * @param sortie     flux de sortie (fermé par {@link #close()})
+     * @param codeur     codeur utilisé pour chaque bloc
+     * @param tailleBloc nombre de valeurs par bloc (&gt; 0)
+     * @throws IllegalArgumentException si {@code tailleBloc <= 0}
+     */
+    public FluxEcriture(OutputStream sortie, CodeurBits codeur, int tailleBloc) {
+        this.sortie = Objects.requireNonNull(sortie, "sortie");
+        this.codeur = Objects.requireNonNull(codeur, "codeur");
+        if (tailleBloc <= 0) throw new IllegalArgumentException("taille de bloc invalide");
+        this.bloc = new int[tailleBloc];
+    }
+
+    /**
+     * Ajoute une valeur ; le bloc est écrit dès qu'il est plein.
+     *
+     * @param valeur valeur à écrire
+     * @throws IOException en cas d'erreur d'écriture ou si le flux est fermé
+     */
+    public void ecrire(int valeur) throws IOException {
+        verifierOuvert();
+        bloc[rempli++] = valeur;
+        if (rempli == bloc.length) ecrireBloc();
+    }
+
+    /**
+     * Ajoute {@code len} valeurs de {@code t} à partir de {@code off}.
+     *
+     * @param t   source
+     * @param off position de départ
+     * @param len nombre de valeurs
+     * @throws IOException               en cas d'erreur d'écriture ou si le flux est fermé
+     * @throws IndexOutOfBoundsException si la plage est hors de {@code t}
+     */
+    public void ecrire(int[] t, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, t.length);
+        verifierOuvert();
+        while (len > 0) {
+            int nb = Math.min(len, bloc.length - rempli);
+            System.arraycopy(t, off, bloc, rempli, nb);
+            rempli += nb;
+            off += nb;
+            len -= nb;
+            if (rempli == bloc.length) ecrireBloc();
+        }
+    }
+
+    /**
+     * Écrit le bloc en cours (même incomplet) puis vide le flux de sortie : toutes les
+     * valeurs déjà reçues deviennent lisibles côté {@link FluxLecture}.
+     *
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    @Override
+    public void flush() throws IOException {
+        verifierOuvert();
+        if (rempli > 0) ecrireBloc();
+        sortie.flush();
+    }
+
+    /**
+     * Écrit le dernier bloc et ferme le flux de sortie.
+     *
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    @Override
+    public void close() throws IOException {
+        if (ferme) return;
+        try {
+            flush();
+        } finally {
+            ferme = true;
+            sortie.close();
+        }
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Compresse les {@code rempli} valeurs en attente et écrit la trame correspondante.
+     *
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    private void ecrireBloc() throws IOException {
+        int[] source = (rempli == bloc.length) ? bloc : Arrays.copyOf(bloc, rempli);
+        int[] tampon = codeur.compresser(source);
+        rempli = 0;
+
+        int taille = 4 + tampon.length * 4;
+        if (octets.length < taille) octets = new byte[taille];
+        ByteBuffer bb = ByteBuffer.wrap(octets).order(ByteOrder.LITTLE_ENDIAN);
+        bb.putInt(tampon.length);
+        bb.asIntBuffer().put(tampon);
+        sortie.write(octets, 0, taille);
+    }
+
+    /**
+     * Vérifie que le flux n'est pas fermé.
+     *
+     * @throws IOException si le flux est fermé
+     */
+    private void verifierOuvert() throws IOException {
+        if (ferme) throw new IOException("flux fermé");
+    }
+}
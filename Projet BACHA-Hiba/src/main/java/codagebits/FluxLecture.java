@@ -0,0 +1,196 @@
+package codagebits;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Lecture en flux d'une suite d'entiers écrite par {@link FluxEcriture}.
+ * <p>
+ * Les trames sont lues et décompressées une à une, au fur et à mesure de leur arrivée :
+ * les valeurs d'un bloc sont disponibles dès que sa trame est complète, sans attendre la
+ * fin du flux. La mémoire utilisée est bornée par la taille d'un bloc.
+ * </p>
+ * <p>
+ * Le codeur doit être du même mode que celui de l'écriture ; il est utilisé exclusivement
+ * par ce flux. Pour un canal, utiliser {@link java.nio.channels.Channels#newInputStream}.
+ * Une instance n'est pas thread-safe.
+ * </p>
+ */
+public final class FluxLecture implements Closeable {
+
+    /** Plus grande longueur de trame acceptée par défaut (en ints). */
+    public static final int MAX_INTS_DEFAUT = (Integer.MAX_VALUE - 8) / 4;
+    /** Octets lus par étape : la mémoire suit les octets arrivés, pas la longueur annoncée. */
+    private static final int PAS_LECTURE = 1 << 16;
+
+    private final InputStream entree;
+    private final CodeurBits codeur;
+    /** Longueur maximale d'une trame (en ints). */
+    private final int maxInts;
+    /** Bloc courant décompressé (vide au départ). */
+    private int[] bloc = new int[0];
+    /** Position de lecture dans {@link #bloc}. */
+    private int lu;
+    /** Tampon d'octets réutilisé d'une trame à l'autre. */
+    private byte[] octets = new byte[0];
+    private boolean fin;
+
+    /**
+     * Ouvre la lecture.
+     *
+     * @param entree flux d'entrée (fermé par {@link #close()})
+     * @param codeur codeur du même mode que l'écriture
+     */
+    public FluxLecture(InputStream entree, CodeurBits codeur) {
+        this(entree, codeur, MAX_INTS_DEFAUT);
+    }
+
+    /**
+     * Ouvre la lecture en refusant les trames de plus de {@code maxInts} ints (par exemple la
+     * taille d'un tampon compressé pour la taille de bloc de l'écrivain).
+     *
+     * @param entree  flux d'entrée (fermé par {@link #close()})
+     * @param codeur  codeur du même mode que l'écriture
+     * @param maxInts longueur maximale d'une trame (1 à {@link #MAX_INTS_DEFAUT})
+     * @throws IllegalArgumentException si {@code maxInts} est hors bornes
+     */
+    public FluxLecture(InputStream entree, CodeurBits codeur, int maxInts) {
+        if (maxInts <= 0 || maxInts > MAX_INTS_DEFAUT) throw new IllegalArgumentException("maxInts invalide");
+        this.entree = Objects.requireNonNull(entree, "entree");
+        this.codeur = Objects.requireNonNull(codeur, "codeur");
+        this.maxInts = maxInts;
+    }
+
+    /**
+     * Indique s'il reste au moins une valeur ; bloque jusqu'à l'arrivée de la trame suivante
+     * si le bloc courant est épuisé.
+     *
+     * @return {@code true} si {@link #suivant()} peut être appelé
+     * @throws IOException en cas d'erreur de lecture ou de trame tronquée
+     */
+    public boolean aSuivant() throws IOException {
+        while (lu == bloc.length) {
+            if (!chargerTrame()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Renvoie la valeur suivante.
+     *
+     * @return valeur suivante
+     * @throws IOException            en cas d'erreur de lecture ou de trame tronquée
+     * @throws NoSuchElementException si le flux est terminé
+     */
+    public int suivant() throws IOException {
+        if (!aSuivant()) throw new NoSuchElementException();
+        return bloc[lu++];
+    }
+
+    /**
+     * Lit jusqu'à {@code len} valeurs dans {@code dst} à partir de {@code off}, sans dépasser
+     * le bloc courant (comme {@link InputStream#read(byte[], int, int)}).
+     *
+     * @param dst destination
+     * @param off position d'écriture
+     * @param len nombre maximal de valeurs
+     * @return nombre de valeurs lues, ou -1 si le flux est terminé
+     * @throws IOException               en cas d'erreur de lecture ou de trame tronquée
+     * @throws IndexOutOfBoundsException si la plage est hors de {@code dst}
+     */
+    public int lire(int[] dst, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        if (len == 0) return 0;
+        if (!aSuivant()) return -1;
+        int nb = Math.min(len, bloc.length - lu);
+        System.arraycopy(bloc, lu, dst, off, nb);
+        lu += nb;
+        return nb;
+    }
+
+    /**
+     * Renvoie le reste du bloc courant, ou le bloc suivant s'il est épuisé.
+     *
+     * @return nouveau tableau de valeurs, ou {@code null} si le flux est terminé
+     * @throws IOException en cas d'erreur de lecture ou de trame tronquée
+     */
+    public int[] lireBloc() throws IOException {
+        if (!aSuivant()) return null;
+        int[] r = (lu == 0) ? bloc : Arrays.copyOfRange(bloc, lu, bloc.length);
+        lu = bloc.length;
+        return r;
+    }
+
+    /**
+     * Ferme le flux d'entrée.
+     *
+     * @throws IOException en cas d'erreur de fermeture
+     */
+    @Override
+    public void close() throws IOException {
+        fin = true;
+        entree.close();
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Lit et décompresse la trame suivante.
+     *
+     * @return {@code false} si le flux s'arrête proprement entre deux trames
+     * @throws IOException en cas d'erreur de lecture, de trame tronquée ou invalide
+     */
+    private boolean chargerTrame() throws IOException {
+        if (fin) return false;
+        if (!lireOctets(4, true)) {
+            fin = true;
+            return false;
+        }
+        int nbInts = ByteBuffer.wrap(octets, 0, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+        if (nbInts <= 0 || nbInts > maxInts) throw new IOException("trame invalide");
+        lireOctets(nbInts * 4, false);
+
+        int[] tampon = new int[nbInts];
+        ByteBuffer.wrap(octets, 0, nbInts * 4).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(tampon);
+        try {
+            bloc = codeur.decompresser(tampon);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("trame invalide", e);
+        }
+        lu = 0;
+        return true;
+    }
+
+    /**
+     * Lit exactement {@code nb} octets dans {@link #octets}, par étapes de {@value #PAS_LECTURE}
+     * octets : le tampon ne grandit qu'au fil des octets effectivement reçus.
+     *
+     * @param nb         nombre d'octets
+     * @param finPermise {@code true} si une fin de flux avant le premier octet est normale
+     * @return {@code false} si la fin de flux est atteinte avant le premier octet (et permise)
+     * @throws EOFException si le flux s'arrête au milieu d'une lecture
+     * @throws IOException  en cas d'erreur de lecture
+     */
+    private boolean lireOctets(int nb, boolean finPermise) throws IOException {
+        int total = 0;
+        while (total < nb) {
+            int etape = Math.min(nb - total, PAS_LECTURE);
+            if (octets.length < total + etape) {
+                octets = Arrays.copyOf(octets, (int) Math.min(nb, Math.max(2L * octets.length, total + etape)));
+            }
+            int lus = entree.readNBytes(octets, total, etape);
+            total += lus;
+            if (lus < etape) break;
+        }
+        if (total == 0 && finPermise) return false;
+        if (total < nb) throw new EOFException("trame tronquée");
+        return true;
+    }
+}
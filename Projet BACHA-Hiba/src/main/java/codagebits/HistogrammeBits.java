@@ -0,0 +1,99 @@
+package codagebits;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Histogramme des largeurs en bits d'un tableau, calculé en une seule passe.
+ * <p>
+ * {@code h[w]} compte les valeurs décalées {@code v = t[i] + offset} dont la largeur non
+ * signée vaut {@code w} ({@code w = 32 - nlz(v)}, donc 0 pour la valeur 0). Le décalage est
+ * appliqué à la volée : aucune copie décalée du tableau n'est construite. Toute question de la forme
+ * "combien de valeurs ne tiennent pas sur {@code b} bits" se résout ensuite en O(32)
+ * par somme suffixe, sans repasser sur les données.
+ * </p>
+ * <p>
+ * Au-delà de {@link #SEUIL_PARALLELE} éléments, le calcul est découpé en tâches
+ * fork/join sur le pool commun ; les histogrammes partiels sont additionnés.
+ * </p>
+ */
+final class HistogrammeBits {
+
+    /** Taille en dessous de laquelle une tâche est traitée séquentiellement. */
+    static final int SEUIL_PARALLELE = 1 << 16;
+
+    private HistogrammeBits() {}
+
+    /**
+     * Calcule l'histogramme des largeurs de {@code t[i] + offset} dans {@code h}.
+     *
+     * @param t      tableau
+     * @param offset décalage ajouté à chaque valeur (valeurs décalées lues comme non signées)
+     * @param h      tableau de 33 compteurs, indexé par la largeur (écrasé)
+     */
+    static void calculer(int[] t, int offset, int[] h) {
+        if (t.length <= SEUIL_PARALLELE) {
+            Arrays.fill(h, 0);
+            calculer(t, offset, 0, t.length, h);
+            return;
+        }
+        System.arraycopy(ForkJoinPool.commonPool().invoke(new Tache(t, offset, 0, t.length)), 0, h, 0, 33);
+    }
+
+    /**
+     * Nombre de valeurs dont la largeur dépasse strictement {@code bits}.
+     *
+     * @param h    histogramme
+     * @param bits largeur disponible
+     * @return nombre de valeurs qui ne tiennent pas sur {@code bits} bits
+     */
+    static int auDela(int[] h, int bits) {
+        int c = 0;
+        for (int w = Math.max(0, bits + 1); w <= 32; w++) c += h[w];
+        return c;
+    }
+
+    /**
+     * Ajoute à {@code h} l'histogramme séquentiel de {@code t[debut..fin[}.
+     *
+     * @param t      tableau
+     * @param offset décalage ajouté à chaque valeur
+     * @param debut  index de début (inclus)
+     * @param fin    index de fin (exclu)
+     * @param h      histogramme à compléter
+     */
+    private static void calculer(int[] t, int offset, int debut, int fin, int[] h) {
+        for (int i = debut; i < fin; i++) h[32 - Integer.numberOfLeadingZeros(t[i] + offset)]++;
+    }
+
+    /** Tâche fork/join : coupe la plage en deux jusqu'au seuil, puis additionne. */
+    @SuppressWarnings("serial")
+    private static final class Tache extends RecursiveTask<int[]> {
+        private final int[] t;
+        private final int offset, debut, fin;
+
+        Tache(int[] t, int offset, int debut, int fin) {
+            this.t = t;
+            this.offset = offset;
+            this.debut = debut;
+            this.fin = fin;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (fin - debut <= SEUIL_PARALLELE) {
+                int[] h = new int[33];
+                calculer(t, offset, debut, fin, h);
+                return h;
+            }
+            int milieu = (debut + fin) >>> 1;
+            Tache gauche = new Tache(t, offset, debut, milieu);
+            gauche.fork();
+            int[] h = new Tache(t, offset, milieu, fin).compute();
+            int[] g = gauche.join();
+            for (int w = 0; w <= 32; w++) h[w] += g[w];
+            return h;
+        }
+    }
+}
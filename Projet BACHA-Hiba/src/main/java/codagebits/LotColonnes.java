@@ -0,0 +1,239 @@
+package codagebits;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * Lot de colonnes {@code int} parallèles (identifiant, horodatage, statut, montant...)
+ * compressées ensemble : l'unité de transmission d'un lot d'enregistrements.
+ * <p>
+ * Chaque colonne reçoit le mode qui la compresse le mieux, choisi par {@link CodeurAuto}
+ * sur estimation des tailles (une compression par colonne). Les colonnes sont compressées et
+ * décompressées en parallèle (une tâche fork/join par colonne) au-delà de
+ * {@link ParalleleBits#SEUIL} valeurs au total.
+ * </p>
+ * <p>
+ * Format du lot : {@code [0]=nbLignes, [1]=nbColonnes}, puis un répertoire d'une entrée par
+ * colonne, puis les données des colonnes (tampons sans en-tête) bout à bout. L'entrée d'une
+ * colonne remplace l'en-tête de son tampon, sans {@code n} (commun, dans l'en-tête du lot) :
+ * {@code fin} (fin des données de la colonne, relative au début du lot),
+ * {@code tampon[1] << 16 | tampon[2]} (k ou équivalent, mode et bit trié), puis les champs
+ * propres au mode ({@code tampon[3..]}). Chaque colonne coûte un int de moins que son tampon
+ * seul : à partir de trois colonnes, le lot est plus petit que les tampons envoyés séparément.
+ * Les tampons des colonnes sont reconstruits à l'ouverture, une copie par colonne adoptée
+ * par son tableau ; ouverture et sérialisation sont parallèles par colonne comme la
+ * compression. {@link #acceder(int, int)} ne lit ensuite que la colonne visée.
+ * </p>
+ * <p>
+ * Immuable : partageable entre threads sans verrou.
+ * </p>
+ */
+public final class LotColonnes {
+
+    // En-tête : [0]=nbLignes, [1]=nbColonnes ; puis répertoire (en-têtes réduits) ; puis données
+    private static final int ENTETE = 2;
+
+    private final int nbLignes;
+    /** Colonnes ouvertes, chacune avec son propre tampon. */
+    private final TableauCompresse[] colonnes;
+    /** Mode de chaque colonne. */
+    private final int[] modes;
+
+    private LotColonnes(int nbLignes, TableauCompresse[] colonnes, int[] modes) {
+        this.nbLignes = nbLignes;
+        this.colonnes = colonnes;
+        this.modes = modes;
+    }
+
+    /**
+     * Compresse des colonnes de même longueur, chacune avec son meilleur mode.
+     *
+     * @param colonnes colonnes du lot (non retenues)
+     * @return lot compressé
+     * @throws IllegalArgumentException si une colonne est {@code null} ou si les longueurs diffèrent
+     */
+    public static LotColonnes compresser(int[]... colonnes) {
+        if (colonnes == null) throw new IllegalArgumentException("colonnes null");
+        int nbLignes = (colonnes.length == 0 || colonnes[0] == null) ? 0 : colonnes[0].length;
+        for (int[] c : colonnes) {
+            if (c == null) throw new IllegalArgumentException("colonne null");
+            if (c.length != nbLignes) throw new IllegalArgumentException("colonnes de longueurs différentes");
+        }
+        TableauCompresse[] ouvertes = new TableauCompresse[colonnes.length];
+        int[] modes = new int[colonnes.length];
+        parColonne(nbLignes, colonnes.length, c -> {
+            modes[c] = CodeurAuto.choisirMode(colonnes[c]);
+            ouvertes[c] = FactoryCodeurBits.pourMode(modes[c]).compresserTableau(colonnes[c]);
+        });
+        return new LotColonnes(nbLignes, ouvertes, modes);
+    }
+
+    /**
+     * Ouvre un lot produit par {@link #tampon()} (copie : le tableau fourni n'est pas retenu).
+     *
+     * @param lot tampon du lot
+     * @return lot compressé
+     * @throws IllegalArgumentException si le lot est nul, tronqué ou incohérent
+     */
+    public static LotColonnes ouvrir(int[] lot) {
+        if (lot == null || lot.length < ENTETE) throw new IllegalArgumentException("lot invalide");
+        int nbLignes = lot[0], nbColonnes = lot[1];
+        if (nbLignes < 0 || nbColonnes < 0 || nbColonnes > lot.length - ENTETE) throw new IllegalArgumentException("lot invalide");
+        // répertoire : entrée et mode de chaque colonne, puis bornes de ses données
+        int[] modes = new int[nbColonnes];
+        int[] entrees = new int[nbColonnes];
+        int[] debuts = new int[nbColonnes + 1];
+        int entree = ENTETE;
+        for (int c = 0; c < nbColonnes; c++) {
+            if (entree + 2 > lot.length) throw new IllegalArgumentException("lot invalide");
+            entrees[c] = entree;
+            modes[c] = lot[entree + 1] & 0xFF;
+            if (modes[c] >= FactoryCodeurBits.MODES.length) throw new IllegalArgumentException("lot invalide");
+            entree += FactoryCodeurBits.ENTETES[modes[c]] - 1;
+        }
+        debuts[0] = entree;
+        for (int c = 0; c < nbColonnes; c++) {
+            int fin = lot[entrees[c]];
+            if (fin < debuts[c] || fin > lot.length) throw new IllegalArgumentException("lot invalide");
+            debuts[c + 1] = fin;
+        }
+
+        // une seule copie par colonne : le tampon reconstruit est adopté par son tableau
+        TableauCompresse[] ouvertes = new TableauCompresse[nbColonnes];
+        parColonne(nbLignes, nbColonnes, c -> {
+            int e = entrees[c], entete = FactoryCodeurBits.ENTETES[modes[c]];
+            int debut = debuts[c], fin = debuts[c + 1];
+            int[] tampon = new int[entete + fin - debut];
+            tampon[0] = nbLignes;
+            tampon[1] = lot[e + 1] >>> 16;
+            tampon[2] = lot[e + 1] & 0xFFFF;
+            System.arraycopy(lot, e + 2, tampon, 3, entete - 3);
+            System.arraycopy(lot, debut, tampon, entete, fin - debut);
+            ouvertes[c] = FactoryCodeurBits.adopter(modes[c], tampon);
+        });
+        return new LotColonnes(nbLignes, ouvertes, modes);
+    }
+
+    /**
+     * Nombre de lignes (longueur commune des colonnes).
+     *
+     * @return nombre de lignes
+     */
+    public int nbLignes() {
+        return nbLignes;
+    }
+
+    /**
+     * Nombre de colonnes.
+     *
+     * @return nombre de colonnes
+     */
+    public int nbColonnes() {
+        return colonnes.length;
+    }
+
+    /**
+     * Lit une cellule sans toucher aux autres colonnes.
+     *
+     * @param ligne   index de ligne (0 ≤ ligne &lt; nbLignes())
+     * @param colonne index de colonne (0 ≤ colonne &lt; nbColonnes())
+     * @return valeur d'origine
+     * @throws IndexOutOfBoundsException si la ligne ou la colonne est hors bornes
+     */
+    public int acceder(int ligne, int colonne) {
+        return colonnes[Objects.checkIndex(colonne, colonnes.length)].acceder(ligne);
+    }
+
+    /**
+     * Colonne compressée, pour un décodage par plage ou une recherche.
+     *
+     * @param colonne index de colonne
+     * @return tableau compressé immuable de la colonne
+     * @throws IndexOutOfBoundsException si la colonne est hors bornes
+     */
+    public TableauCompresse colonne(int colonne) {
+        return colonnes[Objects.checkIndex(colonne, colonnes.length)];
+    }
+
+    /**
+     * Nom du mode retenu pour une colonne ("avec", "delta", "plages"...).
+     *
+     * @param colonne index de colonne
+     * @return nom du mode (clé de {@link FactoryCodeurBits#creer(String)})
+     * @throws IndexOutOfBoundsException si la colonne est hors bornes
+     */
+    public String mode(int colonne) {
+        return FactoryCodeurBits.MODES[modes[Objects.checkIndex(colonne, colonnes.length)]];
+    }
+
+    /**
+     * Décompresse toutes les colonnes, en parallèle.
+     *
+     * @return une ligne du résultat par colonne : {@code [colonne][ligne]}
+     */
+    public int[][] decompresser() {
+        int[][] out = new int[colonnes.length][nbLignes];
+        parColonne(nbLignes, colonnes.length, c -> colonnes[c].accederPlage(0, nbLignes, out[c], 0));
+        return out;
+    }
+
+    /**
+     * Tampon du lot : en-tête, répertoire et données des colonnes, prêt à transmettre.
+     *
+     * @return nouveau tampon
+     */
+    public int[] tampon() {
+        // tampons des colonnes lus sans copie ; place de chaque entrée et de chaque donnée
+        int nbColonnes = colonnes.length;
+        int[][] tampons = new int[nbColonnes][];
+        int[] entrees = new int[nbColonnes];
+        int[] debuts = new int[nbColonnes];
+        long taille = ENTETE;
+        int entree = ENTETE;
+        for (int c = 0; c < nbColonnes; c++) {
+            int[] t = TamponPartage.de(colonnes[c]);
+            if ((t[1] >>> 16) != 0 || (t[2] >>> 16) != 0) throw new IllegalStateException("en-tête de colonne non représentable");
+            tampons[c] = t;
+            entrees[c] = entree;
+            entree += FactoryCodeurBits.ENTETES[modes[c]] - 1;
+            taille += t.length - 1;
+        }
+        if (taille > Integer.MAX_VALUE - 8) throw new IllegalStateException("lot trop grand");
+        int debut = entree;
+        for (int c = 0; c < nbColonnes; c++) {
+            debuts[c] = debut;
+            debut += tampons[c].length - FactoryCodeurBits.ENTETES[modes[c]];
+        }
+
+        int[] lot = new int[(int) taille];
+        lot[0] = nbLignes;
+        lot[1] = nbColonnes;
+        parColonne(nbLignes, nbColonnes, c -> {
+            int[] t = tampons[c];
+            int e = entrees[c], entete = FactoryCodeurBits.ENTETES[modes[c]];
+            System.arraycopy(t, entete, lot, debuts[c], t.length - entete);
+            lot[e] = debuts[c] + t.length - entete;
+            lot[e + 1] = t[1] << 16 | t[2];
+            System.arraycopy(t, 3, lot, e + 2, entete - 3);
+        });
+        return lot;
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Applique {@code tache} à chaque colonne : une tâche fork/join par colonne au-delà de
+     * {@link ParalleleBits#SEUIL} valeurs au total, dans le thread appelant sinon.
+     *
+     * @param nbLignes   nombre de lignes
+     * @param nbColonnes nombre de colonnes
+     * @param tache      traitement de la colonne {@code c}
+     */
+    private static void parColonne(int nbLignes, int nbColonnes, IntConsumer tache) {
+        if ((long) nbLignes * nbColonnes < ParalleleBits.SEUIL) {
+            for (int c = 0; c < nbColonnes; c++) tache.accept(c);
+        } else {
+            ParalleleBits.chacun(nbColonnes, tache);
+        }
+    }
+}
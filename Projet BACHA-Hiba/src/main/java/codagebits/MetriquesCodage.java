@@ -0,0 +1,279 @@
+package codagebits;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registre de métriques en mémoire des codeurs instrumentés ({@link CodeurInstrumente}).
+ * <p>
+ * Par mode : nombre d'appels, valeurs et octets traités, valeurs en débordement,
+ * répartition des largeurs {@code k} choisies et histogrammes de latence en puissances
+ * de 2 (seau {@code b} = durées dans {@code [2^b, 2^(b+1)[} ns). Les compteurs sont des
+ * {@link LongAdder} : pas de contention entre threads, lecture par {@link #releve(String)}.
+ * </p>
+ * <p>
+ * Désactivé par défaut : un codeur instrumenté ne fait alors qu'une lecture de drapeau
+ * par appel. {@code acceder} n'est que compté (un chronométrage coûterait plus que l'accès).
+ * </p>
+ */
+public final class MetriquesCodage {
+
+    /** Nombre de seaux des histogrammes de latence. */
+    public static final int NB_SEAUX = 64;
+
+    private static volatile boolean actif;
+    private static final Map<String, Statistiques> PAR_MODE = new ConcurrentHashMap<>();
+
+    private MetriquesCodage() {}
+
+    /** Active la collecte. */
+    public static void activer() {
+        actif = true;
+    }
+
+    /** Désactive la collecte (les valeurs déjà relevées sont conservées). */
+    public static void desactiver() {
+        actif = false;
+    }
+
+    /**
+     * Indique si la collecte est active.
+     *
+     * @return {@code true} si active
+     */
+    public static boolean estActif() {
+        return actif;
+    }
+
+    /** Remet tous les compteurs à zéro. */
+    public static void reinitialiser() {
+        for (Statistiques s : PAR_MODE.values()) s.reinitialiser();
+    }
+
+    /**
+     * Relevé instantané d'un mode.
+     *
+     * @param mode nom du mode
+     * @return relevé (nul partout si le mode n'a jamais été instrumenté)
+     */
+    public static Releve releve(String mode) {
+        return statistiques(mode).releve();
+    }
+
+    /**
+     * Relevés de tous les modes instrumentés, triés par nom.
+     *
+     * @return relevé par mode
+     */
+    public static Map<String, Releve> releves() {
+        Map<String, Releve> r = new TreeMap<>();
+        PAR_MODE.forEach((mode, s) -> r.put(mode, s.releve()));
+        return r;
+    }
+
+    /**
+     * Compteurs d'un mode (créés au premier appel).
+     *
+     * @param mode nom du mode
+     * @return compteurs partagés du mode
+     */
+    static Statistiques statistiques(String mode) {
+        return PAR_MODE.computeIfAbsent(mode, m -> new Statistiques());
+    }
+
+    /**
+     * Seau d'histogramme d'une durée.
+     *
+     * @param ns durée en nanosecondes
+     * @return index du seau dans [0, {@value #NB_SEAUX}[
+     */
+    static int seau(long ns) {
+        return 63 - Long.numberOfLeadingZeros(ns | 1);
+    }
+
+    /**
+     * Compteurs vivants d'un mode.
+     */
+    static final class Statistiques {
+        final LongAdder compressions = new LongAdder();
+        final LongAdder decompressions = new LongAdder();
+        final LongAdder acces = new LongAdder();
+        final LongAdder valeurs = new LongAdder();
+        final LongAdder octetsEntree = new LongAdder();
+        final LongAdder octetsSortie = new LongAdder();
+        final LongAdder overflows = new LongAdder();
+        final LongAdder[] parK = adders(33);
+        final LongAdder[] latencesCompression = adders(NB_SEAUX);
+        final LongAdder[] latencesDecompression = adders(NB_SEAUX);
+
+        /**
+         * Enregistre une compression.
+         *
+         * @param n          valeurs compressées
+         * @param k          largeur choisie (0 si inconnue ou variable)
+         * @param nbOverflow valeurs en débordement
+         * @param nbInts     taille du tampon produit (0 si inconnue)
+         * @param ns         durée
+         */
+        void compression(int n, int k, int nbOverflow, int nbInts, long ns) {
+            compressions.increment();
+            valeurs.add(n);
+            octetsEntree.add(4L * n);
+            octetsSortie.add(4L * nbInts);
+            overflows.add(nbOverflow);
+            if (k > 0 && k <= 32) parK[k].increment();
+            latencesCompression[seau(ns)].increment();
+        }
+
+        /**
+         * Enregistre une décompression.
+         *
+         * @param ns durée
+         */
+        void decompression(long ns) {
+            decompressions.increment();
+            latencesDecompression[seau(ns)].increment();
+        }
+
+        /** Remet les compteurs à zéro. */
+        void reinitialiser() {
+            for (LongAdder a : new LongAdder[] {compressions, decompressions, acces, valeurs,
+                    octetsEntree, octetsSortie, overflows}) a.reset();
+            for (LongAdder[] t : new LongAdder[][] {parK, latencesCompression, latencesDecompression}) {
+                for (LongAdder a : t) a.reset();
+            }
+        }
+
+        /**
+         * Copie instantanée des compteurs.
+         *
+         * @return relevé
+         */
+        Releve releve() {
+            return new Releve(compressions.sum(), decompressions.sum(), acces.sum(), valeurs.sum(),
+                    octetsEntree.sum(), octetsSortie.sum(), overflows.sum(),
+                    sommes(parK), sommes(latencesCompression), sommes(latencesDecompression));
+        }
+
+        /**
+         * Tableau de compteurs neufs.
+         *
+         * @param nb nombre de compteurs
+         * @return compteurs à zéro
+         */
+        private static LongAdder[] adders(int nb) {
+            LongAdder[] t = new LongAdder[nb];
+            for (int i = 0; i < nb; i++) t[i] = new LongAdder();
+            return t;
+        }
+
+        /**
+         * Valeurs courantes d'un tableau de compteurs.
+         *
+         * @param t compteurs
+         * @return sommes
+         */
+        private static long[] sommes(LongAdder[] t) {
+            long[] r = new long[t.length];
+            for (int i = 0; i < t.length; i++) r[i] = t[i].sum();
+            return r;
+        }
+    }
+
+    /**
+     * Relevé instantané (immuable) des compteurs d'un mode.
+     */
+    public static final class Releve {
+        /** Appels de compression ({@code compresser}, {@code compresserTableau}). */
+        public final long compressions;
+        /** Appels de décompression. */
+        public final long decompressions;
+        /** Valeurs lues par accès direct ({@code acceder}, {@code accederPlage}). */
+        public final long acces;
+        /** Valeurs compressées. */
+        public final long valeurs;
+        /** Octets non compressés. */
+        public final long octetsEntree;
+        /** Octets compressés (hors {@code compresserTableau}, dont le tampon n'est pas copié). */
+        public final long octetsSortie;
+        /** Valeurs placées en zone de débordement. */
+        public final long overflows;
+        private final long[] parK;
+        private final long[] latencesCompression;
+        private final long[] latencesDecompression;
+
+        Releve(long compressions, long decompressions, long acces, long valeurs, long octetsEntree,
+               long octetsSortie, long overflows, long[] parK, long[] latencesCompression,
+               long[] latencesDecompression) {
+            this.compressions = compressions;
+            this.decompressions = decompressions;
+            this.acces = acces;
+            this.valeurs = valeurs;
+            this.octetsEntree = octetsEntree;
+            this.octetsSortie = octetsSortie;
+            this.overflows = overflows;
+            this.parK = parK;
+            this.latencesCompression = latencesCompression;
+            this.latencesDecompression = latencesDecompression;
+        }
+
+        /**
+         * Nombre de compressions ayant choisi la largeur {@code k}.
+         *
+         * @param k largeur (kBase en mode débordement), dans [1,32]
+         * @return nombre de compressions
+         */
+        public long compressionsParK(int k) {
+            return parK[k];
+        }
+
+        /**
+         * Proportion de valeurs compressées placées en débordement.
+         *
+         * @return taux dans [0,1]
+         */
+        public double tauxOverflow() {
+            return valeurs == 0 ? 0.0 : (double) overflows / valeurs;
+        }
+
+        /**
+         * Histogramme de latence des compressions.
+         *
+         * @return nombre d'appels par seau (copie)
+         */
+        public long[] latencesCompression() {
+            return latencesCompression.clone();
+        }
+
+        /**
+         * Histogramme de latence des décompressions.
+         *
+         * @return nombre d'appels par seau (copie)
+         */
+        public long[] latencesDecompression() {
+            return latencesDecompression.clone();
+        }
+
+        /**
+         * Borne supérieure du quantile {@code q} d'un histogramme (précision : facteur 2).
+         *
+         * @param histogramme histogramme de latence
+         * @param q           quantile dans [0,1] (0.99 pour le p99)
+         * @return borne en nanosecondes, 0 si l'histogramme est vide
+         */
+        public static long quantileNs(long[] histogramme, double q) {
+            long total = 0;
+            for (long c : histogramme) total += c;
+            if (total == 0) return 0;
+            long rang = (long) Math.ceil(q * total);
+            long cumul = 0;
+            for (int b = 0; b < histogramme.length; b++) {
+                cumul += histogramme[b];
+                if (cumul >= Math.max(1, rang)) return (b >= 62) ? Long.MAX_VALUE : (2L << b) - 1;
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+}
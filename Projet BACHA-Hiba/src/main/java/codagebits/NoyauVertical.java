@@ -0,0 +1,74 @@
+package codagebits;
+
+/**
+ * Noyau de lignes pour la disposition verticale de {@link CodeurVertical}.
+ * <p>
+ * Une ligne = {@value CodeurVertical#VOIES} mots ; la tranche {@code j} de chaque mot
+ * porte {@value CodeurVertical#VOIES} valeurs consécutives. Deux implémentations
+ * produisent exactement le même résultat : {@link Scalaire} (toujours disponible) et
+ * {@code NoyauVerticalVectoriel} (module {@code jdk.incubator.vector}).
+ * </p>
+ */
+interface NoyauVertical {
+
+    /**
+     * Empaquette {@code lignes} lignes complètes.
+     *
+     * @param src    valeurs source
+     * @param srcOff index de la première valeur
+     * @param decal  décalage ajouté à chaque valeur (offset)
+     * @param dst    tampon de destination
+     * @param dstOff index du premier mot de la première ligne
+     * @param lignes nombre de lignes complètes
+     * @param k      largeur en bits
+     */
+    void empaqueter(int[] src, int srcOff, int decal, int[] dst, int dstOff, int lignes, int k);
+
+    /**
+     * Dépaquette {@code lignes} lignes complètes.
+     *
+     * @param src    tampon source
+     * @param srcOff index du premier mot de la première ligne
+     * @param dst    valeurs de destination
+     * @param dstOff index de la première valeur
+     * @param lignes nombre de lignes complètes
+     * @param k      largeur en bits
+     * @param base   valeur ajoutée à chaque résultat (ex. {@code -offset})
+     */
+    void depaqueter(int[] src, int srcOff, int[] dst, int dstOff, int lignes, int k, int base);
+
+    /**
+     * Repli scalaire : une voie après l'autre, mêmes décalages que la version vectorielle.
+     */
+    final class Scalaire implements NoyauVertical {
+
+        @Override
+        public void empaqueter(int[] src, int srcOff, int decal, int[] dst, int dstOff, int lignes, int k) {
+            int parMot = CodeurVertical.parMot(k);
+            int m = OutilsBits.masque(k);
+            int s = srcOff, d = dstOff;
+            for (int r = 0; r < lignes; r++, d += CodeurVertical.VOIES) {
+                for (int voie = 0; voie < CodeurVertical.VOIES; voie++) dst[d + voie] = 0;
+                for (int j = 0; j < parMot; j++, s += CodeurVertical.VOIES) {
+                    for (int voie = 0; voie < CodeurVertical.VOIES; voie++) {
+                        dst[d + voie] |= ((src[s + voie] + decal) & m) << (j * k);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void depaqueter(int[] src, int srcOff, int[] dst, int dstOff, int lignes, int k, int base) {
+            int parMot = CodeurVertical.parMot(k);
+            int m = OutilsBits.masque(k);
+            int s = srcOff, d = dstOff;
+            for (int r = 0; r < lignes; r++, s += CodeurVertical.VOIES) {
+                for (int j = 0; j < parMot; j++, d += CodeurVertical.VOIES) {
+                    for (int voie = 0; voie < CodeurVertical.VOIES; voie++) {
+                        dst[d + voie] = ((src[s + voie] >>> (j * k)) & m) + base;
+                    }
+                }
+            }
+        }
+    }
+}
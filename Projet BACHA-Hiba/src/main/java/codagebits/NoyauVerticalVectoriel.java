@@ -0,0 +1,58 @@
+package codagebits;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Noyau de lignes vectoriel ({@code jdk.incubator.vector}).
+ * <p>
+ * Chaque tranche d'une ligne est traitée par un seul décalage + masque sur un vecteur
+ * de {@value CodeurVertical#VOIES} entiers (ou deux vecteurs de 4 si la plateforme
+ * ne dispose que de registres 128 bits). Chargée par réflexion uniquement si le module
+ * est présent : aucune autre classe ne la référence directement.
+ * </p>
+ */
+final class NoyauVerticalVectoriel implements NoyauVertical {
+
+    /** 256 bits (8 voies) si la plateforme le permet, sinon 128 bits (2 x 4 voies). */
+    private static final VectorSpecies<Integer> ESPECE =
+            IntVector.SPECIES_PREFERRED.length() >= CodeurVertical.VOIES ? IntVector.SPECIES_256 : IntVector.SPECIES_128;
+
+    @Override
+    public void empaqueter(int[] src, int srcOff, int decal, int[] dst, int dstOff, int lignes, int k) {
+        int parMot = CodeurVertical.parMot(k);
+        int m = OutilsBits.masque(k);
+        int pas = ESPECE.length();
+        for (int r = 0; r < lignes; r++) {
+            int s = srcOff + r * parMot * CodeurVertical.VOIES;
+            int d = dstOff + r * CodeurVertical.VOIES;
+            for (int h = 0; h < CodeurVertical.VOIES; h += pas) {
+                IntVector acc = IntVector.zero(ESPECE);
+                for (int j = 0; j < parMot; j++) {
+                    IntVector v = IntVector.fromArray(ESPECE, src, s + j * CodeurVertical.VOIES + h);
+                    acc = acc.or(v.add(decal).and(m).lanewise(VectorOperators.LSHL, j * k));
+                }
+                acc.intoArray(dst, d + h);
+            }
+        }
+    }
+
+    @Override
+    public void depaqueter(int[] src, int srcOff, int[] dst, int dstOff, int lignes, int k, int base) {
+        int parMot = CodeurVertical.parMot(k);
+        int m = OutilsBits.masque(k);
+        int pas = ESPECE.length();
+        for (int r = 0; r < lignes; r++) {
+            int s = srcOff + r * CodeurVertical.VOIES;
+            int d = dstOff + r * parMot * CodeurVertical.VOIES;
+            for (int h = 0; h < CodeurVertical.VOIES; h += pas) {
+                IntVector w = IntVector.fromArray(ESPECE, src, s + h);
+                for (int j = 0; j < parMot; j++) {
+                    w.lanewise(VectorOperators.LSHR, j * k).and(m).add(base)
+                            .intoArray(dst, d + j * CodeurVertical.VOIES + h);
+                }
+            }
+        }
+    }
+}
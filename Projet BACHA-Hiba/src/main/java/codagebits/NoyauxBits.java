@@ -0,0 +1,3032 @@
+// Fichier généré par outils/GenerateurNoyaux.java : ne pas modifier à la main.
+// Régénération depuis la racine du projet :
+//   java outils/GenerateurNoyaux.java src/main/java/codagebits/NoyauxBits.java
+package codagebits;
+
+/**
+ * Noyaux d'empaquetage spécialisés par largeur de bits.
+ * <p>
+ * Pour chaque {@code k ∈ [1,32]}, un noyau entièrement déroulé empaquette (ou dépaquette)
+ * un groupe fixe de {@value #GROUPE} valeurs dans exactement {@code k} mots de 32 bits,
+ * selon l'ordre de bits de {@link OutilsBits} (poids faibles d'abord, une valeur pouvant
+ * chevaucher deux mots). Tous les décalages et masques sont des constantes : aucune
+ * branche ni calcul de {@link OutilsBits#masque(int)} par valeur.
+ * </p>
+ * <p>
+ * Le noyau est choisi une seule fois par tableau via {@link #pour(int)}, puis appliqué
+ * groupe par groupe. Le code des noyaux est systématique (une ligne par valeur en lecture,
+ * une ligne par mot en écriture) et généré par {@code outils/GenerateurNoyaux.java} :
+ * toute évolution se fait dans le générateur, pour les 32 largeurs à la fois.
+ * </p>
+ */
+final class NoyauxBits {
+
+    /** Nombre de valeurs traitées par appel de noyau. */
+    static final int GROUPE = 32;
+
+    private NoyauxBits() {}
+
+    /**
+     * Noyau d'empaquetage pour une largeur {@code k} donnée.
+     */
+    interface Noyau {
+
+        /**
+         * Empaquette {@value NoyauxBits#GROUPE} valeurs dans {@code k} mots.
+         *
+         * @param src    valeurs source
+         * @param srcOff position de la première valeur
+         * @param decal  décalage ajouté à chaque valeur avant masquage (offset)
+         * @param dst    mots de destination (écrasés)
+         * @param dstOff position du premier mot
+         */
+        void empaqueter(int[] src, int srcOff, int decal, int[] dst, int dstOff);
+
+        /**
+         * Dépaquette {@value NoyauxBits#GROUPE} valeurs depuis {@code k} mots.
+         *
+         * @param src    mots source
+         * @param srcOff position du premier mot
+         * @param dst    valeurs de destination
+         * @param dstOff position de la première valeur
+         * @param base   valeur ajoutée à chaque résultat (ex. {@code -offset})
+         */
+        void depaqueter(int[] src, int srcOff, int[] dst, int dstOff, int base);
+    }
+
+    private static final Noyau[] NOYAUX = {
+            null,
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter1(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter1(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter2(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter2(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter3(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter3(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter4(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter4(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter5(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter5(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter6(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter6(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter7(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter7(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter8(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter8(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter9(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter9(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter10(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter10(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter11(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter11(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter12(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter12(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter13(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter13(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter14(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter14(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter15(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter15(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter16(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter16(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter17(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter17(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter18(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter18(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter19(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter19(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter20(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter20(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter21(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter21(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter22(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter22(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter23(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter23(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter24(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter24(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter25(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter25(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter26(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter26(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter27(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter27(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter28(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter28(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter29(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter29(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter30(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter30(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter31(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter31(s, so, t, to, b); }
+            },
+            new Noyau() {
+                public void empaqueter(int[] s, int so, int d, int[] t, int to) { empaqueter32(s, so, d, t, to); }
+                public void depaqueter(int[] s, int so, int[] t, int to, int b) { depaqueter32(s, so, t, to, b); }
+            }
+    };
+
+    /**
+     * Retourne le noyau associé à la largeur {@code k}.
+     *
+     * @param k nombre de bits par valeur
+     * @return noyau spécialisé
+     * @throws IllegalArgumentException si {@code k ∉ [1,32]}
+     */
+    static Noyau pour(int k) {
+        if (k < 1 || k > 32) throw new IllegalArgumentException("k hors [1,32] : " + k);
+        return NOYAUX[k];
+    }
+
+    // ---------------- k = 1 ----------------
+
+    static void empaqueter1(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x1;
+        int v1 = (s[so + 1] + d) & 0x1;
+        int v2 = (s[so + 2] + d) & 0x1;
+        int v3 = (s[so + 3] + d) & 0x1;
+        int v4 = (s[so + 4] + d) & 0x1;
+        int v5 = (s[so + 5] + d) & 0x1;
+        int v6 = (s[so + 6] + d) & 0x1;
+        int v7 = (s[so + 7] + d) & 0x1;
+        int v8 = (s[so + 8] + d) & 0x1;
+        int v9 = (s[so + 9] + d) & 0x1;
+        int v10 = (s[so + 10] + d) & 0x1;
+        int v11 = (s[so + 11] + d) & 0x1;
+        int v12 = (s[so + 12] + d) & 0x1;
+        int v13 = (s[so + 13] + d) & 0x1;
+        int v14 = (s[so + 14] + d) & 0x1;
+        int v15 = (s[so + 15] + d) & 0x1;
+        int v16 = (s[so + 16] + d) & 0x1;
+        int v17 = (s[so + 17] + d) & 0x1;
+        int v18 = (s[so + 18] + d) & 0x1;
+        int v19 = (s[so + 19] + d) & 0x1;
+        int v20 = (s[so + 20] + d) & 0x1;
+        int v21 = (s[so + 21] + d) & 0x1;
+        int v22 = (s[so + 22] + d) & 0x1;
+        int v23 = (s[so + 23] + d) & 0x1;
+        int v24 = (s[so + 24] + d) & 0x1;
+        int v25 = (s[so + 25] + d) & 0x1;
+        int v26 = (s[so + 26] + d) & 0x1;
+        int v27 = (s[so + 27] + d) & 0x1;
+        int v28 = (s[so + 28] + d) & 0x1;
+        int v29 = (s[so + 29] + d) & 0x1;
+        int v30 = (s[so + 30] + d) & 0x1;
+        int v31 = (s[so + 31] + d) & 0x1;
+        t[to] = v0 | (v1 << 1) | (v2 << 2) | (v3 << 3) | (v4 << 4) | (v5 << 5) | (v6 << 6) | (v7 << 7) | (v8 << 8) | (v9 << 9) | (v10 << 10) | (v11 << 11) | (v12 << 12) | (v13 << 13) | (v14 << 14) | (v15 << 15) | (v16 << 16) | (v17 << 17) | (v18 << 18) | (v19 << 19) | (v20 << 20) | (v21 << 21) | (v22 << 22) | (v23 << 23) | (v24 << 24) | (v25 << 25) | (v26 << 26) | (v27 << 27) | (v28 << 28) | (v29 << 29) | (v30 << 30) | (v31 << 31);
+    }
+
+    static void depaqueter1(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x1) + b;
+        t[to + 1] = ((s[so] >>> 1) & 0x1) + b;
+        t[to + 2] = ((s[so] >>> 2) & 0x1) + b;
+        t[to + 3] = ((s[so] >>> 3) & 0x1) + b;
+        t[to + 4] = ((s[so] >>> 4) & 0x1) + b;
+        t[to + 5] = ((s[so] >>> 5) & 0x1) + b;
+        t[to + 6] = ((s[so] >>> 6) & 0x1) + b;
+        t[to + 7] = ((s[so] >>> 7) & 0x1) + b;
+        t[to + 8] = ((s[so] >>> 8) & 0x1) + b;
+        t[to + 9] = ((s[so] >>> 9) & 0x1) + b;
+        t[to + 10] = ((s[so] >>> 10) & 0x1) + b;
+        t[to + 11] = ((s[so] >>> 11) & 0x1) + b;
+        t[to + 12] = ((s[so] >>> 12) & 0x1) + b;
+        t[to + 13] = ((s[so] >>> 13) & 0x1) + b;
+        t[to + 14] = ((s[so] >>> 14) & 0x1) + b;
+        t[to + 15] = ((s[so] >>> 15) & 0x1) + b;
+        t[to + 16] = ((s[so] >>> 16) & 0x1) + b;
+        t[to + 17] = ((s[so] >>> 17) & 0x1) + b;
+        t[to + 18] = ((s[so] >>> 18) & 0x1) + b;
+        t[to + 19] = ((s[so] >>> 19) & 0x1) + b;
+        t[to + 20] = ((s[so] >>> 20) & 0x1) + b;
+        t[to + 21] = ((s[so] >>> 21) & 0x1) + b;
+        t[to + 22] = ((s[so] >>> 22) & 0x1) + b;
+        t[to + 23] = ((s[so] >>> 23) & 0x1) + b;
+        t[to + 24] = ((s[so] >>> 24) & 0x1) + b;
+        t[to + 25] = ((s[so] >>> 25) & 0x1) + b;
+        t[to + 26] = ((s[so] >>> 26) & 0x1) + b;
+        t[to + 27] = ((s[so] >>> 27) & 0x1) + b;
+        t[to + 28] = ((s[so] >>> 28) & 0x1) + b;
+        t[to + 29] = ((s[so] >>> 29) & 0x1) + b;
+        t[to + 30] = ((s[so] >>> 30) & 0x1) + b;
+        t[to + 31] = (s[so] >>> 31) + b;
+    }
+
+    // ---------------- k = 2 ----------------
+
+    static void empaqueter2(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x3;
+        int v1 = (s[so + 1] + d) & 0x3;
+        int v2 = (s[so + 2] + d) & 0x3;
+        int v3 = (s[so + 3] + d) & 0x3;
+        int v4 = (s[so + 4] + d) & 0x3;
+        int v5 = (s[so + 5] + d) & 0x3;
+        int v6 = (s[so + 6] + d) & 0x3;
+        int v7 = (s[so + 7] + d) & 0x3;
+        int v8 = (s[so + 8] + d) & 0x3;
+        int v9 = (s[so + 9] + d) & 0x3;
+        int v10 = (s[so + 10] + d) & 0x3;
+        int v11 = (s[so + 11] + d) & 0x3;
+        int v12 = (s[so + 12] + d) & 0x3;
+        int v13 = (s[so + 13] + d) & 0x3;
+        int v14 = (s[so + 14] + d) & 0x3;
+        int v15 = (s[so + 15] + d) & 0x3;
+        int v16 = (s[so + 16] + d) & 0x3;
+        int v17 = (s[so + 17] + d) & 0x3;
+        int v18 = (s[so + 18] + d) & 0x3;
+        int v19 = (s[so + 19] + d) & 0x3;
+        int v20 = (s[so + 20] + d) & 0x3;
+        int v21 = (s[so + 21] + d) & 0x3;
+        int v22 = (s[so + 22] + d) & 0x3;
+        int v23 = (s[so + 23] + d) & 0x3;
+        int v24 = (s[so + 24] + d) & 0x3;
+        int v25 = (s[so + 25] + d) & 0x3;
+        int v26 = (s[so + 26] + d) & 0x3;
+        int v27 = (s[so + 27] + d) & 0x3;
+        int v28 = (s[so + 28] + d) & 0x3;
+        int v29 = (s[so + 29] + d) & 0x3;
+        int v30 = (s[so + 30] + d) & 0x3;
+        int v31 = (s[so + 31] + d) & 0x3;
+        t[to] = v0 | (v1 << 2) | (v2 << 4) | (v3 << 6) | (v4 << 8) | (v5 << 10) | (v6 << 12) | (v7 << 14) | (v8 << 16) | (v9 << 18) | (v10 << 20) | (v11 << 22) | (v12 << 24) | (v13 << 26) | (v14 << 28) | (v15 << 30);
+        t[to + 1] = v16 | (v17 << 2) | (v18 << 4) | (v19 << 6) | (v20 << 8) | (v21 << 10) | (v22 << 12) | (v23 << 14) | (v24 << 16) | (v25 << 18) | (v26 << 20) | (v27 << 22) | (v28 << 24) | (v29 << 26) | (v30 << 28) | (v31 << 30);
+    }
+
+    static void depaqueter2(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x3) + b;
+        t[to + 1] = ((s[so] >>> 2) & 0x3) + b;
+        t[to + 2] = ((s[so] >>> 4) & 0x3) + b;
+        t[to + 3] = ((s[so] >>> 6) & 0x3) + b;
+        t[to + 4] = ((s[so] >>> 8) & 0x3) + b;
+        t[to + 5] = ((s[so] >>> 10) & 0x3) + b;
+        t[to + 6] = ((s[so] >>> 12) & 0x3) + b;
+        t[to + 7] = ((s[so] >>> 14) & 0x3) + b;
+        t[to + 8] = ((s[so] >>> 16) & 0x3) + b;
+        t[to + 9] = ((s[so] >>> 18) & 0x3) + b;
+        t[to + 10] = ((s[so] >>> 20) & 0x3) + b;
+        t[to + 11] = ((s[so] >>> 22) & 0x3) + b;
+        t[to + 12] = ((s[so] >>> 24) & 0x3) + b;
+        t[to + 13] = ((s[so] >>> 26) & 0x3) + b;
+        t[to + 14] = ((s[so] >>> 28) & 0x3) + b;
+        t[to + 15] = (s[so] >>> 30) + b;
+        t[to + 16] = (s[so + 1] & 0x3) + b;
+        t[to + 17] = ((s[so + 1] >>> 2) & 0x3) + b;
+        t[to + 18] = ((s[so + 1] >>> 4) & 0x3) + b;
+        t[to + 19] = ((s[so + 1] >>> 6) & 0x3) + b;
+        t[to + 20] = ((s[so + 1] >>> 8) & 0x3) + b;
+        t[to + 21] = ((s[so + 1] >>> 10) & 0x3) + b;
+        t[to + 22] = ((s[so + 1] >>> 12) & 0x3) + b;
+        t[to + 23] = ((s[so + 1] >>> 14) & 0x3) + b;
+        t[to + 24] = ((s[so + 1] >>> 16) & 0x3) + b;
+        t[to + 25] = ((s[so + 1] >>> 18) & 0x3) + b;
+        t[to + 26] = ((s[so + 1] >>> 20) & 0x3) + b;
+        t[to + 27] = ((s[so + 1] >>> 22) & 0x3) + b;
+        t[to + 28] = ((s[so + 1] >>> 24) & 0x3) + b;
+        t[to + 29] = ((s[so + 1] >>> 26) & 0x3) + b;
+        t[to + 30] = ((s[so + 1] >>> 28) & 0x3) + b;
+        t[to + 31] = (s[so + 1] >>> 30) + b;
+    }
+
+    // ---------------- k = 3 ----------------
+
+    static void empaqueter3(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x7;
+        int v1 = (s[so + 1] + d) & 0x7;
+        int v2 = (s[so + 2] + d) & 0x7;
+        int v3 = (s[so + 3] + d) & 0x7;
+        int v4 = (s[so + 4] + d) & 0x7;
+        int v5 = (s[so + 5] + d) & 0x7;
+        int v6 = (s[so + 6] + d) & 0x7;
+        int v7 = (s[so + 7] + d) & 0x7;
+        int v8 = (s[so + 8] + d) & 0x7;
+        int v9 = (s[so + 9] + d) & 0x7;
+        int v10 = (s[so + 10] + d) & 0x7;
+        int v11 = (s[so + 11] + d) & 0x7;
+        int v12 = (s[so + 12] + d) & 0x7;
+        int v13 = (s[so + 13] + d) & 0x7;
+        int v14 = (s[so + 14] + d) & 0x7;
+        int v15 = (s[so + 15] + d) & 0x7;
+        int v16 = (s[so + 16] + d) & 0x7;
+        int v17 = (s[so + 17] + d) & 0x7;
+        int v18 = (s[so + 18] + d) & 0x7;
+        int v19 = (s[so + 19] + d) & 0x7;
+        int v20 = (s[so + 20] + d) & 0x7;
+        int v21 = (s[so + 21] + d) & 0x7;
+        int v22 = (s[so + 22] + d) & 0x7;
+        int v23 = (s[so + 23] + d) & 0x7;
+        int v24 = (s[so + 24] + d) & 0x7;
+        int v25 = (s[so + 25] + d) & 0x7;
+        int v26 = (s[so + 26] + d) & 0x7;
+        int v27 = (s[so + 27] + d) & 0x7;
+        int v28 = (s[so + 28] + d) & 0x7;
+        int v29 = (s[so + 29] + d) & 0x7;
+        int v30 = (s[so + 30] + d) & 0x7;
+        int v31 = (s[so + 31] + d) & 0x7;
+        t[to] = v0 | (v1 << 3) | (v2 << 6) | (v3 << 9) | (v4 << 12) | (v5 << 15) | (v6 << 18) | (v7 << 21) | (v8 << 24) | (v9 << 27) | (v10 << 30);
+        t[to + 1] = (v10 >>> 2) | (v11 << 1) | (v12 << 4) | (v13 << 7) | (v14 << 10) | (v15 << 13) | (v16 << 16) | (v17 << 19) | (v18 << 22) | (v19 << 25) | (v20 << 28) | (v21 << 31);
+        t[to + 2] = (v21 >>> 1) | (v22 << 2) | (v23 << 5) | (v24 << 8) | (v25 << 11) | (v26 << 14) | (v27 << 17) | (v28 << 20) | (v29 << 23) | (v30 << 26) | (v31 << 29);
+    }
+
+    static void depaqueter3(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x7) + b;
+        t[to + 1] = ((s[so] >>> 3) & 0x7) + b;
+        t[to + 2] = ((s[so] >>> 6) & 0x7) + b;
+        t[to + 3] = ((s[so] >>> 9) & 0x7) + b;
+        t[to + 4] = ((s[so] >>> 12) & 0x7) + b;
+        t[to + 5] = ((s[so] >>> 15) & 0x7) + b;
+        t[to + 6] = ((s[so] >>> 18) & 0x7) + b;
+        t[to + 7] = ((s[so] >>> 21) & 0x7) + b;
+        t[to + 8] = ((s[so] >>> 24) & 0x7) + b;
+        t[to + 9] = ((s[so] >>> 27) & 0x7) + b;
+        t[to + 10] = (((s[so] >>> 30) | (s[so + 1] << 2)) & 0x7) + b;
+        t[to + 11] = ((s[so + 1] >>> 1) & 0x7) + b;
+        t[to + 12] = ((s[so + 1] >>> 4) & 0x7) + b;
+        t[to + 13] = ((s[so + 1] >>> 7) & 0x7) + b;
+        t[to + 14] = ((s[so + 1] >>> 10) & 0x7) + b;
+        t[to + 15] = ((s[so + 1] >>> 13) & 0x7) + b;
+        t[to + 16] = ((s[so + 1] >>> 16) & 0x7) + b;
+        t[to + 17] = ((s[so + 1] >>> 19) & 0x7) + b;
+        t[to + 18] = ((s[so + 1] >>> 22) & 0x7) + b;
+        t[to + 19] = ((s[so + 1] >>> 25) & 0x7) + b;
+        t[to + 20] = ((s[so + 1] >>> 28) & 0x7) + b;
+        t[to + 21] = (((s[so + 1] >>> 31) | (s[so + 2] << 1)) & 0x7) + b;
+        t[to + 22] = ((s[so + 2] >>> 2) & 0x7) + b;
+        t[to + 23] = ((s[so + 2] >>> 5) & 0x7) + b;
+        t[to + 24] = ((s[so + 2] >>> 8) & 0x7) + b;
+        t[to + 25] = ((s[so + 2] >>> 11) & 0x7) + b;
+        t[to + 26] = ((s[so + 2] >>> 14) & 0x7) + b;
+        t[to + 27] = ((s[so + 2] >>> 17) & 0x7) + b;
+        t[to + 28] = ((s[so + 2] >>> 20) & 0x7) + b;
+        t[to + 29] = ((s[so + 2] >>> 23) & 0x7) + b;
+        t[to + 30] = ((s[so + 2] >>> 26) & 0x7) + b;
+        t[to + 31] = (s[so + 2] >>> 29) + b;
+    }
+
+    // ---------------- k = 4 ----------------
+
+    static void empaqueter4(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0xF;
+        int v1 = (s[so + 1] + d) & 0xF;
+        int v2 = (s[so + 2] + d) & 0xF;
+        int v3 = (s[so + 3] + d) & 0xF;
+        int v4 = (s[so + 4] + d) & 0xF;
+        int v5 = (s[so + 5] + d) & 0xF;
+        int v6 = (s[so + 6] + d) & 0xF;
+        int v7 = (s[so + 7] + d) & 0xF;
+        int v8 = (s[so + 8] + d) & 0xF;
+        int v9 = (s[so + 9] + d) & 0xF;
+        int v10 = (s[so + 10] + d) & 0xF;
+        int v11 = (s[so + 11] + d) & 0xF;
+        int v12 = (s[so + 12] + d) & 0xF;
+        int v13 = (s[so + 13] + d) & 0xF;
+        int v14 = (s[so + 14] + d) & 0xF;
+        int v15 = (s[so + 15] + d) & 0xF;
+        int v16 = (s[so + 16] + d) & 0xF;
+        int v17 = (s[so + 17] + d) & 0xF;
+        int v18 = (s[so + 18] + d) & 0xF;
+        int v19 = (s[so + 19] + d) & 0xF;
+        int v20 = (s[so + 20] + d) & 0xF;
+        int v21 = (s[so + 21] + d) & 0xF;
+        int v22 = (s[so + 22] + d) & 0xF;
+        int v23 = (s[so + 23] + d) & 0xF;
+        int v24 = (s[so + 24] + d) & 0xF;
+        int v25 = (s[so + 25] + d) & 0xF;
+        int v26 = (s[so + 26] + d) & 0xF;
+        int v27 = (s[so + 27] + d) & 0xF;
+        int v28 = (s[so + 28] + d) & 0xF;
+        int v29 = (s[so + 29] + d) & 0xF;
+        int v30 = (s[so + 30] + d) & 0xF;
+        int v31 = (s[so + 31] + d) & 0xF;
+        t[to] = v0 | (v1 << 4) | (v2 << 8) | (v3 << 12) | (v4 << 16) | (v5 << 20) | (v6 << 24) | (v7 << 28);
+        t[to + 1] = v8 | (v9 << 4) | (v10 << 8) | (v11 << 12) | (v12 << 16) | (v13 << 20) | (v14 << 24) | (v15 << 28);
+        t[to + 2] = v16 | (v17 << 4) | (v18 << 8) | (v19 << 12) | (v20 << 16) | (v21 << 20) | (v22 << 24) | (v23 << 28);
+        t[to + 3] = v24 | (v25 << 4) | (v26 << 8) | (v27 << 12) | (v28 << 16) | (v29 << 20) | (v30 << 24) | (v31 << 28);
+    }
+
+    static void depaqueter4(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0xF) + b;
+        t[to + 1] = ((s[so] >>> 4) & 0xF) + b;
+        t[to + 2] = ((s[so] >>> 8) & 0xF) + b;
+        t[to + 3] = ((s[so] >>> 12) & 0xF) + b;
+        t[to + 4] = ((s[so] >>> 16) & 0xF) + b;
+        t[to + 5] = ((s[so] >>> 20) & 0xF) + b;
+        t[to + 6] = ((s[so] >>> 24) & 0xF) + b;
+        t[to + 7] = (s[so] >>> 28) + b;
+        t[to + 8] = (s[so + 1] & 0xF) + b;
+        t[to + 9] = ((s[so + 1] >>> 4) & 0xF) + b;
+        t[to + 10] = ((s[so + 1] >>> 8) & 0xF) + b;
+        t[to + 11] = ((s[so + 1] >>> 12) & 0xF) + b;
+        t[to + 12] = ((s[so + 1] >>> 16) & 0xF) + b;
+        t[to + 13] = ((s[so + 1] >>> 20) & 0xF) + b;
+        t[to + 14] = ((s[so + 1] >>> 24) & 0xF) + b;
+        t[to + 15] = (s[so + 1] >>> 28) + b;
+        t[to + 16] = (s[so + 2] & 0xF) + b;
+        t[to + 17] = ((s[so + 2] >>> 4) & 0xF) + b;
+        t[to + 18] = ((s[so + 2] >>> 8) & 0xF) + b;
+        t[to + 19] = ((s[so + 2] >>> 12) & 0xF) + b;
+        t[to + 20] = ((s[so + 2] >>> 16) & 0xF) + b;
+        t[to + 21] = ((s[so + 2] >>> 20) & 0xF) + b;
+        t[to + 22] = ((s[so + 2] >>> 24) & 0xF) + b;
+        t[to + 23] = (s[so + 2] >>> 28) + b;
+        t[to + 24] = (s[so + 3] & 0xF) + b;
+        t[to + 25] = ((s[so + 3] >>> 4) & 0xF) + b;
+        t[to + 26] = ((s[so + 3] >>> 8) & 0xF) + b;
+        t[to + 27] = ((s[so + 3] >>> 12) & 0xF) + b;
+        t[to + 28] = ((s[so + 3] >>> 16) & 0xF) + b;
+        t[to + 29] = ((s[so + 3] >>> 20) & 0xF) + b;
+        t[to + 30] = ((s[so + 3] >>> 24) & 0xF) + b;
+        t[to + 31] = (s[so + 3] >>> 28) + b;
+    }
+
+    // ---------------- k = 5 ----------------
+
+    static void empaqueter5(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x1F;
+        int v1 = (s[so + 1] + d) & 0x1F;
+        int v2 = (s[so + 2] + d) & 0x1F;
+        int v3 = (s[so + 3] + d) & 0x1F;
+        int v4 = (s[so + 4] + d) & 0x1F;
+        int v5 = (s[so + 5] + d) & 0x1F;
+        int v6 = (s[so + 6] + d) & 0x1F;
+        int v7 = (s[so + 7] + d) & 0x1F;
+        int v8 = (s[so + 8] + d) & 0x1F;
+        int v9 = (s[so + 9] + d) & 0x1F;
+        int v10 = (s[so + 10] + d) & 0x1F;
+        int v11 = (s[so + 11] + d) & 0x1F;
+        int v12 = (s[so + 12] + d) & 0x1F;
+        int v13 = (s[so + 13] + d) & 0x1F;
+        int v14 = (s[so + 14] + d) & 0x1F;
+        int v15 = (s[so + 15] + d) & 0x1F;
+        int v16 = (s[so + 16] + d) & 0x1F;
+        int v17 = (s[so + 17] + d) & 0x1F;
+        int v18 = (s[so + 18] + d) & 0x1F;
+        int v19 = (s[so + 19] + d) & 0x1F;
+        int v20 = (s[so + 20] + d) & 0x1F;
+        int v21 = (s[so + 21] + d) & 0x1F;
+        int v22 = (s[so + 22] + d) & 0x1F;
+        int v23 = (s[so + 23] + d) & 0x1F;
+        int v24 = (s[so + 24] + d) & 0x1F;
+        int v25 = (s[so + 25] + d) & 0x1F;
+        int v26 = (s[so + 26] + d) & 0x1F;
+        int v27 = (s[so + 27] + d) & 0x1F;
+        int v28 = (s[so + 28] + d) & 0x1F;
+        int v29 = (s[so + 29] + d) & 0x1F;
+        int v30 = (s[so + 30] + d) & 0x1F;
+        int v31 = (s[so + 31] + d) & 0x1F;
+        t[to] = v0 | (v1 << 5) | (v2 << 10) | (v3 << 15) | (v4 << 20) | (v5 << 25) | (v6 << 30);
+        t[to + 1] = (v6 >>> 2) | (v7 << 3) | (v8 << 8) | (v9 << 13) | (v10 << 18) | (v11 << 23) | (v12 << 28);
+        t[to + 2] = (v12 >>> 4) | (v13 << 1) | (v14 << 6) | (v15 << 11) | (v16 << 16) | (v17 << 21) | (v18 << 26) | (v19 << 31);
+        t[to + 3] = (v19 >>> 1) | (v20 << 4) | (v21 << 9) | (v22 << 14) | (v23 << 19) | (v24 << 24) | (v25 << 29);
+        t[to + 4] = (v25 >>> 3) | (v26 << 2) | (v27 << 7) | (v28 << 12) | (v29 << 17) | (v30 << 22) | (v31 << 27);
+    }
+
+    static void depaqueter5(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x1F) + b;
+        t[to + 1] = ((s[so] >>> 5) & 0x1F) + b;
+        t[to + 2] = ((s[so] >>> 10) & 0x1F) + b;
+        t[to + 3] = ((s[so] >>> 15) & 0x1F) + b;
+        t[to + 4] = ((s[so] >>> 20) & 0x1F) + b;
+        t[to + 5] = ((s[so] >>> 25) & 0x1F) + b;
+        t[to + 6] = (((s[so] >>> 30) | (s[so + 1] << 2)) & 0x1F) + b;
+        t[to + 7] = ((s[so + 1] >>> 3) & 0x1F) + b;
+        t[to + 8] = ((s[so + 1] >>> 8) & 0x1F) + b;
+        t[to + 9] = ((s[so + 1] >>> 13) & 0x1F) + b;
+        t[to + 10] = ((s[so + 1] >>> 18) & 0x1F) + b;
+        t[to + 11] = ((s[so + 1] >>> 23) & 0x1F) + b;
+        t[to + 12] = (((s[so + 1] >>> 28) | (s[so + 2] << 4)) & 0x1F) + b;
+        t[to + 13] = ((s[so + 2] >>> 1) & 0x1F) + b;
+        t[to + 14] = ((s[so + 2] >>> 6) & 0x1F) + b;
+        t[to + 15] = ((s[so + 2] >>> 11) & 0x1F) + b;
+        t[to + 16] = ((s[so + 2] >>> 16) & 0x1F) + b;
+        t[to + 17] = ((s[so + 2] >>> 21) & 0x1F) + b;
+        t[to + 18] = ((s[so + 2] >>> 26) & 0x1F) + b;
+        t[to + 19] = (((s[so + 2] >>> 31) | (s[so + 3] << 1)) & 0x1F) + b;
+        t[to + 20] = ((s[so + 3] >>> 4) & 0x1F) + b;
+        t[to + 21] = ((s[so + 3] >>> 9) & 0x1F) + b;
+        t[to + 22] = ((s[so + 3] >>> 14) & 0x1F) + b;
+        t[to + 23] = ((s[so + 3] >>> 19) & 0x1F) + b;
+        t[to + 24] = ((s[so + 3] >>> 24) & 0x1F) + b;
+        t[to + 25] = (((s[so + 3] >>> 29) | (s[so + 4] << 3)) & 0x1F) + b;
+        t[to + 26] = ((s[so + 4] >>> 2) & 0x1F) + b;
+        t[to + 27] = ((s[so + 4] >>> 7) & 0x1F) + b;
+        t[to + 28] = ((s[so + 4] >>> 12) & 0x1F) + b;
+        t[to + 29] = ((s[so + 4] >>> 17) & 0x1F) + b;
+        t[to + 30] = ((s[so + 4] >>> 22) & 0x1F) + b;
+        t[to + 31] = (s[so + 4] >>> 27) + b;
+    }
+
+    // ---------------- k = 6 ----------------
+
+    static void empaqueter6(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x3F;
+        int v1 = (s[so + 1] + d) & 0x3F;
+        int v2 = (s[so + 2] + d) & 0x3F;
+        int v3 = (s[so + 3] + d) & 0x3F;
+        int v4 = (s[so + 4] + d) & 0x3F;
+        int v5 = (s[so + 5] + d) & 0x3F;
+        int v6 = (s[so + 6] + d) & 0x3F;
+        int v7 = (s[so + 7] + d) & 0x3F;
+        int v8 = (s[so + 8] + d) & 0x3F;
+        int v9 = (s[so + 9] + d) & 0x3F;
+        int v10 = (s[so + 10] + d) & 0x3F;
+        int v11 = (s[so + 11] + d) & 0x3F;
+        int v12 = (s[so + 12] + d) & 0x3F;
+        int v13 = (s[so + 13] + d) & 0x3F;
+        int v14 = (s[so + 14] + d) & 0x3F;
+        int v15 = (s[so + 15] + d) & 0x3F;
+        int v16 = (s[so + 16] + d) & 0x3F;
+        int v17 = (s[so + 17] + d) & 0x3F;
+        int v18 = (s[so + 18] + d) & 0x3F;
+        int v19 = (s[so + 19] + d) & 0x3F;
+        int v20 = (s[so + 20] + d) & 0x3F;
+        int v21 = (s[so + 21] + d) & 0x3F;
+        int v22 = (s[so + 22] + d) & 0x3F;
+        int v23 = (s[so + 23] + d) & 0x3F;
+        int v24 = (s[so + 24] + d) & 0x3F;
+        int v25 = (s[so + 25] + d) & 0x3F;
+        int v26 = (s[so + 26] + d) & 0x3F;
+        int v27 = (s[so + 27] + d) & 0x3F;
+        int v28 = (s[so + 28] + d) & 0x3F;
+        int v29 = (s[so + 29] + d) & 0x3F;
+        int v30 = (s[so + 30] + d) & 0x3F;
+        int v31 = (s[so + 31] + d) & 0x3F;
+        t[to] = v0 | (v1 << 6) | (v2 << 12) | (v3 << 18) | (v4 << 24) | (v5 << 30);
+        t[to + 1] = (v5 >>> 2) | (v6 << 4) | (v7 << 10) | (v8 << 16) | (v9 << 22) | (v10 << 28);
+        t[to + 2] = (v10 >>> 4) | (v11 << 2) | (v12 << 8) | (v13 << 14) | (v14 << 20) | (v15 << 26);
+        t[to + 3] = v16 | (v17 << 6) | (v18 << 12) | (v19 << 18) | (v20 << 24) | (v21 << 30);
+        t[to + 4] = (v21 >>> 2) | (v22 << 4) | (v23 << 10) | (v24 << 16) | (v25 << 22) | (v26 << 28);
+        t[to + 5] = (v26 >>> 4) | (v27 << 2) | (v28 << 8) | (v29 << 14) | (v30 << 20) | (v31 << 26);
+    }
+
+    static void depaqueter6(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x3F) + b;
+        t[to + 1] = ((s[so] >>> 6) & 0x3F) + b;
+        t[to + 2] = ((s[so] >>> 12) & 0x3F) + b;
+        t[to + 3] = ((s[so] >>> 18) & 0x3F) + b;
+        t[to + 4] = ((s[so] >>> 24) & 0x3F) + b;
+        t[to + 5] = (((s[so] >>> 30) | (s[so + 1] << 2)) & 0x3F) + b;
+        t[to + 6] = ((s[so + 1] >>> 4) & 0x3F) + b;
+        t[to + 7] = ((s[so + 1] >>> 10) & 0x3F) + b;
+        t[to + 8] = ((s[so + 1] >>> 16) & 0x3F) + b;
+        t[to + 9] = ((s[so + 1] >>> 22) & 0x3F) + b;
+        t[to + 10] = (((s[so + 1] >>> 28) | (s[so + 2] << 4)) & 0x3F) + b;
+        t[to + 11] = ((s[so + 2] >>> 2) & 0x3F) + b;
+        t[to + 12] = ((s[so + 2] >>> 8) & 0x3F) + b;
+        t[to + 13] = ((s[so + 2] >>> 14) & 0x3F) + b;
+        t[to + 14] = ((s[so + 2] >>> 20) & 0x3F) + b;
+        t[to + 15] = (s[so + 2] >>> 26) + b;
+        t[to + 16] = (s[so + 3] & 0x3F) + b;
+        t[to + 17] = ((s[so + 3] >>> 6) & 0x3F) + b;
+        t[to + 18] = ((s[so + 3] >>> 12) & 0x3F) + b;
+        t[to + 19] = ((s[so + 3] >>> 18) & 0x3F) + b;
+        t[to + 20] = ((s[so + 3] >>> 24) & 0x3F) + b;
+        t[to + 21] = (((s[so + 3] >>> 30) | (s[so + 4] << 2)) & 0x3F) + b;
+        t[to + 22] = ((s[so + 4] >>> 4) & 0x3F) + b;
+        t[to + 23] = ((s[so + 4] >>> 10) & 0x3F) + b;
+        t[to + 24] = ((s[so + 4] >>> 16) & 0x3F) + b;
+        t[to + 25] = ((s[so + 4] >>> 22) & 0x3F) + b;
+        t[to + 26] = (((s[so + 4] >>> 28) | (s[so + 5] << 4)) & 0x3F) + b;
+        t[to + 27] = ((s[so + 5] >>> 2) & 0x3F) + b;
+        t[to + 28] = ((s[so + 5] >>> 8) & 0x3F) + b;
+        t[to + 29] = ((s[so + 5] >>> 14) & 0x3F) + b;
+        t[to + 30] = ((s[so + 5] >>> 20) & 0x3F) + b;
+        t[to + 31] = (s[so + 5] >>> 26) + b;
+    }
+
+    // ---------------- k = 7 ----------------
+
+    static void empaqueter7(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x7F;
+        int v1 = (s[so + 1] + d) & 0x7F;
+        int v2 = (s[so + 2] + d) & 0x7F;
+        int v3 = (s[so + 3] + d) & 0x7F;
+        int v4 = (s[so + 4] + d) & 0x7F;
+        int v5 = (s[so + 5] + d) & 0x7F;
+        int v6 = (s[so + 6] + d) & 0x7F;
+        int v7 = (s[so + 7] + d) & 0x7F;
+        int v8 = (s[so + 8] + d) & 0x7F;
+        int v9 = (s[so + 9] + d) & 0x7F;
+        int v10 = (s[so + 10] + d) & 0x7F;
+        int v11 = (s[so + 11] + d) & 0x7F;
+        int v12 = (s[so + 12] + d) & 0x7F;
+        int v13 = (s[so + 13] + d) & 0x7F;
+        int v14 = (s[so + 14] + d) & 0x7F;
+        int v15 = (s[so + 15] + d) & 0x7F;
+        int v16 = (s[so + 16] + d) & 0x7F;
+        int v17 = (s[so + 17] + d) & 0x7F;
+        int v18 = (s[so + 18] + d) & 0x7F;
+        int v19 = (s[so + 19] + d) & 0x7F;
+        int v20 = (s[so + 20] + d) & 0x7F;
+        int v21 = (s[so + 21] + d) & 0x7F;
+        int v22 = (s[so + 22] + d) & 0x7F;
+        int v23 = (s[so + 23] + d) & 0x7F;
+        int v24 = (s[so + 24] + d) & 0x7F;
+        int v25 = (s[so + 25] + d) & 0x7F;
+        int v26 = (s[so + 26] + d) & 0x7F;
+        int v27 = (s[so + 27] + d) & 0x7F;
+        int v28 = (s[so + 28] + d) & 0x7F;
+        int v29 = (s[so + 29] + d) & 0x7F;
+        int v30 = (s[so + 30] + d) & 0x7F;
+        int v31 = (s[so + 31] + d) & 0x7F;
+        t[to] = v0 | (v1 << 7) | (v2 << 14) | (v3 << 21) | (v4 << 28);
+        t[to + 1] = (v4 >>> 4) | (v5 << 3) | (v6 << 10) | (v7 << 17) | (v8 << 24) | (v9 << 31);
+        t[to + 2] = (v9 >>> 1) | (v10 << 6) | (v11 << 13) | (v12 << 20) | (v13 << 27);
+        t[to + 3] = (v13 >>> 5) | (v14 << 2) | (v15 << 9) | (v16 << 16) | (v17 << 23) | (v18 << 30);
+        t[to + 4] = (v18 >>> 2) | (v19 << 5) | (v20 << 12) | (v21 << 19) | (v22 << 26);
+        t[to + 5] = (v22 >>> 6) | (v23 << 1) | (v24 << 8) | (v25 << 15) | (v26 << 22) | (v27 << 29);
+        t[to + 6] = (v27 >>> 3) | (v28 << 4) | (v29 << 11) | (v30 << 18) | (v31 << 25);
+    }
+
+    static void depaqueter7(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x7F) + b;
+        t[to + 1] = ((s[so] >>> 7) & 0x7F) + b;
+        t[to + 2] = ((s[so] >>> 14) & 0x7F) + b;
+        t[to + 3] = ((s[so] >>> 21) & 0x7F) + b;
+        t[to + 4] = (((s[so] >>> 28) | (s[so + 1] << 4)) & 0x7F) + b;
+        t[to + 5] = ((s[so + 1] >>> 3) & 0x7F) + b;
+        t[to + 6] = ((s[so + 1] >>> 10) & 0x7F) + b;
+        t[to + 7] = ((s[so + 1] >>> 17) & 0x7F) + b;
+        t[to + 8] = ((s[so + 1] >>> 24) & 0x7F) + b;
+        t[to + 9] = (((s[so + 1] >>> 31) | (s[so + 2] << 1)) & 0x7F) + b;
+        t[to + 10] = ((s[so + 2] >>> 6) & 0x7F) + b;
+        t[to + 11] = ((s[so + 2] >>> 13) & 0x7F) + b;
+        t[to + 12] = ((s[so + 2] >>> 20) & 0x7F) + b;
+        t[to + 13] = (((s[so + 2] >>> 27) | (s[so + 3] << 5)) & 0x7F) + b;
+        t[to + 14] = ((s[so + 3] >>> 2) & 0x7F) + b;
+        t[to + 15] = ((s[so + 3] >>> 9) & 0x7F) + b;
+        t[to + 16] = ((s[so + 3] >>> 16) & 0x7F) + b;
+        t[to + 17] = ((s[so + 3] >>> 23) & 0x7F) + b;
+        t[to + 18] = (((s[so + 3] >>> 30) | (s[so + 4] << 2)) & 0x7F) + b;
+        t[to + 19] = ((s[so + 4] >>> 5) & 0x7F) + b;
+        t[to + 20] = ((s[so + 4] >>> 12) & 0x7F) + b;
+        t[to + 21] = ((s[so + 4] >>> 19) & 0x7F) + b;
+        t[to + 22] = (((s[so + 4] >>> 26) | (s[so + 5] << 6)) & 0x7F) + b;
+        t[to + 23] = ((s[so + 5] >>> 1) & 0x7F) + b;
+        t[to + 24] = ((s[so + 5] >>> 8) & 0x7F) + b;
+        t[to + 25] = ((s[so + 5] >>> 15) & 0x7F) + b;
+        t[to + 26] = ((s[so + 5] >>> 22) & 0x7F) + b;
+        t[to + 27] = (((s[so + 5] >>> 29) | (s[so + 6] << 3)) & 0x7F) + b;
+        t[to + 28] = ((s[so + 6] >>> 4) & 0x7F) + b;
+        t[to + 29] = ((s[so + 6] >>> 11) & 0x7F) + b;
+        t[to + 30] = ((s[so + 6] >>> 18) & 0x7F) + b;
+        t[to + 31] = (s[so + 6] >>> 25) + b;
+    }
+
+    // ---------------- k = 8 ----------------
+
+    static void empaqueter8(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0xFF;
+        int v1 = (s[so + 1] + d) & 0xFF;
+        int v2 = (s[so + 2] + d) & 0xFF;
+        int v3 = (s[so + 3] + d) & 0xFF;
+        int v4 = (s[so + 4] + d) & 0xFF;
+        int v5 = (s[so + 5] + d) & 0xFF;
+        int v6 = (s[so + 6] + d) & 0xFF;
+        int v7 = (s[so + 7] + d) & 0xFF;
+        int v8 = (s[so + 8] + d) & 0xFF;
+        int v9 = (s[so + 9] + d) & 0xFF;
+        int v10 = (s[so + 10] + d) & 0xFF;
+        int v11 = (s[so + 11] + d) & 0xFF;
+        int v12 = (s[so + 12] + d) & 0xFF;
+        int v13 = (s[so + 13] + d) & 0xFF;
+        int v14 = (s[so + 14] + d) & 0xFF;
+        int v15 = (s[so + 15] + d) & 0xFF;
+        int v16 = (s[so + 16] + d) & 0xFF;
+        int v17 = (s[so + 17] + d) & 0xFF;
+        int v18 = (s[so + 18] + d) & 0xFF;
+        int v19 = (s[so + 19] + d) & 0xFF;
+        int v20 = (s[so + 20] + d) & 0xFF;
+        int v21 = (s[so + 21] + d) & 0xFF;
+        int v22 = (s[so + 22] + d) & 0xFF;
+        int v23 = (s[so + 23] + d) & 0xFF;
+        int v24 = (s[so + 24] + d) & 0xFF;
+        int v25 = (s[so + 25] + d) & 0xFF;
+        int v26 = (s[so + 26] + d) & 0xFF;
+        int v27 = (s[so + 27] + d) & 0xFF;
+        int v28 = (s[so + 28] + d) & 0xFF;
+        int v29 = (s[so + 29] + d) & 0xFF;
+        int v30 = (s[so + 30] + d) & 0xFF;
+        int v31 = (s[so + 31] + d) & 0xFF;
+        t[to] = v0 | (v1 << 8) | (v2 << 16) | (v3 << 24);
+        t[to + 1] = v4 | (v5 << 8) | (v6 << 16) | (v7 << 24);
+        t[to + 2] = v8 | (v9 << 8) | (v10 << 16) | (v11 << 24);
+        t[to + 3] = v12 | (v13 << 8) | (v14 << 16) | (v15 << 24);
+        t[to + 4] = v16 | (v17 << 8) | (v18 << 16) | (v19 << 24);
+        t[to + 5] = v20 | (v21 << 8) | (v22 << 16) | (v23 << 24);
+        t[to + 6] = v24 | (v25 << 8) | (v26 << 16) | (v27 << 24);
+        t[to + 7] = v28 | (v29 << 8) | (v30 << 16) | (v31 << 24);
+    }
+
+    static void depaqueter8(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0xFF) + b;
+        t[to + 1] = ((s[so] >>> 8) & 0xFF) + b;
+        t[to + 2] = ((s[so] >>> 16) & 0xFF) + b;
+        t[to + 3] = (s[so] >>> 24) + b;
+        t[to + 4] = (s[so + 1] & 0xFF) + b;
+        t[to + 5] = ((s[so + 1] >>> 8) & 0xFF) + b;
+        t[to + 6] = ((s[so + 1] >>> 16) & 0xFF) + b;
+        t[to + 7] = (s[so + 1] >>> 24) + b;
+        t[to + 8] = (s[so + 2] & 0xFF) + b;
+        t[to + 9] = ((s[so + 2] >>> 8) & 0xFF) + b;
+        t[to + 10] = ((s[so + 2] >>> 16) & 0xFF) + b;
+        t[to + 11] = (s[so + 2] >>> 24) + b;
+        t[to + 12] = (s[so + 3] & 0xFF) + b;
+        t[to + 13] = ((s[so + 3] >>> 8) & 0xFF) + b;
+        t[to + 14] = ((s[so + 3] >>> 16) & 0xFF) + b;
+        t[to + 15] = (s[so + 3] >>> 24) + b;
+        t[to + 16] = (s[so + 4] & 0xFF) + b;
+        t[to + 17] = ((s[so + 4] >>> 8) & 0xFF) + b;
+        t[to + 18] = ((s[so + 4] >>> 16) & 0xFF) + b;
+        t[to + 19] = (s[so + 4] >>> 24) + b;
+        t[to + 20] = (s[so + 5] & 0xFF) + b;
+        t[to + 21] = ((s[so + 5] >>> 8) & 0xFF) + b;
+        t[to + 22] = ((s[so + 5] >>> 16) & 0xFF) + b;
+        t[to + 23] = (s[so + 5] >>> 24) + b;
+        t[to + 24] = (s[so + 6] & 0xFF) + b;
+        t[to + 25] = ((s[so + 6] >>> 8) & 0xFF) + b;
+        t[to + 26] = ((s[so + 6] >>> 16) & 0xFF) + b;
+        t[to + 27] = (s[so + 6] >>> 24) + b;
+        t[to + 28] = (s[so + 7] & 0xFF) + b;
+        t[to + 29] = ((s[so + 7] >>> 8) & 0xFF) + b;
+        t[to + 30] = ((s[so + 7] >>> 16) & 0xFF) + b;
+        t[to + 31] = (s[so + 7] >>> 24) + b;
+    }
+
+    // ---------------- k = 9 ----------------
+
+    static void empaqueter9(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x1FF;
+        int v1 = (s[so + 1] + d) & 0x1FF;
+        int v2 = (s[so + 2] + d) & 0x1FF;
+        int v3 = (s[so + 3] + d) & 0x1FF;
+        int v4 = (s[so + 4] + d) & 0x1FF;
+        int v5 = (s[so + 5] + d) & 0x1FF;
+        int v6 = (s[so + 6] + d) & 0x1FF;
+        int v7 = (s[so + 7] + d) & 0x1FF;
+        int v8 = (s[so + 8] + d) & 0x1FF;
+        int v9 = (s[so + 9] + d) & 0x1FF;
+        int v10 = (s[so + 10] + d) & 0x1FF;
+        int v11 = (s[so + 11] + d) & 0x1FF;
+        int v12 = (s[so + 12] + d) & 0x1FF;
+        int v13 = (s[so + 13] + d) & 0x1FF;
+        int v14 = (s[so + 14] + d) & 0x1FF;
+        int v15 = (s[so + 15] + d) & 0x1FF;
+        int v16 = (s[so + 16] + d) & 0x1FF;
+        int v17 = (s[so + 17] + d) & 0x1FF;
+        int v18 = (s[so + 18] + d) & 0x1FF;
+        int v19 = (s[so + 19] + d) & 0x1FF;
+        int v20 = (s[so + 20] + d) & 0x1FF;
+        int v21 = (s[so + 21] + d) & 0x1FF;
+        int v22 = (s[so + 22] + d) & 0x1FF;
+        int v23 = (s[so + 23] + d) & 0x1FF;
+        int v24 = (s[so + 24] + d) & 0x1FF;
+        int v25 = (s[so + 25] + d) & 0x1FF;
+        int v26 = (s[so + 26] + d) & 0x1FF;
+        int v27 = (s[so + 27] + d) & 0x1FF;
+        int v28 = (s[so + 28] + d) & 0x1FF;
+        int v29 = (s[so + 29] + d) & 0x1FF;
+        int v30 = (s[so + 30] + d) & 0x1FF;
+        int v31 = (s[so + 31] + d) & 0x1FF;
+        t[to] = v0 | (v1 << 9) | (v2 << 18) | (v3 << 27);
+        t[to + 1] = (v3 >>> 5) | (v4 << 4) | (v5 << 13) | (v6 << 22) | (v7 << 31);
+        t[to + 2] = (v7 >>> 1) | (v8 << 8) | (v9 << 17) | (v10 << 26);
+        t[to + 3] = (v10 >>> 6) | (v11 << 3) | (v12 << 12) | (v13 << 21) | (v14 << 30);
+        t[to + 4] = (v14 >>> 2) | (v15 << 7) | (v16 << 16) | (v17 << 25);
+        t[to + 5] = (v17 >>> 7) | (v18 << 2) | (v19 << 11) | (v20 << 20) | (v21 << 29);
+        t[to + 6] = (v21 >>> 3) | (v22 << 6) | (v23 << 15) | (v24 << 24);
+        t[to + 7] = (v24 >>> 8) | (v25 << 1) | (v26 << 10) | (v27 << 19) | (v28 << 28);
+        t[to + 8] = (v28 >>> 4) | (v29 << 5) | (v30 << 14) | (v31 << 23);
+    }
+
+    static void depaqueter9(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x1FF) + b;
+        t[to + 1] = ((s[so] >>> 9) & 0x1FF) + b;
+        t[to + 2] = ((s[so] >>> 18) & 0x1FF) + b;
+        t[to + 3] = (((s[so] >>> 27) | (s[so + 1] << 5)) & 0x1FF) + b;
+        t[to + 4] = ((s[so + 1] >>> 4) & 0x1FF) + b;
+        t[to + 5] = ((s[so + 1] >>> 13) & 0x1FF) + b;
+        t[to + 6] = ((s[so + 1] >>> 22) & 0x1FF) + b;
+        t[to + 7] = (((s[so + 1] >>> 31) | (s[so + 2] << 1)) & 0x1FF) + b;
+        t[to + 8] = ((s[so + 2] >>> 8) & 0x1FF) + b;
+        t[to + 9] = ((s[so + 2] >>> 17) & 0x1FF) + b;
+        t[to + 10] = (((s[so + 2] >>> 26) | (s[so + 3] << 6)) & 0x1FF) + b;
+        t[to + 11] = ((s[so + 3] >>> 3) & 0x1FF) + b;
+        t[to + 12] = ((s[so + 3] >>> 12) & 0x1FF) + b;
+        t[to + 13] = ((s[so + 3] >>> 21) & 0x1FF) + b;
+        t[to + 14] = (((s[so + 3] >>> 30) | (s[so + 4] << 2)) & 0x1FF) + b;
+        t[to + 15] = ((s[so + 4] >>> 7) & 0x1FF) + b;
+        t[to + 16] = ((s[so + 4] >>> 16) & 0x1FF) + b;
+        t[to + 17] = (((s[so + 4] >>> 25) | (s[so + 5] << 7)) & 0x1FF) + b;
+        t[to + 18] = ((s[so + 5] >>> 2) & 0x1FF) + b;
+        t[to + 19] = ((s[so + 5] >>> 11) & 0x1FF) + b;
+        t[to + 20] = ((s[so + 5] >>> 20) & 0x1FF) + b;
+        t[to + 21] = (((s[so + 5] >>> 29) | (s[so + 6] << 3)) & 0x1FF) + b;
+        t[to + 22] = ((s[so + 6] >>> 6) & 0x1FF) + b;
+        t[to + 23] = ((s[so + 6] >>> 15) & 0x1FF) + b;
+        t[to + 24] = (((s[so + 6] >>> 24) | (s[so + 7] << 8)) & 0x1FF) + b;
+        t[to + 25] = ((s[so + 7] >>> 1) & 0x1FF) + b;
+        t[to + 26] = ((s[so + 7] >>> 10) & 0x1FF) + b;
+        t[to + 27] = ((s[so + 7] >>> 19) & 0x1FF) + b;
+        t[to + 28] = (((s[so + 7] >>> 28) | (s[so + 8] << 4)) & 0x1FF) + b;
+        t[to + 29] = ((s[so + 8] >>> 5) & 0x1FF) + b;
+        t[to + 30] = ((s[so + 8] >>> 14) & 0x1FF) + b;
+        t[to + 31] = (s[so + 8] >>> 23) + b;
+    }
+
+    // ---------------- k = 10 ----------------
+
+    static void empaqueter10(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x3FF;
+        int v1 = (s[so + 1] + d) & 0x3FF;
+        int v2 = (s[so + 2] + d) & 0x3FF;
+        int v3 = (s[so + 3] + d) & 0x3FF;
+        int v4 = (s[so + 4] + d) & 0x3FF;
+        int v5 = (s[so + 5] + d) & 0x3FF;
+        int v6 = (s[so + 6] + d) & 0x3FF;
+        int v7 = (s[so + 7] + d) & 0x3FF;
+        int v8 = (s[so + 8] + d) & 0x3FF;
+        int v9 = (s[so + 9] + d) & 0x3FF;
+        int v10 = (s[so + 10] + d) & 0x3FF;
+        int v11 = (s[so + 11] + d) & 0x3FF;
+        int v12 = (s[so + 12] + d) & 0x3FF;
+        int v13 = (s[so + 13] + d) & 0x3FF;
+        int v14 = (s[so + 14] + d) & 0x3FF;
+        int v15 = (s[so + 15] + d) & 0x3FF;
+        int v16 = (s[so + 16] + d) & 0x3FF;
+        int v17 = (s[so + 17] + d) & 0x3FF;
+        int v18 = (s[so + 18] + d) & 0x3FF;
+        int v19 = (s[so + 19] + d) & 0x3FF;
+        int v20 = (s[so + 20] + d) & 0x3FF;
+        int v21 = (s[so + 21] + d) & 0x3FF;
+        int v22 = (s[so + 22] + d) & 0x3FF;
+        int v23 = (s[so + 23] + d) & 0x3FF;
+        int v24 = (s[so + 24] + d) & 0x3FF;
+        int v25 = (s[so + 25] + d) & 0x3FF;
+        int v26 = (s[so + 26] + d) & 0x3FF;
+        int v27 = (s[so + 27] + d) & 0x3FF;
+        int v28 = (s[so + 28] + d) & 0x3FF;
+        int v29 = (s[so + 29] + d) & 0x3FF;
+        int v30 = (s[so + 30] + d) & 0x3FF;
+        int v31 = (s[so + 31] + d) & 0x3FF;
+        t[to] = v0 | (v1 << 10) | (v2 << 20) | (v3 << 30);
+        t[to + 1] = (v3 >>> 2) | (v4 << 8) | (v5 << 18) | (v6 << 28);
+        t[to + 2] = (v6 >>> 4) | (v7 << 6) | (v8 << 16) | (v9 << 26);
+        t[to + 3] = (v9 >>> 6) | (v10 << 4) | (v11 << 14) | (v12 << 24);
+        t[to + 4] = (v12 >>> 8) | (v13 << 2) | (v14 << 12) | (v15 << 22);
+        t[to + 5] = v16 | (v17 << 10) | (v18 << 20) | (v19 << 30);
+        t[to + 6] = (v19 >>> 2) | (v20 << 8) | (v21 << 18) | (v22 << 28);
+        t[to + 7] = (v22 >>> 4) | (v23 << 6) | (v24 << 16) | (v25 << 26);
+        t[to + 8] = (v25 >>> 6) | (v26 << 4) | (v27 << 14) | (v28 << 24);
+        t[to + 9] = (v28 >>> 8) | (v29 << 2) | (v30 << 12) | (v31 << 22);
+    }
+
+    static void depaqueter10(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x3FF) + b;
+        t[to + 1] = ((s[so] >>> 10) & 0x3FF) + b;
+        t[to + 2] = ((s[so] >>> 20) & 0x3FF) + b;
+        t[to + 3] = (((s[so] >>> 30) | (s[so + 1] << 2)) & 0x3FF) + b;
+        t[to + 4] = ((s[so + 1] >>> 8) & 0x3FF) + b;
+        t[to + 5] = ((s[so + 1] >>> 18) & 0x3FF) + b;
+        t[to + 6] = (((s[so + 1] >>> 28) | (s[so + 2] << 4)) & 0x3FF) + b;
+        t[to + 7] = ((s[so + 2] >>> 6) & 0x3FF) + b;
+        t[to + 8] = ((s[so + 2] >>> 16) & 0x3FF) + b;
+        t[to + 9] = (((s[so + 2] >>> 26) | (s[so + 3] << 6)) & 0x3FF) + b;
+        t[to + 10] = ((s[so + 3] >>> 4) & 0x3FF) + b;
+        t[to + 11] = ((s[so + 3] >>> 14) & 0x3FF) + b;
+        t[to + 12] = (((s[so + 3] >>> 24) | (s[so + 4] << 8)) & 0x3FF) + b;
+        t[to + 13] = ((s[so + 4] >>> 2) & 0x3FF) + b;
+        t[to + 14] = ((s[so + 4] >>> 12) & 0x3FF) + b;
+        t[to + 15] = (s[so + 4] >>> 22) + b;
+        t[to + 16] = (s[so + 5] & 0x3FF) + b;
+        t[to + 17] = ((s[so + 5] >>> 10) & 0x3FF) + b;
+        t[to + 18] = ((s[so + 5] >>> 20) & 0x3FF) + b;
+        t[to + 19] = (((s[so + 5] >>> 30) | (s[so + 6] << 2)) & 0x3FF) + b;
+        t[to + 20] = ((s[so + 6] >>> 8) & 0x3FF) + b;
+        t[to + 21] = ((s[so + 6] >>> 18) & 0x3FF) + b;
+        t[to + 22] = (((s[so + 6] >>> 28) | (s[so + 7] << 4)) & 0x3FF) + b;
+        t[to + 23] = ((s[so + 7] >>> 6) & 0x3FF) + b;
+        t[to + 24] = ((s[so + 7] >>> 16) & 0x3FF) + b;
+        t[to + 25] = (((s[so + 7] >>> 26) | (s[so + 8] << 6)) & 0x3FF) + b;
+        t[to + 26] = ((s[so + 8] >>> 4) & 0x3FF) + b;
+        t[to + 27] = ((s[so + 8] >>> 14) & 0x3FF) + b;
+        t[to + 28] = (((s[so + 8] >>> 24) | (s[so + 9] << 8)) & 0x3FF) + b;
+        t[to + 29] = ((s[so + 9] >>> 2) & 0x3FF) + b;
+        t[to + 30] = ((s[so + 9] >>> 12) & 0x3FF) + b;
+        t[to + 31] = (s[so + 9] >>> 22) + b;
+    }
+
+    // ---------------- k = 11 ----------------
+
+    static void empaqueter11(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x7FF;
+        int v1 = (s[so + 1] + d) & 0x7FF;
+        int v2 = (s[so + 2] + d) & 0x7FF;
+        int v3 = (s[so + 3] + d) & 0x7FF;
+        int v4 = (s[so + 4] + d) & 0x7FF;
+        int v5 = (s[so + 5] + d) & 0x7FF;
+        int v6 = (s[so + 6] + d) & 0x7FF;
+        int v7 = (s[so + 7] + d) & 0x7FF;
+        int v8 = (s[so + 8] + d) & 0x7FF;
+        int v9 = (s[so + 9] + d) & 0x7FF;
+        int v10 = (s[so + 10] + d) & 0x7FF;
+        int v11 = (s[so + 11] + d) & 0x7FF;
+        int v12 = (s[so + 12] + d) & 0x7FF;
+        int v13 = (s[so + 13] + d) & 0x7FF;
+        int v14 = (s[so + 14] + d) & 0x7FF;
+        int v15 = (s[so + 15] + d) & 0x7FF;
+        int v16 = (s[so + 16] + d) & 0x7FF;
+        int v17 = (s[so + 17] + d) & 0x7FF;
+        int v18 = (s[so + 18] + d) & 0x7FF;
+        int v19 = (s[so + 19] + d) & 0x7FF;
+        int v20 = (s[so + 20] + d) & 0x7FF;
+        int v21 = (s[so + 21] + d) & 0x7FF;
+        int v22 = (s[so + 22] + d) & 0x7FF;
+        int v23 = (s[so + 23] + d) & 0x7FF;
+        int v24 = (s[so + 24] + d) & 0x7FF;
+        int v25 = (s[so + 25] + d) & 0x7FF;
+        int v26 = (s[so + 26] + d) & 0x7FF;
+        int v27 = (s[so + 27] + d) & 0x7FF;
+        int v28 = (s[so + 28] + d) & 0x7FF;
+        int v29 = (s[so + 29] + d) & 0x7FF;
+        int v30 = (s[so + 30] + d) & 0x7FF;
+        int v31 = (s[so + 31] + d) & 0x7FF;
+        t[to] = v0 | (v1 << 11) | (v2 << 22);
+        t[to + 1] = (v2 >>> 10) | (v3 << 1) | (v4 << 12) | (v5 << 23);
+        t[to + 2] = (v5 >>> 9) | (v6 << 2) | (v7 << 13) | (v8 << 24);
+        t[to + 3] = (v8 >>> 8) | (v9 << 3) | (v10 << 14) | (v11 << 25);
+        t[to + 4] = (v11 >>> 7) | (v12 << 4) | (v13 << 15) | (v14 << 26);
+        t[to + 5] = (v14 >>> 6) | (v15 << 5) | (v16 << 16) | (v17 << 27);
+        t[to + 6] = (v17 >>> 5) | (v18 << 6) | (v19 << 17) | (v20 << 28);
+        t[to + 7] = (v20 >>> 4) | (v21 << 7) | (v22 << 18) | (v23 << 29);
+        t[to + 8] = (v23 >>> 3) | (v24 << 8) | (v25 << 19) | (v26 << 30);
+        t[to + 9] = (v26 >>> 2) | (v27 << 9) | (v28 << 20) | (v29 << 31);
+        t[to + 10] = (v29 >>> 1) | (v30 << 10) | (v31 << 21);
+    }
+
+    static void depaqueter11(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x7FF) + b;
+        t[to + 1] = ((s[so] >>> 11) & 0x7FF) + b;
+        t[to + 2] = (((s[so] >>> 22) | (s[so + 1] << 10)) & 0x7FF) + b;
+        t[to + 3] = ((s[so + 1] >>> 1) & 0x7FF) + b;
+        t[to + 4] = ((s[so + 1] >>> 12) & 0x7FF) + b;
+        t[to + 5] = (((s[so + 1] >>> 23) | (s[so + 2] << 9)) & 0x7FF) + b;
+        t[to + 6] = ((s[so + 2] >>> 2) & 0x7FF) + b;
+        t[to + 7] = ((s[so + 2] >>> 13) & 0x7FF) + b;
+        t[to + 8] = (((s[so + 2] >>> 24) | (s[so + 3] << 8)) & 0x7FF) + b;
+        t[to + 9] = ((s[so + 3] >>> 3) & 0x7FF) + b;
+        t[to + 10] = ((s[so + 3] >>> 14) & 0x7FF) + b;
+        t[to + 11] = (((s[so + 3] >>> 25) | (s[so + 4] << 7)) & 0x7FF) + b;
+        t[to + 12] = ((s[so + 4] >>> 4) & 0x7FF) + b;
+        t[to + 13] = ((s[so + 4] >>> 15) & 0x7FF) + b;
+        t[to + 14] = (((s[so + 4] >>> 26) | (s[so + 5] << 6)) & 0x7FF) + b;
+        t[to + 15] = ((s[so + 5] >>> 5) & 0x7FF) + b;
+        t[to + 16] = ((s[so + 5] >>> 16) & 0x7FF) + b;
+        t[to + 17] = (((s[so + 5] >>> 27) | (s[so + 6] << 5)) & 0x7FF) + b;
+        t[to + 18] = ((s[so + 6] >>> 6) & 0x7FF) + b;
+        t[to + 19] = ((s[so + 6] >>> 17) & 0x7FF) + b;
+        t[to + 20] = (((s[so + 6] >>> 28) | (s[so + 7] << 4)) & 0x7FF) + b;
+        t[to + 21] = ((s[so + 7] >>> 7) & 0x7FF) + b;
+        t[to + 22] = ((s[so + 7] >>> 18) & 0x7FF) + b;
+        t[to + 23] = (((s[so + 7] >>> 29) | (s[so + 8] << 3)) & 0x7FF) + b;
+        t[to + 24] = ((s[so + 8] >>> 8) & 0x7FF) + b;
+        t[to + 25] = ((s[so + 8] >>> 19) & 0x7FF) + b;
+        t[to + 26] = (((s[so + 8] >>> 30) | (s[so + 9] << 2)) & 0x7FF) + b;
+        t[to + 27] = ((s[so + 9] >>> 9) & 0x7FF) + b;
+        t[to + 28] = ((s[so + 9] >>> 20) & 0x7FF) + b;
+        t[to + 29] = (((s[so + 9] >>> 31) | (s[so + 10] << 1)) & 0x7FF) + b;
+        t[to + 30] = ((s[so + 10] >>> 10) & 0x7FF) + b;
+        t[to + 31] = (s[so + 10] >>> 21) + b;
+    }
+
+    // ---------------- k = 12 ----------------
+
+    static void empaqueter12(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0xFFF;
+        int v1 = (s[so + 1] + d) & 0xFFF;
+        int v2 = (s[so + 2] + d) & 0xFFF;
+        int v3 = (s[so + 3] + d) & 0xFFF;
+        int v4 = (s[so + 4] + d) & 0xFFF;
+        int v5 = (s[so + 5] + d) & 0xFFF;
+        int v6 = (s[so + 6] + d) & 0xFFF;
+        int v7 = (s[so + 7] + d) & 0xFFF;
+        int v8 = (s[so + 8] + d) & 0xFFF;
+        int v9 = (s[so + 9] + d) & 0xFFF;
+        int v10 = (s[so + 10] + d) & 0xFFF;
+        int v11 = (s[so + 11] + d) & 0xFFF;
+        int v12 = (s[so + 12] + d) & 0xFFF;
+        int v13 = (s[so + 13] + d) & 0xFFF;
+        int v14 = (s[so + 14] + d) & 0xFFF;
+        int v15 = (s[so + 15] + d) & 0xFFF;
+        int v16 = (s[so + 16] + d) & 0xFFF;
+        int v17 = (s[so + 17] + d) & 0xFFF;
+        int v18 = (s[so + 18] + d) & 0xFFF;
+        int v19 = (s[so + 19] + d) & 0xFFF;
+        int v20 = (s[so + 20] + d) & 0xFFF;
+        int v21 = (s[so + 21] + d) & 0xFFF;
+        int v22 = (s[so + 22] + d) & 0xFFF;
+        int v23 = (s[so + 23] + d) & 0xFFF;
+        int v24 = (s[so + 24] + d) & 0xFFF;
+        int v25 = (s[so + 25] + d) & 0xFFF;
+        int v26 = (s[so + 26] + d) & 0xFFF;
+        int v27 = (s[so + 27] + d) & 0xFFF;
+        int v28 = (s[so + 28] + d) & 0xFFF;
+        int v29 = (s[so + 29] + d) & 0xFFF;
+        int v30 = (s[so + 30] + d) & 0xFFF;
+        int v31 = (s[so + 31] + d) & 0xFFF;
+        t[to] = v0 | (v1 << 12) | (v2 << 24);
+        t[to + 1] = (v2 >>> 8) | (v3 << 4) | (v4 << 16) | (v5 << 28);
+        t[to + 2] = (v5 >>> 4) | (v6 << 8) | (v7 << 20);
+        t[to + 3] = v8 | (v9 << 12) | (v10 << 24);
+        t[to + 4] = (v10 >>> 8) | (v11 << 4) | (v12 << 16) | (v13 << 28);
+        t[to + 5] = (v13 >>> 4) | (v14 << 8) | (v15 << 20);
+        t[to + 6] = v16 | (v17 << 12) | (v18 << 24);
+        t[to + 7] = (v18 >>> 8) | (v19 << 4) | (v20 << 16) | (v21 << 28);
+        t[to + 8] = (v21 >>> 4) | (v22 << 8) | (v23 << 20);
+        t[to + 9] = v24 | (v25 << 12) | (v26 << 24);
+        t[to + 10] = (v26 >>> 8) | (v27 << 4) | (v28 << 16) | (v29 << 28);
+        t[to + 11] = (v29 >>> 4) | (v30 << 8) | (v31 << 20);
+    }
+
+    static void depaqueter12(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0xFFF) + b;
+        t[to + 1] = ((s[so] >>> 12) & 0xFFF) + b;
+        t[to + 2] = (((s[so] >>> 24) | (s[so + 1] << 8)) & 0xFFF) + b;
+        t[to + 3] = ((s[so + 1] >>> 4) & 0xFFF) + b;
+        t[to + 4] = ((s[so + 1] >>> 16) & 0xFFF) + b;
+        t[to + 5] = (((s[so + 1] >>> 28) | (s[so + 2] << 4)) & 0xFFF) + b;
+        t[to + 6] = ((s[so + 2] >>> 8) & 0xFFF) + b;
+        t[to + 7] = (s[so + 2] >>> 20) + b;
+        t[to + 8] = (s[so + 3] & 0xFFF) + b;
+        t[to + 9] = ((s[so + 3] >>> 12) & 0xFFF) + b;
+        t[to + 10] = (((s[so + 3] >>> 24) | (s[so + 4] << 8)) & 0xFFF) + b;
+        t[to + 11] = ((s[so + 4] >>> 4) & 0xFFF) + b;
+        t[to + 12] = ((s[so + 4] >>> 16) & 0xFFF) + b;
+        t[to + 13] = (((s[so + 4] >>> 28) | (s[so + 5] << 4)) & 0xFFF) + b;
+        t[to + 14] = ((s[so + 5] >>> 8) & 0xFFF) + b;
+        t[to + 15] = (s[so + 5] >>> 20) + b;
+        t[to + 16] = (s[so + 6] & 0xFFF) + b;
+        t[to + 17] = ((s[so + 6] >>> 12) & 0xFFF) + b;
+        t[to + 18] = (((s[so + 6] >>> 24) | (s[so + 7] << 8)) & 0xFFF) + b;
+        t[to + 19] = ((s[so + 7] >>> 4) & 0xFFF) + b;
+        t[to + 20] = ((s[so + 7] >>> 16) & 0xFFF) + b;
+        t[to + 21] = (((s[so + 7] >>> 28) | (s[so + 8] << 4)) & 0xFFF) + b;
+        t[to + 22] = ((s[so + 8] >>> 8) & 0xFFF) + b;
+        t[to + 23] = (s[so + 8] >>> 20) + b;
+        t[to + 24] = (s[so + 9] & 0xFFF) + b;
+        t[to + 25] = ((s[so + 9] >>> 12) & 0xFFF) + b;
+        t[to + 26] = (((s[so + 9] >>> 24) | (s[so + 10] << 8)) & 0xFFF) + b;
+        t[to + 27] = ((s[so + 10] >>> 4) & 0xFFF) + b;
+        t[to + 28] = ((s[so + 10] >>> 16) & 0xFFF) + b;
+        t[to + 29] = (((s[so + 10] >>> 28) | (s[so + 11] << 4)) & 0xFFF) + b;
+        t[to + 30] = ((s[so + 11] >>> 8) & 0xFFF) + b;
+        t[to + 31] = (s[so + 11] >>> 20) + b;
+    }
+
+    // ---------------- k = 13 ----------------
+
+    static void empaqueter13(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x1FFF;
+        int v1 = (s[so + 1] + d) & 0x1FFF;
+        int v2 = (s[so + 2] + d) & 0x1FFF;
+        int v3 = (s[so + 3] + d) & 0x1FFF;
+        int v4 = (s[so + 4] + d) & 0x1FFF;
+        int v5 = (s[so + 5] + d) & 0x1FFF;
+        int v6 = (s[so + 6] + d) & 0x1FFF;
+        int v7 = (s[so + 7] + d) & 0x1FFF;
+        int v8 = (s[so + 8] + d) & 0x1FFF;
+        int v9 = (s[so + 9] + d) & 0x1FFF;
+        int v10 = (s[so + 10] + d) & 0x1FFF;
+        int v11 = (s[so + 11] + d) & 0x1FFF;
+        int v12 = (s[so + 12] + d) & 0x1FFF;
+        int v13 = (s[so + 13] + d) & 0x1FFF;
+        int v14 = (s[so + 14] + d) & 0x1FFF;
+        int v15 = (s[so + 15] + d) & 0x1FFF;
+        int v16 = (s[so + 16] + d) & 0x1FFF;
+        int v17 = (s[so + 17] + d) & 0x1FFF;
+        int v18 = (s[so + 18] + d) & 0x1FFF;
+        int v19 = (s[so + 19] + d) & 0x1FFF;
+        int v20 = (s[so + 20] + d) & 0x1FFF;
+        int v21 = (s[so + 21] + d) & 0x1FFF;
+        int v22 = (s[so + 22] + d) & 0x1FFF;
+        int v23 = (s[so + 23] + d) & 0x1FFF;
+        int v24 = (s[so + 24] + d) & 0x1FFF;
+        int v25 = (s[so + 25] + d) & 0x1FFF;
+        int v26 = (s[so + 26] + d) & 0x1FFF;
+        int v27 = (s[so + 27] + d) & 0x1FFF;
+        int v28 = (s[so + 28] + d) & 0x1FFF;
+        int v29 = (s[so + 29] + d) & 0x1FFF;
+        int v30 = (s[so + 30] + d) & 0x1FFF;
+        int v31 = (s[so + 31] + d) & 0x1FFF;
+        t[to] = v0 | (v1 << 13) | (v2 << 26);
+        t[to + 1] = (v2 >>> 6) | (v3 << 7) | (v4 << 20);
+        t[to + 2] = (v4 >>> 12) | (v5 << 1) | (v6 << 14) | (v7 << 27);
+        t[to + 3] = (v7 >>> 5) | (v8 << 8) | (v9 << 21);
+        t[to + 4] = (v9 >>> 11) | (v10 << 2) | (v11 << 15) | (v12 << 28);
+        t[to + 5] = (v12 >>> 4) | (v13 << 9) | (v14 << 22);
+        t[to + 6] = (v14 >>> 10) | (v15 << 3) | (v16 << 16) | (v17 << 29);
+        t[to + 7] = (v17 >>> 3) | (v18 << 10) | (v19 << 23);
+        t[to + 8] = (v19 >>> 9) | (v20 << 4) | (v21 << 17) | (v22 << 30);
+        t[to + 9] = (v22 >>> 2) | (v23 << 11) | (v24 << 24);
+        t[to + 10] = (v24 >>> 8) | (v25 << 5) | (v26 << 18) | (v27 << 31);
+        t[to + 11] = (v27 >>> 1) | (v28 << 12) | (v29 << 25);
+        t[to + 12] = (v29 >>> 7) | (v30 << 6) | (v31 << 19);
+    }
+
+    static void depaqueter13(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x1FFF) + b;
+        t[to + 1] = ((s[so] >>> 13) & 0x1FFF) + b;
+        t[to + 2] = (((s[so] >>> 26) | (s[so + 1] << 6)) & 0x1FFF) + b;
+        t[to + 3] = ((s[so + 1] >>> 7) & 0x1FFF) + b;
+        t[to + 4] = (((s[so + 1] >>> 20) | (s[so + 2] << 12)) & 0x1FFF) + b;
+        t[to + 5] = ((s[so + 2] >>> 1) & 0x1FFF) + b;
+        t[to + 6] = ((s[so + 2] >>> 14) & 0x1FFF) + b;
+        t[to + 7] = (((s[so + 2] >>> 27) | (s[so + 3] << 5)) & 0x1FFF) + b;
+        t[to + 8] = ((s[so + 3] >>> 8) & 0x1FFF) + b;
+        t[to + 9] = (((s[so + 3] >>> 21) | (s[so + 4] << 11)) & 0x1FFF) + b;
+        t[to + 10] = ((s[so + 4] >>> 2) & 0x1FFF) + b;
+        t[to + 11] = ((s[so + 4] >>> 15) & 0x1FFF) + b;
+        t[to + 12] = (((s[so + 4] >>> 28) | (s[so + 5] << 4)) & 0x1FFF) + b;
+        t[to + 13] = ((s[so + 5] >>> 9) & 0x1FFF) + b;
+        t[to + 14] = (((s[so + 5] >>> 22) | (s[so + 6] << 10)) & 0x1FFF) + b;
+        t[to + 15] = ((s[so + 6] >>> 3) & 0x1FFF) + b;
+        t[to + 16] = ((s[so + 6] >>> 16) & 0x1FFF) + b;
+        t[to + 17] = (((s[so + 6] >>> 29) | (s[so + 7] << 3)) & 0x1FFF) + b;
+        t[to + 18] = ((s[so + 7] >>> 10) & 0x1FFF) + b;
+        t[to + 19] = (((s[so + 7] >>> 23) | (s[so + 8] << 9)) & 0x1FFF) + b;
+        t[to + 20] = ((s[so + 8] >>> 4) & 0x1FFF) + b;
+        t[to + 21] = ((s[so + 8] >>> 17) & 0x1FFF) + b;
+        t[to + 22] = (((s[so + 8] >>> 30) | (s[so + 9] << 2)) & 0x1FFF) + b;
+        t[to + 23] = ((s[so + 9] >>> 11) & 0x1FFF) + b;
+        t[to + 24] = (((s[so + 9] >>> 24) | (s[so + 10] << 8)) & 0x1FFF) + b;
+        t[to + 25] = ((s[so + 10] >>> 5) & 0x1FFF) + b;
+        t[to + 26] = ((s[so + 10] >>> 18) & 0x1FFF) + b;
+        t[to + 27] = (((s[so + 10] >>> 31) | (s[so + 11] << 1)) & 0x1FFF) + b;
+        t[to + 28] = ((s[so + 11] >>> 12) & 0x1FFF) + b;
+        t[to + 29] = (((s[so + 11] >>> 25) | (s[so + 12] << 7)) & 0x1FFF) + b;
+        t[to + 30] = ((s[so + 12] >>> 6) & 0x1FFF) + b;
+        t[to + 31] = (s[so + 12] >>> 19) + b;
+    }
+
+    // ---------------- k = 14 ----------------
+
+    static void empaqueter14(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x3FFF;
+        int v1 = (s[so + 1] + d) & 0x3FFF;
+        int v2 = (s[so + 2] + d) & 0x3FFF;
+        int v3 = (s[so + 3] + d) & 0x3FFF;
+        int v4 = (s[so + 4] + d) & 0x3FFF;
+        int v5 = (s[so + 5] + d) & 0x3FFF;
+        int v6 = (s[so + 6] + d) & 0x3FFF;
+        int v7 = (s[so + 7] + d) & 0x3FFF;
+        int v8 = (s[so + 8] + d) & 0x3FFF;
+        int v9 = (s[so + 9] + d) & 0x3FFF;
+        int v10 = (s[so + 10] + d) & 0x3FFF;
+        int v11 = (s[so + 11] + d) & 0x3FFF;
+        int v12 = (s[so + 12] + d) & 0x3FFF;
+        int v13 = (s[so + 13] + d) & 0x3FFF;
+        int v14 = (s[so + 14] + d) & 0x3FFF;
+        int v15 = (s[so + 15] + d) & 0x3FFF;
+        int v16 = (s[so + 16] + d) & 0x3FFF;
+        int v17 = (s[so + 17] + d) & 0x3FFF;
+        int v18 = (s[so + 18] + d) & 0x3FFF;
+        int v19 = (s[so + 19] + d) & 0x3FFF;
+        int v20 = (s[so + 20] + d) & 0x3FFF;
+        int v21 = (s[so + 21] + d) & 0x3FFF;
+        int v22 = (s[so + 22] + d) & 0x3FFF;
+        int v23 = (s[so + 23] + d) & 0x3FFF;
+        int v24 = (s[so + 24] + d) & 0x3FFF;
+        int v25 = (s[so + 25] + d) & 0x3FFF;
+        int v26 = (s[so + 26] + d) & 0x3FFF;
+        int v27 = (s[so + 27] + d) & 0x3FFF;
+        int v28 = (s[so + 28] + d) & 0x3FFF;
+        int v29 = (s[so + 29] + d) & 0x3FFF;
+        int v30 = (s[so + 30] + d) & 0x3FFF;
+        int v31 = (s[so + 31] + d) & 0x3FFF;
+        t[to] = v0 | (v1 << 14) | (v2 << 28);
+        t[to + 1] = (v2 >>> 4) | (v3 << 10) | (v4 << 24);
+        t[to + 2] = (v4 >>> 8) | (v5 << 6) | (v6 << 20);
+        t[to + 3] = (v6 >>> 12) | (v7 << 2) | (v8 << 16) | (v9 << 30);
+        t[to + 4] = (v9 >>> 2) | (v10 << 12) | (v11 << 26);
+        t[to + 5] = (v11 >>> 6) | (v12 << 8) | (v13 << 22);
+        t[to + 6] = (v13 >>> 10) | (v14 << 4) | (v15 << 18);
+        t[to + 7] = v16 | (v17 << 14) | (v18 << 28);
+        t[to + 8] = (v18 >>> 4) | (v19 << 10) | (v20 << 24);
+        t[to + 9] = (v20 >>> 8) | (v21 << 6) | (v22 << 20);
+        t[to + 10] = (v22 >>> 12) | (v23 << 2) | (v24 << 16) | (v25 << 30);
+        t[to + 11] = (v25 >>> 2) | (v26 << 12) | (v27 << 26);
+        t[to + 12] = (v27 >>> 6) | (v28 << 8) | (v29 << 22);
+        t[to + 13] = (v29 >>> 10) | (v30 << 4) | (v31 << 18);
+    }
+
+    static void depaqueter14(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x3FFF) + b;
+        t[to + 1] = ((s[so] >>> 14) & 0x3FFF) + b;
+        t[to + 2] = (((s[so] >>> 28) | (s[so + 1] << 4)) & 0x3FFF) + b;
+        t[to + 3] = ((s[so + 1] >>> 10) & 0x3FFF) + b;
+        t[to + 4] = (((s[so + 1] >>> 24) | (s[so + 2] << 8)) & 0x3FFF) + b;
+        t[to + 5] = ((s[so + 2] >>> 6) & 0x3FFF) + b;
+        t[to + 6] = (((s[so + 2] >>> 20) | (s[so + 3] << 12)) & 0x3FFF) + b;
+        t[to + 7] = ((s[so + 3] >>> 2) & 0x3FFF) + b;
+        t[to + 8] = ((s[so + 3] >>> 16) & 0x3FFF) + b;
+        t[to + 9] = (((s[so + 3] >>> 30) | (s[so + 4] << 2)) & 0x3FFF) + b;
+        t[to + 10] = ((s[so + 4] >>> 12) & 0x3FFF) + b;
+        t[to + 11] = (((s[so + 4] >>> 26) | (s[so + 5] << 6)) & 0x3FFF) + b;
+        t[to + 12] = ((s[so + 5] >>> 8) & 0x3FFF) + b;
+        t[to + 13] = (((s[so + 5] >>> 22) | (s[so + 6] << 10)) & 0x3FFF) + b;
+        t[to + 14] = ((s[so + 6] >>> 4) & 0x3FFF) + b;
+        t[to + 15] = (s[so + 6] >>> 18) + b;
+        t[to + 16] = (s[so + 7] & 0x3FFF) + b;
+        t[to + 17] = ((s[so + 7] >>> 14) & 0x3FFF) + b;
+        t[to + 18] = (((s[so + 7] >>> 28) | (s[so + 8] << 4)) & 0x3FFF) + b;
+        t[to + 19] = ((s[so + 8] >>> 10) & 0x3FFF) + b;
+        t[to + 20] = (((s[so + 8] >>> 24) | (s[so + 9] << 8)) & 0x3FFF) + b;
+        t[to + 21] = ((s[so + 9] >>> 6) & 0x3FFF) + b;
+        t[to + 22] = (((s[so + 9] >>> 20) | (s[so + 10] << 12)) & 0x3FFF) + b;
+        t[to + 23] = ((s[so + 10] >>> 2) & 0x3FFF) + b;
+        t[to + 24] = ((s[so + 10] >>> 16) & 0x3FFF) + b;
+        t[to + 25] = (((s[so + 10] >>> 30) | (s[so + 11] << 2)) & 0x3FFF) + b;
+        t[to + 26] = ((s[so + 11] >>> 12) & 0x3FFF) + b;
+        t[to + 27] = (((s[so + 11] >>> 26) | (s[so + 12] << 6)) & 0x3FFF) + b;
+        t[to + 28] = ((s[so + 12] >>> 8) & 0x3FFF) + b;
+        t[to + 29] = (((s[so + 12] >>> 22) | (s[so + 13] << 10)) & 0x3FFF) + b;
+        t[to + 30] = ((s[so + 13] >>> 4) & 0x3FFF) + b;
+        t[to + 31] = (s[so + 13] >>> 18) + b;
+    }
+
+    // ---------------- k = 15 ----------------
+
+    static void empaqueter15(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x7FFF;
+        int v1 = (s[so + 1] + d) & 0x7FFF;
+        int v2 = (s[so + 2] + d) & 0x7FFF;
+        int v3 = (s[so + 3] + d) & 0x7FFF;
+        int v4 = (s[so + 4] + d) & 0x7FFF;
+        int v5 = (s[so + 5] + d) & 0x7FFF;
+        int v6 = (s[so + 6] + d) & 0x7FFF;
+        int v7 = (s[so + 7] + d) & 0x7FFF;
+        int v8 = (s[so + 8] + d) & 0x7FFF;
+        int v9 = (s[so + 9] + d) & 0x7FFF;
+        int v10 = (s[so + 10] + d) & 0x7FFF;
+        int v11 = (s[so + 11] + d) & 0x7FFF;
+        int v12 = (s[so + 12] + d) & 0x7FFF;
+        int v13 = (s[so + 13] + d) & 0x7FFF;
+        int v14 = (s[so + 14] + d) & 0x7FFF;
+        int v15 = (s[so + 15] + d) & 0x7FFF;
+        int v16 = (s[so + 16] + d) & 0x7FFF;
+        int v17 = (s[so + 17] + d) & 0x7FFF;
+        int v18 = (s[so + 18] + d) & 0x7FFF;
+        int v19 = (s[so + 19] + d) & 0x7FFF;
+        int v20 = (s[so + 20] + d) & 0x7FFF;
+        int v21 = (s[so + 21] + d) & 0x7FFF;
+        int v22 = (s[so + 22] + d) & 0x7FFF;
+        int v23 = (s[so + 23] + d) & 0x7FFF;
+        int v24 = (s[so + 24] + d) & 0x7FFF;
+        int v25 = (s[so + 25] + d) & 0x7FFF;
+        int v26 = (s[so + 26] + d) & 0x7FFF;
+        int v27 = (s[so + 27] + d) & 0x7FFF;
+        int v28 = (s[so + 28] + d) & 0x7FFF;
+        int v29 = (s[so + 29] + d) & 0x7FFF;
+        int v30 = (s[so + 30] + d) & 0x7FFF;
+        int v31 = (s[so + 31] + d) & 0x7FFF;
+        t[to] = v0 | (v1 << 15) | (v2 << 30);
+        t[to + 1] = (v2 >>> 2) | (v3 << 13) | (v4 << 28);
+        t[to + 2] = (v4 >>> 4) | (v5 << 11) | (v6 << 26);
+        t[to + 3] = (v6 >>> 6) | (v7 << 9) | (v8 << 24);
+        t[to + 4] = (v8 >>> 8) | (v9 << 7) | (v10 << 22);
+        t[to + 5] = (v10 >>> 10) | (v11 << 5) | (v12 << 20);
+        t[to + 6] = (v12 >>> 12) | (v13 << 3) | (v14 << 18);
+        t[to + 7] = (v14 >>> 14) | (v15 << 1) | (v16 << 16) | (v17 << 31);
+        t[to + 8] = (v17 >>> 1) | (v18 << 14) | (v19 << 29);
+        t[to + 9] = (v19 >>> 3) | (v20 << 12) | (v21 << 27);
+        t[to + 10] = (v21 >>> 5) | (v22 << 10) | (v23 << 25);
+        t[to + 11] = (v23 >>> 7) | (v24 << 8) | (v25 << 23);
+        t[to + 12] = (v25 >>> 9) | (v26 << 6) | (v27 << 21);
+        t[to + 13] = (v27 >>> 11) | (v28 << 4) | (v29 << 19);
+        t[to + 14] = (v29 >>> 13) | (v30 << 2) | (v31 << 17);
+    }
+
+    static void depaqueter15(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x7FFF) + b;
+        t[to + 1] = ((s[so] >>> 15) & 0x7FFF) + b;
+        t[to + 2] = (((s[so] >>> 30) | (s[so + 1] << 2)) & 0x7FFF) + b;
+        t[to + 3] = ((s[so + 1] >>> 13) & 0x7FFF) + b;
+        t[to + 4] = (((s[so + 1] >>> 28) | (s[so + 2] << 4)) & 0x7FFF) + b;
+        t[to + 5] = ((s[so + 2] >>> 11) & 0x7FFF) + b;
+        t[to + 6] = (((s[so + 2] >>> 26) | (s[so + 3] << 6)) & 0x7FFF) + b;
+        t[to + 7] = ((s[so + 3] >>> 9) & 0x7FFF) + b;
+        t[to + 8] = (((s[so + 3] >>> 24) | (s[so + 4] << 8)) & 0x7FFF) + b;
+        t[to + 9] = ((s[so + 4] >>> 7) & 0x7FFF) + b;
+        t[to + 10] = (((s[so + 4] >>> 22) | (s[so + 5] << 10)) & 0x7FFF) + b;
+        t[to + 11] = ((s[so + 5] >>> 5) & 0x7FFF) + b;
+        t[to + 12] = (((s[so + 5] >>> 20) | (s[so + 6] << 12)) & 0x7FFF) + b;
+        t[to + 13] = ((s[so + 6] >>> 3) & 0x7FFF) + b;
+        t[to + 14] = (((s[so + 6] >>> 18) | (s[so + 7] << 14)) & 0x7FFF) + b;
+        t[to + 15] = ((s[so + 7] >>> 1) & 0x7FFF) + b;
+        t[to + 16] = ((s[so + 7] >>> 16) & 0x7FFF) + b;
+        t[to + 17] = (((s[so + 7] >>> 31) | (s[so + 8] << 1)) & 0x7FFF) + b;
+        t[to + 18] = ((s[so + 8] >>> 14) & 0x7FFF) + b;
+        t[to + 19] = (((s[so + 8] >>> 29) | (s[so + 9] << 3)) & 0x7FFF) + b;
+        t[to + 20] = ((s[so + 9] >>> 12) & 0x7FFF) + b;
+        t[to + 21] = (((s[so + 9] >>> 27) | (s[so + 10] << 5)) & 0x7FFF) + b;
+        t[to + 22] = ((s[so + 10] >>> 10) & 0x7FFF) + b;
+        t[to + 23] = (((s[so + 10] >>> 25) | (s[so + 11] << 7)) & 0x7FFF) + b;
+        t[to + 24] = ((s[so + 11] >>> 8) & 0x7FFF) + b;
+        t[to + 25] = (((s[so + 11] >>> 23) | (s[so + 12] << 9)) & 0x7FFF) + b;
+        t[to + 26] = ((s[so + 12] >>> 6) & 0x7FFF) + b;
+        t[to + 27] = (((s[so + 12] >>> 21) | (s[so + 13] << 11)) & 0x7FFF) + b;
+        t[to + 28] = ((s[so + 13] >>> 4) & 0x7FFF) + b;
+        t[to + 29] = (((s[so + 13] >>> 19) | (s[so + 14] << 13)) & 0x7FFF) + b;
+        t[to + 30] = ((s[so + 14] >>> 2) & 0x7FFF) + b;
+        t[to + 31] = (s[so + 14] >>> 17) + b;
+    }
+
+    // ---------------- k = 16 ----------------
+
+    static void empaqueter16(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0xFFFF;
+        int v1 = (s[so + 1] + d) & 0xFFFF;
+        int v2 = (s[so + 2] + d) & 0xFFFF;
+        int v3 = (s[so + 3] + d) & 0xFFFF;
+        int v4 = (s[so + 4] + d) & 0xFFFF;
+        int v5 = (s[so + 5] + d) & 0xFFFF;
+        int v6 = (s[so + 6] + d) & 0xFFFF;
+        int v7 = (s[so + 7] + d) & 0xFFFF;
+        int v8 = (s[so + 8] + d) & 0xFFFF;
+        int v9 = (s[so + 9] + d) & 0xFFFF;
+        int v10 = (s[so + 10] + d) & 0xFFFF;
+        int v11 = (s[so + 11] + d) & 0xFFFF;
+        int v12 = (s[so + 12] + d) & 0xFFFF;
+        int v13 = (s[so + 13] + d) & 0xFFFF;
+        int v14 = (s[so + 14] + d) & 0xFFFF;
+        int v15 = (s[so + 15] + d) & 0xFFFF;
+        int v16 = (s[so + 16] + d) & 0xFFFF;
+        int v17 = (s[so + 17] + d) & 0xFFFF;
+        int v18 = (s[so + 18] + d) & 0xFFFF;
+        int v19 = (s[so + 19] + d) & 0xFFFF;
+        int v20 = (s[so + 20] + d) & 0xFFFF;
+        int v21 = (s[so + 21] + d) & 0xFFFF;
+        int v22 = (s[so + 22] + d) & 0xFFFF;
+        int v23 = (s[so + 23] + d) & 0xFFFF;
+        int v24 = (s[so + 24] + d) & 0xFFFF;
+        int v25 = (s[so + 25] + d) & 0xFFFF;
+        int v26 = (s[so + 26] + d) & 0xFFFF;
+        int v27 = (s[so + 27] + d) & 0xFFFF;
+        int v28 = (s[so + 28] + d) & 0xFFFF;
+        int v29 = (s[so + 29] + d) & 0xFFFF;
+        int v30 = (s[so + 30] + d) & 0xFFFF;
+        int v31 = (s[so + 31] + d) & 0xFFFF;
+        t[to] = v0 | (v1 << 16);
+        t[to + 1] = v2 | (v3 << 16);
+        t[to + 2] = v4 | (v5 << 16);
+        t[to + 3] = v6 | (v7 << 16);
+        t[to + 4] = v8 | (v9 << 16);
+        t[to + 5] = v10 | (v11 << 16);
+        t[to + 6] = v12 | (v13 << 16);
+        t[to + 7] = v14 | (v15 << 16);
+        t[to + 8] = v16 | (v17 << 16);
+        t[to + 9] = v18 | (v19 << 16);
+        t[to + 10] = v20 | (v21 << 16);
+        t[to + 11] = v22 | (v23 << 16);
+        t[to + 12] = v24 | (v25 << 16);
+        t[to + 13] = v26 | (v27 << 16);
+        t[to + 14] = v28 | (v29 << 16);
+        t[to + 15] = v30 | (v31 << 16);
+    }
+
+    static void depaqueter16(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0xFFFF) + b;
+        t[to + 1] = (s[so] >>> 16) + b;
+        t[to + 2] = (s[so + 1] & 0xFFFF) + b;
+        t[to + 3] = (s[so + 1] >>> 16) + b;
+        t[to + 4] = (s[so + 2] & 0xFFFF) + b;
+        t[to + 5] = (s[so + 2] >>> 16) + b;
+        t[to + 6] = (s[so + 3] & 0xFFFF) + b;
+        t[to + 7] = (s[so + 3] >>> 16) + b;
+        t[to + 8] = (s[so + 4] & 0xFFFF) + b;
+        t[to + 9] = (s[so + 4] >>> 16) + b;
+        t[to + 10] = (s[so + 5] & 0xFFFF) + b;
+        t[to + 11] = (s[so + 5] >>> 16) + b;
+        t[to + 12] = (s[so + 6] & 0xFFFF) + b;
+        t[to + 13] = (s[so + 6] >>> 16) + b;
+        t[to + 14] = (s[so + 7] & 0xFFFF) + b;
+        t[to + 15] = (s[so + 7] >>> 16) + b;
+        t[to + 16] = (s[so + 8] & 0xFFFF) + b;
+        t[to + 17] = (s[so + 8] >>> 16) + b;
+        t[to + 18] = (s[so + 9] & 0xFFFF) + b;
+        t[to + 19] = (s[so + 9] >>> 16) + b;
+        t[to + 20] = (s[so + 10] & 0xFFFF) + b;
+        t[to + 21] = (s[so + 10] >>> 16) + b;
+        t[to + 22] = (s[so + 11] & 0xFFFF) + b;
+        t[to + 23] = (s[so + 11] >>> 16) + b;
+        t[to + 24] = (s[so + 12] & 0xFFFF) + b;
+        t[to + 25] = (s[so + 12] >>> 16) + b;
+        t[to + 26] = (s[so + 13] & 0xFFFF) + b;
+        t[to + 27] = (s[so + 13] >>> 16) + b;
+        t[to + 28] = (s[so + 14] & 0xFFFF) + b;
+        t[to + 29] = (s[so + 14] >>> 16) + b;
+        t[to + 30] = (s[so + 15] & 0xFFFF) + b;
+        t[to + 31] = (s[so + 15] >>> 16) + b;
+    }
+
+    // ---------------- k = 17 ----------------
+
+    static void empaqueter17(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x1FFFF;
+        int v1 = (s[so + 1] + d) & 0x1FFFF;
+        int v2 = (s[so + 2] + d) & 0x1FFFF;
+        int v3 = (s[so + 3] + d) & 0x1FFFF;
+        int v4 = (s[so + 4] + d) & 0x1FFFF;
+        int v5 = (s[so + 5] + d) & 0x1FFFF;
+        int v6 = (s[so + 6] + d) & 0x1FFFF;
+        int v7 = (s[so + 7] + d) & 0x1FFFF;
+        int v8 = (s[so + 8] + d) & 0x1FFFF;
+        int v9 = (s[so + 9] + d) & 0x1FFFF;
+        int v10 = (s[so + 10] + d) & 0x1FFFF;
+        int v11 = (s[so + 11] + d) & 0x1FFFF;
+        int v12 = (s[so + 12] + d) & 0x1FFFF;
+        int v13 = (s[so + 13] + d) & 0x1FFFF;
+        int v14 = (s[so + 14] + d) & 0x1FFFF;
+        int v15 = (s[so + 15] + d) & 0x1FFFF;
+        int v16 = (s[so + 16] + d) & 0x1FFFF;
+        int v17 = (s[so + 17] + d) & 0x1FFFF;
+        int v18 = (s[so + 18] + d) & 0x1FFFF;
+        int v19 = (s[so + 19] + d) & 0x1FFFF;
+        int v20 = (s[so + 20] + d) & 0x1FFFF;
+        int v21 = (s[so + 21] + d) & 0x1FFFF;
+        int v22 = (s[so + 22] + d) & 0x1FFFF;
+        int v23 = (s[so + 23] + d) & 0x1FFFF;
+        int v24 = (s[so + 24] + d) & 0x1FFFF;
+        int v25 = (s[so + 25] + d) & 0x1FFFF;
+        int v26 = (s[so + 26] + d) & 0x1FFFF;
+        int v27 = (s[so + 27] + d) & 0x1FFFF;
+        int v28 = (s[so + 28] + d) & 0x1FFFF;
+        int v29 = (s[so + 29] + d) & 0x1FFFF;
+        int v30 = (s[so + 30] + d) & 0x1FFFF;
+        int v31 = (s[so + 31] + d) & 0x1FFFF;
+        t[to] = v0 | (v1 << 17);
+        t[to + 1] = (v1 >>> 15) | (v2 << 2) | (v3 << 19);
+        t[to + 2] = (v3 >>> 13) | (v4 << 4) | (v5 << 21);
+        t[to + 3] = (v5 >>> 11) | (v6 << 6) | (v7 << 23);
+        t[to + 4] = (v7 >>> 9) | (v8 << 8) | (v9 << 25);
+        t[to + 5] = (v9 >>> 7) | (v10 << 10) | (v11 << 27);
+        t[to + 6] = (v11 >>> 5) | (v12 << 12) | (v13 << 29);
+        t[to + 7] = (v13 >>> 3) | (v14 << 14) | (v15 << 31);
+        t[to + 8] = (v15 >>> 1) | (v16 << 16);
+        t[to + 9] = (v16 >>> 16) | (v17 << 1) | (v18 << 18);
+        t[to + 10] = (v18 >>> 14) | (v19 << 3) | (v20 << 20);
+        t[to + 11] = (v20 >>> 12) | (v21 << 5) | (v22 << 22);
+        t[to + 12] = (v22 >>> 10) | (v23 << 7) | (v24 << 24);
+        t[to + 13] = (v24 >>> 8) | (v25 << 9) | (v26 << 26);
+        t[to + 14] = (v26 >>> 6) | (v27 << 11) | (v28 << 28);
+        t[to + 15] = (v28 >>> 4) | (v29 << 13) | (v30 << 30);
+        t[to + 16] = (v30 >>> 2) | (v31 << 15);
+    }
+
+    static void depaqueter17(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x1FFFF) + b;
+        t[to + 1] = (((s[so] >>> 17) | (s[so + 1] << 15)) & 0x1FFFF) + b;
+        t[to + 2] = ((s[so + 1] >>> 2) & 0x1FFFF) + b;
+        t[to + 3] = (((s[so + 1] >>> 19) | (s[so + 2] << 13)) & 0x1FFFF) + b;
+        t[to + 4] = ((s[so + 2] >>> 4) & 0x1FFFF) + b;
+        t[to + 5] = (((s[so + 2] >>> 21) | (s[so + 3] << 11)) & 0x1FFFF) + b;
+        t[to + 6] = ((s[so + 3] >>> 6) & 0x1FFFF) + b;
+        t[to + 7] = (((s[so + 3] >>> 23) | (s[so + 4] << 9)) & 0x1FFFF) + b;
+        t[to + 8] = ((s[so + 4] >>> 8) & 0x1FFFF) + b;
+        t[to + 9] = (((s[so + 4] >>> 25) | (s[so + 5] << 7)) & 0x1FFFF) + b;
+        t[to + 10] = ((s[so + 5] >>> 10) & 0x1FFFF) + b;
+        t[to + 11] = (((s[so + 5] >>> 27) | (s[so + 6] << 5)) & 0x1FFFF) + b;
+        t[to + 12] = ((s[so + 6] >>> 12) & 0x1FFFF) + b;
+        t[to + 13] = (((s[so + 6] >>> 29) | (s[so + 7] << 3)) & 0x1FFFF) + b;
+        t[to + 14] = ((s[so + 7] >>> 14) & 0x1FFFF) + b;
+        t[to + 15] = (((s[so + 7] >>> 31) | (s[so + 8] << 1)) & 0x1FFFF) + b;
+        t[to + 16] = (((s[so + 8] >>> 16) | (s[so + 9] << 16)) & 0x1FFFF) + b;
+        t[to + 17] = ((s[so + 9] >>> 1) & 0x1FFFF) + b;
+        t[to + 18] = (((s[so + 9] >>> 18) | (s[so + 10] << 14)) & 0x1FFFF) + b;
+        t[to + 19] = ((s[so + 10] >>> 3) & 0x1FFFF) + b;
+        t[to + 20] = (((s[so + 10] >>> 20) | (s[so + 11] << 12)) & 0x1FFFF) + b;
+        t[to + 21] = ((s[so + 11] >>> 5) & 0x1FFFF) + b;
+        t[to + 22] = (((s[so + 11] >>> 22) | (s[so + 12] << 10)) & 0x1FFFF) + b;
+        t[to + 23] = ((s[so + 12] >>> 7) & 0x1FFFF) + b;
+        t[to + 24] = (((s[so + 12] >>> 24) | (s[so + 13] << 8)) & 0x1FFFF) + b;
+        t[to + 25] = ((s[so + 13] >>> 9) & 0x1FFFF) + b;
+        t[to + 26] = (((s[so + 13] >>> 26) | (s[so + 14] << 6)) & 0x1FFFF) + b;
+        t[to + 27] = ((s[so + 14] >>> 11) & 0x1FFFF) + b;
+        t[to + 28] = (((s[so + 14] >>> 28) | (s[so + 15] << 4)) & 0x1FFFF) + b;
+        t[to + 29] = ((s[so + 15] >>> 13) & 0x1FFFF) + b;
+        t[to + 30] = (((s[so + 15] >>> 30) | (s[so + 16] << 2)) & 0x1FFFF) + b;
+        t[to + 31] = (s[so + 16] >>> 15) + b;
+    }
+
+    // ---------------- k = 18 ----------------
+
+    static void empaqueter18(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x3FFFF;
+        int v1 = (s[so + 1] + d) & 0x3FFFF;
+        int v2 = (s[so + 2] + d) & 0x3FFFF;
+        int v3 = (s[so + 3] + d) & 0x3FFFF;
+        int v4 = (s[so + 4] + d) & 0x3FFFF;
+        int v5 = (s[so + 5] + d) & 0x3FFFF;
+        int v6 = (s[so + 6] + d) & 0x3FFFF;
+        int v7 = (s[so + 7] + d) & 0x3FFFF;
+        int v8 = (s[so + 8] + d) & 0x3FFFF;
+        int v9 = (s[so + 9] + d) & 0x3FFFF;
+        int v10 = (s[so + 10] + d) & 0x3FFFF;
+        int v11 = (s[so + 11] + d) & 0x3FFFF;
+        int v12 = (s[so + 12] + d) & 0x3FFFF;
+        int v13 = (s[so + 13] + d) & 0x3FFFF;
+        int v14 = (s[so + 14] + d) & 0x3FFFF;
+        int v15 = (s[so + 15] + d) & 0x3FFFF;
+        int v16 = (s[so + 16] + d) & 0x3FFFF;
+        int v17 = (s[so + 17] + d) & 0x3FFFF;
+        int v18 = (s[so + 18] + d) & 0x3FFFF;
+        int v19 = (s[so + 19] + d) & 0x3FFFF;
+        int v20 = (s[so + 20] + d) & 0x3FFFF;
+        int v21 = (s[so + 21] + d) & 0x3FFFF;
+        int v22 = (s[so + 22] + d) & 0x3FFFF;
+        int v23 = (s[so + 23] + d) & 0x3FFFF;
+        int v24 = (s[so + 24] + d) & 0x3FFFF;
+        int v25 = (s[so + 25] + d) & 0x3FFFF;
+        int v26 = (s[so + 26] + d) & 0x3FFFF;
+        int v27 = (s[so + 27] + d) & 0x3FFFF;
+        int v28 = (s[so + 28] + d) & 0x3FFFF;
+        int v29 = (s[so + 29] + d) & 0x3FFFF;
+        int v30 = (s[so + 30] + d) & 0x3FFFF;
+        int v31 = (s[so + 31] + d) & 0x3FFFF;
+        t[to] = v0 | (v1 << 18);
+        t[to + 1] = (v1 >>> 14) | (v2 << 4) | (v3 << 22);
+        t[to + 2] = (v3 >>> 10) | (v4 << 8) | (v5 << 26);
+        t[to + 3] = (v5 >>> 6) | (v6 << 12) | (v7 << 30);
+        t[to + 4] = (v7 >>> 2) | (v8 << 16);
+        t[to + 5] = (v8 >>> 16) | (v9 << 2) | (v10 << 20);
+        t[to + 6] = (v10 >>> 12) | (v11 << 6) | (v12 << 24);
+        t[to + 7] = (v12 >>> 8) | (v13 << 10) | (v14 << 28);
+        t[to + 8] = (v14 >>> 4) | (v15 << 14);
+        t[to + 9] = v16 | (v17 << 18);
+        t[to + 10] = (v17 >>> 14) | (v18 << 4) | (v19 << 22);
+        t[to + 11] = (v19 >>> 10) | (v20 << 8) | (v21 << 26);
+        t[to + 12] = (v21 >>> 6) | (v22 << 12) | (v23 << 30);
+        t[to + 13] = (v23 >>> 2) | (v24 << 16);
+        t[to + 14] = (v24 >>> 16) | (v25 << 2) | (v26 << 20);
+        t[to + 15] = (v26 >>> 12) | (v27 << 6) | (v28 << 24);
+        t[to + 16] = (v28 >>> 8) | (v29 << 10) | (v30 << 28);
+        t[to + 17] = (v30 >>> 4) | (v31 << 14);
+    }
+
+    static void depaqueter18(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x3FFFF) + b;
+        t[to + 1] = (((s[so] >>> 18) | (s[so + 1] << 14)) & 0x3FFFF) + b;
+        t[to + 2] = ((s[so + 1] >>> 4) & 0x3FFFF) + b;
+        t[to + 3] = (((s[so + 1] >>> 22) | (s[so + 2] << 10)) & 0x3FFFF) + b;
+        t[to + 4] = ((s[so + 2] >>> 8) & 0x3FFFF) + b;
+        t[to + 5] = (((s[so + 2] >>> 26) | (s[so + 3] << 6)) & 0x3FFFF) + b;
+        t[to + 6] = ((s[so + 3] >>> 12) & 0x3FFFF) + b;
+        t[to + 7] = (((s[so + 3] >>> 30) | (s[so + 4] << 2)) & 0x3FFFF) + b;
+        t[to + 8] = (((s[so + 4] >>> 16) | (s[so + 5] << 16)) & 0x3FFFF) + b;
+        t[to + 9] = ((s[so + 5] >>> 2) & 0x3FFFF) + b;
+        t[to + 10] = (((s[so + 5] >>> 20) | (s[so + 6] << 12)) & 0x3FFFF) + b;
+        t[to + 11] = ((s[so + 6] >>> 6) & 0x3FFFF) + b;
+        t[to + 12] = (((s[so + 6] >>> 24) | (s[so + 7] << 8)) & 0x3FFFF) + b;
+        t[to + 13] = ((s[so + 7] >>> 10) & 0x3FFFF) + b;
+        t[to + 14] = (((s[so + 7] >>> 28) | (s[so + 8] << 4)) & 0x3FFFF) + b;
+        t[to + 15] = (s[so + 8] >>> 14) + b;
+        t[to + 16] = (s[so + 9] & 0x3FFFF) + b;
+        t[to + 17] = (((s[so + 9] >>> 18) | (s[so + 10] << 14)) & 0x3FFFF) + b;
+        t[to + 18] = ((s[so + 10] >>> 4) & 0x3FFFF) + b;
+        t[to + 19] = (((s[so + 10] >>> 22) | (s[so + 11] << 10)) & 0x3FFFF) + b;
+        t[to + 20] = ((s[so + 11] >>> 8) & 0x3FFFF) + b;
+        t[to + 21] = (((s[so + 11] >>> 26) | (s[so + 12] << 6)) & 0x3FFFF) + b;
+        t[to + 22] = ((s[so + 12] >>> 12) & 0x3FFFF) + b;
+        t[to + 23] = (((s[so + 12] >>> 30) | (s[so + 13] << 2)) & 0x3FFFF) + b;
+        t[to + 24] = (((s[so + 13] >>> 16) | (s[so + 14] << 16)) & 0x3FFFF) + b;
+        t[to + 25] = ((s[so + 14] >>> 2) & 0x3FFFF) + b;
+        t[to + 26] = (((s[so + 14] >>> 20) | (s[so + 15] << 12)) & 0x3FFFF) + b;
+        t[to + 27] = ((s[so + 15] >>> 6) & 0x3FFFF) + b;
+        t[to + 28] = (((s[so + 15] >>> 24) | (s[so + 16] << 8)) & 0x3FFFF) + b;
+        t[to + 29] = ((s[so + 16] >>> 10) & 0x3FFFF) + b;
+        t[to + 30] = (((s[so + 16] >>> 28) | (s[so + 17] << 4)) & 0x3FFFF) + b;
+        t[to + 31] = (s[so + 17] >>> 14) + b;
+    }
+
+    // ---------------- k = 19 ----------------
+
+    static void empaqueter19(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x7FFFF;
+        int v1 = (s[so + 1] + d) & 0x7FFFF;
+        int v2 = (s[so + 2] + d) & 0x7FFFF;
+        int v3 = (s[so + 3] + d) & 0x7FFFF;
+        int v4 = (s[so + 4] + d) & 0x7FFFF;
+        int v5 = (s[so + 5] + d) & 0x7FFFF;
+        int v6 = (s[so + 6] + d) & 0x7FFFF;
+        int v7 = (s[so + 7] + d) & 0x7FFFF;
+        int v8 = (s[so + 8] + d) & 0x7FFFF;
+        int v9 = (s[so + 9] + d) & 0x7FFFF;
+        int v10 = (s[so + 10] + d) & 0x7FFFF;
+        int v11 = (s[so + 11] + d) & 0x7FFFF;
+        int v12 = (s[so + 12] + d) & 0x7FFFF;
+        int v13 = (s[so + 13] + d) & 0x7FFFF;
+        int v14 = (s[so + 14] + d) & 0x7FFFF;
+        int v15 = (s[so + 15] + d) & 0x7FFFF;
+        int v16 = (s[so + 16] + d) & 0x7FFFF;
+        int v17 = (s[so + 17] + d) & 0x7FFFF;
+        int v18 = (s[so + 18] + d) & 0x7FFFF;
+        int v19 = (s[so + 19] + d) & 0x7FFFF;
+        int v20 = (s[so + 20] + d) & 0x7FFFF;
+        int v21 = (s[so + 21] + d) & 0x7FFFF;
+        int v22 = (s[so + 22] + d) & 0x7FFFF;
+        int v23 = (s[so + 23] + d) & 0x7FFFF;
+        int v24 = (s[so + 24] + d) & 0x7FFFF;
+        int v25 = (s[so + 25] + d) & 0x7FFFF;
+        int v26 = (s[so + 26] + d) & 0x7FFFF;
+        int v27 = (s[so + 27] + d) & 0x7FFFF;
+        int v28 = (s[so + 28] + d) & 0x7FFFF;
+        int v29 = (s[so + 29] + d) & 0x7FFFF;
+        int v30 = (s[so + 30] + d) & 0x7FFFF;
+        int v31 = (s[so + 31] + d) & 0x7FFFF;
+        t[to] = v0 | (v1 << 19);
+        t[to + 1] = (v1 >>> 13) | (v2 << 6) | (v3 << 25);
+        t[to + 2] = (v3 >>> 7) | (v4 << 12) | (v5 << 31);
+        t[to + 3] = (v5 >>> 1) | (v6 << 18);
+        t[to + 4] = (v6 >>> 14) | (v7 << 5) | (v8 << 24);
+        t[to + 5] = (v8 >>> 8) | (v9 << 11) | (v10 << 30);
+        t[to + 6] = (v10 >>> 2) | (v11 << 17);
+        t[to + 7] = (v11 >>> 15) | (v12 << 4) | (v13 << 23);
+        t[to + 8] = (v13 >>> 9) | (v14 << 10) | (v15 << 29);
+        t[to + 9] = (v15 >>> 3) | (v16 << 16);
+        t[to + 10] = (v16 >>> 16) | (v17 << 3) | (v18 << 22);
+        t[to + 11] = (v18 >>> 10) | (v19 << 9) | (v20 << 28);
+        t[to + 12] = (v20 >>> 4) | (v21 << 15);
+        t[to + 13] = (v21 >>> 17) | (v22 << 2) | (v23 << 21);
+        t[to + 14] = (v23 >>> 11) | (v24 << 8) | (v25 << 27);
+        t[to + 15] = (v25 >>> 5) | (v26 << 14);
+        t[to + 16] = (v26 >>> 18) | (v27 << 1) | (v28 << 20);
+        t[to + 17] = (v28 >>> 12) | (v29 << 7) | (v30 << 26);
+        t[to + 18] = (v30 >>> 6) | (v31 << 13);
+    }
+
+    static void depaqueter19(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x7FFFF) + b;
+        t[to + 1] = (((s[so] >>> 19) | (s[so + 1] << 13)) & 0x7FFFF) + b;
+        t[to + 2] = ((s[so + 1] >>> 6) & 0x7FFFF) + b;
+        t[to + 3] = (((s[so + 1] >>> 25) | (s[so + 2] << 7)) & 0x7FFFF) + b;
+        t[to + 4] = ((s[so + 2] >>> 12) & 0x7FFFF) + b;
+        t[to + 5] = (((s[so + 2] >>> 31) | (s[so + 3] << 1)) & 0x7FFFF) + b;
+        t[to + 6] = (((s[so + 3] >>> 18) | (s[so + 4] << 14)) & 0x7FFFF) + b;
+        t[to + 7] = ((s[so + 4] >>> 5) & 0x7FFFF) + b;
+        t[to + 8] = (((s[so + 4] >>> 24) | (s[so + 5] << 8)) & 0x7FFFF) + b;
+        t[to + 9] = ((s[so + 5] >>> 11) & 0x7FFFF) + b;
+        t[to + 10] = (((s[so + 5] >>> 30) | (s[so + 6] << 2)) & 0x7FFFF) + b;
+        t[to + 11] = (((s[so + 6] >>> 17) | (s[so + 7] << 15)) & 0x7FFFF) + b;
+        t[to + 12] = ((s[so + 7] >>> 4) & 0x7FFFF) + b;
+        t[to + 13] = (((s[so + 7] >>> 23) | (s[so + 8] << 9)) & 0x7FFFF) + b;
+        t[to + 14] = ((s[so + 8] >>> 10) & 0x7FFFF) + b;
+        t[to + 15] = (((s[so + 8] >>> 29) | (s[so + 9] << 3)) & 0x7FFFF) + b;
+        t[to + 16] = (((s[so + 9] >>> 16) | (s[so + 10] << 16)) & 0x7FFFF) + b;
+        t[to + 17] = ((s[so + 10] >>> 3) & 0x7FFFF) + b;
+        t[to + 18] = (((s[so + 10] >>> 22) | (s[so + 11] << 10)) & 0x7FFFF) + b;
+        t[to + 19] = ((s[so + 11] >>> 9) & 0x7FFFF) + b;
+        t[to + 20] = (((s[so + 11] >>> 28) | (s[so + 12] << 4)) & 0x7FFFF) + b;
+        t[to + 21] = (((s[so + 12] >>> 15) | (s[so + 13] << 17)) & 0x7FFFF) + b;
+        t[to + 22] = ((s[so + 13] >>> 2) & 0x7FFFF) + b;
+        t[to + 23] = (((s[so + 13] >>> 21) | (s[so + 14] << 11)) & 0x7FFFF) + b;
+        t[to + 24] = ((s[so + 14] >>> 8) & 0x7FFFF) + b;
+        t[to + 25] = (((s[so + 14] >>> 27) | (s[so + 15] << 5)) & 0x7FFFF) + b;
+        t[to + 26] = (((s[so + 15] >>> 14) | (s[so + 16] << 18)) & 0x7FFFF) + b;
+        t[to + 27] = ((s[so + 16] >>> 1) & 0x7FFFF) + b;
+        t[to + 28] = (((s[so + 16] >>> 20) | (s[so + 17] << 12)) & 0x7FFFF) + b;
+        t[to + 29] = ((s[so + 17] >>> 7) & 0x7FFFF) + b;
+        t[to + 30] = (((s[so + 17] >>> 26) | (s[so + 18] << 6)) & 0x7FFFF) + b;
+        t[to + 31] = (s[so + 18] >>> 13) + b;
+    }
+
+    // ---------------- k = 20 ----------------
+
+    static void empaqueter20(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0xFFFFF;
+        int v1 = (s[so + 1] + d) & 0xFFFFF;
+        int v2 = (s[so + 2] + d) & 0xFFFFF;
+        int v3 = (s[so + 3] + d) & 0xFFFFF;
+        int v4 = (s[so + 4] + d) & 0xFFFFF;
+        int v5 = (s[so + 5] + d) & 0xFFFFF;
+        int v6 = (s[so + 6] + d) & 0xFFFFF;
+        int v7 = (s[so + 7] + d) & 0xFFFFF;
+        int v8 = (s[so + 8] + d) & 0xFFFFF;
+        int v9 = (s[so + 9] + d) & 0xFFFFF;
+        int v10 = (s[so + 10] + d) & 0xFFFFF;
+        int v11 = (s[so + 11] + d) & 0xFFFFF;
+        int v12 = (s[so + 12] + d) & 0xFFFFF;
+        int v13 = (s[so + 13] + d) & 0xFFFFF;
+        int v14 = (s[so + 14] + d) & 0xFFFFF;
+        int v15 = (s[so + 15] + d) & 0xFFFFF;
+        int v16 = (s[so + 16] + d) & 0xFFFFF;
+        int v17 = (s[so + 17] + d) & 0xFFFFF;
+        int v18 = (s[so + 18] + d) & 0xFFFFF;
+        int v19 = (s[so + 19] + d) & 0xFFFFF;
+        int v20 = (s[so + 20] + d) & 0xFFFFF;
+        int v21 = (s[so + 21] + d) & 0xFFFFF;
+        int v22 = (s[so + 22] + d) & 0xFFFFF;
+        int v23 = (s[so + 23] + d) & 0xFFFFF;
+        int v24 = (s[so + 24] + d) & 0xFFFFF;
+        int v25 = (s[so + 25] + d) & 0xFFFFF;
+        int v26 = (s[so + 26] + d) & 0xFFFFF;
+        int v27 = (s[so + 27] + d) & 0xFFFFF;
+        int v28 = (s[so + 28] + d) & 0xFFFFF;
+        int v29 = (s[so + 29] + d) & 0xFFFFF;
+        int v30 = (s[so + 30] + d) & 0xFFFFF;
+        int v31 = (s[so + 31] + d) & 0xFFFFF;
+        t[to] = v0 | (v1 << 20);
+        t[to + 1] = (v1 >>> 12) | (v2 << 8) | (v3 << 28);
+        t[to + 2] = (v3 >>> 4) | (v4 << 16);
+        t[to + 3] = (v4 >>> 16) | (v5 << 4) | (v6 << 24);
+        t[to + 4] = (v6 >>> 8) | (v7 << 12);
+        t[to + 5] = v8 | (v9 << 20);
+        t[to + 6] = (v9 >>> 12) | (v10 << 8) | (v11 << 28);
+        t[to + 7] = (v11 >>> 4) | (v12 << 16);
+        t[to + 8] = (v12 >>> 16) | (v13 << 4) | (v14 << 24);
+        t[to + 9] = (v14 >>> 8) | (v15 << 12);
+        t[to + 10] = v16 | (v17 << 20);
+        t[to + 11] = (v17 >>> 12) | (v18 << 8) | (v19 << 28);
+        t[to + 12] = (v19 >>> 4) | (v20 << 16);
+        t[to + 13] = (v20 >>> 16) | (v21 << 4) | (v22 << 24);
+        t[to + 14] = (v22 >>> 8) | (v23 << 12);
+        t[to + 15] = v24 | (v25 << 20);
+        t[to + 16] = (v25 >>> 12) | (v26 << 8) | (v27 << 28);
+        t[to + 17] = (v27 >>> 4) | (v28 << 16);
+        t[to + 18] = (v28 >>> 16) | (v29 << 4) | (v30 << 24);
+        t[to + 19] = (v30 >>> 8) | (v31 << 12);
+    }
+
+    static void depaqueter20(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0xFFFFF) + b;
+        t[to + 1] = (((s[so] >>> 20) | (s[so + 1] << 12)) & 0xFFFFF) + b;
+        t[to + 2] = ((s[so + 1] >>> 8) & 0xFFFFF) + b;
+        t[to + 3] = (((s[so + 1] >>> 28) | (s[so + 2] << 4)) & 0xFFFFF) + b;
+        t[to + 4] = (((s[so + 2] >>> 16) | (s[so + 3] << 16)) & 0xFFFFF) + b;
+        t[to + 5] = ((s[so + 3] >>> 4) & 0xFFFFF) + b;
+        t[to + 6] = (((s[so + 3] >>> 24) | (s[so + 4] << 8)) & 0xFFFFF) + b;
+        t[to + 7] = (s[so + 4] >>> 12) + b;
+        t[to + 8] = (s[so + 5] & 0xFFFFF) + b;
+        t[to + 9] = (((s[so + 5] >>> 20) | (s[so + 6] << 12)) & 0xFFFFF) + b;
+        t[to + 10] = ((s[so + 6] >>> 8) & 0xFFFFF) + b;
+        t[to + 11] = (((s[so + 6] >>> 28) | (s[so + 7] << 4)) & 0xFFFFF) + b;
+        t[to + 12] = (((s[so + 7] >>> 16) | (s[so + 8] << 16)) & 0xFFFFF) + b;
+        t[to + 13] = ((s[so + 8] >>> 4) & 0xFFFFF) + b;
+        t[to + 14] = (((s[so + 8] >>> 24) | (s[so + 9] << 8)) & 0xFFFFF) + b;
+        t[to + 15] = (s[so + 9] >>> 12) + b;
+        t[to + 16] = (s[so + 10] & 0xFFFFF) + b;
+        t[to + 17] = (((s[so + 10] >>> 20) | (s[so + 11] << 12)) & 0xFFFFF) + b;
+        t[to + 18] = ((s[so + 11] >>> 8) & 0xFFFFF) + b;
+        t[to + 19] = (((s[so + 11] >>> 28) | (s[so + 12] << 4)) & 0xFFFFF) + b;
+        t[to + 20] = (((s[so + 12] >>> 16) | (s[so + 13] << 16)) & 0xFFFFF) + b;
+        t[to + 21] = ((s[so + 13] >>> 4) & 0xFFFFF) + b;
+        t[to + 22] = (((s[so + 13] >>> 24) | (s[so + 14] << 8)) & 0xFFFFF) + b;
+        t[to + 23] = (s[so + 14] >>> 12) + b;
+        t[to + 24] = (s[so + 15] & 0xFFFFF) + b;
+        t[to + 25] = (((s[so + 15] >>> 20) | (s[so + 16] << 12)) & 0xFFFFF) + b;
+        t[to + 26] = ((s[so + 16] >>> 8) & 0xFFFFF) + b;
+        t[to + 27] = (((s[so + 16] >>> 28) | (s[so + 17] << 4)) & 0xFFFFF) + b;
+        t[to + 28] = (((s[so + 17] >>> 16) | (s[so + 18] << 16)) & 0xFFFFF) + b;
+        t[to + 29] = ((s[so + 18] >>> 4) & 0xFFFFF) + b;
+        t[to + 30] = (((s[so + 18] >>> 24) | (s[so + 19] << 8)) & 0xFFFFF) + b;
+        t[to + 31] = (s[so + 19] >>> 12) + b;
+    }
+
+    // ---------------- k = 21 ----------------
+
+    static void empaqueter21(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x1FFFFF;
+        int v1 = (s[so + 1] + d) & 0x1FFFFF;
+        int v2 = (s[so + 2] + d) & 0x1FFFFF;
+        int v3 = (s[so + 3] + d) & 0x1FFFFF;
+        int v4 = (s[so + 4] + d) & 0x1FFFFF;
+        int v5 = (s[so + 5] + d) & 0x1FFFFF;
+        int v6 = (s[so + 6] + d) & 0x1FFFFF;
+        int v7 = (s[so + 7] + d) & 0x1FFFFF;
+        int v8 = (s[so + 8] + d) & 0x1FFFFF;
+        int v9 = (s[so + 9] + d) & 0x1FFFFF;
+        int v10 = (s[so + 10] + d) & 0x1FFFFF;
+        int v11 = (s[so + 11] + d) & 0x1FFFFF;
+        int v12 = (s[so + 12] + d) & 0x1FFFFF;
+        int v13 = (s[so + 13] + d) & 0x1FFFFF;
+        int v14 = (s[so + 14] + d) & 0x1FFFFF;
+        int v15 = (s[so + 15] + d) & 0x1FFFFF;
+        int v16 = (s[so + 16] + d) & 0x1FFFFF;
+        int v17 = (s[so + 17] + d) & 0x1FFFFF;
+        int v18 = (s[so + 18] + d) & 0x1FFFFF;
+        int v19 = (s[so + 19] + d) & 0x1FFFFF;
+        int v20 = (s[so + 20] + d) & 0x1FFFFF;
+        int v21 = (s[so + 21] + d) & 0x1FFFFF;
+        int v22 = (s[so + 22] + d) & 0x1FFFFF;
+        int v23 = (s[so + 23] + d) & 0x1FFFFF;
+        int v24 = (s[so + 24] + d) & 0x1FFFFF;
+        int v25 = (s[so + 25] + d) & 0x1FFFFF;
+        int v26 = (s[so + 26] + d) & 0x1FFFFF;
+        int v27 = (s[so + 27] + d) & 0x1FFFFF;
+        int v28 = (s[so + 28] + d) & 0x1FFFFF;
+        int v29 = (s[so + 29] + d) & 0x1FFFFF;
+        int v30 = (s[so + 30] + d) & 0x1FFFFF;
+        int v31 = (s[so + 31] + d) & 0x1FFFFF;
+        t[to] = v0 | (v1 << 21);
+        t[to + 1] = (v1 >>> 11) | (v2 << 10) | (v3 << 31);
+        t[to + 2] = (v3 >>> 1) | (v4 << 20);
+        t[to + 3] = (v4 >>> 12) | (v5 << 9) | (v6 << 30);
+        t[to + 4] = (v6 >>> 2) | (v7 << 19);
+        t[to + 5] = (v7 >>> 13) | (v8 << 8) | (v9 << 29);
+        t[to + 6] = (v9 >>> 3) | (v10 << 18);
+        t[to + 7] = (v10 >>> 14) | (v11 << 7) | (v12 << 28);
+        t[to + 8] = (v12 >>> 4) | (v13 << 17);
+        t[to + 9] = (v13 >>> 15) | (v14 << 6) | (v15 << 27);
+        t[to + 10] = (v15 >>> 5) | (v16 << 16);
+        t[to + 11] = (v16 >>> 16) | (v17 << 5) | (v18 << 26);
+        t[to + 12] = (v18 >>> 6) | (v19 << 15);
+        t[to + 13] = (v19 >>> 17) | (v20 << 4) | (v21 << 25);
+        t[to + 14] = (v21 >>> 7) | (v22 << 14);
+        t[to + 15] = (v22 >>> 18) | (v23 << 3) | (v24 << 24);
+        t[to + 16] = (v24 >>> 8) | (v25 << 13);
+        t[to + 17] = (v25 >>> 19) | (v26 << 2) | (v27 << 23);
+        t[to + 18] = (v27 >>> 9) | (v28 << 12);
+        t[to + 19] = (v28 >>> 20) | (v29 << 1) | (v30 << 22);
+        t[to + 20] = (v30 >>> 10) | (v31 << 11);
+    }
+
+    static void depaqueter21(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x1FFFFF) + b;
+        t[to + 1] = (((s[so] >>> 21) | (s[so + 1] << 11)) & 0x1FFFFF) + b;
+        t[to + 2] = ((s[so + 1] >>> 10) & 0x1FFFFF) + b;
+        t[to + 3] = (((s[so + 1] >>> 31) | (s[so + 2] << 1)) & 0x1FFFFF) + b;
+        t[to + 4] = (((s[so + 2] >>> 20) | (s[so + 3] << 12)) & 0x1FFFFF) + b;
+        t[to + 5] = ((s[so + 3] >>> 9) & 0x1FFFFF) + b;
+        t[to + 6] = (((s[so + 3] >>> 30) | (s[so + 4] << 2)) & 0x1FFFFF) + b;
+        t[to + 7] = (((s[so + 4] >>> 19) | (s[so + 5] << 13)) & 0x1FFFFF) + b;
+        t[to + 8] = ((s[so + 5] >>> 8) & 0x1FFFFF) + b;
+        t[to + 9] = (((s[so + 5] >>> 29) | (s[so + 6] << 3)) & 0x1FFFFF) + b;
+        t[to + 10] = (((s[so + 6] >>> 18) | (s[so + 7] << 14)) & 0x1FFFFF) + b;
+        t[to + 11] = ((s[so + 7] >>> 7) & 0x1FFFFF) + b;
+        t[to + 12] = (((s[so + 7] >>> 28) | (s[so + 8] << 4)) & 0x1FFFFF) + b;
+        t[to + 13] = (((s[so + 8] >>> 17) | (s[so + 9] << 15)) & 0x1FFFFF) + b;
+        t[to + 14] = ((s[so + 9] >>> 6) & 0x1FFFFF) + b;
+        t[to + 15] = (((s[so + 9] >>> 27) | (s[so + 10] << 5)) & 0x1FFFFF) + b;
+        t[to + 16] = (((s[so + 10] >>> 16) | (s[so + 11] << 16)) & 0x1FFFFF) + b;
+        t[to + 17] = ((s[so + 11] >>> 5) & 0x1FFFFF) + b;
+        t[to + 18] = (((s[so + 11] >>> 26) | (s[so + 12] << 6)) & 0x1FFFFF) + b;
+        t[to + 19] = (((s[so + 12] >>> 15) | (s[so + 13] << 17)) & 0x1FFFFF) + b;
+        t[to + 20] = ((s[so + 13] >>> 4) & 0x1FFFFF) + b;
+        t[to + 21] = (((s[so + 13] >>> 25) | (s[so + 14] << 7)) & 0x1FFFFF) + b;
+        t[to + 22] = (((s[so + 14] >>> 14) | (s[so + 15] << 18)) & 0x1FFFFF) + b;
+        t[to + 23] = ((s[so + 15] >>> 3) & 0x1FFFFF) + b;
+        t[to + 24] = (((s[so + 15] >>> 24) | (s[so + 16] << 8)) & 0x1FFFFF) + b;
+        t[to + 25] = (((s[so + 16] >>> 13) | (s[so + 17] << 19)) & 0x1FFFFF) + b;
+        t[to + 26] = ((s[so + 17] >>> 2) & 0x1FFFFF) + b;
+        t[to + 27] = (((s[so + 17] >>> 23) | (s[so + 18] << 9)) & 0x1FFFFF) + b;
+        t[to + 28] = (((s[so + 18] >>> 12) | (s[so + 19] << 20)) & 0x1FFFFF) + b;
+        t[to + 29] = ((s[so + 19] >>> 1) & 0x1FFFFF) + b;
+        t[to + 30] = (((s[so + 19] >>> 22) | (s[so + 20] << 10)) & 0x1FFFFF) + b;
+        t[to + 31] = (s[so + 20] >>> 11) + b;
+    }
+
+    // ---------------- k = 22 ----------------
+
+    static void empaqueter22(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x3FFFFF;
+        int v1 = (s[so + 1] + d) & 0x3FFFFF;
+        int v2 = (s[so + 2] + d) & 0x3FFFFF;
+        int v3 = (s[so + 3] + d) & 0x3FFFFF;
+        int v4 = (s[so + 4] + d) & 0x3FFFFF;
+        int v5 = (s[so + 5] + d) & 0x3FFFFF;
+        int v6 = (s[so + 6] + d) & 0x3FFFFF;
+        int v7 = (s[so + 7] + d) & 0x3FFFFF;
+        int v8 = (s[so + 8] + d) & 0x3FFFFF;
+        int v9 = (s[so + 9] + d) & 0x3FFFFF;
+        int v10 = (s[so + 10] + d) & 0x3FFFFF;
+        int v11 = (s[so + 11] + d) & 0x3FFFFF;
+        int v12 = (s[so + 12] + d) & 0x3FFFFF;
+        int v13 = (s[so + 13] + d) & 0x3FFFFF;
+        int v14 = (s[so + 14] + d) & 0x3FFFFF;
+        int v15 = (s[so + 15] + d) & 0x3FFFFF;
+        int v16 = (s[so + 16] + d) & 0x3FFFFF;
+        int v17 = (s[so + 17] + d) & 0x3FFFFF;
+        int v18 = (s[so + 18] + d) & 0x3FFFFF;
+        int v19 = (s[so + 19] + d) & 0x3FFFFF;
+        int v20 = (s[so + 20] + d) & 0x3FFFFF;
+        int v21 = (s[so + 21] + d) & 0x3FFFFF;
+        int v22 = (s[so + 22] + d) & 0x3FFFFF;
+        int v23 = (s[so + 23] + d) & 0x3FFFFF;
+        int v24 = (s[so + 24] + d) & 0x3FFFFF;
+        int v25 = (s[so + 25] + d) & 0x3FFFFF;
+        int v26 = (s[so + 26] + d) & 0x3FFFFF;
+        int v27 = (s[so + 27] + d) & 0x3FFFFF;
+        int v28 = (s[so + 28] + d) & 0x3FFFFF;
+        int v29 = (s[so + 29] + d) & 0x3FFFFF;
+        int v30 = (s[so + 30] + d) & 0x3FFFFF;
+        int v31 = (s[so + 31] + d) & 0x3FFFFF;
+        t[to] = v0 | (v1 << 22);
+        t[to + 1] = (v1 >>> 10) | (v2 << 12);
+        t[to + 2] = (v2 >>> 20) | (v3 << 2) | (v4 << 24);
+        t[to + 3] = (v4 >>> 8) | (v5 << 14);
+        t[to + 4] = (v5 >>> 18) | (v6 << 4) | (v7 << 26);
+        t[to + 5] = (v7 >>> 6) | (v8 << 16);
+        t[to + 6] = (v8 >>> 16) | (v9 << 6) | (v10 << 28);
+        t[to + 7] = (v10 >>> 4) | (v11 << 18);
+        t[to + 8] = (v11 >>> 14) | (v12 << 8) | (v13 << 30);
+        t[to + 9] = (v13 >>> 2) | (v14 << 20);
+        t[to + 10] = (v14 >>> 12) | (v15 << 10);
+        t[to + 11] = v16 | (v17 << 22);
+        t[to + 12] = (v17 >>> 10) | (v18 << 12);
+        t[to + 13] = (v18 >>> 20) | (v19 << 2) | (v20 << 24);
+        t[to + 14] = (v20 >>> 8) | (v21 << 14);
+        t[to + 15] = (v21 >>> 18) | (v22 << 4) | (v23 << 26);
+        t[to + 16] = (v23 >>> 6) | (v24 << 16);
+        t[to + 17] = (v24 >>> 16) | (v25 << 6) | (v26 << 28);
+        t[to + 18] = (v26 >>> 4) | (v27 << 18);
+        t[to + 19] = (v27 >>> 14) | (v28 << 8) | (v29 << 30);
+        t[to + 20] = (v29 >>> 2) | (v30 << 20);
+        t[to + 21] = (v30 >>> 12) | (v31 << 10);
+    }
+
+    static void depaqueter22(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x3FFFFF) + b;
+        t[to + 1] = (((s[so] >>> 22) | (s[so + 1] << 10)) & 0x3FFFFF) + b;
+        t[to + 2] = (((s[so + 1] >>> 12) | (s[so + 2] << 20)) & 0x3FFFFF) + b;
+        t[to + 3] = ((s[so + 2] >>> 2) & 0x3FFFFF) + b;
+        t[to + 4] = (((s[so + 2] >>> 24) | (s[so + 3] << 8)) & 0x3FFFFF) + b;
+        t[to + 5] = (((s[so + 3] >>> 14) | (s[so + 4] << 18)) & 0x3FFFFF) + b;
+        t[to + 6] = ((s[so + 4] >>> 4) & 0x3FFFFF) + b;
+        t[to + 7] = (((s[so + 4] >>> 26) | (s[so + 5] << 6)) & 0x3FFFFF) + b;
+        t[to + 8] = (((s[so + 5] >>> 16) | (s[so + 6] << 16)) & 0x3FFFFF) + b;
+        t[to + 9] = ((s[so + 6] >>> 6) & 0x3FFFFF) + b;
+        t[to + 10] = (((s[so + 6] >>> 28) | (s[so + 7] << 4)) & 0x3FFFFF) + b;
+        t[to + 11] = (((s[so + 7] >>> 18) | (s[so + 8] << 14)) & 0x3FFFFF) + b;
+        t[to + 12] = ((s[so + 8] >>> 8) & 0x3FFFFF) + b;
+        t[to + 13] = (((s[so + 8] >>> 30) | (s[so + 9] << 2)) & 0x3FFFFF) + b;
+        t[to + 14] = (((s[so + 9] >>> 20) | (s[so + 10] << 12)) & 0x3FFFFF) + b;
+        t[to + 15] = (s[so + 10] >>> 10) + b;
+        t[to + 16] = (s[so + 11] & 0x3FFFFF) + b;
+        t[to + 17] = (((s[so + 11] >>> 22) | (s[so + 12] << 10)) & 0x3FFFFF) + b;
+        t[to + 18] = (((s[so + 12] >>> 12) | (s[so + 13] << 20)) & 0x3FFFFF) + b;
+        t[to + 19] = ((s[so + 13] >>> 2) & 0x3FFFFF) + b;
+        t[to + 20] = (((s[so + 13] >>> 24) | (s[so + 14] << 8)) & 0x3FFFFF) + b;
+        t[to + 21] = (((s[so + 14] >>> 14) | (s[so + 15] << 18)) & 0x3FFFFF) + b;
+        t[to + 22] = ((s[so + 15] >>> 4) & 0x3FFFFF) + b;
+        t[to + 23] = (((s[so + 15] >>> 26) | (s[so + 16] << 6)) & 0x3FFFFF) + b;
+        t[to + 24] = (((s[so + 16] >>> 16) | (s[so + 17] << 16)) & 0x3FFFFF) + b;
+        t[to + 25] = ((s[so + 17] >>> 6) & 0x3FFFFF) + b;
+        t[to + 26] = (((s[so + 17] >>> 28) | (s[so + 18] << 4)) & 0x3FFFFF) + b;
+        t[to + 27] = (((s[so + 18] >>> 18) | (s[so + 19] << 14)) & 0x3FFFFF) + b;
+        t[to + 28] = ((s[so + 19] >>> 8) & 0x3FFFFF) + b;
+        t[to + 29] = (((s[so + 19] >>> 30) | (s[so + 20] << 2)) & 0x3FFFFF) + b;
+        t[to + 30] = (((s[so + 20] >>> 20) | (s[so + 21] << 12)) & 0x3FFFFF) + b;
+        t[to + 31] = (s[so + 21] >>> 10) + b;
+    }
+
+    // ---------------- k = 23 ----------------
+
+    static void empaqueter23(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x7FFFFF;
+        int v1 = (s[so + 1] + d) & 0x7FFFFF;
+        int v2 = (s[so + 2] + d) & 0x7FFFFF;
+        int v3 = (s[so + 3] + d) & 0x7FFFFF;
+        int v4 = (s[so + 4] + d) & 0x7FFFFF;
+        int v5 = (s[so + 5] + d) & 0x7FFFFF;
+        int v6 = (s[so + 6] + d) & 0x7FFFFF;
+        int v7 = (s[so + 7] + d) & 0x7FFFFF;
+        int v8 = (s[so + 8] + d) & 0x7FFFFF;
+        int v9 = (s[so + 9] + d) & 0x7FFFFF;
+        int v10 = (s[so + 10] + d) & 0x7FFFFF;
+        int v11 = (s[so + 11] + d) & 0x7FFFFF;
+        int v12 = (s[so + 12] + d) & 0x7FFFFF;
+        int v13 = (s[so + 13] + d) & 0x7FFFFF;
+        int v14 = (s[so + 14] + d) & 0x7FFFFF;
+        int v15 = (s[so + 15] + d) & 0x7FFFFF;
+        int v16 = (s[so + 16] + d) & 0x7FFFFF;
+        int v17 = (s[so + 17] + d) & 0x7FFFFF;
+        int v18 = (s[so + 18] + d) & 0x7FFFFF;
+        int v19 = (s[so + 19] + d) & 0x7FFFFF;
+        int v20 = (s[so + 20] + d) & 0x7FFFFF;
+        int v21 = (s[so + 21] + d) & 0x7FFFFF;
+        int v22 = (s[so + 22] + d) & 0x7FFFFF;
+        int v23 = (s[so + 23] + d) & 0x7FFFFF;
+        int v24 = (s[so + 24] + d) & 0x7FFFFF;
+        int v25 = (s[so + 25] + d) & 0x7FFFFF;
+        int v26 = (s[so + 26] + d) & 0x7FFFFF;
+        int v27 = (s[so + 27] + d) & 0x7FFFFF;
+        int v28 = (s[so + 28] + d) & 0x7FFFFF;
+        int v29 = (s[so + 29] + d) & 0x7FFFFF;
+        int v30 = (s[so + 30] + d) & 0x7FFFFF;
+        int v31 = (s[so + 31] + d) & 0x7FFFFF;
+        t[to] = v0 | (v1 << 23);
+        t[to + 1] = (v1 >>> 9) | (v2 << 14);
+        t[to + 2] = (v2 >>> 18) | (v3 << 5) | (v4 << 28);
+        t[to + 3] = (v4 >>> 4) | (v5 << 19);
+        t[to + 4] = (v5 >>> 13) | (v6 << 10);
+        t[to + 5] = (v6 >>> 22) | (v7 << 1) | (v8 << 24);
+        t[to + 6] = (v8 >>> 8) | (v9 << 15);
+        t[to + 7] = (v9 >>> 17) | (v10 << 6) | (v11 << 29);
+        t[to + 8] = (v11 >>> 3) | (v12 << 20);
+        t[to + 9] = (v12 >>> 12) | (v13 << 11);
+        t[to + 10] = (v13 >>> 21) | (v14 << 2) | (v15 << 25);
+        t[to + 11] = (v15 >>> 7) | (v16 << 16);
+        t[to + 12] = (v16 >>> 16) | (v17 << 7) | (v18 << 30);
+        t[to + 13] = (v18 >>> 2) | (v19 << 21);
+        t[to + 14] = (v19 >>> 11) | (v20 << 12);
+        t[to + 15] = (v20 >>> 20) | (v21 << 3) | (v22 << 26);
+        t[to + 16] = (v22 >>> 6) | (v23 << 17);
+        t[to + 17] = (v23 >>> 15) | (v24 << 8) | (v25 << 31);
+        t[to + 18] = (v25 >>> 1) | (v26 << 22);
+        t[to + 19] = (v26 >>> 10) | (v27 << 13);
+        t[to + 20] = (v27 >>> 19) | (v28 << 4) | (v29 << 27);
+        t[to + 21] = (v29 >>> 5) | (v30 << 18);
+        t[to + 22] = (v30 >>> 14) | (v31 << 9);
+    }
+
+    static void depaqueter23(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x7FFFFF) + b;
+        t[to + 1] = (((s[so] >>> 23) | (s[so + 1] << 9)) & 0x7FFFFF) + b;
+        t[to + 2] = (((s[so + 1] >>> 14) | (s[so + 2] << 18)) & 0x7FFFFF) + b;
+        t[to + 3] = ((s[so + 2] >>> 5) & 0x7FFFFF) + b;
+        t[to + 4] = (((s[so + 2] >>> 28) | (s[so + 3] << 4)) & 0x7FFFFF) + b;
+        t[to + 5] = (((s[so + 3] >>> 19) | (s[so + 4] << 13)) & 0x7FFFFF) + b;
+        t[to + 6] = (((s[so + 4] >>> 10) | (s[so + 5] << 22)) & 0x7FFFFF) + b;
+        t[to + 7] = ((s[so + 5] >>> 1) & 0x7FFFFF) + b;
+        t[to + 8] = (((s[so + 5] >>> 24) | (s[so + 6] << 8)) & 0x7FFFFF) + b;
+        t[to + 9] = (((s[so + 6] >>> 15) | (s[so + 7] << 17)) & 0x7FFFFF) + b;
+        t[to + 10] = ((s[so + 7] >>> 6) & 0x7FFFFF) + b;
+        t[to + 11] = (((s[so + 7] >>> 29) | (s[so + 8] << 3)) & 0x7FFFFF) + b;
+        t[to + 12] = (((s[so + 8] >>> 20) | (s[so + 9] << 12)) & 0x7FFFFF) + b;
+        t[to + 13] = (((s[so + 9] >>> 11) | (s[so + 10] << 21)) & 0x7FFFFF) + b;
+        t[to + 14] = ((s[so + 10] >>> 2) & 0x7FFFFF) + b;
+        t[to + 15] = (((s[so + 10] >>> 25) | (s[so + 11] << 7)) & 0x7FFFFF) + b;
+        t[to + 16] = (((s[so + 11] >>> 16) | (s[so + 12] << 16)) & 0x7FFFFF) + b;
+        t[to + 17] = ((s[so + 12] >>> 7) & 0x7FFFFF) + b;
+        t[to + 18] = (((s[so + 12] >>> 30) | (s[so + 13] << 2)) & 0x7FFFFF) + b;
+        t[to + 19] = (((s[so + 13] >>> 21) | (s[so + 14] << 11)) & 0x7FFFFF) + b;
+        t[to + 20] = (((s[so + 14] >>> 12) | (s[so + 15] << 20)) & 0x7FFFFF) + b;
+        t[to + 21] = ((s[so + 15] >>> 3) & 0x7FFFFF) + b;
+        t[to + 22] = (((s[so + 15] >>> 26) | (s[so + 16] << 6)) & 0x7FFFFF) + b;
+        t[to + 23] = (((s[so + 16] >>> 17) | (s[so + 17] << 15)) & 0x7FFFFF) + b;
+        t[to + 24] = ((s[so + 17] >>> 8) & 0x7FFFFF) + b;
+        t[to + 25] = (((s[so + 17] >>> 31) | (s[so + 18] << 1)) & 0x7FFFFF) + b;
+        t[to + 26] = (((s[so + 18] >>> 22) | (s[so + 19] << 10)) & 0x7FFFFF) + b;
+        t[to + 27] = (((s[so + 19] >>> 13) | (s[so + 20] << 19)) & 0x7FFFFF) + b;
+        t[to + 28] = ((s[so + 20] >>> 4) & 0x7FFFFF) + b;
+        t[to + 29] = (((s[so + 20] >>> 27) | (s[so + 21] << 5)) & 0x7FFFFF) + b;
+        t[to + 30] = (((s[so + 21] >>> 18) | (s[so + 22] << 14)) & 0x7FFFFF) + b;
+        t[to + 31] = (s[so + 22] >>> 9) + b;
+    }
+
+    // ---------------- k = 24 ----------------
+
+    static void empaqueter24(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0xFFFFFF;
+        int v1 = (s[so + 1] + d) & 0xFFFFFF;
+        int v2 = (s[so + 2] + d) & 0xFFFFFF;
+        int v3 = (s[so + 3] + d) & 0xFFFFFF;
+        int v4 = (s[so + 4] + d) & 0xFFFFFF;
+        int v5 = (s[so + 5] + d) & 0xFFFFFF;
+        int v6 = (s[so + 6] + d) & 0xFFFFFF;
+        int v7 = (s[so + 7] + d) & 0xFFFFFF;
+        int v8 = (s[so + 8] + d) & 0xFFFFFF;
+        int v9 = (s[so + 9] + d) & 0xFFFFFF;
+        int v10 = (s[so + 10] + d) & 0xFFFFFF;
+        int v11 = (s[so + 11] + d) & 0xFFFFFF;
+        int v12 = (s[so + 12] + d) & 0xFFFFFF;
+        int v13 = (s[so + 13] + d) & 0xFFFFFF;
+        int v14 = (s[so + 14] + d) & 0xFFFFFF;
+        int v15 = (s[so + 15] + d) & 0xFFFFFF;
+        int v16 = (s[so + 16] + d) & 0xFFFFFF;
+        int v17 = (s[so + 17] + d) & 0xFFFFFF;
+        int v18 = (s[so + 18] + d) & 0xFFFFFF;
+        int v19 = (s[so + 19] + d) & 0xFFFFFF;
+        int v20 = (s[so + 20] + d) & 0xFFFFFF;
+        int v21 = (s[so + 21] + d) & 0xFFFFFF;
+        int v22 = (s[so + 22] + d) & 0xFFFFFF;
+        int v23 = (s[so + 23] + d) & 0xFFFFFF;
+        int v24 = (s[so + 24] + d) & 0xFFFFFF;
+        int v25 = (s[so + 25] + d) & 0xFFFFFF;
+        int v26 = (s[so + 26] + d) & 0xFFFFFF;
+        int v27 = (s[so + 27] + d) & 0xFFFFFF;
+        int v28 = (s[so + 28] + d) & 0xFFFFFF;
+        int v29 = (s[so + 29] + d) & 0xFFFFFF;
+        int v30 = (s[so + 30] + d) & 0xFFFFFF;
+        int v31 = (s[so + 31] + d) & 0xFFFFFF;
+        t[to] = v0 | (v1 << 24);
+        t[to + 1] = (v1 >>> 8) | (v2 << 16);
+        t[to + 2] = (v2 >>> 16) | (v3 << 8);
+        t[to + 3] = v4 | (v5 << 24);
+        t[to + 4] = (v5 >>> 8) | (v6 << 16);
+        t[to + 5] = (v6 >>> 16) | (v7 << 8);
+        t[to + 6] = v8 | (v9 << 24);
+        t[to + 7] = (v9 >>> 8) | (v10 << 16);
+        t[to + 8] = (v10 >>> 16) | (v11 << 8);
+        t[to + 9] = v12 | (v13 << 24);
+        t[to + 10] = (v13 >>> 8) | (v14 << 16);
+        t[to + 11] = (v14 >>> 16) | (v15 << 8);
+        t[to + 12] = v16 | (v17 << 24);
+        t[to + 13] = (v17 >>> 8) | (v18 << 16);
+        t[to + 14] = (v18 >>> 16) | (v19 << 8);
+        t[to + 15] = v20 | (v21 << 24);
+        t[to + 16] = (v21 >>> 8) | (v22 << 16);
+        t[to + 17] = (v22 >>> 16) | (v23 << 8);
+        t[to + 18] = v24 | (v25 << 24);
+        t[to + 19] = (v25 >>> 8) | (v26 << 16);
+        t[to + 20] = (v26 >>> 16) | (v27 << 8);
+        t[to + 21] = v28 | (v29 << 24);
+        t[to + 22] = (v29 >>> 8) | (v30 << 16);
+        t[to + 23] = (v30 >>> 16) | (v31 << 8);
+    }
+
+    static void depaqueter24(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0xFFFFFF) + b;
+        t[to + 1] = (((s[so] >>> 24) | (s[so + 1] << 8)) & 0xFFFFFF) + b;
+        t[to + 2] = (((s[so + 1] >>> 16) | (s[so + 2] << 16)) & 0xFFFFFF) + b;
+        t[to + 3] = (s[so + 2] >>> 8) + b;
+        t[to + 4] = (s[so + 3] & 0xFFFFFF) + b;
+        t[to + 5] = (((s[so + 3] >>> 24) | (s[so + 4] << 8)) & 0xFFFFFF) + b;
+        t[to + 6] = (((s[so + 4] >>> 16) | (s[so + 5] << 16)) & 0xFFFFFF) + b;
+        t[to + 7] = (s[so + 5] >>> 8) + b;
+        t[to + 8] = (s[so + 6] & 0xFFFFFF) + b;
+        t[to + 9] = (((s[so + 6] >>> 24) | (s[so + 7] << 8)) & 0xFFFFFF) + b;
+        t[to + 10] = (((s[so + 7] >>> 16) | (s[so + 8] << 16)) & 0xFFFFFF) + b;
+        t[to + 11] = (s[so + 8] >>> 8) + b;
+        t[to + 12] = (s[so + 9] & 0xFFFFFF) + b;
+        t[to + 13] = (((s[so + 9] >>> 24) | (s[so + 10] << 8)) & 0xFFFFFF) + b;
+        t[to + 14] = (((s[so + 10] >>> 16) | (s[so + 11] << 16)) & 0xFFFFFF) + b;
+        t[to + 15] = (s[so + 11] >>> 8) + b;
+        t[to + 16] = (s[so + 12] & 0xFFFFFF) + b;
+        t[to + 17] = (((s[so + 12] >>> 24) | (s[so + 13] << 8)) & 0xFFFFFF) + b;
+        t[to + 18] = (((s[so + 13] >>> 16) | (s[so + 14] << 16)) & 0xFFFFFF) + b;
+        t[to + 19] = (s[so + 14] >>> 8) + b;
+        t[to + 20] = (s[so + 15] & 0xFFFFFF) + b;
+        t[to + 21] = (((s[so + 15] >>> 24) | (s[so + 16] << 8)) & 0xFFFFFF) + b;
+        t[to + 22] = (((s[so + 16] >>> 16) | (s[so + 17] << 16)) & 0xFFFFFF) + b;
+        t[to + 23] = (s[so + 17] >>> 8) + b;
+        t[to + 24] = (s[so + 18] & 0xFFFFFF) + b;
+        t[to + 25] = (((s[so + 18] >>> 24) | (s[so + 19] << 8)) & 0xFFFFFF) + b;
+        t[to + 26] = (((s[so + 19] >>> 16) | (s[so + 20] << 16)) & 0xFFFFFF) + b;
+        t[to + 27] = (s[so + 20] >>> 8) + b;
+        t[to + 28] = (s[so + 21] & 0xFFFFFF) + b;
+        t[to + 29] = (((s[so + 21] >>> 24) | (s[so + 22] << 8)) & 0xFFFFFF) + b;
+        t[to + 30] = (((s[so + 22] >>> 16) | (s[so + 23] << 16)) & 0xFFFFFF) + b;
+        t[to + 31] = (s[so + 23] >>> 8) + b;
+    }
+
+    // ---------------- k = 25 ----------------
+
+    static void empaqueter25(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x1FFFFFF;
+        int v1 = (s[so + 1] + d) & 0x1FFFFFF;
+        int v2 = (s[so + 2] + d) & 0x1FFFFFF;
+        int v3 = (s[so + 3] + d) & 0x1FFFFFF;
+        int v4 = (s[so + 4] + d) & 0x1FFFFFF;
+        int v5 = (s[so + 5] + d) & 0x1FFFFFF;
+        int v6 = (s[so + 6] + d) & 0x1FFFFFF;
+        int v7 = (s[so + 7] + d) & 0x1FFFFFF;
+        int v8 = (s[so + 8] + d) & 0x1FFFFFF;
+        int v9 = (s[so + 9] + d) & 0x1FFFFFF;
+        int v10 = (s[so + 10] + d) & 0x1FFFFFF;
+        int v11 = (s[so + 11] + d) & 0x1FFFFFF;
+        int v12 = (s[so + 12] + d) & 0x1FFFFFF;
+        int v13 = (s[so + 13] + d) & 0x1FFFFFF;
+        int v14 = (s[so + 14] + d) & 0x1FFFFFF;
+        int v15 = (s[so + 15] + d) & 0x1FFFFFF;
+        int v16 = (s[so + 16] + d) & 0x1FFFFFF;
+        int v17 = (s[so + 17] + d) & 0x1FFFFFF;
+        int v18 = (s[so + 18] + d) & 0x1FFFFFF;
+        int v19 = (s[so + 19] + d) & 0x1FFFFFF;
+        int v20 = (s[so + 20] + d) & 0x1FFFFFF;
+        int v21 = (s[so + 21] + d) & 0x1FFFFFF;
+        int v22 = (s[so + 22] + d) & 0x1FFFFFF;
+        int v23 = (s[so + 23] + d) & 0x1FFFFFF;
+        int v24 = (s[so + 24] + d) & 0x1FFFFFF;
+        int v25 = (s[so + 25] + d) & 0x1FFFFFF;
+        int v26 = (s[so + 26] + d) & 0x1FFFFFF;
+        int v27 = (s[so + 27] + d) & 0x1FFFFFF;
+        int v28 = (s[so + 28] + d) & 0x1FFFFFF;
+        int v29 = (s[so + 29] + d) & 0x1FFFFFF;
+        int v30 = (s[so + 30] + d) & 0x1FFFFFF;
+        int v31 = (s[so + 31] + d) & 0x1FFFFFF;
+        t[to] = v0 | (v1 << 25);
+        t[to + 1] = (v1 >>> 7) | (v2 << 18);
+        t[to + 2] = (v2 >>> 14) | (v3 << 11);
+        t[to + 3] = (v3 >>> 21) | (v4 << 4) | (v5 << 29);
+        t[to + 4] = (v5 >>> 3) | (v6 << 22);
+        t[to + 5] = (v6 >>> 10) | (v7 << 15);
+        t[to + 6] = (v7 >>> 17) | (v8 << 8);
+        t[to + 7] = (v8 >>> 24) | (v9 << 1) | (v10 << 26);
+        t[to + 8] = (v10 >>> 6) | (v11 << 19);
+        t[to + 9] = (v11 >>> 13) | (v12 << 12);
+        t[to + 10] = (v12 >>> 20) | (v13 << 5) | (v14 << 30);
+        t[to + 11] = (v14 >>> 2) | (v15 << 23);
+        t[to + 12] = (v15 >>> 9) | (v16 << 16);
+        t[to + 13] = (v16 >>> 16) | (v17 << 9);
+        t[to + 14] = (v17 >>> 23) | (v18 << 2) | (v19 << 27);
+        t[to + 15] = (v19 >>> 5) | (v20 << 20);
+        t[to + 16] = (v20 >>> 12) | (v21 << 13);
+        t[to + 17] = (v21 >>> 19) | (v22 << 6) | (v23 << 31);
+        t[to + 18] = (v23 >>> 1) | (v24 << 24);
+        t[to + 19] = (v24 >>> 8) | (v25 << 17);
+        t[to + 20] = (v25 >>> 15) | (v26 << 10);
+        t[to + 21] = (v26 >>> 22) | (v27 << 3) | (v28 << 28);
+        t[to + 22] = (v28 >>> 4) | (v29 << 21);
+        t[to + 23] = (v29 >>> 11) | (v30 << 14);
+        t[to + 24] = (v30 >>> 18) | (v31 << 7);
+    }
+
+    static void depaqueter25(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x1FFFFFF) + b;
+        t[to + 1] = (((s[so] >>> 25) | (s[so + 1] << 7)) & 0x1FFFFFF) + b;
+        t[to + 2] = (((s[so + 1] >>> 18) | (s[so + 2] << 14)) & 0x1FFFFFF) + b;
+        t[to + 3] = (((s[so + 2] >>> 11) | (s[so + 3] << 21)) & 0x1FFFFFF) + b;
+        t[to + 4] = ((s[so + 3] >>> 4) & 0x1FFFFFF) + b;
+        t[to + 5] = (((s[so + 3] >>> 29) | (s[so + 4] << 3)) & 0x1FFFFFF) + b;
+        t[to + 6] = (((s[so + 4] >>> 22) | (s[so + 5] << 10)) & 0x1FFFFFF) + b;
+        t[to + 7] = (((s[so + 5] >>> 15) | (s[so + 6] << 17)) & 0x1FFFFFF) + b;
+        t[to + 8] = (((s[so + 6] >>> 8) | (s[so + 7] << 24)) & 0x1FFFFFF) + b;
+        t[to + 9] = ((s[so + 7] >>> 1) & 0x1FFFFFF) + b;
+        t[to + 10] = (((s[so + 7] >>> 26) | (s[so + 8] << 6)) & 0x1FFFFFF) + b;
+        t[to + 11] = (((s[so + 8] >>> 19) | (s[so + 9] << 13)) & 0x1FFFFFF) + b;
+        t[to + 12] = (((s[so + 9] >>> 12) | (s[so + 10] << 20)) & 0x1FFFFFF) + b;
+        t[to + 13] = ((s[so + 10] >>> 5) & 0x1FFFFFF) + b;
+        t[to + 14] = (((s[so + 10] >>> 30) | (s[so + 11] << 2)) & 0x1FFFFFF) + b;
+        t[to + 15] = (((s[so + 11] >>> 23) | (s[so + 12] << 9)) & 0x1FFFFFF) + b;
+        t[to + 16] = (((s[so + 12] >>> 16) | (s[so + 13] << 16)) & 0x1FFFFFF) + b;
+        t[to + 17] = (((s[so + 13] >>> 9) | (s[so + 14] << 23)) & 0x1FFFFFF) + b;
+        t[to + 18] = ((s[so + 14] >>> 2) & 0x1FFFFFF) + b;
+        t[to + 19] = (((s[so + 14] >>> 27) | (s[so + 15] << 5)) & 0x1FFFFFF) + b;
+        t[to + 20] = (((s[so + 15] >>> 20) | (s[so + 16] << 12)) & 0x1FFFFFF) + b;
+        t[to + 21] = (((s[so + 16] >>> 13) | (s[so + 17] << 19)) & 0x1FFFFFF) + b;
+        t[to + 22] = ((s[so + 17] >>> 6) & 0x1FFFFFF) + b;
+        t[to + 23] = (((s[so + 17] >>> 31) | (s[so + 18] << 1)) & 0x1FFFFFF) + b;
+        t[to + 24] = (((s[so + 18] >>> 24) | (s[so + 19] << 8)) & 0x1FFFFFF) + b;
+        t[to + 25] = (((s[so + 19] >>> 17) | (s[so + 20] << 15)) & 0x1FFFFFF) + b;
+        t[to + 26] = (((s[so + 20] >>> 10) | (s[so + 21] << 22)) & 0x1FFFFFF) + b;
+        t[to + 27] = ((s[so + 21] >>> 3) & 0x1FFFFFF) + b;
+        t[to + 28] = (((s[so + 21] >>> 28) | (s[so + 22] << 4)) & 0x1FFFFFF) + b;
+        t[to + 29] = (((s[so + 22] >>> 21) | (s[so + 23] << 11)) & 0x1FFFFFF) + b;
+        t[to + 30] = (((s[so + 23] >>> 14) | (s[so + 24] << 18)) & 0x1FFFFFF) + b;
+        t[to + 31] = (s[so + 24] >>> 7) + b;
+    }
+
+    // ---------------- k = 26 ----------------
+
+    static void empaqueter26(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x3FFFFFF;
+        int v1 = (s[so + 1] + d) & 0x3FFFFFF;
+        int v2 = (s[so + 2] + d) & 0x3FFFFFF;
+        int v3 = (s[so + 3] + d) & 0x3FFFFFF;
+        int v4 = (s[so + 4] + d) & 0x3FFFFFF;
+        int v5 = (s[so + 5] + d) & 0x3FFFFFF;
+        int v6 = (s[so + 6] + d) & 0x3FFFFFF;
+        int v7 = (s[so + 7] + d) & 0x3FFFFFF;
+        int v8 = (s[so + 8] + d) & 0x3FFFFFF;
+        int v9 = (s[so + 9] + d) & 0x3FFFFFF;
+        int v10 = (s[so + 10] + d) & 0x3FFFFFF;
+        int v11 = (s[so + 11] + d) & 0x3FFFFFF;
+        int v12 = (s[so + 12] + d) & 0x3FFFFFF;
+        int v13 = (s[so + 13] + d) & 0x3FFFFFF;
+        int v14 = (s[so + 14] + d) & 0x3FFFFFF;
+        int v15 = (s[so + 15] + d) & 0x3FFFFFF;
+        int v16 = (s[so + 16] + d) & 0x3FFFFFF;
+        int v17 = (s[so + 17] + d) & 0x3FFFFFF;
+        int v18 = (s[so + 18] + d) & 0x3FFFFFF;
+        int v19 = (s[so + 19] + d) & 0x3FFFFFF;
+        int v20 = (s[so + 20] + d) & 0x3FFFFFF;
+        int v21 = (s[so + 21] + d) & 0x3FFFFFF;
+        int v22 = (s[so + 22] + d) & 0x3FFFFFF;
+        int v23 = (s[so + 23] + d) & 0x3FFFFFF;
+        int v24 = (s[so + 24] + d) & 0x3FFFFFF;
+        int v25 = (s[so + 25] + d) & 0x3FFFFFF;
+        int v26 = (s[so + 26] + d) & 0x3FFFFFF;
+        int v27 = (s[so + 27] + d) & 0x3FFFFFF;
+        int v28 = (s[so + 28] + d) & 0x3FFFFFF;
+        int v29 = (s[so + 29] + d) & 0x3FFFFFF;
+        int v30 = (s[so + 30] + d) & 0x3FFFFFF;
+        int v31 = (s[so + 31] + d) & 0x3FFFFFF;
+        t[to] = v0 | (v1 << 26);
+        t[to + 1] = (v1 >>> 6) | (v2 << 20);
+        t[to + 2] = (v2 >>> 12) | (v3 << 14);
+        t[to + 3] = (v3 >>> 18) | (v4 << 8);
+        t[to + 4] = (v4 >>> 24) | (v5 << 2) | (v6 << 28);
+        t[to + 5] = (v6 >>> 4) | (v7 << 22);
+        t[to + 6] = (v7 >>> 10) | (v8 << 16);
+        t[to + 7] = (v8 >>> 16) | (v9 << 10);
+        t[to + 8] = (v9 >>> 22) | (v10 << 4) | (v11 << 30);
+        t[to + 9] = (v11 >>> 2) | (v12 << 24);
+        t[to + 10] = (v12 >>> 8) | (v13 << 18);
+        t[to + 11] = (v13 >>> 14) | (v14 << 12);
+        t[to + 12] = (v14 >>> 20) | (v15 << 6);
+        t[to + 13] = v16 | (v17 << 26);
+        t[to + 14] = (v17 >>> 6) | (v18 << 20);
+        t[to + 15] = (v18 >>> 12) | (v19 << 14);
+        t[to + 16] = (v19 >>> 18) | (v20 << 8);
+        t[to + 17] = (v20 >>> 24) | (v21 << 2) | (v22 << 28);
+        t[to + 18] = (v22 >>> 4) | (v23 << 22);
+        t[to + 19] = (v23 >>> 10) | (v24 << 16);
+        t[to + 20] = (v24 >>> 16) | (v25 << 10);
+        t[to + 21] = (v25 >>> 22) | (v26 << 4) | (v27 << 30);
+        t[to + 22] = (v27 >>> 2) | (v28 << 24);
+        t[to + 23] = (v28 >>> 8) | (v29 << 18);
+        t[to + 24] = (v29 >>> 14) | (v30 << 12);
+        t[to + 25] = (v30 >>> 20) | (v31 << 6);
+    }
+
+    static void depaqueter26(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x3FFFFFF) + b;
+        t[to + 1] = (((s[so] >>> 26) | (s[so + 1] << 6)) & 0x3FFFFFF) + b;
+        t[to + 2] = (((s[so + 1] >>> 20) | (s[so + 2] << 12)) & 0x3FFFFFF) + b;
+        t[to + 3] = (((s[so + 2] >>> 14) | (s[so + 3] << 18)) & 0x3FFFFFF) + b;
+        t[to + 4] = (((s[so + 3] >>> 8) | (s[so + 4] << 24)) & 0x3FFFFFF) + b;
+        t[to + 5] = ((s[so + 4] >>> 2) & 0x3FFFFFF) + b;
+        t[to + 6] = (((s[so + 4] >>> 28) | (s[so + 5] << 4)) & 0x3FFFFFF) + b;
+        t[to + 7] = (((s[so + 5] >>> 22) | (s[so + 6] << 10)) & 0x3FFFFFF) + b;
+        t[to + 8] = (((s[so + 6] >>> 16) | (s[so + 7] << 16)) & 0x3FFFFFF) + b;
+        t[to + 9] = (((s[so + 7] >>> 10) | (s[so + 8] << 22)) & 0x3FFFFFF) + b;
+        t[to + 10] = ((s[so + 8] >>> 4) & 0x3FFFFFF) + b;
+        t[to + 11] = (((s[so + 8] >>> 30) | (s[so + 9] << 2)) & 0x3FFFFFF) + b;
+        t[to + 12] = (((s[so + 9] >>> 24) | (s[so + 10] << 8)) & 0x3FFFFFF) + b;
+        t[to + 13] = (((s[so + 10] >>> 18) | (s[so + 11] << 14)) & 0x3FFFFFF) + b;
+        t[to + 14] = (((s[so + 11] >>> 12) | (s[so + 12] << 20)) & 0x3FFFFFF) + b;
+        t[to + 15] = (s[so + 12] >>> 6) + b;
+        t[to + 16] = (s[so + 13] & 0x3FFFFFF) + b;
+        t[to + 17] = (((s[so + 13] >>> 26) | (s[so + 14] << 6)) & 0x3FFFFFF) + b;
+        t[to + 18] = (((s[so + 14] >>> 20) | (s[so + 15] << 12)) & 0x3FFFFFF) + b;
+        t[to + 19] = (((s[so + 15] >>> 14) | (s[so + 16] << 18)) & 0x3FFFFFF) + b;
+        t[to + 20] = (((s[so + 16] >>> 8) | (s[so + 17] << 24)) & 0x3FFFFFF) + b;
+        t[to + 21] = ((s[so + 17] >>> 2) & 0x3FFFFFF) + b;
+        t[to + 22] = (((s[so + 17] >>> 28) | (s[so + 18] << 4)) & 0x3FFFFFF) + b;
+        t[to + 23] = (((s[so + 18] >>> 22) | (s[so + 19] << 10)) & 0x3FFFFFF) + b;
+        t[to + 24] = (((s[so + 19] >>> 16) | (s[so + 20] << 16)) & 0x3FFFFFF) + b;
+        t[to + 25] = (((s[so + 20] >>> 10) | (s[so + 21] << 22)) & 0x3FFFFFF) + b;
+        t[to + 26] = ((s[so + 21] >>> 4) & 0x3FFFFFF) + b;
+        t[to + 27] = (((s[so + 21] >>> 30) | (s[so + 22] << 2)) & 0x3FFFFFF) + b;
+        t[to + 28] = (((s[so + 22] >>> 24) | (s[so + 23] << 8)) & 0x3FFFFFF) + b;
+        t[to + 29] = (((s[so + 23] >>> 18) | (s[so + 24] << 14)) & 0x3FFFFFF) + b;
+        t[to + 30] = (((s[so + 24] >>> 12) | (s[so + 25] << 20)) & 0x3FFFFFF) + b;
+        t[to + 31] = (s[so + 25] >>> 6) + b;
+    }
+
+    // ---------------- k = 27 ----------------
+
+    static void empaqueter27(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x7FFFFFF;
+        int v1 = (s[so + 1] + d) & 0x7FFFFFF;
+        int v2 = (s[so + 2] + d) & 0x7FFFFFF;
+        int v3 = (s[so + 3] + d) & 0x7FFFFFF;
+        int v4 = (s[so + 4] + d) & 0x7FFFFFF;
+        int v5 = (s[so + 5] + d) & 0x7FFFFFF;
+        int v6 = (s[so + 6] + d) & 0x7FFFFFF;
+        int v7 = (s[so + 7] + d) & 0x7FFFFFF;
+        int v8 = (s[so + 8] + d) & 0x7FFFFFF;
+        int v9 = (s[so + 9] + d) & 0x7FFFFFF;
+        int v10 = (s[so + 10] + d) & 0x7FFFFFF;
+        int v11 = (s[so + 11] + d) & 0x7FFFFFF;
+        int v12 = (s[so + 12] + d) & 0x7FFFFFF;
+        int v13 = (s[so + 13] + d) & 0x7FFFFFF;
+        int v14 = (s[so + 14] + d) & 0x7FFFFFF;
+        int v15 = (s[so + 15] + d) & 0x7FFFFFF;
+        int v16 = (s[so + 16] + d) & 0x7FFFFFF;
+        int v17 = (s[so + 17] + d) & 0x7FFFFFF;
+        int v18 = (s[so + 18] + d) & 0x7FFFFFF;
+        int v19 = (s[so + 19] + d) & 0x7FFFFFF;
+        int v20 = (s[so + 20] + d) & 0x7FFFFFF;
+        int v21 = (s[so + 21] + d) & 0x7FFFFFF;
+        int v22 = (s[so + 22] + d) & 0x7FFFFFF;
+        int v23 = (s[so + 23] + d) & 0x7FFFFFF;
+        int v24 = (s[so + 24] + d) & 0x7FFFFFF;
+        int v25 = (s[so + 25] + d) & 0x7FFFFFF;
+        int v26 = (s[so + 26] + d) & 0x7FFFFFF;
+        int v27 = (s[so + 27] + d) & 0x7FFFFFF;
+        int v28 = (s[so + 28] + d) & 0x7FFFFFF;
+        int v29 = (s[so + 29] + d) & 0x7FFFFFF;
+        int v30 = (s[so + 30] + d) & 0x7FFFFFF;
+        int v31 = (s[so + 31] + d) & 0x7FFFFFF;
+        t[to] = v0 | (v1 << 27);
+        t[to + 1] = (v1 >>> 5) | (v2 << 22);
+        t[to + 2] = (v2 >>> 10) | (v3 << 17);
+        t[to + 3] = (v3 >>> 15) | (v4 << 12);
+        t[to + 4] = (v4 >>> 20) | (v5 << 7);
+        t[to + 5] = (v5 >>> 25) | (v6 << 2) | (v7 << 29);
+        t[to + 6] = (v7 >>> 3) | (v8 << 24);
+        t[to + 7] = (v8 >>> 8) | (v9 << 19);
+        t[to + 8] = (v9 >>> 13) | (v10 << 14);
+        t[to + 9] = (v10 >>> 18) | (v11 << 9);
+        t[to + 10] = (v11 >>> 23) | (v12 << 4) | (v13 << 31);
+        t[to + 11] = (v13 >>> 1) | (v14 << 26);
+        t[to + 12] = (v14 >>> 6) | (v15 << 21);
+        t[to + 13] = (v15 >>> 11) | (v16 << 16);
+        t[to + 14] = (v16 >>> 16) | (v17 << 11);
+        t[to + 15] = (v17 >>> 21) | (v18 << 6);
+        t[to + 16] = (v18 >>> 26) | (v19 << 1) | (v20 << 28);
+        t[to + 17] = (v20 >>> 4) | (v21 << 23);
+        t[to + 18] = (v21 >>> 9) | (v22 << 18);
+        t[to + 19] = (v22 >>> 14) | (v23 << 13);
+        t[to + 20] = (v23 >>> 19) | (v24 << 8);
+        t[to + 21] = (v24 >>> 24) | (v25 << 3) | (v26 << 30);
+        t[to + 22] = (v26 >>> 2) | (v27 << 25);
+        t[to + 23] = (v27 >>> 7) | (v28 << 20);
+        t[to + 24] = (v28 >>> 12) | (v29 << 15);
+        t[to + 25] = (v29 >>> 17) | (v30 << 10);
+        t[to + 26] = (v30 >>> 22) | (v31 << 5);
+    }
+
+    static void depaqueter27(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x7FFFFFF) + b;
+        t[to + 1] = (((s[so] >>> 27) | (s[so + 1] << 5)) & 0x7FFFFFF) + b;
+        t[to + 2] = (((s[so + 1] >>> 22) | (s[so + 2] << 10)) & 0x7FFFFFF) + b;
+        t[to + 3] = (((s[so + 2] >>> 17) | (s[so + 3] << 15)) & 0x7FFFFFF) + b;
+        t[to + 4] = (((s[so + 3] >>> 12) | (s[so + 4] << 20)) & 0x7FFFFFF) + b;
+        t[to + 5] = (((s[so + 4] >>> 7) | (s[so + 5] << 25)) & 0x7FFFFFF) + b;
+        t[to + 6] = ((s[so + 5] >>> 2) & 0x7FFFFFF) + b;
+        t[to + 7] = (((s[so + 5] >>> 29) | (s[so + 6] << 3)) & 0x7FFFFFF) + b;
+        t[to + 8] = (((s[so + 6] >>> 24) | (s[so + 7] << 8)) & 0x7FFFFFF) + b;
+        t[to + 9] = (((s[so + 7] >>> 19) | (s[so + 8] << 13)) & 0x7FFFFFF) + b;
+        t[to + 10] = (((s[so + 8] >>> 14) | (s[so + 9] << 18)) & 0x7FFFFFF) + b;
+        t[to + 11] = (((s[so + 9] >>> 9) | (s[so + 10] << 23)) & 0x7FFFFFF) + b;
+        t[to + 12] = ((s[so + 10] >>> 4) & 0x7FFFFFF) + b;
+        t[to + 13] = (((s[so + 10] >>> 31) | (s[so + 11] << 1)) & 0x7FFFFFF) + b;
+        t[to + 14] = (((s[so + 11] >>> 26) | (s[so + 12] << 6)) & 0x7FFFFFF) + b;
+        t[to + 15] = (((s[so + 12] >>> 21) | (s[so + 13] << 11)) & 0x7FFFFFF) + b;
+        t[to + 16] = (((s[so + 13] >>> 16) | (s[so + 14] << 16)) & 0x7FFFFFF) + b;
+        t[to + 17] = (((s[so + 14] >>> 11) | (s[so + 15] << 21)) & 0x7FFFFFF) + b;
+        t[to + 18] = (((s[so + 15] >>> 6) | (s[so + 16] << 26)) & 0x7FFFFFF) + b;
+        t[to + 19] = ((s[so + 16] >>> 1) & 0x7FFFFFF) + b;
+        t[to + 20] = (((s[so + 16] >>> 28) | (s[so + 17] << 4)) & 0x7FFFFFF) + b;
+        t[to + 21] = (((s[so + 17] >>> 23) | (s[so + 18] << 9)) & 0x7FFFFFF) + b;
+        t[to + 22] = (((s[so + 18] >>> 18) | (s[so + 19] << 14)) & 0x7FFFFFF) + b;
+        t[to + 23] = (((s[so + 19] >>> 13) | (s[so + 20] << 19)) & 0x7FFFFFF) + b;
+        t[to + 24] = (((s[so + 20] >>> 8) | (s[so + 21] << 24)) & 0x7FFFFFF) + b;
+        t[to + 25] = ((s[so + 21] >>> 3) & 0x7FFFFFF) + b;
+        t[to + 26] = (((s[so + 21] >>> 30) | (s[so + 22] << 2)) & 0x7FFFFFF) + b;
+        t[to + 27] = (((s[so + 22] >>> 25) | (s[so + 23] << 7)) & 0x7FFFFFF) + b;
+        t[to + 28] = (((s[so + 23] >>> 20) | (s[so + 24] << 12)) & 0x7FFFFFF) + b;
+        t[to + 29] = (((s[so + 24] >>> 15) | (s[so + 25] << 17)) & 0x7FFFFFF) + b;
+        t[to + 30] = (((s[so + 25] >>> 10) | (s[so + 26] << 22)) & 0x7FFFFFF) + b;
+        t[to + 31] = (s[so + 26] >>> 5) + b;
+    }
+
+    // ---------------- k = 28 ----------------
+
+    static void empaqueter28(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0xFFFFFFF;
+        int v1 = (s[so + 1] + d) & 0xFFFFFFF;
+        int v2 = (s[so + 2] + d) & 0xFFFFFFF;
+        int v3 = (s[so + 3] + d) & 0xFFFFFFF;
+        int v4 = (s[so + 4] + d) & 0xFFFFFFF;
+        int v5 = (s[so + 5] + d) & 0xFFFFFFF;
+        int v6 = (s[so + 6] + d) & 0xFFFFFFF;
+        int v7 = (s[so + 7] + d) & 0xFFFFFFF;
+        int v8 = (s[so + 8] + d) & 0xFFFFFFF;
+        int v9 = (s[so + 9] + d) & 0xFFFFFFF;
+        int v10 = (s[so + 10] + d) & 0xFFFFFFF;
+        int v11 = (s[so + 11] + d) & 0xFFFFFFF;
+        int v12 = (s[so + 12] + d) & 0xFFFFFFF;
+        int v13 = (s[so + 13] + d) & 0xFFFFFFF;
+        int v14 = (s[so + 14] + d) & 0xFFFFFFF;
+        int v15 = (s[so + 15] + d) & 0xFFFFFFF;
+        int v16 = (s[so + 16] + d) & 0xFFFFFFF;
+        int v17 = (s[so + 17] + d) & 0xFFFFFFF;
+        int v18 = (s[so + 18] + d) & 0xFFFFFFF;
+        int v19 = (s[so + 19] + d) & 0xFFFFFFF;
+        int v20 = (s[so + 20] + d) & 0xFFFFFFF;
+        int v21 = (s[so + 21] + d) & 0xFFFFFFF;
+        int v22 = (s[so + 22] + d) & 0xFFFFFFF;
+        int v23 = (s[so + 23] + d) & 0xFFFFFFF;
+        int v24 = (s[so + 24] + d) & 0xFFFFFFF;
+        int v25 = (s[so + 25] + d) & 0xFFFFFFF;
+        int v26 = (s[so + 26] + d) & 0xFFFFFFF;
+        int v27 = (s[so + 27] + d) & 0xFFFFFFF;
+        int v28 = (s[so + 28] + d) & 0xFFFFFFF;
+        int v29 = (s[so + 29] + d) & 0xFFFFFFF;
+        int v30 = (s[so + 30] + d) & 0xFFFFFFF;
+        int v31 = (s[so + 31] + d) & 0xFFFFFFF;
+        t[to] = v0 | (v1 << 28);
+        t[to + 1] = (v1 >>> 4) | (v2 << 24);
+        t[to + 2] = (v2 >>> 8) | (v3 << 20);
+        t[to + 3] = (v3 >>> 12) | (v4 << 16);
+        t[to + 4] = (v4 >>> 16) | (v5 << 12);
+        t[to + 5] = (v5 >>> 20) | (v6 << 8);
+        t[to + 6] = (v6 >>> 24) | (v7 << 4);
+        t[to + 7] = v8 | (v9 << 28);
+        t[to + 8] = (v9 >>> 4) | (v10 << 24);
+        t[to + 9] = (v10 >>> 8) | (v11 << 20);
+        t[to + 10] = (v11 >>> 12) | (v12 << 16);
+        t[to + 11] = (v12 >>> 16) | (v13 << 12);
+        t[to + 12] = (v13 >>> 20) | (v14 << 8);
+        t[to + 13] = (v14 >>> 24) | (v15 << 4);
+        t[to + 14] = v16 | (v17 << 28);
+        t[to + 15] = (v17 >>> 4) | (v18 << 24);
+        t[to + 16] = (v18 >>> 8) | (v19 << 20);
+        t[to + 17] = (v19 >>> 12) | (v20 << 16);
+        t[to + 18] = (v20 >>> 16) | (v21 << 12);
+        t[to + 19] = (v21 >>> 20) | (v22 << 8);
+        t[to + 20] = (v22 >>> 24) | (v23 << 4);
+        t[to + 21] = v24 | (v25 << 28);
+        t[to + 22] = (v25 >>> 4) | (v26 << 24);
+        t[to + 23] = (v26 >>> 8) | (v27 << 20);
+        t[to + 24] = (v27 >>> 12) | (v28 << 16);
+        t[to + 25] = (v28 >>> 16) | (v29 << 12);
+        t[to + 26] = (v29 >>> 20) | (v30 << 8);
+        t[to + 27] = (v30 >>> 24) | (v31 << 4);
+    }
+
+    static void depaqueter28(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0xFFFFFFF) + b;
+        t[to + 1] = (((s[so] >>> 28) | (s[so + 1] << 4)) & 0xFFFFFFF) + b;
+        t[to + 2] = (((s[so + 1] >>> 24) | (s[so + 2] << 8)) & 0xFFFFFFF) + b;
+        t[to + 3] = (((s[so + 2] >>> 20) | (s[so + 3] << 12)) & 0xFFFFFFF) + b;
+        t[to + 4] = (((s[so + 3] >>> 16) | (s[so + 4] << 16)) & 0xFFFFFFF) + b;
+        t[to + 5] = (((s[so + 4] >>> 12) | (s[so + 5] << 20)) & 0xFFFFFFF) + b;
+        t[to + 6] = (((s[so + 5] >>> 8) | (s[so + 6] << 24)) & 0xFFFFFFF) + b;
+        t[to + 7] = (s[so + 6] >>> 4) + b;
+        t[to + 8] = (s[so + 7] & 0xFFFFFFF) + b;
+        t[to + 9] = (((s[so + 7] >>> 28) | (s[so + 8] << 4)) & 0xFFFFFFF) + b;
+        t[to + 10] = (((s[so + 8] >>> 24) | (s[so + 9] << 8)) & 0xFFFFFFF) + b;
+        t[to + 11] = (((s[so + 9] >>> 20) | (s[so + 10] << 12)) & 0xFFFFFFF) + b;
+        t[to + 12] = (((s[so + 10] >>> 16) | (s[so + 11] << 16)) & 0xFFFFFFF) + b;
+        t[to + 13] = (((s[so + 11] >>> 12) | (s[so + 12] << 20)) & 0xFFFFFFF) + b;
+        t[to + 14] = (((s[so + 12] >>> 8) | (s[so + 13] << 24)) & 0xFFFFFFF) + b;
+        t[to + 15] = (s[so + 13] >>> 4) + b;
+        t[to + 16] = (s[so + 14] & 0xFFFFFFF) + b;
+        t[to + 17] = (((s[so + 14] >>> 28) | (s[so + 15] << 4)) & 0xFFFFFFF) + b;
+        t[to + 18] = (((s[so + 15] >>> 24) | (s[so + 16] << 8)) & 0xFFFFFFF) + b;
+        t[to + 19] = (((s[so + 16] >>> 20) | (s[so + 17] << 12)) & 0xFFFFFFF) + b;
+        t[to + 20] = (((s[so + 17] >>> 16) | (s[so + 18] << 16)) & 0xFFFFFFF) + b;
+        t[to + 21] = (((s[so + 18] >>> 12) | (s[so + 19] << 20)) & 0xFFFFFFF) + b;
+        t[to + 22] = (((s[so + 19] >>> 8) | (s[so + 20] << 24)) & 0xFFFFFFF) + b;
+        t[to + 23] = (s[so + 20] >>> 4) + b;
+        t[to + 24] = (s[so + 21] & 0xFFFFFFF) + b;
+        t[to + 25] = (((s[so + 21] >>> 28) | (s[so + 22] << 4)) & 0xFFFFFFF) + b;
+        t[to + 26] = (((s[so + 22] >>> 24) | (s[so + 23] << 8)) & 0xFFFFFFF) + b;
+        t[to + 27] = (((s[so + 23] >>> 20) | (s[so + 24] << 12)) & 0xFFFFFFF) + b;
+        t[to + 28] = (((s[so + 24] >>> 16) | (s[so + 25] << 16)) & 0xFFFFFFF) + b;
+        t[to + 29] = (((s[so + 25] >>> 12) | (s[so + 26] << 20)) & 0xFFFFFFF) + b;
+        t[to + 30] = (((s[so + 26] >>> 8) | (s[so + 27] << 24)) & 0xFFFFFFF) + b;
+        t[to + 31] = (s[so + 27] >>> 4) + b;
+    }
+
+    // ---------------- k = 29 ----------------
+
+    static void empaqueter29(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x1FFFFFFF;
+        int v1 = (s[so + 1] + d) & 0x1FFFFFFF;
+        int v2 = (s[so + 2] + d) & 0x1FFFFFFF;
+        int v3 = (s[so + 3] + d) & 0x1FFFFFFF;
+        int v4 = (s[so + 4] + d) & 0x1FFFFFFF;
+        int v5 = (s[so + 5] + d) & 0x1FFFFFFF;
+        int v6 = (s[so + 6] + d) & 0x1FFFFFFF;
+        int v7 = (s[so + 7] + d) & 0x1FFFFFFF;
+        int v8 = (s[so + 8] + d) & 0x1FFFFFFF;
+        int v9 = (s[so + 9] + d) & 0x1FFFFFFF;
+        int v10 = (s[so + 10] + d) & 0x1FFFFFFF;
+        int v11 = (s[so + 11] + d) & 0x1FFFFFFF;
+        int v12 = (s[so + 12] + d) & 0x1FFFFFFF;
+        int v13 = (s[so + 13] + d) & 0x1FFFFFFF;
+        int v14 = (s[so + 14] + d) & 0x1FFFFFFF;
+        int v15 = (s[so + 15] + d) & 0x1FFFFFFF;
+        int v16 = (s[so + 16] + d) & 0x1FFFFFFF;
+        int v17 = (s[so + 17] + d) & 0x1FFFFFFF;
+        int v18 = (s[so + 18] + d) & 0x1FFFFFFF;
+        int v19 = (s[so + 19] + d) & 0x1FFFFFFF;
+        int v20 = (s[so + 20] + d) & 0x1FFFFFFF;
+        int v21 = (s[so + 21] + d) & 0x1FFFFFFF;
+        int v22 = (s[so + 22] + d) & 0x1FFFFFFF;
+        int v23 = (s[so + 23] + d) & 0x1FFFFFFF;
+        int v24 = (s[so + 24] + d) & 0x1FFFFFFF;
+        int v25 = (s[so + 25] + d) & 0x1FFFFFFF;
+        int v26 = (s[so + 26] + d) & 0x1FFFFFFF;
+        int v27 = (s[so + 27] + d) & 0x1FFFFFFF;
+        int v28 = (s[so + 28] + d) & 0x1FFFFFFF;
+        int v29 = (s[so + 29] + d) & 0x1FFFFFFF;
+        int v30 = (s[so + 30] + d) & 0x1FFFFFFF;
+        int v31 = (s[so + 31] + d) & 0x1FFFFFFF;
+        t[to] = v0 | (v1 << 29);
+        t[to + 1] = (v1 >>> 3) | (v2 << 26);
+        t[to + 2] = (v2 >>> 6) | (v3 << 23);
+        t[to + 3] = (v3 >>> 9) | (v4 << 20);
+        t[to + 4] = (v4 >>> 12) | (v5 << 17);
+        t[to + 5] = (v5 >>> 15) | (v6 << 14);
+        t[to + 6] = (v6 >>> 18) | (v7 << 11);
+        t[to + 7] = (v7 >>> 21) | (v8 << 8);
+        t[to + 8] = (v8 >>> 24) | (v9 << 5);
+        t[to + 9] = (v9 >>> 27) | (v10 << 2) | (v11 << 31);
+        t[to + 10] = (v11 >>> 1) | (v12 << 28);
+        t[to + 11] = (v12 >>> 4) | (v13 << 25);
+        t[to + 12] = (v13 >>> 7) | (v14 << 22);
+        t[to + 13] = (v14 >>> 10) | (v15 << 19);
+        t[to + 14] = (v15 >>> 13) | (v16 << 16);
+        t[to + 15] = (v16 >>> 16) | (v17 << 13);
+        t[to + 16] = (v17 >>> 19) | (v18 << 10);
+        t[to + 17] = (v18 >>> 22) | (v19 << 7);
+        t[to + 18] = (v19 >>> 25) | (v20 << 4);
+        t[to + 19] = (v20 >>> 28) | (v21 << 1) | (v22 << 30);
+        t[to + 20] = (v22 >>> 2) | (v23 << 27);
+        t[to + 21] = (v23 >>> 5) | (v24 << 24);
+        t[to + 22] = (v24 >>> 8) | (v25 << 21);
+        t[to + 23] = (v25 >>> 11) | (v26 << 18);
+        t[to + 24] = (v26 >>> 14) | (v27 << 15);
+        t[to + 25] = (v27 >>> 17) | (v28 << 12);
+        t[to + 26] = (v28 >>> 20) | (v29 << 9);
+        t[to + 27] = (v29 >>> 23) | (v30 << 6);
+        t[to + 28] = (v30 >>> 26) | (v31 << 3);
+    }
+
+    static void depaqueter29(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x1FFFFFFF) + b;
+        t[to + 1] = (((s[so] >>> 29) | (s[so + 1] << 3)) & 0x1FFFFFFF) + b;
+        t[to + 2] = (((s[so + 1] >>> 26) | (s[so + 2] << 6)) & 0x1FFFFFFF) + b;
+        t[to + 3] = (((s[so + 2] >>> 23) | (s[so + 3] << 9)) & 0x1FFFFFFF) + b;
+        t[to + 4] = (((s[so + 3] >>> 20) | (s[so + 4] << 12)) & 0x1FFFFFFF) + b;
+        t[to + 5] = (((s[so + 4] >>> 17) | (s[so + 5] << 15)) & 0x1FFFFFFF) + b;
+        t[to + 6] = (((s[so + 5] >>> 14) | (s[so + 6] << 18)) & 0x1FFFFFFF) + b;
+        t[to + 7] = (((s[so + 6] >>> 11) | (s[so + 7] << 21)) & 0x1FFFFFFF) + b;
+        t[to + 8] = (((s[so + 7] >>> 8) | (s[so + 8] << 24)) & 0x1FFFFFFF) + b;
+        t[to + 9] = (((s[so + 8] >>> 5) | (s[so + 9] << 27)) & 0x1FFFFFFF) + b;
+        t[to + 10] = ((s[so + 9] >>> 2) & 0x1FFFFFFF) + b;
+        t[to + 11] = (((s[so + 9] >>> 31) | (s[so + 10] << 1)) & 0x1FFFFFFF) + b;
+        t[to + 12] = (((s[so + 10] >>> 28) | (s[so + 11] << 4)) & 0x1FFFFFFF) + b;
+        t[to + 13] = (((s[so + 11] >>> 25) | (s[so + 12] << 7)) & 0x1FFFFFFF) + b;
+        t[to + 14] = (((s[so + 12] >>> 22) | (s[so + 13] << 10)) & 0x1FFFFFFF) + b;
+        t[to + 15] = (((s[so + 13] >>> 19) | (s[so + 14] << 13)) & 0x1FFFFFFF) + b;
+        t[to + 16] = (((s[so + 14] >>> 16) | (s[so + 15] << 16)) & 0x1FFFFFFF) + b;
+        t[to + 17] = (((s[so + 15] >>> 13) | (s[so + 16] << 19)) & 0x1FFFFFFF) + b;
+        t[to + 18] = (((s[so + 16] >>> 10) | (s[so + 17] << 22)) & 0x1FFFFFFF) + b;
+        t[to + 19] = (((s[so + 17] >>> 7) | (s[so + 18] << 25)) & 0x1FFFFFFF) + b;
+        t[to + 20] = (((s[so + 18] >>> 4) | (s[so + 19] << 28)) & 0x1FFFFFFF) + b;
+        t[to + 21] = ((s[so + 19] >>> 1) & 0x1FFFFFFF) + b;
+        t[to + 22] = (((s[so + 19] >>> 30) | (s[so + 20] << 2)) & 0x1FFFFFFF) + b;
+        t[to + 23] = (((s[so + 20] >>> 27) | (s[so + 21] << 5)) & 0x1FFFFFFF) + b;
+        t[to + 24] = (((s[so + 21] >>> 24) | (s[so + 22] << 8)) & 0x1FFFFFFF) + b;
+        t[to + 25] = (((s[so + 22] >>> 21) | (s[so + 23] << 11)) & 0x1FFFFFFF) + b;
+        t[to + 26] = (((s[so + 23] >>> 18) | (s[so + 24] << 14)) & 0x1FFFFFFF) + b;
+        t[to + 27] = (((s[so + 24] >>> 15) | (s[so + 25] << 17)) & 0x1FFFFFFF) + b;
+        t[to + 28] = (((s[so + 25] >>> 12) | (s[so + 26] << 20)) & 0x1FFFFFFF) + b;
+        t[to + 29] = (((s[so + 26] >>> 9) | (s[so + 27] << 23)) & 0x1FFFFFFF) + b;
+        t[to + 30] = (((s[so + 27] >>> 6) | (s[so + 28] << 26)) & 0x1FFFFFFF) + b;
+        t[to + 31] = (s[so + 28] >>> 3) + b;
+    }
+
+    // ---------------- k = 30 ----------------
+
+    static void empaqueter30(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x3FFFFFFF;
+        int v1 = (s[so + 1] + d) & 0x3FFFFFFF;
+        int v2 = (s[so + 2] + d) & 0x3FFFFFFF;
+        int v3 = (s[so + 3] + d) & 0x3FFFFFFF;
+        int v4 = (s[so + 4] + d) & 0x3FFFFFFF;
+        int v5 = (s[so + 5] + d) & 0x3FFFFFFF;
+        int v6 = (s[so + 6] + d) & 0x3FFFFFFF;
+        int v7 = (s[so + 7] + d) & 0x3FFFFFFF;
+        int v8 = (s[so + 8] + d) & 0x3FFFFFFF;
+        int v9 = (s[so + 9] + d) & 0x3FFFFFFF;
+        int v10 = (s[so + 10] + d) & 0x3FFFFFFF;
+        int v11 = (s[so + 11] + d) & 0x3FFFFFFF;
+        int v12 = (s[so + 12] + d) & 0x3FFFFFFF;
+        int v13 = (s[so + 13] + d) & 0x3FFFFFFF;
+        int v14 = (s[so + 14] + d) & 0x3FFFFFFF;
+        int v15 = (s[so + 15] + d) & 0x3FFFFFFF;
+        int v16 = (s[so + 16] + d) & 0x3FFFFFFF;
+        int v17 = (s[so + 17] + d) & 0x3FFFFFFF;
+        int v18 = (s[so + 18] + d) & 0x3FFFFFFF;
+        int v19 = (s[so + 19] + d) & 0x3FFFFFFF;
+        int v20 = (s[so + 20] + d) & 0x3FFFFFFF;
+        int v21 = (s[so + 21] + d) & 0x3FFFFFFF;
+        int v22 = (s[so + 22] + d) & 0x3FFFFFFF;
+        int v23 = (s[so + 23] + d) & 0x3FFFFFFF;
+        int v24 = (s[so + 24] + d) & 0x3FFFFFFF;
+        int v25 = (s[so + 25] + d) & 0x3FFFFFFF;
+        int v26 = (s[so + 26] + d) & 0x3FFFFFFF;
+        int v27 = (s[so + 27] + d) & 0x3FFFFFFF;
+        int v28 = (s[so + 28] + d) & 0x3FFFFFFF;
+        int v29 = (s[so + 29] + d) & 0x3FFFFFFF;
+        int v30 = (s[so + 30] + d) & 0x3FFFFFFF;
+        int v31 = (s[so + 31] + d) & 0x3FFFFFFF;
+        t[to] = v0 | (v1 << 30);
+        t[to + 1] = (v1 >>> 2) | (v2 << 28);
+        t[to + 2] = (v2 >>> 4) | (v3 << 26);
+        t[to + 3] = (v3 >>> 6) | (v4 << 24);
+        t[to + 4] = (v4 >>> 8) | (v5 << 22);
+        t[to + 5] = (v5 >>> 10) | (v6 << 20);
+        t[to + 6] = (v6 >>> 12) | (v7 << 18);
+        t[to + 7] = (v7 >>> 14) | (v8 << 16);
+        t[to + 8] = (v8 >>> 16) | (v9 << 14);
+        t[to + 9] = (v9 >>> 18) | (v10 << 12);
+        t[to + 10] = (v10 >>> 20) | (v11 << 10);
+        t[to + 11] = (v11 >>> 22) | (v12 << 8);
+        t[to + 12] = (v12 >>> 24) | (v13 << 6);
+        t[to + 13] = (v13 >>> 26) | (v14 << 4);
+        t[to + 14] = (v14 >>> 28) | (v15 << 2);
+        t[to + 15] = v16 | (v17 << 30);
+        t[to + 16] = (v17 >>> 2) | (v18 << 28);
+        t[to + 17] = (v18 >>> 4) | (v19 << 26);
+        t[to + 18] = (v19 >>> 6) | (v20 << 24);
+        t[to + 19] = (v20 >>> 8) | (v21 << 22);
+        t[to + 20] = (v21 >>> 10) | (v22 << 20);
+        t[to + 21] = (v22 >>> 12) | (v23 << 18);
+        t[to + 22] = (v23 >>> 14) | (v24 << 16);
+        t[to + 23] = (v24 >>> 16) | (v25 << 14);
+        t[to + 24] = (v25 >>> 18) | (v26 << 12);
+        t[to + 25] = (v26 >>> 20) | (v27 << 10);
+        t[to + 26] = (v27 >>> 22) | (v28 << 8);
+        t[to + 27] = (v28 >>> 24) | (v29 << 6);
+        t[to + 28] = (v29 >>> 26) | (v30 << 4);
+        t[to + 29] = (v30 >>> 28) | (v31 << 2);
+    }
+
+    static void depaqueter30(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x3FFFFFFF) + b;
+        t[to + 1] = (((s[so] >>> 30) | (s[so + 1] << 2)) & 0x3FFFFFFF) + b;
+        t[to + 2] = (((s[so + 1] >>> 28) | (s[so + 2] << 4)) & 0x3FFFFFFF) + b;
+        t[to + 3] = (((s[so + 2] >>> 26) | (s[so + 3] << 6)) & 0x3FFFFFFF) + b;
+        t[to + 4] = (((s[so + 3] >>> 24) | (s[so + 4] << 8)) & 0x3FFFFFFF) + b;
+        t[to + 5] = (((s[so + 4] >>> 22) | (s[so + 5] << 10)) & 0x3FFFFFFF) + b;
+        t[to + 6] = (((s[so + 5] >>> 20) | (s[so + 6] << 12)) & 0x3FFFFFFF) + b;
+        t[to + 7] = (((s[so + 6] >>> 18) | (s[so + 7] << 14)) & 0x3FFFFFFF) + b;
+        t[to + 8] = (((s[so + 7] >>> 16) | (s[so + 8] << 16)) & 0x3FFFFFFF) + b;
+        t[to + 9] = (((s[so + 8] >>> 14) | (s[so + 9] << 18)) & 0x3FFFFFFF) + b;
+        t[to + 10] = (((s[so + 9] >>> 12) | (s[so + 10] << 20)) & 0x3FFFFFFF) + b;
+        t[to + 11] = (((s[so + 10] >>> 10) | (s[so + 11] << 22)) & 0x3FFFFFFF) + b;
+        t[to + 12] = (((s[so + 11] >>> 8) | (s[so + 12] << 24)) & 0x3FFFFFFF) + b;
+        t[to + 13] = (((s[so + 12] >>> 6) | (s[so + 13] << 26)) & 0x3FFFFFFF) + b;
+        t[to + 14] = (((s[so + 13] >>> 4) | (s[so + 14] << 28)) & 0x3FFFFFFF) + b;
+        t[to + 15] = (s[so + 14] >>> 2) + b;
+        t[to + 16] = (s[so + 15] & 0x3FFFFFFF) + b;
+        t[to + 17] = (((s[so + 15] >>> 30) | (s[so + 16] << 2)) & 0x3FFFFFFF) + b;
+        t[to + 18] = (((s[so + 16] >>> 28) | (s[so + 17] << 4)) & 0x3FFFFFFF) + b;
+        t[to + 19] = (((s[so + 17] >>> 26) | (s[so + 18] << 6)) & 0x3FFFFFFF) + b;
+        t[to + 20] = (((s[so + 18] >>> 24) | (s[so + 19] << 8)) & 0x3FFFFFFF) + b;
+        t[to + 21] = (((s[so + 19] >>> 22) | (s[so + 20] << 10)) & 0x3FFFFFFF) + b;
+        t[to + 22] = (((s[so + 20] >>> 20) | (s[so + 21] << 12)) & 0x3FFFFFFF) + b;
+        t[to + 23] = (((s[so + 21] >>> 18) | (s[so + 22] << 14)) & 0x3FFFFFFF) + b;
+        t[to + 24] = (((s[so + 22] >>> 16) | (s[so + 23] << 16)) & 0x3FFFFFFF) + b;
+        t[to + 25] = (((s[so + 23] >>> 14) | (s[so + 24] << 18)) & 0x3FFFFFFF) + b;
+        t[to + 26] = (((s[so + 24] >>> 12) | (s[so + 25] << 20)) & 0x3FFFFFFF) + b;
+        t[to + 27] = (((s[so + 25] >>> 10) | (s[so + 26] << 22)) & 0x3FFFFFFF) + b;
+        t[to + 28] = (((s[so + 26] >>> 8) | (s[so + 27] << 24)) & 0x3FFFFFFF) + b;
+        t[to + 29] = (((s[so + 27] >>> 6) | (s[so + 28] << 26)) & 0x3FFFFFFF) + b;
+        t[to + 30] = (((s[so + 28] >>> 4) | (s[so + 29] << 28)) & 0x3FFFFFFF) + b;
+        t[to + 31] = (s[so + 29] >>> 2) + b;
+    }
+
+    // ---------------- k = 31 ----------------
+
+    static void empaqueter31(int[] s, int so, int d, int[] t, int to) {
+        int v0 = (s[so] + d) & 0x7FFFFFFF;
+        int v1 = (s[so + 1] + d) & 0x7FFFFFFF;
+        int v2 = (s[so + 2] + d) & 0x7FFFFFFF;
+        int v3 = (s[so + 3] + d) & 0x7FFFFFFF;
+        int v4 = (s[so + 4] + d) & 0x7FFFFFFF;
+        int v5 = (s[so + 5] + d) & 0x7FFFFFFF;
+        int v6 = (s[so + 6] + d) & 0x7FFFFFFF;
+        int v7 = (s[so + 7] + d) & 0x7FFFFFFF;
+        int v8 = (s[so + 8] + d) & 0x7FFFFFFF;
+        int v9 = (s[so + 9] + d) & 0x7FFFFFFF;
+        int v10 = (s[so + 10] + d) & 0x7FFFFFFF;
+        int v11 = (s[so + 11] + d) & 0x7FFFFFFF;
+        int v12 = (s[so + 12] + d) & 0x7FFFFFFF;
+        int v13 = (s[so + 13] + d) & 0x7FFFFFFF;
+        int v14 = (s[so + 14] + d) & 0x7FFFFFFF;
+        int v15 = (s[so + 15] + d) & 0x7FFFFFFF;
+        int v16 = (s[so + 16] + d) & 0x7FFFFFFF;
+        int v17 = (s[so + 17] + d) & 0x7FFFFFFF;
+        int v18 = (s[so + 18] + d) & 0x7FFFFFFF;
+        int v19 = (s[so + 19] + d) & 0x7FFFFFFF;
+        int v20 = (s[so + 20] + d) & 0x7FFFFFFF;
+        int v21 = (s[so + 21] + d) & 0x7FFFFFFF;
+        int v22 = (s[so + 22] + d) & 0x7FFFFFFF;
+        int v23 = (s[so + 23] + d) & 0x7FFFFFFF;
+        int v24 = (s[so + 24] + d) & 0x7FFFFFFF;
+        int v25 = (s[so + 25] + d) & 0x7FFFFFFF;
+        int v26 = (s[so + 26] + d) & 0x7FFFFFFF;
+        int v27 = (s[so + 27] + d) & 0x7FFFFFFF;
+        int v28 = (s[so + 28] + d) & 0x7FFFFFFF;
+        int v29 = (s[so + 29] + d) & 0x7FFFFFFF;
+        int v30 = (s[so + 30] + d) & 0x7FFFFFFF;
+        int v31 = (s[so + 31] + d) & 0x7FFFFFFF;
+        t[to] = v0 | (v1 << 31);
+        t[to + 1] = (v1 >>> 1) | (v2 << 30);
+        t[to + 2] = (v2 >>> 2) | (v3 << 29);
+        t[to + 3] = (v3 >>> 3) | (v4 << 28);
+        t[to + 4] = (v4 >>> 4) | (v5 << 27);
+        t[to + 5] = (v5 >>> 5) | (v6 << 26);
+        t[to + 6] = (v6 >>> 6) | (v7 << 25);
+        t[to + 7] = (v7 >>> 7) | (v8 << 24);
+        t[to + 8] = (v8 >>> 8) | (v9 << 23);
+        t[to + 9] = (v9 >>> 9) | (v10 << 22);
+        t[to + 10] = (v10 >>> 10) | (v11 << 21);
+        t[to + 11] = (v11 >>> 11) | (v12 << 20);
+        t[to + 12] = (v12 >>> 12) | (v13 << 19);
+        t[to + 13] = (v13 >>> 13) | (v14 << 18);
+        t[to + 14] = (v14 >>> 14) | (v15 << 17);
+        t[to + 15] = (v15 >>> 15) | (v16 << 16);
+        t[to + 16] = (v16 >>> 16) | (v17 << 15);
+        t[to + 17] = (v17 >>> 17) | (v18 << 14);
+        t[to + 18] = (v18 >>> 18) | (v19 << 13);
+        t[to + 19] = (v19 >>> 19) | (v20 << 12);
+        t[to + 20] = (v20 >>> 20) | (v21 << 11);
+        t[to + 21] = (v21 >>> 21) | (v22 << 10);
+        t[to + 22] = (v22 >>> 22) | (v23 << 9);
+        t[to + 23] = (v23 >>> 23) | (v24 << 8);
+        t[to + 24] = (v24 >>> 24) | (v25 << 7);
+        t[to + 25] = (v25 >>> 25) | (v26 << 6);
+        t[to + 26] = (v26 >>> 26) | (v27 << 5);
+        t[to + 27] = (v27 >>> 27) | (v28 << 4);
+        t[to + 28] = (v28 >>> 28) | (v29 << 3);
+        t[to + 29] = (v29 >>> 29) | (v30 << 2);
+        t[to + 30] = (v30 >>> 30) | (v31 << 1);
+    }
+
+    static void depaqueter31(int[] s, int so, int[] t, int to, int b) {
+        t[to] = (s[so] & 0x7FFFFFFF) + b;
+        t[to + 1] = (((s[so] >>> 31) | (s[so + 1] << 1)) & 0x7FFFFFFF) + b;
+        t[to + 2] = (((s[so + 1] >>> 30) | (s[so + 2] << 2)) & 0x7FFFFFFF) + b;
+        t[to + 3] = (((s[so + 2] >>> 29) | (s[so + 3] << 3)) & 0x7FFFFFFF) + b;
+        t[to + 4] = (((s[so + 3] >>> 28) | (s[so + 4] << 4)) & 0x7FFFFFFF) + b;
+        t[to + 5] = (((s[so + 4] >>> 27) | (s[so + 5] << 5)) & 0x7FFFFFFF) + b;
+        t[to + 6] = (((s[so + 5] >>> 26) | (s[so + 6] << 6)) & 0x7FFFFFFF) + b;
+        t[to + 7] = (((s[so + 6] >>> 25) | (s[so + 7] << 7)) & 0x7FFFFFFF) + b;
+        t[to + 8] = (((s[so + 7] >>> 24) | (s[so + 8] << 8)) & 0x7FFFFFFF) + b;
+        t[to + 9] = (((s[so + 8] >>> 23) | (s[so + 9] << 9)) & 0x7FFFFFFF) + b;
+        t[to + 10] = (((s[so + 9] >>> 22) | (s[so + 10] << 10)) & 0x7FFFFFFF) + b;
+        t[to + 11] = (((s[so + 10] >>> 21) | (s[so + 11] << 11)) & 0x7FFFFFFF) + b;
+        t[to + 12] = (((s[so + 11] >>> 20) | (s[so + 12] << 12)) & 0x7FFFFFFF) + b;
+        t[to + 13] = (((s[so + 12] >>> 19) | (s[so + 13] << 13)) & 0x7FFFFFFF) + b;
+        t[to + 14] = (((s[so + 13] >>> 18) | (s[so + 14] << 14)) & 0x7FFFFFFF) + b;
+        t[to + 15] = (((s[so + 14] >>> 17) | (s[so + 15] << 15)) & 0x7FFFFFFF) + b;
+        t[to + 16] = (((s[so + 15] >>> 16) | (s[so + 16] << 16)) & 0x7FFFFFFF) + b;
+        t[to + 17] = (((s[so + 16] >>> 15) | (s[so + 17] << 17)) & 0x7FFFFFFF) + b;
+        t[to + 18] = (((s[so + 17] >>> 14) | (s[so + 18] << 18)) & 0x7FFFFFFF) + b;
+        t[to + 19] = (((s[so + 18] >>> 13) | (s[so + 19] << 19)) & 0x7FFFFFFF) + b;
+        t[to + 20] = (((s[so + 19] >>> 12) | (s[so + 20] << 20)) & 0x7FFFFFFF) + b;
+        t[to + 21] = (((s[so + 20] >>> 11) | (s[so + 21] << 21)) & 0x7FFFFFFF) + b;
+        t[to + 22] = (((s[so + 21] >>> 10) | (s[so + 22] << 22)) & 0x7FFFFFFF) + b;
+        t[to + 23] = (((s[so + 22] >>> 9) | (s[so + 23] << 23)) & 0x7FFFFFFF) + b;
+        t[to + 24] = (((s[so + 23] >>> 8) | (s[so + 24] << 24)) & 0x7FFFFFFF) + b;
+        t[to + 25] = (((s[so + 24] >>> 7) | (s[so + 25] << 25)) & 0x7FFFFFFF) + b;
+        t[to + 26] = (((s[so + 25] >>> 6) | (s[so + 26] << 26)) & 0x7FFFFFFF) + b;
+        t[to + 27] = (((s[so + 26] >>> 5) | (s[so + 27] << 27)) & 0x7FFFFFFF) + b;
+        t[to + 28] = (((s[so + 27] >>> 4) | (s[so + 28] << 28)) & 0x7FFFFFFF) + b;
+        t[to + 29] = (((s[so + 28] >>> 3) | (s[so + 29] << 29)) & 0x7FFFFFFF) + b;
+        t[to + 30] = (((s[so + 29] >>> 2) | (s[so + 30] << 30)) & 0x7FFFFFFF) + b;
+        t[to + 31] = (s[so + 30] >>> 1) + b;
+    }
+
+    // ---------------- k = 32 ----------------
+
+    static void empaqueter32(int[] s, int so, int d, int[] t, int to) {
+        int v0 = s[so] + d;
+        int v1 = s[so + 1] + d;
+        int v2 = s[so + 2] + d;
+        int v3 = s[so + 3] + d;
+        int v4 = s[so + 4] + d;
+        int v5 = s[so + 5] + d;
+        int v6 = s[so + 6] + d;
+        int v7 = s[so + 7] + d;
+        int v8 = s[so + 8] + d;
+        int v9 = s[so + 9] + d;
+        int v10 = s[so + 10] + d;
+        int v11 = s[so + 11] + d;
+        int v12 = s[so + 12] + d;
+        int v13 = s[so + 13] + d;
+        int v14 = s[so + 14] + d;
+        int v15 = s[so + 15] + d;
+        int v16 = s[so + 16] + d;
+        int v17 = s[so + 17] + d;
+        int v18 = s[so + 18] + d;
+        int v19 = s[so + 19] + d;
+        int v20 = s[so + 20] + d;
+        int v21 = s[so + 21] + d;
+        int v22 = s[so + 22] + d;
+        int v23 = s[so + 23] + d;
+        int v24 = s[so + 24] + d;
+        int v25 = s[so + 25] + d;
+        int v26 = s[so + 26] + d;
+        int v27 = s[so + 27] + d;
+        int v28 = s[so + 28] + d;
+        int v29 = s[so + 29] + d;
+        int v30 = s[so + 30] + d;
+        int v31 = s[so + 31] + d;
+        t[to] = v0;
+        t[to + 1] = v1;
+        t[to + 2] = v2;
+        t[to + 3] = v3;
+        t[to + 4] = v4;
+        t[to + 5] = v5;
+        t[to + 6] = v6;
+        t[to + 7] = v7;
+        t[to + 8] = v8;
+        t[to + 9] = v9;
+        t[to + 10] = v10;
+        t[to + 11] = v11;
+        t[to + 12] = v12;
+        t[to + 13] = v13;
+        t[to + 14] = v14;
+        t[to + 15] = v15;
+        t[to + 16] = v16;
+        t[to + 17] = v17;
+        t[to + 18] = v18;
+        t[to + 19] = v19;
+        t[to + 20] = v20;
+        t[to + 21] = v21;
+        t[to + 22] = v22;
+        t[to + 23] = v23;
+        t[to + 24] = v24;
+        t[to + 25] = v25;
+        t[to + 26] = v26;
+        t[to + 27] = v27;
+        t[to + 28] = v28;
+        t[to + 29] = v29;
+        t[to + 30] = v30;
+        t[to + 31] = v31;
+    }
+
+    static void depaqueter32(int[] s, int so, int[] t, int to, int b) {
+        t[to] = s[so] + b;
+        t[to + 1] = s[so + 1] + b;
+        t[to + 2] = s[so + 2] + b;
+        t[to + 3] = s[so + 3] + b;
+        t[to + 4] = s[so + 4] + b;
+        t[to + 5] = s[so + 5] + b;
+        t[to + 6] = s[so + 6] + b;
+        t[to + 7] = s[so + 7] + b;
+        t[to + 8] = s[so + 8] + b;
+        t[to + 9] = s[so + 9] + b;
+        t[to + 10] = s[so + 10] + b;
+        t[to + 11] = s[so + 11] + b;
+        t[to + 12] = s[so + 12] + b;
+        t[to + 13] = s[so + 13] + b;
+        t[to + 14] = s[so + 14] + b;
+        t[to + 15] = s[so + 15] + b;
+        t[to + 16] = s[so + 16] + b;
+        t[to + 17] = s[so + 17] + b;
+        t[to + 18] = s[so + 18] + b;
+        t[to + 19] = s[so + 19] + b;
+        t[to + 20] = s[so + 20] + b;
+        t[to + 21] = s[so + 21] + b;
+        t[to + 22] = s[so + 22] + b;
+        t[to + 23] = s[so + 23] + b;
+        t[to + 24] = s[so + 24] + b;
+        t[to + 25] = s[so + 25] + b;
+        t[to + 26] = s[so + 26] + b;
+        t[to + 27] = s[so + 27] + b;
+        t[to + 28] = s[so + 28] + b;
+        t[to + 29] = s[so + 29] + b;
+        t[to + 30] = s[so + 30] + b;
+        t[to + 31] = s[so + 31] + b;
+    }
+}
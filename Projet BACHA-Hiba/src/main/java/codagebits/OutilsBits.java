@@ -1,51 +1,81 @@
-package codagebits;
-/**
-* Utilitaires bas niveau (bit twiddling). Responsabilité unique.
-* Invariants :
-* - nbBits ∈ [1,32]
-* - Les écritures ne modifient que les zones visées (nettoyage par masque préalable).
-*/
-final class OutilsBits {
-private OutilsBits(){}
-
-
-static int bitsNecessaires(int maxNonNegatif){
-return (maxNonNegatif<=0) ? 1 : 32 - Integer.numberOfLeadingZeros(maxNonNegatif);
-}
-static int masque(int b){ return (b>=32)? -1 : ((1<<b)-1); }
-
-
-/** Écrit 'nbBits' bits de 'valeur' à la position globale 'positionBit'. */
-static void ecrireBits(int[] tampon, long positionBit, int nbBits, int valeur){
-int v = valeur & masque(nbBits);
-int mot = (int)(positionBit >>> 5); // /32
-int decal = (int)(positionBit & 31); // %32
-int espace = 32 - decal;
-if (espace >= nbBits) {
-int m = masque(nbBits) << decal; // zone à écraser
-tampon[mot] = (tampon[mot] & ~m) | (v << decal);
-} else {
-int bas = espace, haut = nbBits - espace;
-int mBas = masque(bas) << decal, mHaut = masque(haut);
-int partBas = (v & masque(bas)) << decal;
-int partHaut = (v >>> bas) & mHaut;
-tampon[mot] = (tampon[mot] & ~mBas) | partBas;
-tampon[mot + 1] = (tampon[mot + 1] & ~mHaut) | partHaut;
-}
-}
-
-
-/** Lit 'nbBits' bits à la position globale 'positionBit'. */
-static int lireBits(int[] tampon, long positionBit, int nbBits){
-int mot = (int)(positionBit >>> 5);
-int decal = (int)(positionBit & 31);
-int espace = 32 - decal;
-if (espace >= nbBits) {
-return (tampon[mot] >>> decal) & masque(nbBits);
-}
-int bas = espace, haut = nbBits - espace;
-int valBas = (tampon[mot] >>> decal) & masque(bas);
-int valHaut = tampon[mot + 1] & masque(haut);
-return valBas | (valHaut << bas);
-}
+package codagebits;
+/**
+* Utilitaires bas niveau (bit twiddling). Responsabilité unique.
+* Invariants :
+* - nbBits ∈ [1,32]
+* - Les écritures ne modifient que les zones visées (nettoyage par masque préalable).
+*/
+final class OutilsBits {
+private OutilsBits(){}
+
+
+static int bitsNecessaires(int maxNonNegatif){
+return (maxNonNegatif<=0) ? 1 : 32 - Integer.numberOfLeadingZeros(maxNonNegatif);
+}
+/** Largeur de 'v' lu comme non signé (32 si le bit de signe est posé), au moins 1. */
+static int bitsNecessairesNonSigne(int v){
+return (v==0) ? 1 : 32 - Integer.numberOfLeadingZeros(v);
+}
+/**
+ * Offset d'un tableau dont on connaît min et max ({@link ParalleleBits#minMax(int[])}) :
+ * {@code -min} si un élément est négatif, sinon 0.
+ */
+static int offset(long minMax){
+int min = ParalleleBits.minDe(minMax);
+return (min < 0) ? -min : 0;
+}
+/**
+ * Largeur k des valeurs décalées : {@code max + offset} lu comme non signé, exact même
+ * quand l'étendue dépasse {@code Integer.MAX_VALUE} (k = 32). 1 pour un tableau vide.
+ */
+static int largeur(long minMax, int n){
+return (n == 0) ? 1 : bitsNecessairesNonSigne(ParalleleBits.maxDe(minMax) + offset(minMax));
+}
+static int masque(int b){ return (b>=32)? -1 : ((1<<b)-1); }
+/** Bit "trié" du mot de flags ({@code tampon[2]}) ; le mode occupe l'octet bas. */
+static final int TRIE = 1 << 8;
+/** Mode d'un tampon compressé : octet bas du mot de flags. */
+static int mode(int[] tampon){ return tampon[2] & 0xFF; }
+/** Vrai si le tampon porte le bit {@link #TRIE}. */
+static boolean trie(int[] tampon){ return (tampon[2] & TRIE) != 0; }
+/** Vrai si 't' est trié en ordre croissant ; s'arrête à la première inversion. */
+static boolean estTrie(int[] t){
+for (int i = 1; i < t.length; i++) if (t[i] < t[i - 1]) return false;
+return true;
+}
+
+
+/** Écrit 'nbBits' bits de 'valeur' à la position globale 'positionBit'. */
+static void ecrireBits(int[] tampon, long positionBit, int nbBits, int valeur){
+int v = valeur & masque(nbBits);
+int mot = (int)(positionBit >>> 5); // /32
+int decal = (int)(positionBit & 31); // %32
+int espace = 32 - decal;
+if (espace >= nbBits) {
+int m = masque(nbBits) << decal; // zone à écraser
+tampon[mot] = (tampon[mot] & ~m) | (v << decal);
+} else {
+int bas = espace, haut = nbBits - espace;
+int mBas = masque(bas) << decal, mHaut = masque(haut);
+int partBas = (v & masque(bas)) << decal;
+int partHaut = (v >>> bas) & mHaut;
+tampon[mot] = (tampon[mot] & ~mBas) | partBas;
+tampon[mot + 1] = (tampon[mot + 1] & ~mHaut) | partHaut;
+}
+}
+
+
+/** Lit 'nbBits' bits à la position globale 'positionBit'. */
+static int lireBits(int[] tampon, long positionBit, int nbBits){
+int mot = (int)(positionBit >>> 5);
+int decal = (int)(positionBit & 31);
+int espace = 32 - decal;
+if (espace >= nbBits) {
+return (tampon[mot] >>> decal) & masque(nbBits);
+}
+int bas = espace, haut = nbBits - espace;
+int valBas = (tampon[mot] >>> decal) & masque(bas);
+int valHaut = tampon[mot + 1] & masque(haut);
+return valBas | (valHaut << bas);
+}
 }
\ No newline at end of file
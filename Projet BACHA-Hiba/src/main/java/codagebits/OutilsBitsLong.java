@@ -0,0 +1,115 @@
+package codagebits;
+
+/**
+ * Utilitaires bas niveau sur mots de 64 bits, pour les codeurs {@link CodeurBitsLong}.
+ * <p>
+ * Invariants : {@code nbBits ∈ [1,64]} ; bit {@code p} du flux = bit {@code p % 64} du mot
+ * {@code p / 64} (LSB d'abord, comme {@link OutilsBits}) ; les écritures ne modifient que
+ * les bits visés. Les valeurs décalées ({@code v + offset}) sont lues comme non signées :
+ * avec {@code offset = -min}, leur plage {@code [0, max - min]} tient toujours sur 64 bits.
+ * </p>
+ */
+final class OutilsBitsLong {
+
+    private OutilsBitsLong() {}
+
+    /**
+     * Largeur non signée d'une valeur.
+     *
+     * @param v valeur lue comme non signée
+     * @return bits nécessaires, au moins 1
+     */
+    static int bitsNecessaires(long v) {
+        return (v == 0) ? 1 : 64 - Long.numberOfLeadingZeros(v);
+    }
+
+    /**
+     * Masque des {@code b} bits de poids faible.
+     *
+     * @param b nombre de bits, dans [0,64]
+     * @return masque
+     */
+    static long masque(int b) {
+        return (b >= 64) ? -1L : (1L << b) - 1;
+    }
+
+    /**
+     * Offset rendant le tableau non négatif ({@code -min}, ou 0).
+     *
+     * @param t tableau
+     * @return offset
+     */
+    static long calculerOffset(long[] t) {
+        long min = 0;
+        for (long v : t) if (v < min) min = v;
+        return -min;
+    }
+
+    /**
+     * Maximum non signé des valeurs décalées de {@code offset}.
+     *
+     * @param t      tableau
+     * @param offset décalage
+     * @return max de {@code t[i] + offset}, lu comme non signé
+     */
+    static long maxDecale(long[] t, long offset) {
+        long max = 0;
+        for (long v : t) {
+            long p = v + offset;
+            if (Long.compareUnsigned(p, max) > 0) max = p;
+        }
+        return max;
+    }
+
+    /**
+     * Écrit {@code nbBits} bits de {@code valeur} à la position globale {@code positionBit}.
+     *
+     * @param tampon      mots de destination
+     * @param positionBit position du premier bit
+     * @param nbBits      nombre de bits, dans [1,64]
+     * @param valeur      valeur (les bits au-delà de {@code nbBits} sont ignorés)
+     */
+    static void ecrireBits(long[] tampon, long positionBit, int nbBits, long valeur) {
+        long v = valeur & masque(nbBits);
+        int mot = (int) (positionBit >>> 6);
+        int decal = (int) (positionBit & 63);
+        int espace = 64 - decal;
+        if (espace >= nbBits) {
+            long m = masque(nbBits) << decal;
+            tampon[mot] = (tampon[mot] & ~m) | (v << decal);
+        } else {
+            int haut = nbBits - espace;
+            long mBas = -1L << decal, mHaut = masque(haut);
+            tampon[mot] = (tampon[mot] & ~mBas) | (v << decal);
+            tampon[mot + 1] = (tampon[mot + 1] & ~mHaut) | (v >>> espace);
+        }
+    }
+
+    /**
+     * Lit {@code nbBits} bits à la position globale {@code positionBit}.
+     *
+     * @param tampon      mots source
+     * @param positionBit position du premier bit
+     * @param nbBits      nombre de bits, dans [1,64]
+     * @return valeur non signée sur {@code nbBits} bits
+     */
+    static long lireBits(long[] tampon, long positionBit, int nbBits) {
+        int mot = (int) (positionBit >>> 6);
+        int decal = (int) (positionBit & 63);
+        int espace = 64 - decal;
+        long bas = tampon[mot] >>> decal;
+        if (espace >= nbBits) return bas & masque(nbBits);
+        return (bas | (tampon[mot + 1] << espace)) & masque(nbBits);
+    }
+
+    /**
+     * Nombre de mots de 64 bits pour {@code n} valeurs de {@code k} bits en flux continu.
+     *
+     * @param n nombre de valeurs
+     * @param k largeur
+     * @return nombre de mots
+     */
+    static int motsFlux(int n, int k) {
+        return (int) (((long) n * k + 63) >>> 6);
+    }
+}
@@ -0,0 +1,190 @@
+package codagebits;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Découpage fork/join des passes de compression et de décompression.
+ * <p>
+ * Un tableau de {@code n} valeurs est coupé en tranches consécutives de {@link #pas(int)}
+ * valeurs ; chaque borne est un multiple du {@code grain} demandé par le codeur (par exemple
+ * {@value NoyauxBits#GROUPE} valeurs pour un flux continu : la tranche commence alors sur
+ * une frontière de mot). Deux tranches n'écrivent donc jamais dans le même mot, et le
+ * résultat est identique bit à bit à celui d'une passe séquentielle.
+ * </p>
+ * <p>
+ * Le découpage est déterministe : la tranche contenant {@code debut} a pour indice
+ * {@code debut / pas(grain)}, ce qui permet de ranger un résultat partiel par tranche
+ * (minimum, nombre d'overflow...) puis de le combiner. En dessous de {@link #SEUIL}
+ * valeurs, tout est exécuté dans le thread appelant.
+ * </p>
+ */
+final class ParalleleBits {
+
+    /** Taille minimale d'une tranche (et seuil du mode parallèle). */
+    static final int SEUIL = 1 << 15;
+
+    private ParalleleBits() {}
+
+    /** Traitement d'une tranche {@code [debut, fin[}. */
+    interface Tranche {
+        void traiter(int debut, int fin);
+    }
+
+    /**
+     * Taille d'une tranche : plus petit multiple de {@code grain} supérieur ou égal à {@link #SEUIL}.
+     *
+     * @param grain granularité des bornes (&gt; 0)
+     * @return nombre de valeurs par tranche
+     */
+    static int pas(int grain) {
+        return (SEUIL + grain - 1) / grain * grain;
+    }
+
+    /**
+     * Nombre de tranches pour {@code n} valeurs.
+     *
+     * @param n     nombre de valeurs
+     * @param grain granularité des bornes
+     * @return nombre de tranches (0 si {@code n == 0})
+     */
+    static int nbTranches(int n, int grain) {
+        int pas = pas(grain);
+        return (int) (((long) n + pas - 1) / pas);
+    }
+
+    /**
+     * Exécute {@code tranche} sur chaque tranche de {@code [0, n[}, en parallèle au-delà
+     * d'une tranche. Les exceptions levées par une tranche sont propagées à l'appelant.
+     *
+     * @param n       nombre de valeurs
+     * @param grain   granularité des bornes
+     * @param tranche traitement à appliquer
+     */
+    static void tranches(int n, int grain, Tranche tranche) {
+        int nb = nbTranches(n, grain);
+        if (nb == 0) return;
+        if (nb == 1) {
+            tranche.traiter(0, n);
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new Tache(tranche, n, pas(grain), 0, nb));
+    }
+
+    /**
+     * Exécute {@code tache} pour chaque indice de {@code [0, nb[}, un indice par tâche
+     * fork/join (par exemple une colonne d'un {@link LotColonnes}). Les exceptions sont
+     * propagées à l'appelant.
+     *
+     * @param nb    nombre de tâches
+     * @param tache traitement de l'indice {@code i}
+     */
+    static void chacun(int nb, IntConsumer tache) {
+        if (nb == 0) return;
+        if (nb == 1) {
+            tache.accept(0);
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new Tache((debut, fin) -> tache.accept(debut), nb, 1, 0, nb));
+    }
+
+    /**
+     * Minimum et maximum signés de {@code t}, en une seule passe (sans allocation en
+     * dessous du seuil parallèle).
+     *
+     * @param t tableau
+     * @return paire {@code min << 32 | max} à lire avec {@link #minDe(long)} / {@link #maxDe(long)} ;
+     *         {@code (Integer.MAX_VALUE, Integer.MIN_VALUE)} si vide
+     */
+    static long minMax(int[] t) {
+        int nb = nbTranches(t.length, 1);
+        if (nb <= 1) return minMax(t, 0, t.length);
+        long[] partiels = new long[nb];
+        int pas = pas(1);
+        tranches(t.length, 1, (debut, fin) -> partiels[debut / pas] = minMax(t, debut, fin));
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for (long p : partiels) {
+            min = Math.min(min, minDe(p));
+            max = Math.max(max, maxDe(p));
+        }
+        return paire(min, max);
+    }
+
+    /**
+     * Minimum de la paire renvoyée par {@link #minMax(int[])}.
+     *
+     * @param paire paire min/max
+     * @return minimum
+     */
+    static int minDe(long paire) {
+        return (int) (paire >> 32);
+    }
+
+    /**
+     * Maximum de la paire renvoyée par {@link #minMax(int[])}.
+     *
+     * @param paire paire min/max
+     * @return maximum
+     */
+    static int maxDe(long paire) {
+        return (int) paire;
+    }
+
+    /**
+     * Minimum et maximum séquentiels de {@code t[debut..fin[}.
+     *
+     * @param t     tableau
+     * @param debut index de début (inclus)
+     * @param fin   index de fin (exclu)
+     * @return paire min/max
+     */
+    private static long minMax(int[] t, int debut, int fin) {
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for (int i = debut; i < fin; i++) {
+            int v = t[i];
+            if (v < min) min = v;
+            if (v > max) max = v;
+        }
+        return paire(min, max);
+    }
+
+    /**
+     * Assemble une paire min/max.
+     *
+     * @param min minimum
+     * @param max maximum
+     * @return {@code min << 32 | max}
+     */
+    static long paire(int min, int max) {
+        return ((long) min << 32) | (max & 0xFFFFFFFFL);
+    }
+
+    /** Tâche fork/join : coupe l'intervalle de tranches en deux jusqu'à une seule tranche. */
+    @SuppressWarnings("serial")
+    private static final class Tache extends RecursiveAction {
+        private final Tranche tranche;
+        private final int n, pas;
+        private final int premiere, derniere;
+
+        Tache(Tranche tranche, int n, int pas, int premiere, int derniere) {
+            this.tranche = tranche;
+            this.n = n;
+            this.pas = pas;
+            this.premiere = premiere;
+            this.derniere = derniere;
+        }
+
+        @Override
+        protected void compute() {
+            if (derniere - premiere == 1) {
+                int debut = premiere * pas;
+                tranche.traiter(debut, (int) Math.min(n, (long) debut + pas));
+                return;
+            }
+            int milieu = (premiere + derniere) >>> 1;
+            invokeAll(new Tache(tranche, n, pas, premiere, milieu),
+                      new Tache(tranche, n, pas, milieu, derniere));
+        }
+    }
+}
@@ -0,0 +1,452 @@
+package codagebits;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Planificateur de transmission : pour chaque message, envoyer le tableau brut ou
+ * compressé, avec quel mode, et en un seul tampon ou en blocs ({@link FluxEcriture}).
+ * <p>
+ * Calibration : au premier usage (ou par {@link #calibrer()} au démarrage), chaque mode est
+ * mesuré en compression et en décompression sur {@value #N_CALIBRATION} valeurs aléatoires de
+ * {@code k} bits (triées pour Elias-Fano), pour quelques largeurs de 1 à 32 ({@link #LARGEURS},
+ * interpolation linéaire entre elles) : coût par valeur et coût fixe par appel, plus la
+ * taille d'en-tête d'un tampon. Toutes les opérations sont d'abord exécutées à tour de rôle
+ * jusqu'à la fin des compilations JIT (au plus {@link #CHAUFFE_NS}), puis chacune est
+ * mesurée (médiane de {@value #REPETITIONS} exécutions) ; la calibration n'est publiée
+ * qu'ensuite. Les mesures sont partagées par tous les planificateurs de la JVM. Elles sont séquentielles (sous
+ * {@link ParalleleBits#SEUIL}) : pour un grand tableau compressé d'un seul tenant,
+ * l'estimation est donc pessimiste.
+ * </p>
+ * <p>
+ * Décision : aucune mesure n'est faite sur le chemin d'envoi. Le planificateur lit min/max
+ * et les tailles estimées de {@link CodeurAuto} (une passe et un échantillon), puis, pour le
+ * brut et chaque mode candidat, évalue :
+ * </p>
+ * <ul>
+ *   <li>un seul tampon : {@code compression + latence + taille / débit + décompression} ;</li>
+ *   <li>{@code b} blocs : la compression d'un bloc recouvre l'envoi du précédent et la
+ *       décompression du suivant, soit {@code latence + c + t + d + (b - 1) × max(c, t, d)}
+ *       avec {@code c, t, d} les durées d'un bloc (en-tête et longueur de trame comptés
+ *       par bloc). Tailles essayées : puissances de deux de {@value #BLOC_MIN} à {@code n}.</li>
+ * </ul>
+ * <p>
+ * Le plan le plus court est retenu ; à durée égale, le brut l'emporte.
+ * Immuable : partageable entre threads sans verrou.
+ * </p>
+ */
+public final class PlanificateurTransmission {
+
+    /** Mode d'un plan sans compression. */
+    public static final String BRUT = "brut";
+    /** Valeurs par tableau de calibration. */
+    static final int N_CALIBRATION = 1 << 12;
+    /** Largeurs mesurées (croissantes, de 1 à 32). */
+    static final int[] LARGEURS = {1, 2, 4, 6, 8, 12, 16, 20, 24, 28, 32};
+    /** Plus petit bloc envisagé (en valeurs). */
+    static final int BLOC_MIN = 1 << 10;
+    /** Mesures par opération (la médiane est retenue). */
+    private static final int REPETITIONS = 9;
+    /** Tours de chauffe consécutifs sans compilation et de durée stable avant les mesures. */
+    private static final int TOURS_STABLES = 3;
+    /** Écart relatif maximal entre les durées de deux tours de chauffe stables. */
+    private static final double ECART_STABLE = 0.05;
+    /** Durée maximale de la chauffe, en nanosecondes. */
+    private static final long CHAUFFE_NS = 5_000_000_000L;
+
+    /** Débit du lien en octets par microseconde. */
+    private final double octetsParUs;
+    private final double latenceUs;
+    private final Calibration calibration;
+
+    /**
+     * Planificateur pour un lien donné ; calibre les codeurs si ce n'est pas déjà fait.
+     *
+     * @param debitMbps débit du lien en Mbit/s (&gt; 0)
+     * @param latenceMs latence du lien en millisecondes (≥ 0)
+     * @throws IllegalArgumentException si le débit ou la latence est invalide
+     */
+    public PlanificateurTransmission(double debitMbps, double latenceMs) {
+        this(debitMbps, latenceMs, Partagee.CALIBRATION);
+    }
+
+    PlanificateurTransmission(double debitMbps, double latenceMs, Calibration calibration) {
+        if (!(debitMbps > 0) || Double.isInfinite(debitMbps)) throw new IllegalArgumentException("débit invalide");
+        if (!(latenceMs >= 0) || Double.isInfinite(latenceMs)) throw new IllegalArgumentException("latence invalide");
+        this.octetsParUs = debitMbps / 8.0;
+        this.latenceUs = latenceMs * 1000.0;
+        this.calibration = calibration;
+    }
+
+    /**
+     * Calibre les codeurs maintenant (une à quelques secondes, une fois par JVM),
+     * plutôt qu'au premier planificateur créé.
+     */
+    public static void calibrer() {
+        Partagee.charger();
+    }
+
+    /**
+     * Meilleur plan pour envoyer {@code tableau} : brut ou meilleur mode, en blocs ou non.
+     *
+     * @param tableau message à envoyer
+     * @return plan le plus court
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}
+     */
+    public Plan planifier(int[] tableau) {
+        if (tableau == null) throw new IllegalArgumentException("tableau null");
+        Plan meilleur = brut(tableau.length);
+        if (tableau.length == 0) return meilleur;
+        int[] ecartMax = new int[1];
+        long minMax = CodeurAuto.minMaxEcart(tableau, ecartMax);
+        int k = OutilsBits.largeur(minMax, tableau.length);
+        long[] tailles = CodeurAuto.estimer(tableau, minMax, ecartMax[0]);
+        for (int mode : CodeurAuto.CANDIDATS) {
+            if (tailles[mode] == Long.MAX_VALUE) continue;
+            Plan p = plan(mode, tableau.length, k, tailles[mode]);
+            if (p.dureeUs < meilleur.dureeUs) meilleur = p;
+        }
+        return meilleur;
+    }
+
+    /**
+     * Plan d'envoi de {@code tableau} avec un mode imposé (meilleure taille de bloc).
+     *
+     * @param tableau message à envoyer
+     * @param mode    {@link #BRUT}, "auto" ou nom de mode de {@link FactoryCodeurBits#creer(String)}
+     * @return plan du mode demandé
+     * @throws IllegalArgumentException si {@code tableau} est {@code null}, si le mode est
+     *                                  inconnu ou s'il ne s'applique pas au tableau
+     */
+    public Plan evaluer(int[] tableau, String mode) {
+        if (tableau == null) throw new IllegalArgumentException("tableau null");
+        if (mode == null) throw new IllegalArgumentException("Mode null");
+        String m = mode.toLowerCase(Locale.ROOT);
+        int n = tableau.length;
+        if (BRUT.equals(m)) return brut(n);
+        int[] ecartMax = new int[1];
+        long minMax = CodeurAuto.minMaxEcart(tableau, ecartMax);
+        int k = OutilsBits.largeur(minMax, n);
+        long[] tailles = CodeurAuto.estimer(tableau, minMax, ecartMax[0]);
+        int numero = indexMode(m, tailles);
+        // vertical (non candidat, donc non estimé) : taille exacte d'après n et k
+        long taille = (numero == 3) ? CodeurVertical.taille(n, k) : tailles[numero];
+        if (taille == Long.MAX_VALUE) throw new IllegalArgumentException("Mode inapplicable: " + mode);
+        return plan(numero, n, k, taille);
+    }
+
+    // ---------------- modèle ----------------
+
+    /**
+     * Plan sans compression : un seul envoi de {@code 4n} octets.
+     *
+     * @param n nombre de valeurs
+     * @return plan brut
+     */
+    private Plan brut(int n) {
+        double tx = latenceUs + 4.0 * n / octetsParUs;
+        return new Plan(BRUT, n, 4L * n, tx, tx, tx - latenceUs);
+    }
+
+    /**
+     * Meilleur découpage pour un mode : un seul tampon, ou blocs de puissances de deux.
+     *
+     * @param mode   numéro de mode
+     * @param n      nombre de valeurs (&gt; 0)
+     * @param k      largeur du tableau entier
+     * @param taille taille estimée du tampon entier (ints)
+     * @return plan le plus court pour ce mode
+     */
+    private Plan plan(int mode, int n, int k, long taille) {
+        Calibration cal = calibration;
+        double brut = latenceUs + 4.0 * n / octetsParUs;
+        double c = (cal.fixeCompression[mode] + n * cal.compression[mode][k]) / 1000.0;
+        double d = (cal.fixeDecompression[mode] + n * cal.decompression[mode][k]) / 1000.0;
+        double t = 4.0 * taille / octetsParUs;
+        Plan meilleur = new Plan(FactoryCodeurBits.MODES[mode], n, 4L * taille,
+                c + latenceUs + t + d, brut, Math.max(c, Math.max(t, d)));
+
+        for (int bloc = Integer.highestOneBit(n - 1); bloc >= BLOC_MIN; bloc >>>= 1) {
+            int b = (n + bloc - 1) / bloc;
+            // chaque bloc en plus répète l'en-tête ; chaque trame porte sa longueur
+            long ints = taille + (long) (b - 1) * cal.entete[mode] + b;
+            double cb = cal.fixeCompression[mode] / 1000.0 + (c - cal.fixeCompression[mode] / 1000.0) / b;
+            double db = cal.fixeDecompression[mode] / 1000.0 + (d - cal.fixeDecompression[mode] / 1000.0) / b;
+            double tb = 4.0 * ints / b / octetsParUs;
+            double etage = Math.max(cb, Math.max(tb, db));
+            double duree = latenceUs + cb + tb + db + (b - 1) * etage;
+            if (duree < meilleur.dureeUs) {
+                meilleur = new Plan(FactoryCodeurBits.MODES[mode], bloc, 4L * ints, duree, brut, etage);
+            }
+        }
+        return meilleur;
+    }
+
+    /**
+     * Numéro d'un mode nommé ; "auto" donne le mode que {@link CodeurAuto} retiendrait.
+     *
+     * @param m       nom en minuscules
+     * @param tailles tailles estimées du tableau
+     * @return numéro de mode
+     * @throws IllegalArgumentException si le mode est inconnu
+     */
+    private static int indexMode(String m, long[] tailles) {
+        if ("auto".equals(m)) {
+            int retenu = CodeurAuto.CANDIDATS[0];
+            for (int mode : CodeurAuto.CANDIDATS) {
+                if (tailles[mode] < tailles[retenu]) retenu = mode;
+            }
+            return retenu;
+        }
+        for (int i = 0; i < FactoryCodeurBits.MODES.length; i++) {
+            if (FactoryCodeurBits.MODES[i].equals(m)) return i;
+        }
+        throw new IllegalArgumentException("Mode inconnu: " + m);
+    }
+
+    // ---------------- plan ----------------
+
+    /**
+     * Décision d'envoi d'un message. Durées estimées en microsecondes, de la première
+     * compression à la dernière décompression.
+     */
+    public static final class Plan {
+        private final String mode;
+        private final int tailleBloc;
+        private final long octets;
+        private final double dureeUs;
+        private final double dureeBruteUs;
+        private final double dureeBlocUs;
+
+        Plan(String mode, int tailleBloc, long octets, double dureeUs, double dureeBruteUs, double dureeBlocUs) {
+            this.mode = mode;
+            this.tailleBloc = tailleBloc;
+            this.octets = octets;
+            this.dureeUs = dureeUs;
+            this.dureeBruteUs = dureeBruteUs;
+            this.dureeBlocUs = dureeBlocUs;
+        }
+
+        /**
+         * Mode retenu : {@link #BRUT}, ou nom de {@link FactoryCodeurBits#creer(String)}.
+         *
+         * @return nom du mode
+         */
+        public String mode() {
+            return mode;
+        }
+
+        /**
+         * Vrai si le message part sans compression.
+         *
+         * @return vrai pour le plan brut
+         */
+        public boolean estBrut() {
+            return BRUT.equals(mode);
+        }
+
+        /**
+         * Valeurs par bloc ({@link FluxEcriture}) ; {@code n} pour un seul tampon.
+         *
+         * @return taille de bloc en valeurs
+         */
+        public int tailleBloc() {
+            return tailleBloc;
+        }
+
+        /**
+         * Octets estimés sur le lien (en-têtes et longueurs de trame compris).
+         *
+         * @return nombre d'octets
+         */
+        public long octets() {
+            return octets;
+        }
+
+        /**
+         * Durée estimée du plan.
+         *
+         * @return durée en microsecondes
+         */
+        public double dureeUs() {
+            return dureeUs;
+        }
+
+        /**
+         * Durée estimée d'un envoi brut du même message.
+         *
+         * @return durée en microsecondes
+         */
+        public double dureeBruteUs() {
+            return dureeBruteUs;
+        }
+
+        /**
+         * Durée d'un bloc : étage le plus lent (compression, envoi ou décompression d'un bloc),
+         * qui cadence le flux.
+         *
+         * @return durée en microsecondes
+         */
+        public double dureeBlocUs() {
+            return dureeBlocUs;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s, blocs de %d valeurs (%.1f µs), %d octets, %.1f µs (brut : %.1f µs)",
+                    mode, tailleBloc, dureeBlocUs, octets, dureeUs, dureeBruteUs);
+        }
+    }
+
+    // ---------------- calibration ----------------
+
+    /** Calibration partagée, mesurée au premier accès (initialisation paresseuse de la JVM). */
+    private static final class Partagee {
+        static final Calibration CALIBRATION = Calibration.mesurer();
+
+        /** Déclenche l'initialisation de la classe, donc la calibration. */
+        static void charger() {}
+    }
+
+    /** Coûts mesurés de chaque mode, en nanosecondes. */
+    static final class Calibration {
+        /** Coût par valeur, {@code [mode][k]}. */
+        final double[][] compression;
+        final double[][] decompression;
+        /** Coût fixe d'un appel, par mode. */
+        final double[] fixeCompression;
+        final double[] fixeDecompression;
+        /** Taille (ints) d'un tampon d'une valeur : en-tête répété par bloc. */
+        final int[] entete;
+
+        /** Évite l'élimination des appels mesurés. */
+        private static volatile int puits;
+
+        Calibration(double[][] compression, double[][] decompression,
+                    double[] fixeCompression, double[] fixeDecompression, int[] entete) {
+            this.compression = compression;
+            this.decompression = decompression;
+            this.fixeCompression = fixeCompression;
+            this.fixeDecompression = fixeDecompression;
+            this.entete = entete;
+        }
+
+        /**
+         * Mesure tous les modes aux largeurs de {@link #LARGEURS}, interpolées pour les autres.
+         *
+         * @return nouvelle calibration
+         */
+        static Calibration mesurer() {
+            int nbModes = FactoryCodeurBits.MODES.length;
+            double[][] comp = new double[nbModes][33];
+            double[][] dec = new double[nbModes][33];
+            double[] fixeC = new double[nbModes];
+            double[] fixeD = new double[nbModes];
+            int[] entete = new int[nbModes];
+
+            int[][] jeux = new int[33][];
+            int[][] tries = new int[33][];
+            Random r = new Random(1);
+            for (int k : LARGEURS) {
+                jeux[k] = new int[N_CALIBRATION];
+                for (int i = 0; i < N_CALIBRATION; i++) jeux[k][i] = r.nextInt() >>> (32 - k);
+                tries[k] = jeux[k].clone();
+                Arrays.sort(tries[k]);
+            }
+
+            // Par mode : [0, 1] = appels d'une valeur, puis compression / décompression par largeur
+            Runnable[][] operations = new Runnable[nbModes][2 + 2 * LARGEURS.length];
+            int[] un = {0};
+            for (int mode = 0; mode < nbModes; mode++) {
+                CodeurBits codeur = FactoryCodeurBits.pourMode(mode);
+                int[][] donnees = (mode == 8) ? tries : jeux;
+                int[] petit = codeur.compresser(un);
+                entete[mode] = petit.length;
+                operations[mode][0] = () -> puits += codeur.compresser(un).length;
+                operations[mode][1] = () -> puits += codeur.decompresser(petit).length;
+                for (int j = 0; j < LARGEURS.length; j++) {
+                    int[] t = donnees[LARGEURS[j]];
+                    int[] c = codeur.compresser(t);
+                    operations[mode][2 + 2 * j] = () -> puits += codeur.compresser(t).length;
+                    operations[mode][3 + 2 * j] = () -> puits += codeur.decompresser(c).length;
+                }
+            }
+
+            chauffer(operations);
+            for (int mode = 0; mode < nbModes; mode++) {
+                fixeC[mode] = medianeNs(operations[mode][0]);
+                fixeD[mode] = medianeNs(operations[mode][1]);
+                for (int j = 0; j < LARGEURS.length; j++) {
+                    int k = LARGEURS[j];
+                    comp[mode][k] = Math.max(0, medianeNs(operations[mode][2 + 2 * j]) - fixeC[mode]) / N_CALIBRATION;
+                    dec[mode][k] = Math.max(0, medianeNs(operations[mode][3 + 2 * j]) - fixeD[mode]) / N_CALIBRATION;
+                }
+                interpoler(comp[mode]);
+                interpoler(dec[mode]);
+            }
+            return new Calibration(comp, dec, fixeC, fixeD, entete);
+        }
+
+        /**
+         * Complète les largeurs non mesurées par interpolation linéaire entre deux mesurées.
+         *
+         * @param couts coûts par largeur, remplis aux indices de {@link #LARGEURS}
+         */
+        private static void interpoler(double[] couts) {
+            for (int j = 1; j < LARGEURS.length; j++) {
+                int a = LARGEURS[j - 1], b = LARGEURS[j];
+                for (int k = a + 1; k < b; k++) {
+                    couts[k] = couts[a] + (couts[b] - couts[a]) * (k - a) / (b - a);
+                }
+            }
+        }
+
+        /**
+         * Exécute toutes les opérations à tour de rôle jusqu'à ce que le code mesuré soit
+         * compilé : {@value PlanificateurTransmission#TOURS_STABLES} tours consécutifs sans
+         * compilation JIT et de durées à moins de 5 % l'une de l'autre, ou
+         * {@link #CHAUFFE_NS} écoulées. Les premières exécutions (interprétées, puis compilées
+         * sans optimisation) sont plusieurs fois plus lentes que le régime établi.
+         *
+         * @param operations opérations mesurées ensuite
+         */
+        private static void chauffer(Runnable[][] operations) {
+            CompilationMXBean jit = ManagementFactory.getCompilationMXBean();
+            boolean suivi = jit != null && jit.isCompilationTimeMonitoringSupported();
+            long limite = System.nanoTime() + CHAUFFE_NS;
+            long precedent = Long.MAX_VALUE;
+            int stables = 0;
+            while (stables < TOURS_STABLES && System.nanoTime() < limite) {
+                long compilation = suivi ? jit.getTotalCompilationTime() : 0;
+                long t0 = System.nanoTime();
+                for (Runnable[] ops : operations) {
+                    for (Runnable op : ops) op.run();
+                }
+                long tour = System.nanoTime() - t0;
+                boolean repos = !suivi || jit.getTotalCompilationTime() == compilation;
+                stables = (repos && Math.abs(tour - precedent) <= ECART_STABLE * precedent) ? stables + 1 : 0;
+                precedent = tour;
+            }
+        }
+
+        /**
+         * Médiane de {@value PlanificateurTransmission#REPETITIONS} exécutions.
+         *
+         * @param tache opération mesurée
+         * @return durée en nanosecondes
+         */
+        private static double medianeNs(Runnable tache) {
+            long[] durees = new long[REPETITIONS];
+            for (int i = 0; i < REPETITIONS; i++) {
+                long t0 = System.nanoTime();
+                tache.run();
+                durees[i] = System.nanoTime() - t0;
+            }
+            Arrays.sort(durees);
+            return durees[REPETITIONS / 2];
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package codagebits;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Requêtes évaluées directement sur un tampon compressé, sans le décompresser.
+ * <p>
+ * Modes pris en charge : sans chevauchement et avec chevauchement. Le prédicat est
+ * d'abord traduit dans le domaine décalé ({@code u = v + offset}, entier non signé de
+ * {@code k} bits), puis évalué sur plusieurs voies à la fois (SWAR) : chaque {@code long}
+ * traité porte deux demi-mots de {@code floor(32/k)} voies, lus tels quels (sans
+ * chevauchement) ou extraits du flux continu (avec chevauchement). Les comparaisons
+ * voie à voie se font sans bit de garde, par soustraction sans retenue entre voies ;
+ * le résultat est un bit par voie (le bit de poids fort), compté par {@link Long#bitCount(long)}
+ * ou rassemblé en bitmap par {@link Long#compress(long, long)}.
+ * </p>
+ * <p>
+ * Agrégats : la somme compte les bits de chaque rang de toutes les voies (k ≤ 8) ou
+ * additionne les voies extraites ; min et max gardent un vecteur de voies mis à jour
+ * par sélection sans branche, réduit à la fin. Aucune méthode n'alloue de {@code int[]}.
+ * </p>
+ */
+public final class ScanCompresse {
+
+    // En-tête commun aux deux modes : [0]=n, [1]=k, [2]=flag (0 ou 1), [3]=offset
+    private static final int ENTETE = 4;
+    /** Largeur maximale pour la somme par plans de bits. */
+    private static final int K_PLANS = 8;
+
+    private ScanCompresse() {}
+
+    /**
+     * Nombre de valeurs {@code v} telles que {@code a ≤ v ≤ b}.
+     *
+     * @param tampon tampon compressé (sans ou avec chevauchement)
+     * @param a      borne basse (incluse)
+     * @param b      borne haute (incluse)
+     * @return nombre de valeurs dans l'intervalle
+     * @throws IllegalArgumentException si le tampon est invalide ou d'un autre mode
+     */
+    public static int compter(int[] tampon, int a, int b) {
+        Voies v = new Voies(tampon);
+        long lo = Math.max(0, v.decale(a)), hi = Math.min(v.masque, v.decale(b));
+        if (lo > hi) return 0;
+        long bas = lo * v.bas, haut = hi * v.bas;
+        int total = 0;
+        for (int p = 0; p < v.pleines; p++) {
+            total += Long.bitCount(dans(v.paire(p), bas, haut, v.hauts));
+        }
+        if (v.reste > 0) total += Long.bitCount(dans(v.paire(v.pleines), bas, haut, v.hautsFin));
+        return total;
+    }
+
+    /**
+     * Nombre de valeurs égales à {@code x}.
+     *
+     * @param tampon tampon compressé (sans ou avec chevauchement)
+     * @param x      valeur cherchée
+     * @return nombre d'occurrences
+     * @throws IllegalArgumentException si le tampon est invalide ou d'un autre mode
+     */
+    public static int compterEgal(int[] tampon, int x) {
+        return compter(tampon, x, x);
+    }
+
+    /**
+     * Bitmap des index {@code i} tels que {@code a ≤ v[i] ≤ b} : bit {@code i & 63}
+     * du mot {@code i >>> 6}.
+     *
+     * @param tampon tampon compressé (sans ou avec chevauchement)
+     * @param a      borne basse (incluse)
+     * @param b      borne haute (incluse)
+     * @return nouvelle bitmap de {@code ceil(n/64)} mots
+     * @throws IllegalArgumentException si le tampon est invalide ou d'un autre mode
+     */
+    public static long[] filtrer(int[] tampon, int a, int b) {
+        long[] bitmap = new long[(taille(tampon) + 63) >>> 6];
+        filtrer(tampon, a, b, bitmap);
+        return bitmap;
+    }
+
+    /**
+     * Comme {@link #filtrer(int[], int, int)}, dans une bitmap fournie (ses
+     * {@code ceil(n/64)} premiers mots sont écrasés, les suivants ne sont pas touchés).
+     *
+     * @param tampon tampon compressé (sans ou avec chevauchement)
+     * @param a      borne basse (incluse)
+     * @param b      borne haute (incluse)
+     * @param bitmap destination
+     * @return nombre de bits posés
+     * @throws IllegalArgumentException  si le tampon est invalide ou d'un autre mode
+     * @throws IndexOutOfBoundsException si {@code bitmap} a moins de {@code ceil(n/64)} mots
+     */
+    public static int filtrer(int[] tampon, int a, int b, long[] bitmap) {
+        Voies v = new Voies(tampon);
+        int nbMots = (v.n + 63) >>> 6;
+        if (bitmap.length < nbMots) throw new IndexOutOfBoundsException("bitmap trop courte");
+        Arrays.fill(bitmap, 0, nbMots, 0L);
+        long lo = Math.max(0, v.decale(a)), hi = Math.min(v.masque, v.decale(b));
+        if (lo > hi) return 0;
+        long bas = lo * v.bas, haut = hi * v.bas;
+        int total = 0;
+        for (int p = 0; p <= v.pleines; p++) {
+            long hauts = (p < v.pleines) ? v.hauts : v.hautsFin;
+            if (hauts == 0) break;
+            long bits = Long.compress(dans(v.paire(p), bas, haut, hauts), v.hauts);
+            if (bits == 0) continue;
+            total += Long.bitCount(bits);
+            long debut = (long) p * v.parPaire;
+            int mot = (int) (debut >>> 6), s = (int) (debut & 63);
+            bitmap[mot] |= bits << s;
+            if (s != 0 && bits >>> (64 - s) != 0) bitmap[mot + 1] |= bits >>> (64 - s);
+        }
+        return total;
+    }
+
+    /**
+     * Somme des valeurs (arithmétique {@code long}).
+     *
+     * @param tampon tampon compressé (sans ou avec chevauchement)
+     * @return somme des valeurs d'origine
+     * @throws IllegalArgumentException si le tampon est invalide ou d'un autre mode
+     */
+    public static long somme(int[] tampon) {
+        Voies v = new Voies(tampon);
+        long s = 0;
+        for (int p = 0; p < v.pleines; p++) s += v.sommer(v.paire(p));
+        if (v.reste > 0) s += v.sommer(v.paire(v.pleines) & v.remplir(v.hautsFin));
+        return s - (long) v.n * Integer.toUnsignedLong(v.offset);
+    }
+
+    /**
+     * Plus petite valeur.
+     *
+     * @param tampon tampon compressé (sans ou avec chevauchement)
+     * @return minimum des valeurs d'origine
+     * @throws IllegalArgumentException si le tampon est invalide ou d'un autre mode
+     * @throws NoSuchElementException   si le tableau est vide
+     */
+    public static int min(int[] tampon) {
+        return extremum(tampon, false);
+    }
+
+    /**
+     * Plus grande valeur.
+     *
+     * @param tampon tampon compressé (sans ou avec chevauchement)
+     * @return maximum des valeurs d'origine
+     * @throws IllegalArgumentException si le tampon est invalide ou d'un autre mode
+     * @throws NoSuchElementException   si le tableau est vide
+     */
+    public static int max(int[] tampon) {
+        return extremum(tampon, true);
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Minimum ou maximum par vecteur de voies : chaque paire met à jour les voies où elle
+     * est plus petite (ou plus grande), puis les voies du vecteur sont réduites.
+     *
+     * @param tampon tampon compressé
+     * @param max    {@code true} pour le maximum
+     * @return extremum des valeurs d'origine
+     */
+    private static int extremum(int[] tampon, boolean max) {
+        Voies v = new Voies(tampon);
+        if (v.n == 0) throw new NoSuchElementException("tableau vide");
+        long tout = v.remplir(v.hauts);
+        long m = max ? 0L : tout;
+        for (int p = 0; p <= v.pleines; p++) {
+            long x;
+            if (p < v.pleines) {
+                x = v.paire(p);
+            } else {
+                if (v.reste == 0) break;
+                long valides = v.remplir(v.hautsFin);
+                x = max ? v.paire(p) & valides : v.paire(p) | (tout & ~valides);
+            }
+            long choix = v.remplir(max ? inferieur(m, x, v.hauts) : inferieur(x, m, v.hauts));
+            m = (x & choix) | (m & ~choix);
+        }
+        long meilleur = max ? 0L : v.masque;
+        for (int h = 0; h < 64; h += 32) {
+            for (int j = 0, pos = h; j < v.parDemi; j++, pos += v.k) {
+                long u = (m >>> pos) & v.masque;
+                meilleur = max ? Math.max(meilleur, u) : Math.min(meilleur, u);
+            }
+        }
+        return (int) meilleur - v.offset;
+    }
+
+    /**
+     * Voies dont la valeur est dans {@code [bas, haut]} (bornes diffusées dans chaque voie).
+     *
+     * @param x     voies lues
+     * @param bas   borne basse diffusée
+     * @param haut  borne haute diffusée
+     * @param hauts bits de poids fort des voies à évaluer
+     * @return bit de poids fort posé pour chaque voie retenue
+     */
+    private static long dans(long x, long bas, long haut, long hauts) {
+        return ~inferieur(x, bas, hauts) & ~inferieur(haut, x, hauts) & hauts;
+    }
+
+    /**
+     * Comparaison non signée voie à voie {@code x < y}, sans bit de garde : la soustraction
+     * est faite bit de poids fort forcé (aucune retenue ne sort d'une voie), puis l'emprunt
+     * sortant de chaque voie est reconstitué à partir des bits de poids fort.
+     *
+     * @param x     voies de gauche
+     * @param y     voies de droite
+     * @param hauts bits de poids fort des voies
+     * @return bit de poids fort posé pour chaque voie où {@code x < y}
+     */
+    private static long inferieur(long x, long y, long hauts) {
+        long d = ((x | hauts) - (y & ~hauts)) ^ ((x ^ ~y) & hauts);
+        return ((~x & y) | (~(x ^ y) & d)) & hauts;
+    }
+
+    /**
+     * Lit n dans l'en-tête après validation.
+     *
+     * @param tampon tampon compressé
+     * @return nombre de valeurs
+     */
+    private static int taille(int[] tampon) {
+        return new Voies(tampon).n;
+    }
+
+    /**
+     * Découpage d'un tampon en paires de demi-mots de {@code floor(32/k)} voies chacun.
+     * <p>
+     * La paire {@code p} porte les valeurs {@code [p*parPaire, (p+1)*parPaire[}, dans
+     * l'ordre des index : voies du demi-mot bas puis du demi-mot haut.
+     * </p>
+     */
+    private static final class Voies {
+
+        final int[] tampon;
+        final int n, k, offset;
+        final boolean avec;
+        /** Voies par demi-mot et par paire. */
+        final int parDemi, parPaire;
+        /** Paires complètes et valeurs de la paire incomplète. */
+        final int pleines, reste;
+        /** Masque de {@code k} bits. */
+        final long masque;
+        /** Bits de poids faible, de poids fort des voies d'une paire, et de poids fort des voies de la dernière paire. */
+        final long bas, hauts, hautsFin;
+        /** Bits utiles d'un demi-mot, et d'une paire. */
+        private final long demi, utiles;
+
+        /**
+         * Lit et vérifie l'en-tête.
+         *
+         * @param tampon tampon compressé
+         * @throws IllegalArgumentException si le tampon est invalide, tronqué ou d'un autre mode
+         */
+        Voies(int[] tampon) {
+            if (tampon == null || tampon.length < ENTETE + 1) throw new IllegalArgumentException("tampon invalide");
+            int flag = OutilsBits.mode(tampon);
+            if (flag != 0 && flag != 1) throw new IllegalArgumentException("mode non pris en charge: " + flag);
+            this.tampon = tampon;
+            this.n = tampon[0];
+            this.k = tampon[1];
+            this.offset = tampon[3];
+            this.avec = flag == 1;
+            if (n < 0 || k < 1 || k > 32) throw new IllegalArgumentException("tampon invalide");
+            this.parDemi = 32 / k;
+            this.parPaire = 2 * parDemi;
+            long donnees = avec ? ((long) n * k + 31) >>> 5 : ((long) n + parDemi - 1) / parDemi;
+            if (ENTETE + donnees > tampon.length) throw new IllegalArgumentException("tampon tronqué");
+            this.pleines = n / parPaire;
+            this.reste = n % parPaire;
+            this.masque = OutilsBits.masque(k) & 0xFFFFFFFFL;
+            this.demi = OutilsBits.masque(parDemi * k) & 0xFFFFFFFFL;
+            this.utiles = demi | (demi << 32);
+            long b = 0, fin = 0;
+            for (int i = 0; i < parPaire; i++) {
+                long bit = 1L << ((i / parDemi) * 32 + (i % parDemi) * k);
+                b |= bit;
+                if (i < reste) fin |= bit;
+            }
+            this.bas = b;
+            this.hauts = b << (k - 1);
+            this.hautsFin = fin << (k - 1);
+        }
+
+        /**
+         * Traduit une valeur dans le domaine décalé, sans troncature.
+         *
+         * @param v valeur d'origine
+         * @return {@code v + offset} (peut sortir de {@code [0, 2^k[})
+         */
+        long decale(int v) {
+            return v + Integer.toUnsignedLong(offset);
+        }
+
+        /**
+         * Charge la paire {@code p} : deux demi-mots de {@link #parDemi} voies.
+         *
+         * @param p index de paire
+         * @return voies de la paire (bits hors voies nuls)
+         */
+        long paire(int p) {
+            if (avec) {
+                long bit = ((long) ENTETE << 5) + (long) p * parPaire * k;
+                return fenetre(bit) | (fenetre(bit + (long) parDemi * k) << 32);
+            }
+            int mot = ENTETE + 2 * p;
+            long hi = (mot + 1 < tampon.length) ? tampon[mot + 1] : 0;
+            return ((tampon[mot] & 0xFFFFFFFFL) | (hi << 32)) & utiles;
+        }
+
+        /**
+         * Lit {@link #parDemi} voies du flux continu à partir de la position {@code bit}.
+         *
+         * @param bit position du premier bit
+         * @return voies lues, alignées sur le bit 0 (0 au-delà du tampon)
+         */
+        private long fenetre(long bit) {
+            int mot = (int) (bit >>> 5);
+            if (mot >= tampon.length) return 0;
+            long hi = (mot + 1 < tampon.length) ? tampon[mot + 1] & 0xFFFFFFFFL : 0;
+            return (((tampon[mot] & 0xFFFFFFFFL) | (hi << 32)) >>> (bit & 31)) & demi;
+        }
+
+        /**
+         * Étend un masque de bits de poids fort à toutes les voies concernées.
+         *
+         * @param h bits de poids fort
+         * @return bits des voies correspondantes
+         */
+        long remplir(long h) {
+            return h | (h - (h >>> (k - 1)));
+        }
+
+        /**
+         * Somme des voies d'une paire (voies hors tableau déjà à zéro).
+         *
+         * @param x voies
+         * @return somme des valeurs décalées
+         */
+        long sommer(long x) {
+            long s = 0;
+            if (k <= K_PLANS) {
+                for (int r = 0; r < k; r++) s += (long) Long.bitCount(x & (bas << r)) << r;
+                return s;
+            }
+            for (int h = 0; h < 64; h += 32) {
+                for (int j = 0, pos = h; j < parDemi; j++, pos += k) s += (x >>> pos) & masque;
+            }
+            return s;
+        }
+    }
+}
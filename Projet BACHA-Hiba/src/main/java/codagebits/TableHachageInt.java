@@ -0,0 +1,130 @@
+package codagebits;
+
+import java.util.Arrays;
+
+/**
+ * Table de hachage {@code int → int} à adressage ouvert, sans objet par entrée.
+ * <p>
+ * Sondage linéaire dans deux tableaux parallèles de taille puissance de 2, hachage de
+ * Fibonacci ({@code cle * 0x9E3779B9 >>> decalage}), taux de remplissage au plus 1/2.
+ * Les valeurs sont positives ou nulles : {@value #VIDE} marque une case libre.
+ * Non synchronisée.
+ * </p>
+ */
+final class TableHachageInt {
+
+    /** Valeur d'une case libre (et résultat d'une clé absente). */
+    static final int VIDE = -1;
+
+    private int[] cles;
+    private int[] valeurs;
+    private int taille;
+    /** {@code 32 - log2(capacité)}. */
+    private int decalage;
+
+    /**
+     * Table vide dimensionnée pour {@code attendu} clés sans redimensionnement.
+     *
+     * @param attendu nombre de clés prévu (au moins 0)
+     */
+    TableHachageInt(int attendu) {
+        int bits = 32 - Integer.numberOfLeadingZeros(Math.min(Math.max(1, attendu), 1 << 29) * 2 - 1);
+        allouer(Math.max(4, bits));
+    }
+
+    /**
+     * Nombre de clés présentes.
+     *
+     * @return taille
+     */
+    int taille() {
+        return taille;
+    }
+
+    /**
+     * Valeur associée à {@code cle}.
+     *
+     * @param cle clé cherchée
+     * @return valeur, ou {@value #VIDE} si la clé est absente
+     */
+    int obtenir(int cle) {
+        int m = cles.length - 1;
+        for (int i = position(cle); ; i = (i + 1) & m) {
+            int v = valeurs[i];
+            if (v == VIDE || cles[i] == cle) return v;
+        }
+    }
+
+    /**
+     * Ajoute {@code cle → valeur} si la clé est absente.
+     *
+     * @param cle    clé
+     * @param valeur valeur (≥ 0)
+     * @return {@code true} si la clé a été ajoutée, {@code false} si elle était déjà présente
+     */
+    boolean ajouter(int cle, int valeur) {
+        int m = cles.length - 1;
+        int i = position(cle);
+        for (; valeurs[i] != VIDE; i = (i + 1) & m) {
+            if (cles[i] == cle) return false;
+        }
+        cles[i] = cle;
+        valeurs[i] = valeur;
+        if (++taille * 2 > cles.length) agrandir();
+        return true;
+    }
+
+    /**
+     * Associe {@code valeur} à {@code cle}, que la clé soit présente ou non.
+     *
+     * @param cle    clé
+     * @param valeur valeur (≥ 0)
+     */
+    void mettre(int cle, int valeur) {
+        int m = cles.length - 1;
+        int i = position(cle);
+        for (; valeurs[i] != VIDE; i = (i + 1) & m) {
+            if (cles[i] == cle) {
+                valeurs[i] = valeur;
+                return;
+            }
+        }
+        cles[i] = cle;
+        valeurs[i] = valeur;
+        if (++taille * 2 > cles.length) agrandir();
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Case de départ du sondage.
+     *
+     * @param cle clé
+     * @return index dans {@code [0, capacité[}
+     */
+    private int position(int cle) {
+        return (cle * 0x9E3779B9) >>> decalage;
+    }
+
+    /**
+     * Alloue des tableaux vides de {@code 2^bits} cases.
+     *
+     * @param bits log2 de la capacité
+     */
+    private void allouer(int bits) {
+        cles = new int[1 << bits];
+        valeurs = new int[1 << bits];
+        Arrays.fill(valeurs, VIDE);
+        decalage = 32 - bits;
+        taille = 0;
+    }
+
+    /** Double la capacité et réinsère toutes les entrées. */
+    private void agrandir() {
+        int[] anciennesCles = cles, anciennesValeurs = valeurs;
+        allouer(33 - decalage);
+        for (int i = 0; i < anciennesCles.length; i++) {
+            if (anciennesValeurs[i] != VIDE) mettre(anciennesCles[i], anciennesValeurs[i]);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package codagebits;
+
+/**
+ * Tableau compressé immuable, produit par {@link CodeurBits#compresserTableau(int[])}
+ * ou {@link CodeurBits#ouvrir(int[])}.
+ * <p>
+ * Le tableau possède son propre tampon et son en-tête déjà lu (champs {@code final}) :
+ * aucune méthode ne le modifie. Il peut donc être partagé sans verrou ni copie entre
+ * autant de threads que nécessaire, indépendamment du codeur qui l'a produit.
+ * </p>
+ */
+public interface TableauCompresse {
+
+    /**
+     * Nombre d'éléments logiques.
+     *
+     * @return taille du tableau d'origine
+     */
+    int taille();
+
+    /**
+     * Accède à l'élément {@code index} sans décompresser le reste.
+     *
+     * @param index position logique (0 ≤ index &lt; taille())
+     * @return valeur d'origine
+     * @throws IndexOutOfBoundsException si l'index est hors bornes
+     */
+    int acceder(int index);
+
+    /**
+     * Décode la plage {@code [debut, fin[} dans {@code dst} à partir de {@code dstOff}, sans allocation.
+     *
+     * @param debut  premier index logique (inclus)
+     * @param fin    dernier index logique (exclu)
+     * @param dst    tableau de destination
+     * @param dstOff position d'écriture dans {@code dst}
+     * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+     */
+    void accederPlage(int debut, int fin, int[] dst, int dstOff);
+
+    /**
+     * Vrai si le tableau d'origine était trié en ordre croissant (bit de l'en-tête posé
+     * à la compression).
+     *
+     * @return {@code true} si le tableau est trié
+     */
+    default boolean estTrie() {
+        return false;
+    }
+
+    /**
+     * Première position dont la valeur est supérieure ou égale à {@code valeur}, en O(log n).
+     *
+     * @param valeur valeur cherchée
+     * @return index dans {@code [0, taille()]} ({@code taille()} si toutes les valeurs sont plus petites)
+     * @throws IllegalStateException si le tableau n'est pas trié ({@link #estTrie()})
+     */
+    default int borneInferieure(int valeur) {
+        if (!estTrie()) throw new IllegalStateException("tableau non trié");
+        int bas = 0, haut = taille();
+        while (bas < haut) {
+            int milieu = (bas + haut) >>> 1;
+            if (acceder(milieu) < valeur) bas = milieu + 1;
+            else haut = milieu;
+        }
+        return bas;
+    }
+
+    /**
+     * Position de la première occurrence de {@code valeur} : dichotomie si le tableau
+     * est trié, sinon parcours par plages décodées.
+     *
+     * @param valeur valeur cherchée
+     * @return index de la première occurrence, ou -1 si absente
+     */
+    default int rechercher(int valeur) {
+        int n = taille();
+        if (estTrie()) {
+            int i = borneInferieure(valeur);
+            return (i < n && acceder(i) == valeur) ? i : -1;
+        }
+        int[] lot = new int[Math.min(n, 256)];
+        for (int debut = 0; debut < n; debut += lot.length) {
+            int fin = Math.min(n, debut + lot.length);
+            accederPlage(debut, fin, lot, 0);
+            for (int i = debut; i < fin; i++) {
+                if (lot[i - debut] == valeur) return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Copie du tampon compressé (en-tête inclus), au format de {@link CodeurBits#compresser(int[])}.
+     *
+     * @return nouvelle copie du tampon
+     */
+    int[] tampon();
+
+    /**
+     * Décompresse l'ensemble du tableau.
+     *
+     * @return nouveau tableau d'origine
+     */
+    default int[] decompresser() {
+        int[] out = new int[taille()];
+        accederPlage(0, out.length, out, 0);
+        return out;
+    }
+}
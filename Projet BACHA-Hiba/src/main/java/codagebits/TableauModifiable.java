@@ -0,0 +1,258 @@
+package codagebits;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Tableau compressé modifiable, au format "avec chevauchement".
+ * <p>
+ * Le tampon garde l'en-tête et le flux de {@link CodeurAvecChev} (même {@code k}, même
+ * offset pour toutes les valeurs), suivi d'une capacité libre à zéro.
+ * {@link #modifier(int, int)} et {@link #ajouter(int)} écrivent les {@code k} bits de la
+ * valeur en place ({@link OutilsBits#ecrireBits(int[], long, int, int)}) tant qu'elle tient
+ * dans {@code [-offset, 2^k - 1 - offset]}. Sinon, le tableau est réempaqueté une fois,
+ * groupe par groupe, avec la largeur et l'offset qui couvrent la nouvelle valeur ;
+ * la capacité double quand elle est atteinte (ajout en O(1) amorti).
+ * </p>
+ * <p>
+ * {@link #tampon()} renvoie un tampon avec chevauchement ordinaire (sans bit « trié »),
+ * lisible par {@link CodeurAvecChev} et les autres outils du paquetage ; {@code k} et
+ * l'offset peuvent y être plus larges que ceux d'une compression complète.
+ * Non synchronisé : un seul thread à la fois, ou {@link #figer()} pour partager.
+ * </p>
+ */
+public final class TableauModifiable {
+
+    // En-tête : [0]=n, [1]=k, [2]=flags(1), [3]=offset
+    private static final int ENTETE = 4;
+    private static final int FLAG = 1;
+    /** Capacité initiale d'un tableau vide. */
+    private static final int CAPACITE_MIN = 64;
+
+    /** En-tête tenu à jour + flux + capacité libre (bits à zéro). */
+    private int[] tampon;
+    private int n, k, offset;
+    /** Nombre de valeurs que le tampon peut contenir à la largeur {@code k}. */
+    private int capacite;
+
+    /** Tableau vide ({@code k = 1}, offset 0). */
+    public TableauModifiable() {
+        this.k = 1;
+        this.capacite = CAPACITE_MIN;
+        this.tampon = new int[ENTETE + dataInts(capacite, k)];
+        ecrireEntete();
+    }
+
+    /**
+     * Reprend une copie d'un tampon "avec chevauchement".
+     *
+     * @param compresse tampon produit par {@link CodeurAvecChev#compresser(int[])} (non retenu)
+     * @throws NullPointerException     si {@code compresse} est {@code null}
+     * @throws IllegalArgumentException si le tampon n'est pas au format avec chevauchement
+     */
+    public TableauModifiable(int[] compresse) {
+        Objects.requireNonNull(compresse, "compresse");
+        if (compresse.length <= ENTETE) throw new IllegalArgumentException("tampon invalide");
+        if (OutilsBits.mode(compresse) != FLAG) throw new IllegalArgumentException("mode non pris en charge: " + OutilsBits.mode(compresse));
+        this.n = compresse[0];
+        this.k = compresse[1];
+        this.offset = compresse[3];
+        if (n < 0 || k < 1 || k > 32) throw new IllegalArgumentException("tampon invalide");
+        int utiles = ENTETE + dataInts(n, k);
+        if (utiles > compresse.length) throw new IllegalArgumentException("tampon tronqué");
+        this.capacite = Math.max(n, CAPACITE_MIN);
+        this.tampon = Arrays.copyOf(compresse, Math.max(utiles, ENTETE + dataInts(capacite, k)));
+        Arrays.fill(tampon, utiles, tampon.length, 0);
+        // bits au-delà de la dernière valeur : à zéro, comme la capacité libre
+        int reste = (int) (((long) n * k) & 31);
+        if (reste != 0) tampon[utiles - 1] &= OutilsBits.masque(reste);
+        ecrireEntete();
+    }
+
+    /**
+     * Nombre de valeurs.
+     *
+     * @return taille logique
+     */
+    public int taille() {
+        return n;
+    }
+
+    /**
+     * Bits par valeur actuels.
+     *
+     * @return largeur {@code k}
+     */
+    public int largeur() {
+        return k;
+    }
+
+    /**
+     * Lit la valeur à {@code index}.
+     *
+     * @param index position (0 ≤ index &lt; taille())
+     * @return valeur
+     * @throws IndexOutOfBoundsException si l'index est hors bornes
+     */
+    public int acceder(int index) {
+        Objects.checkIndex(index, n);
+        return OutilsBits.lireBits(tampon, debutBits(index), k) - offset;
+    }
+
+    /**
+     * Décode la plage {@code [debut, fin[} dans {@code dst}, sans allocation de tableau.
+     *
+     * @param debut  premier index (inclus)
+     * @param fin    dernier index (exclu)
+     * @param dst    destination
+     * @param dstOff position d'écriture
+     * @throws IndexOutOfBoundsException si la plage ou la destination est hors bornes
+     */
+    public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+        new CodeurAvecChev.Tableau(tampon).accederPlage(debut, fin, dst, dstOff);
+    }
+
+    /**
+     * Remplace la valeur à {@code index} : écriture en place si elle tient dans la largeur
+     * et l'offset actuels, sinon réempaquetage puis écriture.
+     *
+     * @param index  position (0 ≤ index &lt; taille())
+     * @param valeur nouvelle valeur
+     * @throws IndexOutOfBoundsException si l'index est hors bornes
+     */
+    public void modifier(int index, int valeur) {
+        Objects.checkIndex(index, n);
+        if (!tient(valeur)) elargir(valeur, capacite);
+        OutilsBits.ecrireBits(tampon, debutBits(index), k, valeur + offset);
+    }
+
+    /**
+     * Ajoute une valeur en fin de tableau (O(1) amorti).
+     *
+     * @param valeur valeur ajoutée
+     * @throws IllegalStateException si le tableau contient déjà {@code Integer.MAX_VALUE} valeurs
+     */
+    public void ajouter(int valeur) {
+        if (n == capacite) {
+            if (n == Integer.MAX_VALUE) throw new IllegalStateException("tableau plein");
+            int nouvelle = (int) Math.min(Integer.MAX_VALUE, 2L * capacite);
+            if (tient(valeur)) {
+                tampon = Arrays.copyOf(tampon, ENTETE + dataInts(nouvelle, k));
+                capacite = nouvelle;
+            } else {
+                elargir(valeur, nouvelle);
+            }
+        } else if (!tient(valeur)) {
+            elargir(valeur, capacite);
+        }
+        OutilsBits.ecrireBits(tampon, debutBits(n), k, valeur + offset);
+        tampon[0] = ++n;
+    }
+
+    /**
+     * Copie au format {@link CodeurAvecChev} (sans la capacité libre).
+     *
+     * @return nouveau tampon compressé
+     */
+    public int[] tampon() {
+        return Arrays.copyOf(tampon, ENTETE + dataInts(n, k));
+    }
+
+    /**
+     * Instantané immuable de l'état courant, partageable entre threads.
+     *
+     * @return tableau compressé indépendant des modifications suivantes
+     */
+    public TableauCompresse figer() {
+        return new CodeurAvecChev.Tableau(tampon());
+    }
+
+    /**
+     * Décompresse l'ensemble du tableau.
+     *
+     * @return nouveau tableau des valeurs
+     */
+    public int[] decompresser() {
+        int[] out = new int[n];
+        accederPlage(0, n, out, 0);
+        return out;
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Vrai si {@code valeur + offset} tient sur {@code k} bits non signés.
+     *
+     * @param valeur valeur à écrire
+     * @return {@code true} si l'écriture en place est possible
+     */
+    private boolean tient(int valeur) {
+        long u = valeur + Integer.toUnsignedLong(offset);
+        return u >= 0 && u <= (OutilsBits.masque(k) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Réempaquette les {@code n} valeurs avec la plus petite largeur et le plus petit offset
+     * (jamais réduits) qui couvrent à la fois l'intervalle actuel et {@code valeur}, en une
+     * passe : chaque groupe de {@value NoyauxBits#GROUPE} valeurs est dépaqueté à l'ancienne
+     * largeur (avec l'écart d'offset ajouté) puis empaqueté à la nouvelle.
+     *
+     * @param valeur    valeur qui ne tient pas
+     * @param nouvelle  capacité du nouveau tampon (au moins {@code n})
+     */
+    private void elargir(int valeur, int nouvelle) {
+        long ancienOffset = Integer.toUnsignedLong(offset);
+        long nouvelOffset = Math.max(ancienOffset, -(long) valeur);
+        long haut = Math.max(Math.min(Integer.MAX_VALUE, (OutilsBits.masque(k) & 0xFFFFFFFFL) - ancienOffset), valeur);
+        int k2 = Math.max(k, 64 - Long.numberOfLeadingZeros(haut + nouvelOffset));
+        int ecart = (int) (nouvelOffset - ancienOffset);
+
+        int[] nouveau = new int[ENTETE + dataInts(nouvelle, k2)];
+        NoyauxBits.Noyau lecture = NoyauxBits.pour(k), ecriture = NoyauxBits.pour(k2);
+        int[] lot = new int[NoyauxBits.GROUPE];
+        int i = 0;
+        for (; n - i >= NoyauxBits.GROUPE; i += NoyauxBits.GROUPE) {
+            int groupe = i / NoyauxBits.GROUPE;
+            lecture.depaqueter(tampon, ENTETE + groupe * k, lot, 0, ecart);
+            ecriture.empaqueter(lot, 0, 0, nouveau, ENTETE + groupe * k2);
+        }
+        for (; i < n; i++) {
+            int u = OutilsBits.lireBits(tampon, debutBits(i), k) + ecart;
+            OutilsBits.ecrireBits(nouveau, ((long) ENTETE << 5) + (long) i * k2, k2, u);
+        }
+        this.tampon = nouveau;
+        this.k = k2;
+        this.offset = (int) nouvelOffset;
+        this.capacite = nouvelle;
+        ecrireEntete();
+    }
+
+    /**
+     * Position en bits de la valeur {@code index} à la largeur courante.
+     *
+     * @param index position logique
+     * @return index de bit dans le tampon
+     */
+    private long debutBits(int index) {
+        return ((long) ENTETE << 5) + (long) index * k;
+    }
+
+    /** Recopie n, k et offset dans l'en-tête du tampon. */
+    private void ecrireEntete() {
+        tampon[0] = n;
+        tampon[1] = k;
+        tampon[2] = FLAG;
+        tampon[3] = offset;
+    }
+
+    /**
+     * Nombre d'ints de données pour {@code n} valeurs de {@code k} bits.
+     *
+     * @param n nombre de valeurs
+     * @param k bits par valeur
+     * @return {@code ceil(n*k/32)}, au moins 1
+     */
+    private static int dataInts(int n, int k) {
+        return (int) Math.max(1, ((long) n * k + 31) >>> 5);
+    }
+}
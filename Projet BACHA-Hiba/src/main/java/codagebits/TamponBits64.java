@@ -0,0 +1,90 @@
+package codagebits;
+
+/**
+ * Tampon de bits adossé à des mots de 64 bits ({@code long[]}), pour l'accès direct.
+ * <p>
+ * Disposition : le bit {@code p} du flux {@code int[]} (LSB d'abord, comme
+ * {@link OutilsBits}) est le bit {@code p} de ce tampon ; le mot {@code j} vaut
+ * {@code int[2j] | int[2j+1] << 32}. La conversion est donc exacte dans les deux sens
+ * ({@link #depuis(int[])}, {@link #versInts()}) et le format d'échange reste l'{@code int[]}.
+ * </p>
+ * <p>
+ * Lecture : une valeur de {@code k ≤ 32} bits tient toujours dans la fenêtre de 64 bits
+ * commençant à sa position. La fenêtre est extraite de deux mots consécutifs par un double
+ * décalage ({@code lo >>> d | hi << 1 << (63 - d)}), nul quand {@code d = 0} : aucune
+ * branche ne dépend de la position. Un mot de garde en fin de tableau rend la lecture du
+ * mot suivant toujours valide.
+ * </p>
+ */
+final class TamponBits64 {
+
+    /** Mots de 64 bits (dernier mot = garde, toujours nul). */
+    private final long[] mots;
+    /** Nombre d'ints du tampon d'origine. */
+    private final int nbInts;
+
+    private TamponBits64(long[] mots, int nbInts) {
+        this.mots = mots;
+        this.nbInts = nbInts;
+    }
+
+    /**
+     * Convertit un tampon {@code int[]} (format d'échange) en mots de 64 bits.
+     *
+     * @param t tampon d'origine
+     * @return tampon 64 bits équivalent
+     */
+    static TamponBits64 depuis(int[] t) {
+        long[] mots = new long[(t.length + 1) / 2 + 1];
+        int i = 0;
+        for (; i + 1 < t.length; i += 2) {
+            mots[i >>> 1] = (t[i] & 0xFFFFFFFFL) | ((long) t[i + 1] << 32);
+        }
+        if (i < t.length) mots[i >>> 1] = t[i] & 0xFFFFFFFFL;
+        return new TamponBits64(mots, t.length);
+    }
+
+    /**
+     * Exporte le tampon au format d'échange {@code int[]}.
+     *
+     * @return nouveau tampon, identique à celui passé à {@link #depuis(int[])}
+     */
+    int[] versInts() {
+        int[] t = new int[nbInts];
+        for (int i = 0; i < nbInts; i++) t[i] = mot32(i);
+        return t;
+    }
+
+    /**
+     * Nombre d'ints du format d'échange.
+     *
+     * @return taille en ints
+     */
+    int taille() {
+        return nbInts;
+    }
+
+    /**
+     * Lit l'int d'index {@code i} du format d'échange (en-tête, zone overflow...).
+     *
+     * @param i index en ints
+     * @return valeur de l'int
+     */
+    int mot32(int i) {
+        return (int) (mots[i >>> 1] >>> ((i & 1) << 5));
+    }
+
+    /**
+     * Lit {@code k} bits à la position {@code bitPos}, sans branche.
+     *
+     * @param bitPos position globale du premier bit
+     * @param k      nombre de bits, dans [1,32]
+     * @return valeur non signée sur {@code k} bits
+     */
+    int lire(long bitPos, int k) {
+        int j = (int) (bitPos >>> 6);
+        int d = (int) bitPos & 63;
+        long fenetre = (mots[j] >>> d) | ((mots[j + 1] << 1) << (63 - d));
+        return (int) (fenetre & (-1L >>> (64 - k)));
+    }
+}
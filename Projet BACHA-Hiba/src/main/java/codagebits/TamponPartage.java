@@ -0,0 +1,26 @@
+package codagebits;
+
+/**
+ * Tableau compressé dont le tampon interne se lit sans copie, à l'intérieur du paquetage :
+ * en-tête lu par les mesures ({@link CodeurInstrumente}), tampon recopié une seule fois dans
+ * un lot ({@link LotColonnes}). Le tampon rendu n'est jamais modifié.
+ */
+interface TamponPartage {
+
+    /**
+     * Tampon interne (en-tête inclus), à ne pas modifier.
+     *
+     * @return tampon partagé
+     */
+    int[] tamponPartage();
+
+    /**
+     * Tampon d'un tableau compressé : l'interne s'il est partageable, une copie sinon.
+     *
+     * @param t tableau compressé
+     * @return tampon à ne pas modifier
+     */
+    static int[] de(TableauCompresse t) {
+        return (t instanceof TamponPartage p) ? p.tamponPartage() : t.tampon();
+    }
+}
@@ -0,0 +1,236 @@
+package codagebits;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+/**
+ * Format d'échange en octets des tampons compressés, pour les {@link ByteBuffer} et les canaux.
+ * <p>
+ * Trame (petit-boutiste, comme {@link FluxEcriture} et {@link FichierCompresse}) :
+ * {@code [L][L ints du tampon compressé][}{@value #GARDE}{@code  octets nuls]}.
+ * Les ints sont dans l'ordre natif des processeurs courants : côté émission, le tampon est
+ * recopié en une seule opération de masse dans le {@link ByteBuffer} de l'appelant (direct ou
+ * non), seule copie possible depuis un {@code int[]} du tas ; un tableau compressé est écrit
+ * depuis son propre tampon, sans passer par la copie de {@link TableauCompresse#tampon()}.
+ * La garde rend valide la lecture 64 bits de la vue sur les derniers bits.
+ * </p>
+ * <p>
+ * Côté réception, {@link #lire(ByteBuffer)} renvoie pour les modes sans/avec/débordement une
+ * vue qui décode directement dans les octets reçus, sans repasser par un {@code int[]}. Les
+ * autres modes (vertical, blocs, delta, dictionnaire, plages, Elias-Fano) décodent depuis un
+ * {@code int[]} : leur tampon est relu en une seule copie, adoptée par le tableau renvoyé.
+ * </p>
+ * <p>
+ * Canaux : {@link #envoyer(GatheringByteChannel, ByteBuffer)} écrit en-tête, charge et garde
+ * en une écriture groupée (sans recopier la charge) ; {@link #recevoir(ReadableByteChannel)}
+ * lit une trame complète dans un tampon direct.
+ * </p>
+ */
+public final class TrameOctets {
+
+    /** Octets nuls en fin de trame. */
+    public static final int GARDE = VueOctets.GARDE;
+    /** Plus grande longueur (en ints) d'une trame. */
+    public static final int MAX_INTS = (Integer.MAX_VALUE - 4 - GARDE) / 4;
+    /** Octets reçus par étape : la mémoire suit les octets arrivés, pas la longueur annoncée. */
+    private static final int PAS_RECEPTION = 1 << 20;
+
+    private TrameOctets() {}
+
+    /**
+     * Taille en octets de la trame d'un tampon compressé.
+     *
+     * @param tampon tampon compressé (avec en-tête)
+     * @return nombre d'octets écrits par {@link #ecrire(int[], ByteBuffer)}
+     */
+    public static int tailleTrame(int[] tampon) {
+        return 4 + 4 * tampon.length + GARDE;
+    }
+
+    /**
+     * Écrit la trame complète d'un tampon à la position de {@code dst}, puis avance la position.
+     *
+     * @param tampon tampon compressé (avec en-tête)
+     * @param dst    destination (son ordre d'octets n'est pas modifié)
+     * @throws BufferOverflowException si moins de {@link #tailleTrame(int[])} octets restent
+     */
+    public static void ecrire(int[] tampon, ByteBuffer dst) {
+        Objects.requireNonNull(tampon, "tampon");
+        int taille = tailleTrame(tampon);
+        if (dst.remaining() < taille) throw new BufferOverflowException();
+        ByteBuffer le = dst.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        le.putInt(tampon.length);
+        le.asIntBuffer().put(tampon);
+        le.position(le.position() + 4 * tampon.length);
+        le.putLong(0L);
+        dst.position(dst.position() + taille);
+    }
+
+    /**
+     * Écrit la trame d'un tableau compressé à la position de {@code dst}, depuis son tampon
+     * (sans la copie de {@link TableauCompresse#tampon()} quand le tableau vient d'un codeur).
+     *
+     * @param tableau tableau compressé
+     * @param dst     destination (son ordre d'octets n'est pas modifié)
+     * @throws BufferOverflowException si la trame ne tient pas dans les octets restants
+     */
+    public static void ecrire(TableauCompresse tableau, ByteBuffer dst) {
+        ecrire(TamponPartage.de(Objects.requireNonNull(tableau, "tableau")), dst);
+    }
+
+    /**
+     * Écrit seulement les ints du tampon (sans longueur ni garde) à la position de {@code dst},
+     * puis avance la position : charge à passer à {@link #envoyer(GatheringByteChannel, ByteBuffer)}.
+     *
+     * @param tampon tampon compressé (avec en-tête)
+     * @param dst    destination
+     * @throws BufferOverflowException si moins de {@code 4 * tampon.length} octets restent
+     */
+    public static void ecrireCharge(int[] tampon, ByteBuffer dst) {
+        Objects.requireNonNull(tampon, "tampon");
+        if (dst.remaining() < 4 * tampon.length) throw new BufferOverflowException();
+        dst.duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(tampon);
+        dst.position(dst.position() + 4 * tampon.length);
+    }
+
+    /**
+     * Lit la trame à la position de {@code src} (tous les modes) et avance la position après la trame.
+     * Modes sans/avec/débordement : la vue renvoyée lit directement les octets de {@code src}, qui
+     * ne doivent plus être modifiés. Autres modes : le tampon est relu une fois et adopté.
+     *
+     * @param src trame écrite par {@link #ecrire(int[], ByteBuffer)} ou reçue par {@link #recevoir(ReadableByteChannel)}
+     * @return tableau compressé
+     * @throws IllegalArgumentException si la trame est tronquée ou invalide
+     */
+    public static TableauCompresse lire(ByteBuffer src) {
+        int nbInts = longueur(src);
+        int mode = (nbInts > 2) ? src.duplicate().order(ByteOrder.LITTLE_ENDIAN).getInt(src.position() + 12) & 0xFF : 0;
+        if (mode > 2) return FactoryCodeurBits.adopter(mode, lireTampon(src));
+        ByteBuffer charge = src.duplicate().position(src.position() + 4);
+        TableauCompresse vue = VueOctets.sur(charge, nbInts);
+        src.position(src.position() + 4 + 4 * nbInts + GARDE);
+        return vue;
+    }
+
+    /**
+     * Lit la trame à la position de {@code src} en un tampon {@code int[]} (tous les modes),
+     * puis avance la position après la trame.
+     *
+     * @param src trame écrite par {@link #ecrire(int[], ByteBuffer)}
+     * @return tampon compressé (nouveau), à passer à {@link CodeurBits#decompresser(int[])} ;
+     *         pour un accès direct, {@link #lire(ByteBuffer)} évite la seconde copie de {@link CodeurBits#ouvrir(int[])}
+     * @throws IllegalArgumentException si la trame est tronquée ou invalide
+     */
+    public static int[] lireTampon(ByteBuffer src) {
+        int nbInts = longueur(src);
+        int[] tampon = new int[nbInts];
+        src.duplicate().position(src.position() + 4).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(tampon);
+        src.position(src.position() + 4 + 4 * nbInts + GARDE);
+        return tampon;
+    }
+
+    /**
+     * Envoie une trame dont la charge est déjà en octets (voir {@link #ecrireCharge(int[], ByteBuffer)}) :
+     * longueur, charge et garde partent en une écriture groupée, sans recopie de la charge.
+     * Les octets restants de {@code charge} sont consommés.
+     *
+     * @param canal canal de destination (socket, fichier...)
+     * @param charge ints petit-boutistes du tampon compressé (multiple de 4 octets)
+     * @throws IOException              en cas d'erreur d'écriture
+     * @throws IllegalArgumentException si la charge n'est pas un nombre entier d'ints
+     */
+    public static void envoyer(GatheringByteChannel canal, ByteBuffer charge) throws IOException {
+        if (charge.remaining() % 4 != 0 || charge.remaining() == 0) throw new IllegalArgumentException("charge invalide");
+        ByteBuffer entete = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, charge.remaining() / 4);
+        ByteBuffer garde = ByteBuffer.allocate(GARDE);
+        ByteBuffer[] morceaux = {entete, charge, garde};
+        while (garde.hasRemaining()) canal.write(morceaux);
+    }
+
+    /**
+     * Reçoit une trame complète dans un nouveau tampon direct.
+     *
+     * @param canal canal source
+     * @return trame (position 0), à passer à {@link #lire(ByteBuffer)} ; {@code null} si le canal
+     *         est terminé avant le premier octet
+     * @throws IOException  en cas d'erreur de lecture ou de longueur invalide
+     * @throws EOFException si le canal s'arrête au milieu d'une trame
+     */
+    public static ByteBuffer recevoir(ReadableByteChannel canal) throws IOException {
+        return recevoir(canal, MAX_INTS);
+    }
+
+    /**
+     * Reçoit une trame complète dans un nouveau tampon direct, en refusant les trames de plus
+     * de {@code maxInts} ints. Le tampon grandit au fil des octets reçus : une longueur annoncée
+     * mais jamais envoyée ne provoque pas d'allocation à sa mesure.
+     *
+     * @param canal   canal source
+     * @param maxInts longueur maximale acceptée (en ints, au plus {@link #MAX_INTS})
+     * @return trame (position 0), à passer à {@link #lire(ByteBuffer)} ; {@code null} si le canal
+     *         est terminé avant le premier octet
+     * @throws IOException  en cas d'erreur de lecture ou de longueur invalide
+     * @throws EOFException si le canal s'arrête au milieu d'une trame
+     */
+    public static ByteBuffer recevoir(ReadableByteChannel canal, int maxInts) throws IOException {
+        if (maxInts <= 0 || maxInts > MAX_INTS) throw new IllegalArgumentException("maxInts invalide");
+        ByteBuffer entete = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        if (!lireTout(canal, entete, true)) return null;
+        int nbInts = entete.getInt(0);
+        if (nbInts <= 0 || nbInts > maxInts) throw new IOException("trame invalide");
+        int taille = 4 + 4 * nbInts + GARDE;
+        ByteBuffer trame = ByteBuffer.allocateDirect(Math.min(taille, PAS_RECEPTION)).order(ByteOrder.LITTLE_ENDIAN);
+        trame.putInt(nbInts);
+        while (true) {
+            lireTout(canal, trame, false);
+            if (trame.capacity() == taille) return trame.flip();
+            ByteBuffer plus = ByteBuffer.allocateDirect((int) Math.min(taille, 2L * trame.capacity())).order(ByteOrder.LITTLE_ENDIAN);
+            trame = plus.put(trame.flip());
+        }
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Lit la longueur (en ints) de la trame à la position de {@code src}, sans avancer, et
+     * vérifie que la trame entière (ints et garde) tient dans les octets restants.
+     *
+     * @param src trame
+     * @return nombre d'ints du tampon
+     * @throws IllegalArgumentException si la longueur est absente, invalide ou dépasse la trame
+     */
+    private static int longueur(ByteBuffer src) {
+        if (src.remaining() < 4) throw new IllegalArgumentException("trame tronquée");
+        int nbInts = src.duplicate().order(ByteOrder.LITTLE_ENDIAN).getInt();
+        if (nbInts <= 0) throw new IllegalArgumentException("trame invalide");
+        if (4L + 4L * nbInts + GARDE > src.remaining()) throw new IllegalArgumentException("trame tronquée");
+        return nbInts;
+    }
+
+    /**
+     * Remplit {@code bb} jusqu'à sa limite.
+     *
+     * @param canal      canal source
+     * @param bb         destination
+     * @param finPermise {@code true} si une fin de canal avant le premier octet est normale
+     * @return {@code false} si la fin est atteinte avant le premier octet (et permise)
+     * @throws EOFException si le canal s'arrête au milieu d'une lecture
+     * @throws IOException  en cas d'erreur de lecture
+     */
+    private static boolean lireTout(ReadableByteChannel canal, ByteBuffer bb, boolean finPermise) throws IOException {
+        int debut = bb.position();
+        while (bb.hasRemaining()) {
+            if (canal.read(bb) < 0) {
+                if (finPermise && bb.position() == debut) return false;
+                throw new EOFException("trame tronquée");
+            }
+        }
+        return true;
+    }
+}
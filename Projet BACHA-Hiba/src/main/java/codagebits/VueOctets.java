@@ -0,0 +1,181 @@
+package codagebits;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Vue en lecture seule sur un tampon compressé stocké en octets petit-boutistes
+ * (fichier projeté, tampon reçu du réseau...), sans copie sur le tas.
+ * <p>
+ * Modes pris en charge : sans chevauchement, avec chevauchement, débordement (même
+ * en-tête que les codeurs). Les octets sont découpés en segments de 1 Gio, chacun
+ * prolongé de {@value #GARDE} octets de garde : une lecture de {@code k} bits est un seul
+ * {@code getLong} non aligné suivi d'un décalage, et ne chevauche jamais deux segments.
+ * </p>
+ * <p>
+ * Immuable : partageable entre threads (les lectures absolues de {@link ByteBuffer} ne
+ * modifient pas la position). Les octets sous-jacents ne doivent pas être modifiés.
+ * </p>
+ */
+final class VueOctets implements TableauCompresse {
+
+    /** Octets nuls requis après le dernier int. */
+    static final int GARDE = 8;
+    /** log2 de la taille d'un segment. */
+    static final int BITS_SEGMENT = 30;
+    private static final long MASQUE_SEGMENT = (1L << BITS_SEGMENT) - 1;
+
+    /** Segments de 1 Gio (+ garde), petit-boutistes ; le segment 0 commence à tampon[0]. */
+    private final ByteBuffer[] segments;
+    private final long nbInts;
+    private final int n, k, flag, offset;
+    /** Vrai si le tableau d'origine est trié. */
+    private final boolean trie;
+    /** Index (en ints) de la zone overflow (mode débordement). */
+    private final int overflowBase;
+    /** Valeurs par mot (mode sans chevauchement). */
+    private final int parMot;
+    /** Position du premier bit de la zone data. */
+    private final long debutData;
+
+    /**
+     * Lit et vérifie l'en-tête.
+     *
+     * @param segments segments consécutifs (ordre quelconque : la vue les relit en petit-boutiste)
+     * @param nbInts   nombre d'ints du tampon compressé (au moins 5)
+     * @throws IllegalArgumentException si le mode n'est pas pris en charge ou le tampon incohérent
+     */
+    VueOctets(ByteBuffer[] segments, long nbInts) {
+        this.segments = new ByteBuffer[segments.length];
+        for (int s = 0; s < segments.length; s++) {
+            this.segments[s] = segments[s].duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        }
+        this.nbInts = nbInts;
+        this.n = mot32(0);
+        this.k = mot32(1);
+        this.flag = mot32(2) & 0xFF;
+        this.trie = (mot32(2) & OutilsBits.TRIE) != 0;
+        int entete;
+        switch (flag) {
+            case 0:
+            case 1:
+                entete = 4;
+                this.offset = mot32(3);
+                break;
+            case 2:
+                entete = 6;
+                this.offset = mot32(5);
+                break;
+            default:
+                throw new IllegalArgumentException("mode non pris en charge: " + flag);
+        }
+        if (n < 0 || k < 1 || k > 32) throw new IllegalArgumentException("tampon invalide");
+        this.debutData = (long) entete << 5;
+        this.parMot = Math.max(1, 32 / k);
+        long dataInts = ((long) n * k + 31) >>> 5;
+        this.overflowBase = (int) (entete + Math.max(1, dataInts));
+        long attendu = (flag == 0) ? entete + Math.max(1, ((long) n + parMot - 1) / parMot)
+                                   : overflowBase + (flag == 2 ? mot32(3) : 0);
+        if (attendu > nbInts) throw new IllegalArgumentException("tampon tronqué");
+    }
+
+    @Override
+    public int taille() {
+        return n;
+    }
+
+    @Override
+    public boolean estTrie() {
+        return trie;
+    }
+
+    @Override
+    public int[] tampon() {
+        if (nbInts > Integer.MAX_VALUE - 8) throw new IllegalStateException("tampon trop grand");
+        int[] t = new int[(int) nbInts];
+        for (int i = 0; i < t.length; i++) t[i] = mot32(i);
+        return t;
+    }
+
+    @Override
+    public int acceder(int index) {
+        if (index < 0 || index >= n) throw new IndexOutOfBoundsException();
+        return valeur(index);
+    }
+
+    @Override
+    public void accederPlage(int debut, int fin, int[] dst, int dstOff) {
+        Objects.checkFromToIndex(debut, fin, n);
+        Objects.checkFromIndexSize(dstOff, fin - debut, dst.length);
+        for (int i = debut, d = dstOff; i < fin; i++) dst[d++] = valeur(i);
+    }
+
+    /**
+     * Décode la valeur {@code i} selon le mode du fichier.
+     *
+     * @param i index logique valide
+     * @return valeur d'origine
+     */
+    private int valeur(int i) {
+        switch (flag) {
+            case 0: {
+                int mot = mot32((debutData >>> 5) + i / parMot);
+                return ((mot >>> ((i % parMot) * k)) & OutilsBits.masque(k)) - offset;
+            }
+            case 1:
+                return lireBits(debutData + (long) i * k) - offset;
+            default: {
+                int entree = lireBits(debutData + (long) i * k);
+                int payload = entree >>> 1;
+                int vPos = ((entree & 1) == 0) ? payload : mot32(overflowBase + (long) payload);
+                return vPos - offset;
+            }
+        }
+    }
+
+    /**
+     * Lit {@code k} bits à la position {@code bitPos} : une lecture 64 bits non alignée
+     * à l'octet {@code bitPos/8}, puis décalage de {@code bitPos%8} (≤ 7 + 32 bits utiles).
+     *
+     * @param bitPos position globale du premier bit
+     * @return valeur non signée sur {@code k} bits
+     */
+    private int lireBits(long bitPos) {
+        long octet = bitPos >>> 3;
+        long fenetre = segments[(int) (octet >>> BITS_SEGMENT)].getLong((int) (octet & MASQUE_SEGMENT));
+        return (int) ((fenetre >>> (bitPos & 7)) & (-1L >>> (64 - k)));
+    }
+
+    /**
+     * Lit l'int d'index {@code i} du tampon.
+     *
+     * @param i index en ints
+     * @return valeur de l'int
+     */
+    private int mot32(long i) {
+        long octet = i << 2;
+        return segments[(int) (octet >>> BITS_SEGMENT)].getInt((int) (octet & MASQUE_SEGMENT));
+    }
+
+    /**
+     * Vue sur {@code nbInts} ints suivis de la garde, à partir de la position de {@code octets}.
+     *
+     * @param octets tampon (position = premier octet de tampon[0])
+     * @param nbInts nombre d'ints du tampon compressé
+     * @return vue sans copie
+     * @throws IllegalArgumentException si les octets restants sont insuffisants ou le tampon invalide
+     */
+    static VueOctets sur(ByteBuffer octets, int nbInts) {
+        long taille = 4L * nbInts + GARDE;
+        if (nbInts < 5 || octets.remaining() < taille) throw new IllegalArgumentException("tampon invalide");
+        int nbSegments = (int) (((taille - GARDE - 1) >>> BITS_SEGMENT) + 1);
+        ByteBuffer[] segments = new ByteBuffer[nbSegments];
+        for (int s = 0; s < nbSegments; s++) {
+            long debut = (long) s << BITS_SEGMENT;
+            int longueur = (int) Math.min(taille - debut, (1L << BITS_SEGMENT) + GARDE);
+            segments[s] = octets.slice(octets.position() + (int) debut, longueur);
+        }
+        return new VueOctets(segments, nbInts);
+    }
+}
@@ -0,0 +1,87 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link CodeurAuto}.
+ */
+public class CodeurAutoTest {
+
+    /**
+     * Sur des tableaux couverts par l'échantillon, l'estimation est exacte : le mode retenu
+     * produit le plus petit tampon parmi les candidats, et le tampon se relit.
+     */
+    @Test
+    void testChoixDuPlusPetit() {
+        Random r = new Random(3);
+        int n = 3000;
+        int[][] jeux = new int[5][n];
+        for (int i = 0; i < n; i++) {
+            jeux[0][i] = r.nextInt(1000);
+            jeux[1][i] = (r.nextInt(100) < 97) ? r.nextInt(16) : r.nextInt(1 << 28);
+            jeux[2][i] = 1_700_000_000 + i * 5 + r.nextInt(3);
+            jeux[3][i] = (i / 500) % 4;
+            jeux[4][i] = (i / 128) * 100_000 + r.nextInt(50);
+        }
+        String[] attendus = {"avec", "dictionnaire", "delta", "plages", "blocs"};
+        for (int j = 0; j < jeux.length; j++) {
+            long[] estimees = CodeurAuto.estimer(jeux[j]);
+            int plusPetit = Integer.MAX_VALUE;
+            for (int mode : new int[] {0, 1, 2, 4, 5, 6, 7}) {
+                int reelle = FactoryCodeurBits.pourMode(mode).compresser(jeux[j]).length;
+                assertEquals(reelle, estimees[mode]);
+                plusPetit = Math.min(plusPetit, reelle);
+            }
+            assertEquals(attendus[j], CodeurAuto.choisir(jeux[j]));
+            CodeurBits auto = FactoryCodeurBits.creer("auto");
+            int[] c = auto.compresser(jeux[j]);
+            assertEquals(plusPetit, c.length);
+            assertArrayEquals(jeux[j], new CodeurAuto().decompresser(c));
+            assertEquals(jeux[j][1234], auto.acceder(1234));
+        }
+    }
+
+    /**
+     * Écart isolé hors de l'échantillon (dernier bloc, partiel) : la largeur de delta vient de
+     * la passe exacte, donc delta est estimé à sa taille réelle et n'est pas retenu.
+     */
+    @Test
+    void testEcartHorsEchantillon() {
+        int n = 40000;
+        int[] t = new int[n];
+        for (int i = 0; i < n - 1; i++) t[i] = i;
+        t[n - 1] = Integer.MAX_VALUE;
+        long[] estimees = CodeurAuto.estimer(t);
+        assertEquals(new CodeurDelta().compresser(t).length, estimees[5]);
+        assertNotEquals("delta", CodeurAuto.choisir(t));
+        assertTrue(new CodeurAuto().compresser(t).length <= new CodeurBlocs().compresser(t).length);
+
+        t[n - 1] = n - 2;
+        t[n / 2 + 5] = -1_000_000_000;
+        assertEquals(new CodeurDelta().compresser(t).length, CodeurAuto.estimer(t)[5]);
+    }
+
+    /**
+     * Grand tableau (échantillonné) et lecture de tampons de tous les modes par l'octet de mode.
+     */
+    @Test
+    void testEchantillonEtLecture() {
+        Random r = new Random(9);
+        int[] biaise = new int[500_000];
+        for (int i = 0; i < biaise.length; i++) biaise[i] = (r.nextInt(100) < 99) ? r.nextInt(8) : r.nextInt() >>> 1;
+        CodeurAuto auto = new CodeurAuto();
+        int[] c = auto.compresser(biaise);
+        assertTrue(c.length * 2 < new CodeurAvecChev().compresser(biaise).length);
+        assertArrayEquals(biaise, auto.decompresser(c));
+
+        int[] trie = {-7, -7, 0, 3, 3, 9, 120, 4000};
+        for (String mode : FactoryCodeurBits.MODES) {
+            int[] tampon = FactoryCodeurBits.creer(mode).compresser(trie);
+            assertArrayEquals(trie, auto.decompresser(tampon), mode);
+            assertEquals(trie[6], auto.ouvrir(tampon).acceder(6), mode);
+        }
+        assertThrows(IllegalArgumentException.class, () -> auto.decompresser(new int[] {1, 1, 99, 0}));
+    }
+}
@@ -1,19 +1,43 @@
-package codagebits;
-
-import static org.junit.jupiter.api.Assertions.*;
-import org.junit.jupiter.api.Test;
-
-/**
- * Tests unitaires pour {@link CodeurAvecChev}.
- */
-public class CodeurAvecChevTest {
-
-    @Test
-    void testRoundTrip() {
-        CodeurBits codeur = new CodeurAvecChev();
-        int[] original = {91, 37, -86, 76, -88, -41};
-        int[] compresse = codeur.compresser(original);
-        int[] resultat = codeur.decompresser(compresse);
-        assertArrayEquals(original, resultat);
-    }
-}
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link CodeurAvecChev}.
+ */
+public class CodeurAvecChevTest {
+
+    @Test
+    void testRoundTrip() {
+        CodeurBits codeur = new CodeurAvecChev();
+        int[] original = {91, 37, -86, 76, -88, -41};
+        int[] compresse = codeur.compresser(original);
+        int[] resultat = codeur.decompresser(compresse);
+        assertArrayEquals(original, resultat);
+    }
+
+    @Test
+    void testAccederPlage() {
+        CodeurBits codeur = new CodeurAvecChev();
+        int[] original = new int[100];
+        for (int i = 0; i < original.length; i++) original[i] = (i * 7919) % 1000 - 300;
+        codeur.compresser(original);
+        int[] dst = new int[40];
+        codeur.accederPlage(33, 73, dst, 0);
+        for (int i = 0; i < dst.length; i++) assertEquals(original[33 + i], dst[i]);
+    }
+
+    @Test
+    void testTableauPartage() {
+        CodeurBits codeur = new CodeurAvecChev();
+        int[] original = new int[10_000];
+        for (int i = 0; i < original.length; i++) original[i] = (i * 7919) % 5000 - 1000;
+        TableauCompresse tableau = codeur.compresserTableau(original);
+        codeur.compresser(new int[] {1, 2, 3});
+        assertTrue(IntStream.range(0, original.length).parallel()
+                .allMatch(i -> tableau.acceder(i) == original[i]));
+        assertArrayEquals(original, codeur.ouvrir(tableau.tampon()).decompresser());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link CodeurBlocs}.
+ */
+public class CodeurBlocsTest {
+
+    /**
+     * Round-trip, accès direct et plage sur un tableau avec blocs constants,
+     * négatifs et dernier bloc incomplet.
+     */
+    @Test
+    void testRoundTrip() {
+        CodeurBits codeur = new CodeurBlocs();
+        int[] original = new int[1000];
+        for (int i = 0; i < original.length; i++) {
+            original[i] = (i < 256) ? 42 : (i < 600 ? -i % 17 : Integer.MAX_VALUE - i);
+        }
+        original[900] = Integer.MIN_VALUE;
+        int[] compresse = codeur.compresser(original);
+        assertArrayEquals(original, codeur.decompresser(compresse));
+        assertEquals(original[900], codeur.acceder(900));
+        assertEquals(42, codeur.acceder(10));
+        int[] dst = new int[500];
+        codeur.accederPlage(250, 750, dst, 0);
+        for (int i = 0; i < dst.length; i++) assertEquals(original[250 + i], dst[i]);
+    }
+
+    /**
+     * Une région aberrante n'élargit que ses propres blocs.
+     */
+    @Test
+    void testRegionAberrante() {
+        int[] original = new int[4096];
+        for (int i = 0; i < original.length; i++) original[i] = 1_000_000 + (i % 8);
+        for (int i = 0; i < 128; i++) original[i] = i * 5000;
+        int tailleBlocs = new CodeurBlocs().compresser(original).length;
+        int tailleAvec = new CodeurAvecChev().compresser(original).length;
+        assertTrue(tailleBlocs * 3 < tailleAvec, tailleBlocs + " vs " + tailleAvec);
+    }
+}
@@ -1,27 +1,60 @@
-package codagebits;
-
-import static org.junit.jupiter.api.Assertions.*;
-import org.junit.jupiter.api.Test;
-
-/**
- * Tests unitaires pour {@link CodeurDebordement}.
- */
-public class CodeurDebordementTest {
-
-    @Test
-    void testOverflowExample() {
-        CodeurBits codeur = new CodeurDebordement();
-        int[] original = {1, 2, 3, 1024, 4, 5, 2048};
-        int[] compresse = codeur.compresser(original);
-        int[] resultat = codeur.decompresser(compresse);
-        assertArrayEquals(original, resultat);
-    }
-
-    @Test
-    void testNegatifs() {
-        CodeurBits codeur = new CodeurDebordement();
-        int[] original = {-10, -2, 0, 15, 256};
-        int[] compresse = codeur.compresser(original);
-        assertArrayEquals(original, codeur.decompresser(compresse));
-    }
-}
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link CodeurDebordement}.
+ */
+public class CodeurDebordementTest {
+
+    @Test
+    void testOverflowExample() {
+        CodeurBits codeur = new CodeurDebordement();
+        int[] original = {1, 2, 3, 1024, 4, 5, 2048};
+        int[] compresse = codeur.compresser(original);
+        int[] resultat = codeur.decompresser(compresse);
+        assertArrayEquals(original, resultat);
+    }
+
+    @Test
+    void testNegatifs() {
+        CodeurBits codeur = new CodeurDebordement();
+        int[] original = {-10, -2, 0, 15, 256};
+        int[] compresse = codeur.compresser(original);
+        assertArrayEquals(original, codeur.decompresser(compresse));
+    }
+
+    @Test
+    void testAccederPlage() {
+        CodeurBits codeur = new CodeurDebordement();
+        int[] original = {1, 2, 3, 1024, 4, 5, 2048, 6, -1};
+        codeur.compresser(original);
+        int[] dst = new int[5];
+        codeur.accederPlage(2, 7, dst, 0);
+        assertArrayEquals(new int[]{3, 1024, 4, 5, 2048}, dst);
+    }
+
+    @Test
+    void testGrandTableauParallele() {
+        CodeurBits codeur = new CodeurDebordement();
+        int[] original = new int[5 * ParalleleBits.SEUIL + 17];
+        for (int i = 0; i < original.length; i++) original[i] = (i % 97 == 0) ? 1 << 20 : i % 13 - 4;
+        int[] compresse = codeur.compresser(original);
+        assertEquals(original.length / 97 + 1, compresse[3]);
+        assertArrayEquals(original, codeur.decompresser(compresse));
+    }
+
+    @Test
+    void testStockage64() {
+        int[] original = new int[1000];
+        for (int i = 0; i < original.length; i++) original[i] = (i % 50 == 0) ? -(1 << 24) : (i * 31) % 3000;
+        CodeurBits codeur32 = new CodeurDebordement();
+        CodeurBits codeur64 = new CodeurDebordement(true);
+        int[] compresse = codeur32.compresser(original);
+        assertArrayEquals(compresse, codeur64.compresser(original));
+        TableauCompresse tableau = codeur64.ouvrir(compresse);
+        for (int i = 0; i < original.length; i++) assertEquals(original[i], tableau.acceder(i));
+        assertArrayEquals(compresse, tableau.tampon());
+    }
+}
\ No newline at end of file
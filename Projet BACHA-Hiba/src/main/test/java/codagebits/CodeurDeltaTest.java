@@ -0,0 +1,40 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link CodeurDelta}.
+ */
+public class CodeurDeltaTest {
+
+    /**
+     * Horodatages croissants : round-trip, accès direct de part et d'autre d'un saut,
+     * et taille bien inférieure au mode "avec".
+     */
+    @Test
+    void testHorodatages() {
+        CodeurBits codeur = new CodeurDelta();
+        int[] original = new int[1000];
+        for (int i = 0; i < original.length; i++) original[i] = 1_700_000_000 + i * 3 + (i % 2);
+        int[] compresse = codeur.compresser(original);
+        assertArrayEquals(original, codeur.decompresser(compresse));
+        assertEquals(original[127], codeur.acceder(127));
+        assertEquals(original[128], codeur.acceder(128));
+        assertEquals(original[999], codeur.acceder(999));
+        assertTrue(compresse.length * 4 < new CodeurAvecChev().compresser(original).length);
+    }
+
+    /**
+     * Écarts négatifs et extrêmes (calcul modulo 2^32).
+     */
+    @Test
+    void testNonTrie() {
+        CodeurBits codeur = new CodeurDelta();
+        int[] original = {5, -3, Integer.MAX_VALUE, Integer.MIN_VALUE, 0, 12, 11, 10};
+        codeur.compresser(original);
+        int[] dst = new int[6];
+        codeur.accederPlage(1, 7, dst, 0);
+        assertArrayEquals(new int[]{-3, Integer.MAX_VALUE, Integer.MIN_VALUE, 0, 12, 11}, dst);
+    }
+}
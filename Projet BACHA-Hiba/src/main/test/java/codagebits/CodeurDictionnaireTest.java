@@ -0,0 +1,49 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link CodeurDictionnaire}.
+ */
+public class CodeurDictionnaireTest {
+
+    /**
+     * Quelques centaines de codes sur toute la plage 32 bits : round-trip, accès direct,
+     * k de la cardinalité et taille bien inférieure au mode "avec".
+     */
+    @Test
+    void testFaibleCardinalite() {
+        Random r = new Random(29);
+        int[] codes = new int[300];
+        for (int c = 0; c < codes.length; c++) codes[c] = r.nextInt();
+        int[] original = new int[10000];
+        for (int i = 0; i < original.length; i++) original[i] = codes[r.nextInt(codes.length)];
+
+        CodeurBits codeur = FactoryCodeurBits.creer("dictionnaire");
+        int[] compresse = codeur.compresser(original);
+        assertEquals(9, compresse[1]);
+        assertArrayEquals(original, codeur.decompresser(compresse));
+        for (int i : new int[] {0, 31, 32, 4321, 9999}) assertEquals(original[i], codeur.acceder(i));
+        int[] dst = new int[100];
+        codeur.accederPlage(17, 117, dst, 0);
+        for (int i = 0; i < 100; i++) assertEquals(original[17 + i], dst[i]);
+        assertTrue(compresse.length * 3 < new CodeurAvecChev().compresser(original).length);
+    }
+
+    /**
+     * Cas limites : vide, une seule valeur répétée, extrêmes.
+     */
+    @Test
+    void testCasLimites() {
+        CodeurBits codeur = new CodeurDictionnaire();
+        assertArrayEquals(new int[0], codeur.decompresser(codeur.compresser(new int[0])));
+        int[] constant = new int[77];
+        Arrays.fill(constant, -42);
+        assertArrayEquals(constant, codeur.decompresser(codeur.compresser(constant)));
+        int[] extremes = {Integer.MAX_VALUE, Integer.MIN_VALUE, 0, Integer.MIN_VALUE, -1};
+        assertArrayEquals(extremes, codeur.ouvrir(codeur.compresser(extremes)).decompresser());
+    }
+}
@@ -0,0 +1,90 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link CodeurEliasFano}.
+ */
+public class CodeurEliasFanoTest {
+
+    /**
+     * Identifiants triés épars : round-trip, accès direct, décodage partiel, successeur et
+     * taille proche de {@code 2 + log2(U/n)} bits par valeur.
+     */
+    @Test
+    void testSuiteCroissante() {
+        Random r = new Random(41);
+        int[] original = new int[50000];
+        for (int i = 1; i < original.length; i++) original[i] = original[i - 1] + r.nextInt(1000) + (i % 700 == 0 ? 1 << 20 : 0);
+        CodeurEliasFano codeur = new CodeurEliasFano();
+        int[] compresse = codeur.compresser(original);
+        assertArrayEquals(original, codeur.decompresser(compresse));
+        for (int essai = 0; essai < 2000; essai++) {
+            int i = r.nextInt(original.length);
+            assertEquals(original[i], codeur.acceder(i));
+            int v = (essai % 2 == 0) ? original[i] : original[i] + 1;
+            int attendu = Arrays.binarySearch(original, v);
+            if (attendu < 0) attendu = -attendu - 1;
+            while (attendu > 0 && original[attendu - 1] == v) attendu--;
+            assertEquals(attendu, codeur.suivantGE(v));
+        }
+        assertEquals(0, codeur.suivantGE(Integer.MIN_VALUE));
+        assertEquals(original.length, codeur.suivantGE(original[original.length - 1] + 1));
+        int[] dst = new int[1000];
+        codeur.accederPlage(12345, 13345, dst, 0);
+        assertArrayEquals(Arrays.copyOfRange(original, 12345, 13345), dst);
+        long u = (long) original[original.length - 1] - original[0];
+        double bitsParValeur = 32.0 * compresse.length / original.length;
+        assertTrue(bitsParValeur < 3 + Math.log((double) u / original.length) / Math.log(2), "bits/valeur = " + bitsParValeur);
+    }
+
+    /**
+     * Cas limites : vide, doublons, étendue 32 bits, tableau non croissant refusé.
+     */
+    @Test
+    void testCasLimites() {
+        CodeurEliasFano codeur = new CodeurEliasFano();
+        assertArrayEquals(new int[0], codeur.decompresser(codeur.compresser(new int[0])));
+        assertEquals(0, codeur.suivantGE(5));
+        int[] extremes = {Integer.MIN_VALUE, Integer.MIN_VALUE, -1, 0, 0, 0, 7, Integer.MAX_VALUE, Integer.MAX_VALUE};
+        TableauCompresse t = codeur.ouvrir(codeur.compresser(extremes));
+        assertArrayEquals(extremes, t.decompresser());
+        assertTrue(t.estTrie());
+        assertEquals(3, t.borneInferieure(0));
+        assertEquals(6, t.borneInferieure(1));
+        assertEquals(7, t.rechercher(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> codeur.compresser(new int[] {2, 1}));
+    }
+
+    /**
+     * Longs écarts : un 1 séparé de son échantillon par des milliers de mots de 0 (accès), et
+     * une longue suite de 1 entre deux 0 échantillonnés (successeur).
+     */
+    @Test
+    void testLongsEcarts() {
+        int n = 1 << 18;
+        int[] saut = new int[n];
+        for (int i = 0; i < n - 1; i++) saut[i] = i;
+        saut[n - 1] = Integer.MAX_VALUE;
+        CodeurEliasFano codeur = new CodeurEliasFano();
+        TableauCompresse t = codeur.ouvrir(codeur.compresser(saut));
+        for (int i : new int[] {0, 1, n / 2, n - 2, n - 1}) assertEquals(saut[i], t.acceder(i));
+        assertEquals(n - 1, t.borneInferieure(n));
+        int[] dst = new int[3];
+        t.accederPlage(n - 3, n, dst, 0);
+        assertArrayEquals(Arrays.copyOfRange(saut, n - 3, n), dst);
+
+        int[] plateau = new int[n];
+        Arrays.fill(plateau, 1, n - 1, 1 << 20);
+        plateau[n - 1] = Integer.MAX_VALUE;
+        codeur.compresser(plateau);
+        assertEquals(1, codeur.suivantGE(1));
+        assertEquals(n - 1, codeur.suivantGE((1 << 20) + 1));
+        assertEquals(n - 1, codeur.suivantGE(Integer.MAX_VALUE));
+        for (int i = 0; i < n; i += 4099) assertEquals(plateau[i], codeur.acceder(i));
+        assertEquals(Integer.MAX_VALUE, codeur.acceder(n - 1));
+    }
+}
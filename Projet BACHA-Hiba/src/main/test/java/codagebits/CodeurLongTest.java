@@ -0,0 +1,49 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour les codeurs 64 bits ({@link CodeurBitsLong}).
+ */
+public class CodeurLongTest {
+
+    private static final String[] MODES = {"sans", "avec", "debordement"};
+
+    @Test
+    void testHorodatagesEtPlagePleine() {
+        Random r = new Random(3);
+        long[] horodatages = new long[1000];
+        long t = 1_700_000_000_000_000_000L;
+        for (int i = 0; i < horodatages.length; i++) horodatages[i] = t += 1 + r.nextInt(1_000_000);
+        long[] plagePleine = new long[500];
+        for (int i = 0; i < plagePleine.length; i++) plagePleine[i] = r.nextLong();
+        plagePleine[0] = Long.MIN_VALUE;
+        plagePleine[1] = Long.MAX_VALUE;
+
+        for (String mode : MODES) {
+            for (long[] original : new long[][] {horodatages, plagePleine, {}, {-5, 0, 7}}) {
+                CodeurBitsLong codeur = FactoryCodeurBits.creerLong(mode);
+                long[] comp = codeur.compresser(original);
+                for (int i = 0; i < original.length; i += 7) assertEquals(original[i], codeur.acceder(i), mode);
+                assertArrayEquals(original, codeur.decompresser(comp), mode);
+            }
+        }
+    }
+
+    @Test
+    void testDebordementIdentifiants64() {
+        long[] ids = new long[2000];
+        for (int i = 0; i < ids.length; i++) ids[i] = (i % 100 == 0) ? (1L << 62) + i : i % 1000;
+        CodeurBitsLong debordement = new CodeurDebordementLong();
+        long[] comp = debordement.compresser(ids);
+        assertEquals(20, comp[3]);
+        assertTrue(comp.length < new CodeurAvecChevLong().compresser(ids).length);
+
+        long[] plage = new long[50];
+        debordement.accederPlage(90, 140, plage, 0);
+        assertEquals(ids[100], plage[10]);
+        assertArrayEquals(ids, debordement.decompresser(comp));
+    }
+}
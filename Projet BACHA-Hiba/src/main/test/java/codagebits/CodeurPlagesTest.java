@@ -0,0 +1,50 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link CodeurPlages}.
+ */
+public class CodeurPlagesTest {
+
+    /**
+     * Longues plages d'états : round-trip, accès direct aux bords de plage, décodage
+     * partiel et taille bien inférieure au mode "avec".
+     */
+    @Test
+    void testLonguesPlages() {
+        Random r = new Random(31);
+        int[] original = new int[100000];
+        for (int i = 0, v = 0; i < original.length; i++) {
+            if (r.nextInt(500) == 0) v = r.nextInt(16) - 3;
+            original[i] = v;
+        }
+        CodeurBits codeur = FactoryCodeurBits.creer("plages");
+        int[] compresse = codeur.compresser(original);
+        assertArrayEquals(original, codeur.decompresser(compresse));
+        for (int essai = 0; essai < 1000; essai++) {
+            int i = r.nextInt(original.length);
+            assertEquals(original[i], codeur.acceder(i));
+        }
+        int[] dst = new int[3001];
+        codeur.accederPlage(40000, 43000, dst, 1);
+        for (int i = 0; i < 3000; i++) assertEquals(original[40000 + i], dst[1 + i]);
+        assertTrue(compresse.length * 50 < new CodeurAvecChev().compresser(original).length);
+    }
+
+    /**
+     * Cas limites : vide, sans aucune répétition, extrêmes.
+     */
+    @Test
+    void testCasLimites() {
+        CodeurBits codeur = new CodeurPlages();
+        assertArrayEquals(new int[0], codeur.decompresser(codeur.compresser(new int[0])));
+        int[] alterne = new int[100];
+        for (int i = 0; i < alterne.length; i++) alterne[i] = (i % 3 == 0) ? Integer.MIN_VALUE : Integer.MAX_VALUE - i;
+        TableauCompresse t = codeur.ouvrir(codeur.compresser(alterne));
+        assertArrayEquals(alterne, t.decompresser());
+        assertEquals(alterne[99], t.acceder(99));
+    }
+}
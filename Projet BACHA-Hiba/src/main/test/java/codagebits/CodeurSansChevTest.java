@@ -1,33 +1,47 @@
-package codagebits;
-
-import static org.junit.jupiter.api.Assertions.*;
-import org.junit.jupiter.api.Test;
-
-/**
- * Tests unitaires pour {@link CodeurSansChev}.
- */
-public class CodeurSansChevTest {
-
-    /**
-     * Vérifie que le tableau compressé puis décompressé est identique à l'original.
-     */
-    @Test
-    void testCompresserDecompresser() {
-        CodeurBits codeur = new CodeurSansChev();
-        int[] original = {-5, -1, 0, 3, 7};
-        int[] compresse = codeur.compresser(original);
-        int[] resultat = codeur.decompresser(compresse);
-        assertArrayEquals(original, resultat);
-    }
-
-    /**
-     * Vérifie que l'accès direct renvoie la bonne valeur.
-     */
-    @Test
-    void testAccesDirect() {
-        CodeurBits codeur = new CodeurSansChev();
-        int[] original = {10, 20, 30, 40, 50};
-        int[] compresse = codeur.compresser(original);
-        assertEquals(30, codeur.acceder(2));
-    }
-}
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link CodeurSansChev}.
+ */
+public class CodeurSansChevTest {
+
+    /**
+     * Vérifie que le tableau compressé puis décompressé est identique à l'original.
+     */
+    @Test
+    void testCompresserDecompresser() {
+        CodeurBits codeur = new CodeurSansChev();
+        int[] original = {-5, -1, 0, 3, 7};
+        int[] compresse = codeur.compresser(original);
+        int[] resultat = codeur.decompresser(compresse);
+        assertArrayEquals(original, resultat);
+    }
+
+    /**
+     * Vérifie que l'accès direct renvoie la bonne valeur.
+     */
+    @Test
+    void testAccesDirect() {
+        CodeurBits codeur = new CodeurSansChev();
+        int[] original = {10, 20, 30, 40, 50};
+        int[] compresse = codeur.compresser(original);
+        assertEquals(30, codeur.acceder(2));
+    }
+
+    /**
+     * Vérifie que le décodage d'une plage correspond aux accès unitaires.
+     */
+    @Test
+    void testAccederPlage() {
+        CodeurBits codeur = new CodeurSansChev();
+        int[] original = {-5, 17, 0, 3, 7, 12, -1, 9, 30, 2, 4};
+        codeur.compresser(original);
+        int[] dst = new int[6];
+        codeur.accederPlage(3, 8, dst, 1);
+        assertArrayEquals(new int[]{0, 3, 7, 12, -1, 9}, dst);
+        assertThrows(IndexOutOfBoundsException.class, () -> codeur.accederPlage(5, 12, dst, 0));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link CodeurVertical}.
+ */
+public class CodeurVerticalTest {
+
+    /**
+     * Round-trip sur plusieurs lignes complètes plus une ligne partielle.
+     */
+    @Test
+    void testRoundTrip() {
+        CodeurBits codeur = new CodeurVertical();
+        int[] original = new int[203];
+        for (int i = 0; i < original.length; i++) original[i] = (i * 37) % 500 - 120;
+        int[] compresse = codeur.compresser(original);
+        assertArrayEquals(original, codeur.decompresser(compresse));
+        assertEquals(original[77], codeur.acceder(77));
+        int[] dst = new int[150];
+        codeur.accederPlage(13, 163, dst, 0);
+        for (int i = 0; i < dst.length; i++) assertEquals(original[13 + i], dst[i]);
+    }
+
+    /**
+     * Le repli scalaire et le noyau retenu produisent les mêmes mots.
+     */
+    @Test
+    void testRepliScalaireIdentique() {
+        int k = 7, lignes = 3;
+        int[] src = new int[lignes * CodeurVertical.parMot(k) * CodeurVertical.VOIES];
+        for (int i = 0; i < src.length; i++) src[i] = (i * 13) & 0x7F;
+        int[] a = new int[lignes * CodeurVertical.VOIES];
+        int[] b = new int[a.length];
+        new NoyauVertical.Scalaire().empaqueter(src, 0, 0, a, 0, lignes, k);
+        CodeurBits codeur = new CodeurVertical();
+        int[] compresse = codeur.compresser(src);
+        System.arraycopy(compresse, 4, b, 0, b.length);
+        assertArrayEquals(a, b);
+    }
+
+    /**
+     * Étendue au-delà de 2^31 (k = 32) : round-trip exact, y compris via la fabrique.
+     */
+    @Test
+    void testPleineEtendue() {
+        CodeurBits codeur = FactoryCodeurBits.creer("vertical");
+        int[][] cas = {{-1, Integer.MAX_VALUE}, {Integer.MIN_VALUE, 0}, {Integer.MIN_VALUE, Integer.MAX_VALUE, -5, 7}};
+        for (int[] t : cas) assertArrayEquals(t, codeur.decompresser(codeur.compresser(t)));
+
+        Random r = new Random(11);
+        int[] t = new int[1000];
+        for (int i = 0; i < t.length; i++) t[i] = r.nextInt();
+        int[] c = codeur.compresser(t);
+        assertEquals(32, c[1]);
+        assertArrayEquals(t, codeur.decompresser(c));
+        assertEquals(t[517], codeur.acceder(517));
+        int[] dst = new int[300];
+        codeur.accederPlage(101, 401, dst, 0);
+        for (int i = 0; i < dst.length; i++) assertEquals(t[101 + i], dst[i]);
+    }
+}
@@ -0,0 +1,40 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests unitaires pour {@link FichierCompresse}.
+ */
+public class FichierCompresseTest {
+
+    @TempDir
+    Path dossier;
+
+    @Test
+    void testOuvrirTousModes() throws IOException {
+        int[] original = new int[3000];
+        for (int i = 0; i < original.length; i++) original[i] = (i % 200 == 0) ? 1 << 22 : (i * 37) % 1000 - 250;
+        for (CodeurBits codeur : new CodeurBits[] {new CodeurSansChev(), new CodeurAvecChev(), new CodeurDebordement()}) {
+            Path fichier = dossier.resolve(codeur.getClass().getSimpleName() + ".bin");
+            int[] compresse = codeur.compresser(original);
+            FichierCompresse.ecrire(fichier, compresse);
+
+            TableauCompresse vue = FichierCompresse.ouvrir(fichier);
+            assertEquals(original.length, vue.taille());
+            for (int i = 0; i < original.length; i += 7) assertEquals(original[i], vue.acceder(i));
+            assertArrayEquals(original, vue.decompresser());
+            assertArrayEquals(compresse, vue.tampon());
+        }
+    }
+
+    @Test
+    void testModeNonPrisEnCharge() throws IOException {
+        Path fichier = dossier.resolve("delta.bin");
+        FichierCompresse.ecrire(fichier, new CodeurDelta().compresser(new int[] {1, 2, 3}));
+        assertThrows(IllegalArgumentException.class, () -> FichierCompresse.ouvrir(fichier));
+    }
+}
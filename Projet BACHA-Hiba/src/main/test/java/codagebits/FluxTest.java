@@ -0,0 +1,60 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link FluxEcriture} et {@link FluxLecture}.
+ */
+public class FluxTest {
+
+    @Test
+    void testRoundTripParBlocs() throws IOException {
+        int[] original = new int[2500];
+        for (int i = 0; i < original.length; i++) original[i] = (i < 1000) ? i % 7 : (i * 7919) % 100000 - 500;
+        ByteArrayOutputStream octets = new ByteArrayOutputStream();
+        try (FluxEcriture ecriture = new FluxEcriture(octets, new CodeurAvecChev(), 1000)) {
+            ecriture.ecrire(original, 0, 1500);
+            for (int i = 1500; i < original.length; i++) ecriture.ecrire(original[i]);
+        }
+
+        int[] relu = new int[original.length];
+        int total = 0;
+        try (FluxLecture lecture = new FluxLecture(new ByteArrayInputStream(octets.toByteArray()), new CodeurAvecChev())) {
+            for (int nb; (nb = lecture.lire(relu, total, relu.length - total)) > 0; ) total += nb;
+            assertFalse(lecture.aSuivant());
+        }
+        assertEquals(original.length, total);
+        assertArrayEquals(original, relu);
+    }
+
+    @Test
+    void testTrameTronquee() throws IOException {
+        ByteArrayOutputStream octets = new ByteArrayOutputStream();
+        try (FluxEcriture ecriture = new FluxEcriture(octets, new CodeurDebordement(), 64)) {
+            for (int i = 0; i < 100; i++) ecriture.ecrire(i);
+        }
+        byte[] tronque = Arrays.copyOf(octets.toByteArray(), octets.size() - 3);
+        FluxLecture lecture = new FluxLecture(new ByteArrayInputStream(tronque), new CodeurDebordement());
+        assertEquals(64, lecture.lireBloc().length);
+        assertThrows(EOFException.class, lecture::lireBloc);
+    }
+
+    @Test
+    void testLongueurInvalide() throws IOException {
+        // longueur négative, puis longueur maximale sur un flux de quelques octets
+        byte[] negative = {-1, -1, -1, -1};
+        FluxLecture lecture = new FluxLecture(new ByteArrayInputStream(negative), new CodeurAvecChev());
+        assertThrows(IOException.class, lecture::lireBloc);
+        byte[] enorme = {-3, -1, -1, 31, 1, 2, 3};
+        lecture = new FluxLecture(new ByteArrayInputStream(enorme), new CodeurAvecChev());
+        assertThrows(EOFException.class, lecture::lireBloc);
+        lecture = new FluxLecture(new ByteArrayInputStream(enorme), new CodeurAvecChev(), 1 << 16);
+        assertThrows(IOException.class, lecture::lireBloc);
+    }
+}
@@ -0,0 +1,96 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link LotColonnes}.
+ */
+public class LotColonnesTest {
+
+    /**
+     * Lot d'enregistrements typique : un mode par colonne, aller-retour par le tampon du lot,
+     * accès cellule par cellule et taille inférieure aux colonnes compressées séparément en "avec".
+     */
+    @Test
+    void testLotEnregistrements() {
+        Random r = new Random(23);
+        int n = 20000;
+        int[] id = new int[n], horodatage = new int[n], statut = new int[n], montant = new int[n];
+        for (int i = 0; i < n; i++) {
+            id[i] = (i == 0) ? 1000 : id[i - 1] + 1 + r.nextInt(3);
+            horodatage[i] = 1_700_000_000 + i * 5 + r.nextInt(3);
+            statut[i] = (i / 1000) % 3;
+            montant[i] = (r.nextInt(50) == 0) ? r.nextInt(1 << 24) : r.nextInt(200);
+        }
+        int[][] colonnes = {id, horodatage, statut, montant};
+        LotColonnes lot = LotColonnes.compresser(colonnes);
+        assertEquals("plages", lot.mode(2));
+
+        int[] tampon = lot.tampon();
+        LotColonnes relu = LotColonnes.ouvrir(tampon);
+        assertEquals(n, relu.nbLignes());
+        assertEquals(4, relu.nbColonnes());
+        int[][] decode = relu.decompresser();
+        for (int c = 0; c < 4; c++) {
+            assertArrayEquals(colonnes[c], decode[c]);
+            assertEquals(lot.mode(c), relu.mode(c));
+        }
+        for (int essai = 0; essai < 500; essai++) {
+            int i = r.nextInt(n), c = r.nextInt(4);
+            assertEquals(colonnes[c][i], relu.acceder(i, c));
+        }
+        int separes = 0;
+        for (int[] c : colonnes) separes += new CodeurAvecChev().compresser(c).length;
+        assertTrue(tampon.length * 2 < separes);
+    }
+
+    /**
+     * Répertoire réduit : n une seule fois et un int de moins par colonne que son tampon seul,
+     * donc lot plus petit que la somme des tampons des colonnes dès trois colonnes ; chaque
+     * colonne est reconstruite à l'identique à l'ouverture.
+     */
+    @Test
+    void testTailleLot() {
+        int[][] colonnes = {
+            {3, 1, 4, 1, 5, 9, 2, 6},
+            {10, 12, 14, 16, 18, 20, 22, 24},
+            {7, 7, 7, 2, 2, 2, 2, 2},
+            {0, 1_000_000, 5, 3, 8, 1, 2, 9},
+        };
+        LotColonnes lot = LotColonnes.compresser(colonnes);
+        int[] tampon = lot.tampon();
+        int separes = 0;
+        for (int c = 0; c < colonnes.length; c++) separes += lot.colonne(c).tampon().length;
+        assertEquals(separes - colonnes.length + 2, tampon.length);
+        assertTrue(tampon.length < separes);
+
+        LotColonnes relu = LotColonnes.ouvrir(tampon);
+        for (int c = 0; c < colonnes.length; c++) {
+            assertArrayEquals(lot.colonne(c).tampon(), relu.colonne(c).tampon());
+            assertArrayEquals(colonnes[c], relu.colonne(c).decompresser());
+        }
+        int[] corrompu = tampon.clone();
+        corrompu[3] = corrompu[3] | 0xFF;
+        assertThrows(IllegalArgumentException.class, () -> LotColonnes.ouvrir(corrompu));
+    }
+
+    /**
+     * Cas limites : lot vide, longueurs différentes, lot tronqué, index hors bornes.
+     */
+    @Test
+    void testCasLimites() {
+        LotColonnes vide = LotColonnes.ouvrir(LotColonnes.compresser().tampon());
+        assertEquals(0, vide.nbColonnes());
+        assertEquals(0, LotColonnes.ouvrir(LotColonnes.compresser(new int[0]).tampon()).decompresser()[0].length);
+        assertThrows(IllegalArgumentException.class, () -> LotColonnes.compresser(new int[3], new int[4]));
+        int[] tampon = LotColonnes.compresser(new int[] {1, 2, 3}, new int[] {-5, 0, 5}).tampon();
+        assertThrows(IllegalArgumentException.class, () -> LotColonnes.ouvrir(Arrays.copyOf(tampon, tampon.length - 1)));
+        LotColonnes lot = LotColonnes.ouvrir(tampon);
+        assertEquals(-5, lot.acceder(0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> lot.acceder(0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> lot.acceder(3, 0));
+    }
+}
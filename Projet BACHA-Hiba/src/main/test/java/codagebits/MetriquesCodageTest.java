@@ -0,0 +1,107 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests unitaires pour {@link MetriquesCodage} et {@link EvenementCodage}.
+ */
+public class MetriquesCodageTest {
+
+    @TempDir
+    Path dossier;
+
+    private static int[] biaise() {
+        int[] t = new int[1000];
+        for (int i = 0; i < t.length; i++) t[i] = (i % 50 == 0) ? 1 << 20 : i % 8;
+        return t;
+    }
+
+    @Test
+    void testReleve() {
+        CodeurBits codeur = FactoryCodeurBits.instrumenter("test-releve", new CodeurDebordement());
+        int[] donnees = biaise();
+        codeur.compresser(donnees); // désactivé : rien n'est compté
+        MetriquesCodage.activer();
+        try {
+            int[] comp = codeur.compresser(donnees);
+            codeur.decompresser(comp);
+            codeur.acceder(3);
+        } finally {
+            MetriquesCodage.desactiver();
+        }
+        MetriquesCodage.Releve r = MetriquesCodage.releve("test-releve");
+        assertEquals(1, r.compressions);
+        assertEquals(1, r.decompressions);
+        assertEquals(1, r.acces);
+        assertEquals(20, r.overflows);
+        assertEquals(0.02, r.tauxOverflow(), 1e-9);
+        assertEquals(1, r.compressionsParK(new CodeurDebordement().compresser(donnees)[1]));
+        assertTrue(r.octetsSortie < r.octetsEntree);
+        assertTrue(MetriquesCodage.Releve.quantileNs(r.latencesCompression(), 0.99) > 0);
+    }
+
+    /**
+     * Tableaux compressés : tailles lues dans le tampon du tableau rendu, ouverture comptée
+     * comme une décompression, un événement JFR pour chacun.
+     */
+    @Test
+    void testTableaux() throws IOException {
+        CodeurBits codeur = FactoryCodeurBits.instrumenter("test-tableaux", new CodeurDebordement());
+        int[] donnees = biaise();
+        Path fichier = dossier.resolve("tableaux.jfr");
+        int[] tampon;
+        MetriquesCodage.activer();
+        try (Recording enregistrement = new Recording()) {
+            enregistrement.enable("codagebits.Codage");
+            enregistrement.start();
+            tampon = codeur.compresserTableau(donnees).tampon();
+            assertEquals(donnees[7], codeur.ouvrir(tampon).acceder(7));
+            enregistrement.stop();
+            enregistrement.dump(fichier);
+        } finally {
+            MetriquesCodage.desactiver();
+        }
+        MetriquesCodage.Releve r = MetriquesCodage.releve("test-tableaux");
+        assertEquals(1, r.compressions);
+        assertEquals(1, r.decompressions);
+        assertEquals(20, r.overflows);
+        assertEquals(4L * tampon.length, r.octetsSortie);
+        assertEquals(1, r.compressionsParK(tampon[1]));
+
+        List<String> operations = RecordingFile.readAllEvents(fichier).stream()
+                .filter(e -> e.getEventType().getName().equals("codagebits.Codage"))
+                .map(e -> e.getString("operation") + "/" + e.getInt("n") + "/" + e.getLong("octetsSortie"))
+                .toList();
+        assertEquals(List.of("compresser/1000/" + 4 * tampon.length, "ouvrir/1000/" + 4 * tampon.length), operations);
+    }
+
+    @Test
+    void testEvenementJfr() throws IOException {
+        Path fichier = dossier.resolve("codage.jfr");
+        int kBase;
+        try (Recording enregistrement = new Recording()) {
+            enregistrement.enable("codagebits.Codage");
+            enregistrement.start();
+            kBase = FactoryCodeurBits.creer("debordement").compresser(biaise())[1];
+            enregistrement.stop();
+            enregistrement.dump(fichier);
+        }
+        List<RecordedEvent> evenements = RecordingFile.readAllEvents(fichier);
+        RecordedEvent ev = evenements.stream()
+                .filter(e -> e.getEventType().getName().equals("codagebits.Codage"))
+                .findFirst().orElseThrow();
+        assertEquals("compresser", ev.getString("operation"));
+        assertEquals("debordement", ev.getString("mode"));
+        assertEquals(1000, ev.getInt("n"));
+        assertEquals(kBase, ev.getInt("k"));
+        assertEquals(20, ev.getInt("nbOverflow"));
+    }
+}
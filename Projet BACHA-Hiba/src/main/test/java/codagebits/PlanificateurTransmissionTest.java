@@ -0,0 +1,99 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link PlanificateurTransmission}.
+ */
+public class PlanificateurTransmissionTest {
+
+    /**
+     * Calibration fictive : même coût par valeur pour tous les modes et toutes les largeurs.
+     */
+    private static PlanificateurTransmission.Calibration calibration(double nsParValeur) {
+        int nbModes = FactoryCodeurBits.MODES.length;
+        double[][] couts = new double[nbModes][33];
+        for (double[] c : couts) Arrays.fill(c, nsParValeur);
+        int[] entete = new int[nbModes];
+        Arrays.fill(entete, 5);
+        return new PlanificateurTransmission.Calibration(couts, couts, new double[nbModes], new double[nbModes], entete);
+    }
+
+    /**
+     * Lien très rapide : brut ; lien lent : le plus petit mode ; compression coûteuse :
+     * découpage en blocs pour recouvrir compression, envoi et décompression.
+     */
+    @Test
+    void testDecision() {
+        int n = 1 << 16;
+        int[] t = new int[n];
+        for (int i = 0; i < n; i++) t[i] = (i / 500) % 4;
+
+        PlanificateurTransmission rapide = new PlanificateurTransmission(1e9, 0, calibration(1));
+        PlanificateurTransmission.Plan brut = rapide.planifier(t);
+        assertTrue(brut.estBrut());
+        assertEquals(4L * n, brut.octets());
+        assertEquals(brut.dureeBruteUs(), brut.dureeUs());
+
+        PlanificateurTransmission lent = new PlanificateurTransmission(1, 10, calibration(1));
+        PlanificateurTransmission.Plan p = lent.planifier(t);
+        assertEquals(CodeurAuto.choisir(t), p.mode());
+        assertTrue(p.octets() < 4L * n / 10);
+        assertTrue(p.dureeUs() < p.dureeBruteUs());
+
+        PlanificateurTransmission cpu = new PlanificateurTransmission(100, 0, calibration(100));
+        PlanificateurTransmission.Plan blocs = cpu.evaluer(t, "avec");
+        assertTrue(blocs.tailleBloc() < n);
+        double seul = 2 * 100.0 * n / 1000.0;
+        assertTrue(blocs.dureeUs() < seul);
+        assertEquals(lent.evaluer(t, "brut").dureeUs(), lent.evaluer(t, "BRUT").dureeBruteUs());
+    }
+
+    /**
+     * Octets d'un plan en un seul tampon (compression gratuite : jamais de blocs) : taille
+     * réelle du tampon de chaque mode, vertical compris (bourrage de ses lignes).
+     */
+    @Test
+    void testTaillesEstimees() {
+        Random r = new Random(25);
+        int[] trie = new int[3000];
+        for (int i = 0; i < trie.length; i++) trie[i] = i * 37 + r.nextInt(30) - 50_000;
+        int[] large = new int[100_000];
+        for (int i = 0; i < large.length; i++) large[i] = r.nextInt(1 << 17);
+
+        PlanificateurTransmission p = new PlanificateurTransmission(100, 1, calibration(0));
+        for (String mode : FactoryCodeurBits.MODES) {
+            PlanificateurTransmission.Plan plan = p.evaluer(trie, mode);
+            assertEquals(trie.length, plan.tailleBloc(), mode);
+            assertEquals(4L * FactoryCodeurBits.creer(mode).compresser(trie).length, plan.octets(), mode);
+        }
+        assertEquals(4L * new CodeurVertical().compresser(large).length, p.evaluer(large, "vertical").octets());
+    }
+
+    /**
+     * Calibration réelle : coûts mesurés positifs et finis, plan retenu au moins aussi court que
+     * chaque mode candidat ; mode inconnu ou inapplicable refusé.
+     */
+    @Test
+    void testCalibrationEtErreurs() {
+        PlanificateurTransmission p = new PlanificateurTransmission(50, 10);
+        int[] t = {5, 3, 12, 7, 0, 8, 1};
+        PlanificateurTransmission.Plan plan = p.planifier(t);
+        assertTrue(plan.dureeUs() >= 10_000 && Double.isFinite(plan.dureeUs()));
+        for (int mode : CodeurAuto.CANDIDATS) {
+            String nom = FactoryCodeurBits.MODES[mode];
+            if ("eliasfano".equals(nom)) continue;
+            PlanificateurTransmission.Plan q = p.evaluer(t, nom);
+            assertEquals(nom, q.mode());
+            assertTrue(q.dureeUs() >= plan.dureeUs() && Double.isFinite(q.dureeUs()));
+        }
+        assertTrue(Double.isFinite(p.evaluer(t, "vertical").dureeUs()));
+        assertThrows(IllegalArgumentException.class, () -> p.evaluer(t, "eliasfano"));
+        assertThrows(IllegalArgumentException.class, () -> p.evaluer(t, "inconnu"));
+        assertThrows(IllegalArgumentException.class, () -> p.planifier(null));
+        assertThrows(IllegalArgumentException.class, () -> new PlanificateurTransmission(0, 10));
+    }
+}
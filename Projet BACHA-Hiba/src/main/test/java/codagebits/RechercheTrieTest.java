@@ -0,0 +1,54 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires de la recherche sur tableaux triés ({@link TableauCompresse#borneInferieure(int)}).
+ */
+public class RechercheTrieTest {
+
+    @Test
+    void testBorneInferieureSurTableauTrie() {
+        Random r = new Random(17);
+        int[] t = new int[3000];
+        for (int i = 0; i < t.length; i++) t[i] = (i % 50 == 0) ? r.nextInt() : r.nextInt(200) - 100;
+        Arrays.sort(t);
+        for (CodeurBits codeur : new CodeurBits[] {new CodeurSansChev(), new CodeurAvecChev(),
+                new CodeurDebordement(), new CodeurAvecChev(true), new CodeurDebordement(true)}) {
+            int[] c = codeur.compresser(t);
+            TableauCompresse tab = codeur.ouvrir(c);
+            assertTrue(tab.estTrie());
+            for (int essai = 0; essai < 500; essai++) {
+                int v = (essai % 2 == 0) ? t[r.nextInt(t.length)] : r.nextInt();
+                int attendu = 0;
+                while (attendu < t.length && t[attendu] < v) attendu++;
+                assertEquals(attendu, tab.borneInferieure(v));
+                assertEquals(attendu < t.length && t[attendu] == v ? attendu : -1, tab.rechercher(v));
+            }
+            assertEquals(0, tab.borneInferieure(Integer.MIN_VALUE));
+        }
+
+        int[] c = new CodeurDebordement().compresser(t);
+        ByteBuffer bb = ByteBuffer.allocate(TrameOctets.tailleTrame(c));
+        TrameOctets.ecrire(c, bb);
+        TableauCompresse vue = TrameOctets.lire(bb.flip());
+        assertTrue(vue.estTrie());
+        assertEquals(t[1234], t[vue.rechercher(t[1234])]);
+    }
+
+    @Test
+    void testTableauNonTrie() {
+        int[] t = {5, 3, 9, 3, -2};
+        for (CodeurBits codeur : new CodeurBits[] {new CodeurSansChev(), new CodeurAvecChev(), new CodeurDebordement()}) {
+            TableauCompresse tab = codeur.ouvrir(codeur.compresser(t));
+            assertFalse(tab.estTrie());
+            assertEquals(1, tab.rechercher(3));
+            assertEquals(-1, tab.rechercher(4));
+            assertThrows(IllegalStateException.class, () -> tab.borneInferieure(3));
+        }
+    }
+}
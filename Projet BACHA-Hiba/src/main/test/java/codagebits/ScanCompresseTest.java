@@ -0,0 +1,58 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link ScanCompresse}.
+ */
+public class ScanCompresseTest {
+
+    @Test
+    void testScansCommeDecompression() {
+        Random r = new Random(11);
+        for (CodeurBits codeur : new CodeurBits[] {new CodeurSansChev(), new CodeurAvecChev()}) {
+            for (int k = 1; k <= 32; k++) {
+                for (int n : new int[] {1, 63, 130, 1000}) {
+                    int[] t = new int[n];
+                    for (int i = 0; i < n; i++) t[i] = r.nextInt() >> (32 - k);
+                    int[] c = codeur.compresser(t);
+                    int a = t[r.nextInt(n)], b = t[r.nextInt(n)];
+                    if (a > b) { int x = a; a = b; b = x; }
+
+                    int attendu = 0;
+                    long somme = 0;
+                    int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+                    long[] bitmap = ScanCompresse.filtrer(c, a, b);
+                    for (int i = 0; i < n; i++) {
+                        boolean dedans = t[i] >= a && t[i] <= b;
+                        if (dedans) attendu++;
+                        assertEquals(dedans, (bitmap[i >>> 6] >>> i & 1) != 0);
+                        somme += t[i];
+                        min = Math.min(min, t[i]);
+                        max = Math.max(max, t[i]);
+                    }
+                    assertEquals(attendu, ScanCompresse.compter(c, a, b));
+                    assertEquals(somme, ScanCompresse.somme(c));
+                    assertEquals(min, ScanCompresse.min(c));
+                    assertEquals(max, ScanCompresse.max(c));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testBornesHorsDomaineEtModes() {
+        int[] t = {-5, 0, 3, 3, 7};
+        int[] c = new CodeurAvecChev().compresser(t);
+        assertEquals(2, ScanCompresse.compterEgal(c, 3));
+        assertEquals(5, ScanCompresse.compter(c, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(0, ScanCompresse.compter(c, 8, Integer.MAX_VALUE));
+        assertEquals(0, ScanCompresse.compter(c, 4, 2));
+
+        assertThrows(NoSuchElementException.class, () -> ScanCompresse.min(new CodeurSansChev().compresser(new int[0])));
+        assertThrows(IllegalArgumentException.class, () -> ScanCompresse.somme(new CodeurDebordement().compresser(t)));
+    }
+}
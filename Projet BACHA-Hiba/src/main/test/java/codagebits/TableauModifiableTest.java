@@ -0,0 +1,49 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link TableauModifiable}.
+ */
+public class TableauModifiableTest {
+
+    @Test
+    void testAjoutsEtModificationsAvecElargissement() {
+        Random r = new Random(23);
+        TableauModifiable m = new TableauModifiable();
+        int[] attendu = new int[5000];
+        for (int i = 0; i < attendu.length; i++) {
+            // largeurs croissantes, puis négatifs : plusieurs réempaquetages
+            attendu[i] = (i < 1000) ? r.nextInt(4) : (i < 3000) ? r.nextInt(1 << 12) : r.nextInt(1 << 20) - (1 << 19);
+            m.ajouter(attendu[i]);
+        }
+        for (int j = 0; j < 2000; j++) {
+            int i = r.nextInt(attendu.length);
+            attendu[i] = (j == 1999) ? Integer.MIN_VALUE : r.nextInt(1 << 21) - (1 << 20);
+            m.modifier(i, attendu[i]);
+            assertEquals(attendu[i], m.acceder(i));
+        }
+        assertEquals(attendu.length, m.taille());
+        assertArrayEquals(attendu, m.decompresser());
+        assertArrayEquals(attendu, new CodeurAvecChev().decompresser(m.tampon()));
+        assertArrayEquals(attendu, m.figer().decompresser());
+        assertThrows(IndexOutOfBoundsException.class, () -> m.modifier(attendu.length, 0));
+    }
+
+    @Test
+    void testReprendTamponExistant() {
+        int[] t = {7, -3, 12, 0, 5};
+        TableauModifiable m = new TableauModifiable(new CodeurAvecChev().compresser(t));
+        int k = m.largeur();
+        m.modifier(0, -2);
+        m.ajouter(1);
+        assertEquals(k, m.largeur());
+        m.ajouter(Integer.MAX_VALUE);
+        assertArrayEquals(new int[] {-2, -3, 12, 0, 5, 1, Integer.MAX_VALUE}, m.decompresser());
+        assertThrows(IllegalArgumentException.class, () -> new TableauModifiable(new CodeurSansChev().compresser(t)));
+        assertArrayEquals(Arrays.copyOf(t, 0), new TableauModifiable().decompresser());
+    }
+}
@@ -0,0 +1,84 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests unitaires des surcharges à tampon fourni ({@link CodeurBits#compresser(int[], int[])}...).
+ */
+public class TamponsFournisTest {
+
+    private static CodeurBits[] codeurs() {
+        return new CodeurBits[] {new CodeurSansChev(), new CodeurAvecChev(), new CodeurDebordement(),
+                FactoryCodeurBits.creer("delta")};
+    }
+
+    @Test
+    void testTamponReutiliseIdentique() {
+        Random r = new Random(5);
+        int[] dst = new int[20000];
+        int[] out = new int[5000];
+        for (CodeurBits codeur : codeurs()) {
+            Arrays.fill(dst, -1);
+            for (int n : new int[] {0, 1, 33, 1000, 4000}) {
+                int[] t = new int[n];
+                for (int i = 0; i < n; i++) t[i] = (i % 40 == 0) ? r.nextInt(1 << 24) : r.nextInt(60) - 30;
+                int[] attendu = codeur.compresser(t);
+                assertEquals(attendu.length, codeur.tailleCompressee(t));
+                int taille = codeur.compresser(t, dst);
+                assertArrayEquals(attendu, Arrays.copyOf(dst, taille));
+
+                assertEquals(n, codeur.decompresser(dst, out, 7));
+                assertArrayEquals(t, Arrays.copyOfRange(out, 7, 7 + n));
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> codeur.compresser(new int[100], new int[3]));
+        }
+    }
+
+    @Test
+    void testEtendueSur32Bits() {
+        int[] t = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE};
+        for (CodeurBits codeur : codeurs()) {
+            assertArrayEquals(t, codeur.decompresser(codeur.compresser(t)));
+        }
+    }
+
+    /**
+     * Régime établi des codeurs qui redéfinissent les surcharges à tampon fourni (le mode
+     * vertical garde celles par défaut de {@link CodeurBits}, qui passent par un tampon neuf) :
+     * ni la compression ni la décompression n'allouent (en-tête lu dans des variables locales
+     * ou dans un objet éliminé par le JIT).
+     *
+     * @param mode nom du mode
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"sans", "avec", "debordement"})
+    void testSansAllocation(String mode) {
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(mx.isThreadAllocatedMemorySupported() && mx.isThreadAllocatedMemoryEnabled());
+        Random r = new Random(9);
+        int[] t = new int[10_000];
+        for (int i = 0; i < t.length; i++) t[i] = (i % 40 == 0) ? r.nextInt(1 << 24) : r.nextInt(60) - 30;
+        CodeurBits codeur = FactoryCodeurBits.pourMode(Arrays.asList(FactoryCodeurBits.MODES).indexOf(mode));
+        int[] dst = new int[codeur.tailleCompressee(t)];
+        int[] out = new int[t.length];
+        for (int i = 0; i < 100; i++) {
+            codeur.compresser(t, dst);
+            codeur.decompresser(dst, out, 0);
+        }
+        long a0 = mx.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 100; i++) codeur.compresser(t, dst);
+        long a1 = mx.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 100; i++) codeur.decompresser(dst, out, 0);
+        long a2 = mx.getCurrentThreadAllocatedBytes();
+        assertEquals(0, a1 - a0, mode + " : compression");
+        assertEquals(0, a2 - a1, mode + " : décompression");
+        assertArrayEquals(t, out);
+    }
+}
@@ -0,0 +1,89 @@
+package codagebits;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Pipe;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitaires pour {@link TrameOctets}.
+ */
+public class TrameOctetsTest {
+
+    @Test
+    void testAllerRetourByteBuffer() {
+        int[] original = new int[2000];
+        for (int i = 0; i < original.length; i++) original[i] = (i % 100 == 0) ? 1 << 20 : (i * 13) % 500 - 40;
+        int[] a = new CodeurDebordement().compresser(original);
+        int[] b = new CodeurDelta().compresser(original);
+
+        ByteBuffer bb = ByteBuffer.allocateDirect(TrameOctets.tailleTrame(a) + TrameOctets.tailleTrame(b));
+        TrameOctets.ecrire(a, bb);
+        TrameOctets.ecrire(b, bb);
+        assertFalse(bb.hasRemaining());
+        bb.flip();
+
+        TableauCompresse vue = TrameOctets.lire(bb);
+        assertEquals(original[100], vue.acceder(100));
+        assertArrayEquals(original, vue.decompresser());
+        assertArrayEquals(b, TrameOctets.lireTampon(bb));
+        assertFalse(bb.hasRemaining());
+    }
+
+    @Test
+    void testTousLesModes() {
+        int[] original = new int[3000];
+        for (int i = 0; i < original.length; i++) original[i] = 5 * i + (i % 3);
+        for (int m = 0; m < FactoryCodeurBits.MODES.length; m++) {
+            String mode = FactoryCodeurBits.MODES[m];
+            TableauCompresse compresse = FactoryCodeurBits.pourMode(m).compresserTableau(original);
+            ByteBuffer bb = ByteBuffer.allocate(TrameOctets.tailleTrame(compresse.tampon()));
+            TrameOctets.ecrire(compresse, bb);
+            TableauCompresse relu = TrameOctets.lire(bb.flip());
+            assertFalse(bb.hasRemaining(), mode);
+            assertEquals(original[1234], relu.acceder(1234), mode);
+            assertArrayEquals(original, relu.decompresser(), mode);
+        }
+    }
+
+    @Test
+    void testLongueurInvalide() throws IOException {
+        ByteBuffer negative = ByteBuffer.allocate(32).order(ByteOrder.LITTLE_ENDIAN).putInt(0, -1);
+        assertThrows(IllegalArgumentException.class, () -> TrameOctets.lire(negative));
+        ByteBuffer enorme = ByteBuffer.allocate(32).order(ByteOrder.LITTLE_ENDIAN).putInt(0, Integer.MAX_VALUE);
+        assertThrows(IllegalArgumentException.class, () -> TrameOctets.lire(enorme));
+        assertThrows(IllegalArgumentException.class, () -> TrameOctets.lireTampon(enorme));
+        assertEquals(0, enorme.position());
+
+        // longueur annoncée maximale, trame jamais envoyée : fin de canal, pas d'allocation géante
+        Pipe tube = Pipe.open();
+        tube.sink().write(ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN).putInt(0, TrameOctets.MAX_INTS));
+        tube.sink().close();
+        assertThrows(EOFException.class, () -> TrameOctets.recevoir(tube.source()));
+
+        Pipe court = Pipe.open();
+        court.sink().write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, 1000));
+        court.sink().close();
+        assertThrows(IOException.class, () -> TrameOctets.recevoir(court.source(), 999));
+    }
+
+    @Test
+    void testEnvoyerRecevoir() throws IOException {
+        int[] original = new int[500];
+        for (int i = 0; i < original.length; i++) original[i] = i * 3;
+        int[] tampon = new CodeurAvecChev().compresser(original);
+
+        Pipe tube = Pipe.open();
+        ByteBuffer charge = ByteBuffer.allocateDirect(4 * tampon.length);
+        TrameOctets.ecrireCharge(tampon, charge);
+        TrameOctets.envoyer(tube.sink(), charge.flip());
+        tube.sink().close();
+
+        ByteBuffer trame = TrameOctets.recevoir(tube.source());
+        assertArrayEquals(original, TrameOctets.lire(trame).decompresser());
+        assertNull(TrameOctets.recevoir(tube.source()));
+    }
+}